@@ -0,0 +1,78 @@
+package com.psw.cta.benchmark;
+
+import com.psw.cta.dto.Crypto;
+import com.psw.cta.dto.binance.CandlestickSeries;
+import com.psw.cta.processor.trade.CryptoToBuyProvider;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of screening metrics calculated for every crypto of one scan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CryptoBenchmark {
+
+    private final CryptoToBuyProvider cryptoToBuyProvider = new CryptoToBuyProvider() {
+    };
+    private List<Crypto> cryptos;
+    private Map<String, CandlestickSeries> fifteenMinutesCandlesticks;
+
+    /**
+     * Loads fixtures.
+     */
+    @Setup
+    public void setUp() {
+        Fixtures fixtures = Fixtures.load();
+        cryptos = fixtures.createCryptos();
+        fifteenMinutesCandlesticks = fixtures.getFifteenMinutesCandlesticks();
+    }
+
+    /**
+     * Slope of average prices of last three months.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void calculateSlopeData(Blackhole blackhole) {
+        for (Crypto crypto : cryptos) {
+            blackhole.consume(crypto.calculateSlopeData());
+        }
+    }
+
+    /**
+     * Metrics calculated from fifteen minutes candlesticks.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void calculateDataFromCandlesticks(Blackhole blackhole) {
+        for (Crypto crypto : cryptos) {
+            CandlestickSeries candlesticks = fifteenMinutesCandlesticks.get(crypto.getSymbolInfo().getSymbol());
+            if (candlesticks != null) {
+                blackhole.consume(crypto.calculateDataFromCandlesticks(candlesticks));
+            }
+        }
+    }
+
+    /**
+     * Filtering and ordering of cryptos to buy.
+     *
+     * @return cryptos to buy
+     */
+    @Benchmark
+    public List<Crypto> getCryptosToBuy() {
+        return cryptoToBuyProvider.getCryptosToBuy(cryptos, Set.of());
+    }
+}
@@ -0,0 +1,85 @@
+package com.psw.cta.benchmark;
+
+import static com.psw.cta.benchmark.Fixtures.OBJECT_MAPPER;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.psw.cta.dto.binance.Account;
+import com.psw.cta.dto.binance.CandlestickSeries;
+import com.psw.cta.dto.binance.TickerStatistics;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of Jackson decoding of response bodies, done with the same object mapper settings as the Retrofit
+ * converter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DecodingBenchmark {
+
+    private final ObjectReader candlesticksReader = OBJECT_MAPPER.readerFor(CandlestickSeries.class);
+    private final ObjectReader tickersReader = OBJECT_MAPPER.readerFor(new TypeReference<List<TickerStatistics>>() {
+    });
+    private final ObjectReader accountReader = OBJECT_MAPPER.readerFor(Account.class);
+    private Collection<String> klines;
+    private String tickers;
+    private String account;
+
+    /**
+     * Loads fixtures.
+     */
+    @Setup
+    public void setUp() {
+        Fixtures fixtures = Fixtures.load();
+        klines = fixtures.getDailyKlines().values();
+        tickers = fixtures.getTickers();
+        account = fixtures.getAccount();
+    }
+
+    /**
+     * Daily klines of all symbols.
+     *
+     * @param blackhole blackhole
+     * @throws IOException when body can not be decoded
+     */
+    @Benchmark
+    public void decodeKlines(Blackhole blackhole) throws IOException {
+        for (String body : klines) {
+            blackhole.consume(candlesticksReader.<CandlestickSeries>readValue(body));
+        }
+    }
+
+    /**
+     * 24 hours ticker statistics of all symbols.
+     *
+     * @return ticker statistics
+     * @throws IOException when body can not be decoded
+     */
+    @Benchmark
+    public List<TickerStatistics> decodeTickers() throws IOException {
+        return tickersReader.readValue(tickers);
+    }
+
+    /**
+     * Account information with balances.
+     *
+     * @return account
+     * @throws IOException when body can not be decoded
+     */
+    @Benchmark
+    public Account decodeAccount() throws IOException {
+        return accountReader.readValue(account);
+    }
+}
@@ -0,0 +1,316 @@
+package com.psw.cta.benchmark;
+
+import static java.math.RoundingMode.UP;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.psw.cta.dto.Crypto;
+import com.psw.cta.dto.binance.CandlestickSeries;
+import com.psw.cta.dto.binance.Order;
+import com.psw.cta.dto.binance.SymbolInfo;
+import com.psw.cta.dto.binance.TickerStatistics;
+import com.psw.cta.exception.CryptoTraderException;
+import com.psw.cta.replay.RecordedExchange;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Market data used by benchmarks. Response bodies are taken from an archive recorded by
+ * {@link com.psw.cta.replay.RecordingInterceptor} when system property {@code cta.fixtureFile} is set. Otherwise they
+ * are generated in format of Binance API from fixed seed, so two runs of benchmarks work with the same data.
+ */
+public class Fixtures {
+
+    public static final LambdaLogger SILENT_LOGGER = new LambdaLogger() {
+        @Override
+        public void log(String message) {
+        }
+
+        @Override
+        public void log(byte[] message) {
+        }
+    };
+
+    static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final int NUMBER_OF_SYMBOLS = 300;
+    private static final int NUMBER_OF_OPEN_ORDERS = 40;
+    private static final int NUMBER_OF_DAILY_CANDLES = 90;
+    private static final int NUMBER_OF_FIFTEEN_MINUTES_CANDLES = 96;
+    private static final long DAY_MILLIS = 86_400_000L;
+    private static final long FIFTEEN_MINUTES_MILLIS = 900_000L;
+
+    private final Map<String, String> dailyKlines = new LinkedHashMap<>();
+    private final Map<String, String> fifteenMinutesKlines = new LinkedHashMap<>();
+    private String tickers;
+    private String account;
+    private String openOrders;
+
+    private Fixtures() {
+    }
+
+    /**
+     * Loads fixtures from recorded archive or generates them.
+     *
+     * @return fixtures
+     */
+    public static Fixtures load() {
+        String fixtureFile = System.getProperty("cta.fixtureFile");
+        try {
+            return fixtureFile == null ? generate(new Random(42)) : read(Path.of(fixtureFile));
+        } catch (IOException e) {
+            throw new CryptoTraderException(e);
+        }
+    }
+
+    private static Fixtures read(Path archive) throws IOException {
+        Fixtures fixtures = new Fixtures();
+        for (String line : Files.readAllLines(archive)) {
+            RecordedExchange exchange = OBJECT_MAPPER.readValue(line, RecordedExchange.class);
+            Map<String, String> parameters = getParameters(exchange.getQuery());
+            switch (exchange.getPath()) {
+                case "/api/v3/klines" -> {
+                    if ("1d".equals(parameters.get("interval"))) {
+                        fixtures.dailyKlines.put(parameters.get("symbol"), exchange.getBody());
+                    } else if ("15m".equals(parameters.get("interval"))) {
+                        fixtures.fifteenMinutesKlines.put(parameters.get("symbol"), exchange.getBody());
+                    }
+                }
+                case "/api/v3/ticker/24hr" -> fixtures.tickers = exchange.getBody();
+                case "/api/v3/account" -> fixtures.account = exchange.getBody();
+                case "/api/v3/openOrders" -> fixtures.openOrders = exchange.getBody();
+                default -> {
+                }
+            }
+        }
+        return fixtures;
+    }
+
+    private static Map<String, String> getParameters(String query) {
+        Map<String, String> parameters = new HashMap<>();
+        if (query != null) {
+            for (String parameter : query.split("&")) {
+                String[] keyValue = parameter.split("=", 2);
+                parameters.put(keyValue[0], keyValue.length > 1 ? keyValue[1] : "");
+            }
+        }
+        return parameters;
+    }
+
+    private static Fixtures generate(Random random) throws IOException {
+        Fixtures fixtures = new Fixtures();
+        long now = System.currentTimeMillis();
+        List<Map<String, Object>> tickers = new ArrayList<>();
+        List<Map<String, Object>> balances = new ArrayList<>();
+        List<Map<String, Object>> openOrders = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_SYMBOLS; i++) {
+            String asset = "ASSET" + i;
+            String symbol = asset + "BTC";
+            double price = Math.pow(10, -7 + random.nextDouble() * 5);
+            double lastPrice = addKlines(fixtures.dailyKlines,
+                                         symbol,
+                                         random,
+                                         price,
+                                         now,
+                                         DAY_MILLIS,
+                                         NUMBER_OF_DAILY_CANDLES);
+            lastPrice = addKlines(fixtures.fifteenMinutesKlines,
+                                  symbol,
+                                  random,
+                                  lastPrice,
+                                  now,
+                                  FIFTEEN_MINUTES_MILLIS,
+                                  NUMBER_OF_FIFTEEN_MINUTES_CANDLES);
+            tickers.add(createTicker(symbol, lastPrice, random, now));
+            balances.add(Map.of("asset", asset, "free", format(random.nextDouble() * 1000), "locked", "0.00000000"));
+            if (i < NUMBER_OF_OPEN_ORDERS) {
+                openOrders.add(createOrder(symbol, i, lastPrice, random, now));
+            }
+        }
+        balances.add(Map.of("asset", "BTC", "free", "0.01000000", "locked", "0.00000000"));
+        fixtures.tickers = OBJECT_MAPPER.writeValueAsString(tickers);
+        fixtures.account = OBJECT_MAPPER.writeValueAsString(Map.of("makerCommission", 10,
+                                                                   "takerCommission", 10,
+                                                                   "canTrade", true,
+                                                                   "updateTime", now,
+                                                                   "balances", balances));
+        fixtures.openOrders = OBJECT_MAPPER.writeValueAsString(openOrders);
+        return fixtures;
+    }
+
+    private static double addKlines(Map<String, String> klines,
+                                    String symbol,
+                                    Random random,
+                                    double startPrice,
+                                    long now,
+                                    long intervalMillis,
+                                    int count) throws IOException {
+        List<List<Object>> candles = new ArrayList<>(count);
+        double drift = (random.nextDouble() - 0.5) * 0.02;
+        double close = startPrice;
+        for (int i = 0; i < count; i++) {
+            long openTime = now - (count - i) * intervalMillis;
+            double open = close;
+            close = Math.max(0.00000001, open * (1 + drift + (random.nextDouble() - 0.5) * 0.05));
+            double high = Math.max(open, close) * (1 + random.nextDouble() * 0.02);
+            double low = Math.max(0.00000001, Math.min(open, close) * (1 - random.nextDouble() * 0.02));
+            double volume = random.nextDouble() * 100_000;
+            candles.add(List.of(openTime,
+                                format(open),
+                                format(high),
+                                format(low),
+                                format(close),
+                                format(volume),
+                                openTime + intervalMillis - 1,
+                                format(volume * close),
+                                random.nextInt(10_000),
+                                format(volume / 2),
+                                format(volume * close / 2),
+                                "0"));
+        }
+        klines.put(symbol, OBJECT_MAPPER.writeValueAsString(candles));
+        return close;
+    }
+
+    private static Map<String, Object> createTicker(String symbol, double lastPrice, Random random, long now) {
+        Map<String, Object> ticker = new LinkedHashMap<>();
+        ticker.put("symbol", symbol);
+        ticker.put("priceChange", format(lastPrice * 0.01));
+        ticker.put("priceChangePercent", "1.000");
+        ticker.put("weightedAvgPrice", format(lastPrice));
+        ticker.put("prevClosePrice", format(lastPrice));
+        ticker.put("lastPrice", format(lastPrice));
+        ticker.put("bidPrice", format(lastPrice));
+        ticker.put("askPrice", format(lastPrice * 1.001));
+        ticker.put("openPrice", format(lastPrice));
+        ticker.put("highPrice", format(lastPrice * 1.05));
+        ticker.put("lowPrice", format(lastPrice * 0.95));
+        ticker.put("volume", format(random.nextDouble() * 1_000_000));
+        ticker.put("quoteVolume", format(random.nextDouble() * 10));
+        ticker.put("openTime", now - DAY_MILLIS);
+        ticker.put("closeTime", now);
+        ticker.put("firstId", 1);
+        ticker.put("lastId", 1000);
+        ticker.put("count", 1000);
+        return ticker;
+    }
+
+    private static Map<String, Object> createOrder(String symbol,
+                                                   int orderId,
+                                                   double lastPrice,
+                                                   Random random,
+                                                   long now) {
+        Map<String, Object> order = new LinkedHashMap<>();
+        order.put("symbol", symbol);
+        order.put("orderId", orderId);
+        order.put("clientOrderId", "benchmark" + orderId);
+        order.put("price", format(lastPrice * (1.05 + random.nextDouble())));
+        order.put("origQty", format(Math.ceil(0.0002 / lastPrice)));
+        order.put("executedQty", "0.00000000");
+        order.put("status", "NEW");
+        order.put("timeInForce", "GTC");
+        order.put("type", "LIMIT");
+        order.put("side", "SELL");
+        order.put("time", now - (long) (random.nextDouble() * 200 * DAY_MILLIS));
+        return order;
+    }
+
+    private static String format(double value) {
+        return BigDecimal.valueOf(value).setScale(8, UP).toPlainString();
+    }
+
+    public Map<String, String> getDailyKlines() {
+        return dailyKlines;
+    }
+
+    public String getTickers() {
+        return tickers;
+    }
+
+    public String getAccount() {
+        return account;
+    }
+
+    /**
+     * Decodes open orders.
+     *
+     * @return open orders
+     */
+    public List<Order> getOpenOrders() {
+        return decode(openOrders, new TypeReference<>() {
+        });
+    }
+
+    /**
+     * Decodes 24 hours ticker statistics.
+     *
+     * @return ticker statistics
+     */
+    public List<TickerStatistics> getTickerStatistics() {
+        return decode(tickers, new TypeReference<>() {
+        });
+    }
+
+    /**
+     * Decodes daily candlesticks of all symbols.
+     *
+     * @return candlesticks by symbol
+     */
+    public Map<String, CandlestickSeries> getDailyCandlesticks() {
+        return decodeKlines(dailyKlines);
+    }
+
+    /**
+     * Decodes fifteen minutes candlesticks of all symbols.
+     *
+     * @return candlesticks by symbol
+     */
+    public Map<String, CandlestickSeries> getFifteenMinutesCandlesticks() {
+        return decodeKlines(fifteenMinutesKlines);
+    }
+
+    /**
+     * Creates cryptos of all symbols having daily candlesticks and ticker statistics, with current price set to ask
+     * price of ticker.
+     *
+     * @return cryptos
+     */
+    public List<Crypto> createCryptos() {
+        Map<String, CandlestickSeries> dailyCandlesticks = getDailyCandlesticks();
+        List<Crypto> cryptos = new ArrayList<>();
+        for (TickerStatistics ticker : getTickerStatistics()) {
+            CandlestickSeries candlesticks = dailyCandlesticks.get(ticker.getSymbol());
+            if (candlesticks != null && candlesticks.size() >= NUMBER_OF_DAILY_CANDLES / 2) {
+                SymbolInfo symbolInfo = new SymbolInfo();
+                symbolInfo.setSymbol(ticker.getSymbol());
+                cryptos.add(new Crypto(symbolInfo).setCurrentPrice(new BigDecimal(ticker.getAskPrice()))
+                                                  .setThreeMonthsCandleStickData(candlesticks));
+            }
+        }
+        return cryptos;
+    }
+
+    private Map<String, CandlestickSeries> decodeKlines(Map<String, String> klines) {
+        Map<String, CandlestickSeries> candlesticks = new HashMap<>();
+        klines.forEach((symbol, body) -> candlesticks.put(symbol, decode(body, new TypeReference<>() {
+        })));
+        return candlesticks;
+    }
+
+    private static <T> T decode(String body, TypeReference<T> type) {
+        try {
+            return OBJECT_MAPPER.readValue(body, type);
+        } catch (IOException e) {
+            throw new CryptoTraderException(e);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.psw.cta.benchmark;
+
+import static com.psw.cta.benchmark.Fixtures.SILENT_LOGGER;
+import static com.psw.cta.dto.OrderWrapper.calculatePricePercentage;
+import static java.util.stream.Collectors.toMap;
+
+import com.psw.cta.dto.OrderWrapper;
+import com.psw.cta.dto.ProfitModel;
+import com.psw.cta.dto.binance.CandlestickSeries;
+import com.psw.cta.dto.binance.ExchangeInfo;
+import com.psw.cta.dto.binance.Order;
+import com.psw.cta.dto.binance.TickerStatistics;
+import com.psw.cta.processor.MainTradeProcessor;
+import com.psw.cta.service.BinanceService;
+import com.psw.cta.service.TradingExecutors;
+import com.psw.cta.trace.Tracer;
+import com.psw.cta.utils.Sleeper;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of wrapping open orders. Binance service is replaced by a stub answering from fixtures, so only the
+ * calculation is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderWrapperBenchmark {
+
+    private static final BigDecimal MY_BTC_BALANCE = new BigDecimal("0.01");
+    private static final int MAX_CONCURRENT_REQUESTS = 16;
+    private static final TradingExecutors TRADING_EXECUTORS = new TradingExecutors(2, SILENT_LOGGER);
+
+    private List<Order> openOrders;
+    private Map<String, BigDecimal> currentPrices;
+    private Map<String, CandlestickSeries> candlesticks;
+    private Map<String, BigDecimal> totalAmounts;
+    private BigDecimal actualBalance;
+    private BenchmarkTradeProcessor tradeProcessor;
+
+    /**
+     * Loads fixtures.
+     */
+    @Setup
+    public void setUp() {
+        Fixtures fixtures = Fixtures.load();
+        openOrders = fixtures.getOpenOrders();
+        currentPrices = fixtures.getTickerStatistics()
+                                .stream()
+                                .collect(toMap(TickerStatistics::getSymbol,
+                                               ticker -> new BigDecimal(ticker.getAskPrice())));
+        candlesticks = fixtures.getDailyCandlesticks();
+        totalAmounts = openOrders.stream()
+                                 .collect(toMap(Order::getSymbol,
+                                                order -> new BigDecimal(order.getPrice())
+                                                    .multiply(new BigDecimal(order.getOrigQty())),
+                                                BigDecimal::add));
+        actualBalance = totalAmounts.values()
+                                    .stream()
+                                    .reduce(MY_BTC_BALANCE, BigDecimal::add);
+        tradeProcessor = new BenchmarkTradeProcessor(new StubBinanceService(currentPrices, candlesticks));
+    }
+
+    /**
+     * Constructor of order wrapper with regression of candlesticks.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void createOrderWrapper(Blackhole blackhole) {
+        for (Order order : openOrders) {
+            BigDecimal currentPrice = currentPrices.get(order.getSymbol());
+            BigDecimal orderPrice = new BigDecimal(order.getPrice());
+            blackhole.consume(new OrderWrapper(order,
+                                               orderPrice,
+                                               currentPrice,
+                                               new ProfitModel(MY_BTC_BALANCE, actualBalance),
+                                               calculatePricePercentage(currentPrice, orderPrice),
+                                               totalAmounts,
+                                               candlesticks.get(order.getSymbol()),
+                                               BigDecimal.TEN));
+        }
+    }
+
+    /**
+     * Grouping of open orders by symbol and wrapping of the cheapest order of every symbol.
+     *
+     * @return order wrappers
+     */
+    @Benchmark
+    public List<OrderWrapper> getOrderWrapperStream() {
+        return tradeProcessor.getOrderWrappers(openOrders, MY_BTC_BALANCE, actualBalance, totalAmounts);
+    }
+
+    private static final class BenchmarkTradeProcessor extends MainTradeProcessor {
+
+        private BenchmarkTradeProcessor(BinanceService binanceService) {
+            super(binanceService,
+                  TRADING_EXECUTORS.createIoStage(MAX_CONCURRENT_REQUESTS),
+                  Clock.systemUTC());
+        }
+
+        private List<OrderWrapper> getOrderWrappers(List<Order> openOrders,
+                                                    BigDecimal myBtcBalance,
+                                                    BigDecimal actualBalance,
+                                                    Map<String, BigDecimal> totalAmounts) {
+            ProfitModel profitModel = new ProfitModel(myBtcBalance, actualBalance);
+            return getOrderWrapperStream(openOrders, profitModel, totalAmounts).toList();
+        }
+
+        @Override
+        public void trade(List<Order> openOrders,
+                          Map<String, BigDecimal> totalAmounts,
+                          BigDecimal myBtcBalance,
+                          BigDecimal actualBalance,
+                          ExchangeInfo exchangeInfo,
+                          long uniqueOpenOrdersSize,
+                          BigDecimal totalAmount,
+                          int minOpenOrders) {
+        }
+    }
+
+    private static final class StubBinanceService extends BinanceService {
+
+        private final Map<String, BigDecimal> currentPrices;
+        private final Map<String, CandlestickSeries> candlesticks;
+
+        private StubBinanceService(Map<String, BigDecimal> currentPrices,
+                                   Map<String, CandlestickSeries> candlesticks) {
+            super(null,
+                  null,
+                  null,
+                  null,
+                  null,
+                  Clock.systemUTC(),
+                  Sleeper.NONE,
+                  new Tracer(null, SILENT_LOGGER),
+                  SILENT_LOGGER);
+            this.currentPrices = currentPrices;
+            this.candlesticks = candlesticks;
+        }
+
+        @Override
+        public BigDecimal getCurrentPrice(String symbol) {
+            return currentPrices.get(symbol);
+        }
+
+        @Override
+        public CandlestickSeries getCandlesticks(Order order,
+                                                 BigDecimal actualWaitingTime,
+                                                 BigDecimal orderPricePercentage) {
+            return candlesticks.get(order.getSymbol());
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.psw.cta.benchmark;
+
+import static com.psw.cta.benchmark.Fixtures.SILENT_LOGGER;
+import static com.psw.cta.dto.binance.FilterType.LOT_SIZE;
+import static com.psw.cta.dto.binance.FilterType.NOTIONAL;
+import static com.psw.cta.dto.binance.FilterType.PRICE_FILTER;
+import static com.psw.cta.dto.binance.OrderSide.BUY;
+import static com.psw.cta.dto.binance.OrderSide.SELL;
+import static com.psw.cta.dto.binance.OrderType.LIMIT;
+import static com.psw.cta.dto.binance.OrderType.MARKET;
+import static com.psw.cta.dto.binance.TimeInForce.GTC;
+import static java.math.RoundingMode.FLOOR;
+
+import com.psw.cta.backtest.HistoricalMarket;
+import com.psw.cta.backtest.SimulatedClock;
+import com.psw.cta.backtest.SimulatedExchange;
+import com.psw.cta.dto.binance.ArrayCandlestickSeries;
+import com.psw.cta.dto.binance.CandlestickSeries;
+import com.psw.cta.dto.binance.ExchangeInfo;
+import com.psw.cta.dto.binance.NewOrderResponse;
+import com.psw.cta.dto.binance.SymbolFilter;
+import com.psw.cta.dto.binance.SymbolInfo;
+import com.psw.cta.metrics.MetricsRegistry;
+import com.psw.cta.service.BinanceClient;
+import com.psw.cta.service.RequestWeightLimiter;
+import com.psw.cta.trace.Tracer;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks of order throughput of simulated exchange called through the real Binance client. The exchange is
+ * created again for every iteration, so its order history does not grow over the whole run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SimulatedExchangeBenchmark {
+
+    private static final int NUMBER_OF_SYMBOLS = 100;
+    private static final int NUMBER_OF_CANDLES = 288;
+    private static final long FIVE_MINUTES_MILLIS = 300_000L;
+    private static final long START_TIME = 1_700_000_000_000L;
+    private static final String QUANTITY = "10";
+
+    private final List<String> symbols = new ArrayList<>();
+    private final List<String> bidPrices = new ArrayList<>();
+    private HistoricalMarket market;
+    private SimulatedClock clock;
+    private BinanceClient binanceClient;
+    private int counter;
+
+    /**
+     * Generates market of many symbols.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<SymbolInfo> symbolInfos = new ArrayList<>();
+        Map<String, CandlestickSeries> candlesticks = new HashMap<>();
+        for (int i = 0; i < NUMBER_OF_SYMBOLS; i++) {
+            String symbol = "SYMBOL" + i + "BTC";
+            double price = 0.001 * (1 + i % 7);
+            ArrayCandlestickSeries series = new ArrayCandlestickSeries();
+            for (int j = 0; j < NUMBER_OF_CANDLES; j++) {
+                long openTime = START_TIME + j * FIVE_MINUTES_MILLIS;
+                double close = price * (1 + (random.nextDouble() - 0.5) / 50);
+                series.add(openTime,
+                           price,
+                           Math.max(price, close),
+                           Math.min(price, close),
+                           close,
+                           1_000,
+                           openTime + FIVE_MINUTES_MILLIS - 1);
+                price = close;
+            }
+            SymbolInfo symbolInfo = new SymbolInfo();
+            symbolInfo.setSymbol(symbol);
+            symbolInfo.setFilters(List.of(new SymbolFilter(PRICE_FILTER, "0.00000001", null, null, null),
+                                          new SymbolFilter(LOT_SIZE, null, "1", "1", null),
+                                          new SymbolFilter(NOTIONAL, null, null, null, "0.0001")));
+            symbolInfos.add(symbolInfo);
+            candlesticks.put(symbol, series);
+            symbols.add(symbol);
+            bidPrices.add(BigDecimal.valueOf(price * 0.9).setScale(8, FLOOR).toPlainString());
+        }
+        ExchangeInfo exchangeInfo = new ExchangeInfo();
+        exchangeInfo.setSymbols(symbolInfos);
+        market = new HistoricalMarket(exchangeInfo, candlesticks);
+    }
+
+    /**
+     * Creates new exchange with empty order books.
+     */
+    @Setup(Level.Iteration)
+    public void setUpExchange() {
+        clock = new SimulatedClock(Instant.ofEpochMilli(START_TIME + NUMBER_OF_CANDLES * FIVE_MINUTES_MILLIS));
+        SimulatedExchange exchange = new SimulatedExchange(market,
+                                                           clock,
+                                                           new BigDecimal("1000000"),
+                                                           new BigDecimal("0.001"));
+        binanceClient = new BinanceClient(SILENT_LOGGER,
+                                          exchange,
+                                          new RequestWeightLimiter(Integer.MAX_VALUE, null, clock, SILENT_LOGGER),
+                                          new MetricsRegistry("Benchmark", clock, SILENT_LOGGER),
+                                          new Tracer(null, SILENT_LOGGER));
+    }
+
+    /**
+     * Limit buy order resting in the book, cancelled right after it is placed.
+     */
+    @Benchmark
+    public void placeAndCancelLimitOrder() {
+        int index = counter++ % NUMBER_OF_SYMBOLS;
+        String symbol = symbols.get(index);
+        NewOrderResponse response = binanceClient.newOrder(symbol, BUY, LIMIT, GTC, QUANTITY, bidPrices.get(index));
+        binanceClient.cancelOrder(symbol, response.getClientOrderId());
+    }
+
+    /**
+     * Market buy and market sell of the same quantity. Simulated time moves by one millisecond before every round
+     * trip, so market maker quotes taken by previous orders are renewed.
+     *
+     * @return response of sell order
+     */
+    @Benchmark
+    public NewOrderResponse marketRoundTrip() {
+        clock.set(clock.instant().plusMillis(1));
+        String symbol = symbols.get(counter++ % NUMBER_OF_SYMBOLS);
+        binanceClient.newOrder(symbol, BUY, MARKET, null, QUANTITY, null);
+        return binanceClient.newOrder(symbol, SELL, MARKET, null, QUANTITY, null);
+    }
+}
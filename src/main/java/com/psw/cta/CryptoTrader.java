@@ -1,8 +1,9 @@
 package com.psw.cta;
 
+import static com.psw.cta.logging.LogFormatter.appendPadded;
+import static com.psw.cta.logging.LogFormatter.appendRightAligned;
 import static com.psw.cta.utils.Constants.ASSET_BTC;
 import static com.psw.cta.utils.Constants.SYMBOL_BNB_BTC;
-import static java.lang.String.format;
 import static java.math.BigDecimal.ZERO;
 import static java.math.RoundingMode.FLOOR;
 import static java.util.stream.Collectors.toMap;
@@ -13,34 +14,42 @@ import com.psw.cta.dto.binance.Order;
 import com.psw.cta.dto.binance.SymbolInfo;
 import com.psw.cta.exception.BinanceApiException;
 import com.psw.cta.exception.CryptoTraderException;
+import com.psw.cta.logging.AsyncLogger;
+import com.psw.cta.metrics.MetricsRegistry;
 import com.psw.cta.processor.LambdaTradeProcessor;
 import com.psw.cta.processor.LocalTradeProcessor;
 import com.psw.cta.processor.MainTradeProcessor;
 import com.psw.cta.processor.trade.BnbTradeProcessor;
 import com.psw.cta.service.BinanceService;
+import com.psw.cta.service.TradingExecutors;
+import com.psw.cta.trace.Tracer;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
-import java.util.stream.Collectors;
 
 /**
  * Main service for cryptocurrency trading operations. This class handles trading initialization,
  * management of orders, balance tracking, and execution of trading strategies. It supports both
- * local and AWS Lambda environments.
+ * local and AWS Lambda environments. Trader has to be closed when it is not used anymore, so its executors are shut
+ * down.
  */
-public class CryptoTrader {
+public class CryptoTrader implements AutoCloseable {
 
     private final BnbTradeProcessor bnbTradeProcessor;
     private final BinanceService binanceService;
     private final LambdaLogger logger;
     private final MainTradeProcessor tradeProcessor;
+    private final TradingExecutors tradingExecutors;
+    private final MetricsRegistry metricsRegistry;
+    private final Tracer tracer;
+    private final Clock clock;
 
     /**
      * Constructor of {@link CryptoTrader} for local environment.
@@ -48,15 +57,27 @@ public class CryptoTrader {
      * @param binanceService    Service for interacting with Binance API
      * @param bnbTradeProcessor Processor for BNB-specific trading operations
      * @param tradeProcessor    Processor for handling local trading operations
+     * @param tradingExecutors  Executors owned by the trader and closed with it, or null when they are shared
+     * @param metricsRegistry   Registry of metrics flushed at the end of every trading cycle
+     * @param tracer            Tracer of trading cycle exported at the end of every trading cycle
+     * @param clock             Clock providing start and end time of trading cycle
      * @param logger            Logger for recording trading operations and events
      */
     public CryptoTrader(BinanceService binanceService,
                         BnbTradeProcessor bnbTradeProcessor,
                         LocalTradeProcessor tradeProcessor,
+                        TradingExecutors tradingExecutors,
+                        MetricsRegistry metricsRegistry,
+                        Tracer tracer,
+                        Clock clock,
                         LambdaLogger logger) {
         this.binanceService = binanceService;
         this.bnbTradeProcessor = bnbTradeProcessor;
         this.tradeProcessor = tradeProcessor;
+        this.tradingExecutors = tradingExecutors;
+        this.metricsRegistry = metricsRegistry;
+        this.tracer = tracer;
+        this.clock = clock;
         this.logger = logger;
     }
 
@@ -66,26 +87,59 @@ public class CryptoTrader {
      * @param binanceService    Service for interacting with Binance API
      * @param bnbTradeProcessor Processor for BNB-specific trading operations
      * @param tradeProcessor    Processor for handling Lambda trading operations
+     * @param tradingExecutors  Executors owned by the trader and closed with it, or null when they are shared
+     * @param metricsRegistry   Registry of metrics flushed at the end of every trading cycle
+     * @param tracer            Tracer of trading cycle exported at the end of every trading cycle
+     * @param clock             Clock providing start and end time of trading cycle
      * @param logger            Logger for recording trading operations and events
      */
     public CryptoTrader(BinanceService binanceService,
                         BnbTradeProcessor bnbTradeProcessor,
                         LambdaTradeProcessor tradeProcessor,
+                        TradingExecutors tradingExecutors,
+                        MetricsRegistry metricsRegistry,
+                        Tracer tracer,
+                        Clock clock,
                         LambdaLogger logger) {
         this.binanceService = binanceService;
         this.bnbTradeProcessor = bnbTradeProcessor;
         this.tradeProcessor = tradeProcessor;
+        this.tradingExecutors = tradingExecutors;
+        this.metricsRegistry = metricsRegistry;
+        this.tracer = tracer;
+        this.clock = clock;
         this.logger = logger;
     }
 
     /**
-     * Start trading.
+     * Start trading. Request weight state, metrics and trace recorded during trading are flushed at the end, also when
+     * trading failed.
      */
     public void startTrading() {
+        try {
+            tracer.trace("CryptoTrader.startTrading", () -> metricsRegistry.time("TradingCycle", this::trade));
+        } finally {
+            binanceService.flushRequestWeight();
+            metricsRegistry.flush();
+            tracer.export();
+        }
+    }
+
+    /**
+     * Shuts down executors owned by the trader. Shared executors are left running.
+     */
+    @Override
+    public void close() {
+        if (tradingExecutors != null) {
+            tradingExecutors.close();
+        }
+    }
+
+    private void trade() {
         logger.log("***** ***** Start of trading ***** *****");
-        LocalDateTime start = LocalDateTime.now();
+        LocalDateTime start = LocalDateTime.now(clock);
         logger.log("Crypto trader with version " + getVersion() + " started at " + start + ".");
-        List<Order> openOrders = binanceService.getOpenOrders();
+        List<Order> openOrders = tracer.trace("OpenOrders", binanceService::getOpenOrders);
         logger.log("Number of open orders: " + openOrders.size());
         Map<String, BigDecimal> totalAmounts = createTotalAmounts(openOrders);
         logTotalAmounts(totalAmounts);
@@ -93,39 +147,40 @@ public class CryptoTrader {
                                               .stream()
                                               .reduce(ZERO, BigDecimal::add);
         logger.log("ordersAmount: " + ordersAmount);
-        BigDecimal myBtcBalance = binanceService.getMyBalance(ASSET_BTC);
+        BigDecimal myBtcBalance = tracer.trace("Balance", () -> binanceService.getMyBalance(ASSET_BTC));
         BigDecimal ordersAndBtcAmount = ordersAmount.add(myBtcBalance);
         logger.log("ordersAndBtcAmount: " + ordersAndBtcAmount.stripTrailingZeros());
-        ExchangeInfo exchangeInfo = binanceService.getExchangeInfo();
+        ExchangeInfo exchangeInfo = tracer.trace("ExchangeInfo", binanceService::getExchangeInfo);
         BigDecimal currentBnbBtcPrice = binanceService.getCurrentPrice(SYMBOL_BNB_BTC);
         logger.log("currentBnbBtcPrice: " + currentBnbBtcPrice);
         SymbolInfo bnbSymbolInfo = exchangeInfo.getSymbolInfo(SYMBOL_BNB_BTC);
-        BigDecimal bnbBalance = bnbTradeProcessor.buyBnB(currentBnbBtcPrice, bnbSymbolInfo);
+        BigDecimal bnbBalance = tracer.trace("BnbPurchase",
+                                             () -> bnbTradeProcessor.buyBnB(currentBnbBtcPrice, bnbSymbolInfo));
         BigDecimal bnbAmount = bnbBalance.multiply(currentBnbBtcPrice);
         BigDecimal totalAmount = ordersAndBtcAmount.add(bnbAmount);
         logger.log("totalAmount: " + totalAmount.stripTrailingZeros());
         int minOpenOrders = calculateMinNumberOfOrders(myBtcBalance);
         logger.log("Min open orders: " + minOpenOrders);
-        long uniqueOpenOrdersSize = openOrders.parallelStream()
+        long uniqueOpenOrdersSize = openOrders.stream()
                                               .map(Order::getSymbol)
                                               .distinct()
                                               .count();
         logger.log("Unique open orders: " + uniqueOpenOrdersSize);
-        BigDecimal actualBalance = binanceService.getMyActualBalance();
+        BigDecimal actualBalance = tracer.trace("ActualBalance", binanceService::getMyActualBalance);
         logger.log("actualBalance: " + actualBalance.stripTrailingZeros());
-        tradeProcessor.trade(openOrders,
-                             totalAmounts,
-                             myBtcBalance,
-                             actualBalance,
-                             exchangeInfo,
-                             uniqueOpenOrdersSize,
-                             totalAmount,
-                             minOpenOrders);
-        List<Order> newOpenOrders = binanceService.getOpenOrders();
+        tracer.trace("Trade", () -> tradeProcessor.trade(openOrders,
+                                                         totalAmounts,
+                                                         myBtcBalance,
+                                                         actualBalance,
+                                                         exchangeInfo,
+                                                         uniqueOpenOrdersSize,
+                                                         totalAmount,
+                                                         minOpenOrders));
+        List<Order> newOpenOrders = tracer.trace("NewOpenOrders", binanceService::getOpenOrders);
         Map<String, BigDecimal> newTotalAmounts = createTotalAmounts(newOpenOrders);
         logTotalAmounts(newTotalAmounts);
         checkOldAndNewAmount(ordersAndBtcAmount, newOpenOrders);
-        LocalDateTime end = LocalDateTime.now();
+        LocalDateTime end = LocalDateTime.now(clock);
         logger.log("Finished trading at " + end + ".");
         Duration duration = Duration.between(start, end);
         logger.log("Execution took: "
@@ -164,24 +219,24 @@ public class CryptoTrader {
     }
 
     private void logTotalAmounts(Map<String, BigDecimal> totalAmounts) {
-        logger.log("totalAmounts: ");
-        List<Map.Entry<String, BigDecimal>> entryList = totalAmounts.entrySet()
-                                                                    .stream()
-                                                                    .toList();
-        int numberOfTens = entryList.size() / 10;
-        List<List<Map.Entry<String, BigDecimal>>> listOfLists = new ArrayList<>();
-        for (int i = 0; i < numberOfTens; i++) {
-            listOfLists.add(entryList.subList(i * 10, (i + 1) * 10));
+        if (!AsyncLogger.isDebugEnabled(logger)) {
+            return;
+        }
+        AsyncLogger.debug(logger, () -> "totalAmounts: ");
+        StringBuilder line = new StringBuilder();
+        int symbolsInLine = 0;
+        for (Map.Entry<String, BigDecimal> entry : totalAmounts.entrySet()) {
+            appendRightAligned(line, entry.getKey(), 10).append('=');
+            appendPadded(line, entry.getValue().toString(), 11);
+            if (++symbolsInLine == 10) {
+                String completeLine = line.toString();
+                AsyncLogger.debug(logger, () -> completeLine);
+                line.setLength(0);
+                symbolsInLine = 0;
+            }
         }
-        listOfLists.add(entryList.subList(numberOfTens * 10, entryList.size()));
-        listOfLists.forEach(subList -> {
-            String sublistString = subList.stream()
-                                          .map(stringBigDecimalEntry -> format("%10s=%-11s",
-                                                                               stringBigDecimalEntry.getKey(),
-                                                                               stringBigDecimalEntry.getValue()))
-                                          .collect(Collectors.joining());
-            logger.log(sublistString);
-        });
+        String lastLine = line.toString();
+        AsyncLogger.debug(logger, () -> lastLine);
     }
 
     private int calculateMinNumberOfOrders(BigDecimal myBtcBalance) {
@@ -1,8 +1,21 @@
 package com.psw.cta;
 
+import static com.psw.cta.utils.BinanceApiConstants.API_BASE_URL;
+import static com.psw.cta.utils.IocProvider.DEFAULT_CACHE_DIRECTORY;
 import static com.psw.cta.utils.IocProvider.createCryptoTrader;
+import static com.psw.cta.utils.IocProvider.createDaemonTrader;
+import static com.psw.cta.utils.IocProvider.createLogger;
 
 import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.psw.cta.exception.CryptoTraderException;
+import com.psw.cta.logging.AsyncLogger;
+import com.psw.cta.logging.LogLevel;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Main application class for running the crypto trading system from command line.
@@ -11,9 +24,22 @@ import com.amazonaws.services.lambda.runtime.LambdaLogger;
  * - Trading service
  * - Trade processors for BNB and local trading
  * The application uses AWS Lambda logger for logging operations.
+ * Requests can be recorded into an archive set by system property cta.recordFile and sent to a stand-in server set
+ * by system property cta.baseUrl. Trace of the trading cycle is written into a Chrome trace file set by system property
+ * cta.traceFile. State of request weight and market data is cached in a directory set by system property
+ * cta.cacheDirectory. When it is not set, a stand-in server gets a new temporary directory, so its market data never
+ * reaches the cache of the exchange. Minimal level of logged messages is set by system property cta.logLevel.
+ * When system property cta.cycleInterval is set to an ISO-8601 duration, e.g. PT1M, the application runs as a daemon
+ * trading with the lambda trade processor every interval until it is terminated. The daemon sends requests to
+ * cta.baseUrl and writes trace of its last cycle into cta.traceFile as well. Forbidden pairs of the daemon are set
+ * by comma separated system property cta.forbiddenPairs. On termination, the running cycle is finished before the
+ * application exits.
  */
 public class CryptoTraderApplication {
 
+    private static final String DEFAULT_TRACE_FILE = "crypto-trader-trace.json";
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofMinutes(1);
+
     /**
      * Main method to initialize and start the crypto trading system.
      * Creates necessary components and starts the trading process.
@@ -23,8 +49,80 @@ public class CryptoTraderApplication {
      *             args[1] - Binance API secret
      */
     public static void main(String[] args) {
-        CryptoTrader cryptoTrader = createCryptoTrader(args[0], args[1], getLogger());
-        cryptoTrader.startTrading();
+        String baseUrl = System.getProperty("cta.baseUrl", API_BASE_URL);
+        String recordFileProperty = System.getProperty("cta.recordFile");
+        Path recordFile = recordFileProperty == null ? null : Path.of(recordFileProperty);
+        String traceFile = System.getProperty("cta.traceFile", DEFAULT_TRACE_FILE);
+        Path cacheDirectory = getCacheDirectory(System.getProperty("cta.cacheDirectory"), baseUrl);
+        LogLevel logLevel = LogLevel.valueOf(System.getProperty("cta.logLevel", LogLevel.DEBUG.name()));
+        String cycleInterval = System.getProperty("cta.cycleInterval");
+        if (cycleInterval != null) {
+            runDaemon(args[0],
+                      args[1],
+                      Duration.parse(cycleInterval),
+                      baseUrl,
+                      recordFile,
+                      Path.of(traceFile),
+                      cacheDirectory,
+                      createLogger(getLogger(), logLevel));
+            return;
+        }
+        try (AsyncLogger logger = createLogger(getLogger(), logLevel);
+             CryptoTrader cryptoTrader = createCryptoTrader(args[0],
+                                                            args[1],
+                                                            logger,
+                                                            baseUrl,
+                                                            recordFile,
+                                                            Path.of(traceFile),
+                                                            cacheDirectory)) {
+            cryptoTrader.startTrading();
+        }
+    }
+
+    private static void runDaemon(String apiKey,
+                                  String apiSecret,
+                                  Duration cycleInterval,
+                                  String baseUrl,
+                                  Path recordFile,
+                                  Path traceFile,
+                                  Path cacheDirectory,
+                                  AsyncLogger logger) {
+        List<String> forbiddenPairs = Arrays.stream(System.getProperty("cta.forbiddenPairs", "").split(","))
+                                            .filter(pair -> !pair.isBlank())
+                                            .toList();
+        CryptoTrader cryptoTrader = createDaemonTrader(apiKey,
+                                                       apiSecret,
+                                                       logger,
+                                                       forbiddenPairs,
+                                                       baseUrl,
+                                                       recordFile,
+                                                       traceFile,
+                                                       cacheDirectory);
+        TradingDaemon daemon = new TradingDaemon(cryptoTrader, cycleInterval, SHUTDOWN_TIMEOUT, logger);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            daemon.close();
+            logger.close();
+        }, "trading-daemon-shutdown"));
+        daemon.start();
+        try {
+            daemon.awaitTermination();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Path getCacheDirectory(String cacheDirectory, String baseUrl) {
+        if (cacheDirectory != null) {
+            return Path.of(cacheDirectory);
+        }
+        if (API_BASE_URL.equals(baseUrl)) {
+            return DEFAULT_CACHE_DIRECTORY;
+        }
+        try {
+            return Files.createTempDirectory("crypto-trader-cache");
+        } catch (IOException e) {
+            throw new CryptoTraderException(e);
+        }
     }
 
     private static LambdaLogger getLogger() {
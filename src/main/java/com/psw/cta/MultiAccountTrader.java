@@ -0,0 +1,101 @@
+package com.psw.cta;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.psw.cta.exception.CryptoTraderException;
+import com.psw.cta.metrics.MetricsRegistry;
+import com.psw.cta.service.TradingExecutors;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Trader of several Binance accounts within one invocation. Every account has its own {@link CryptoTrader} with its
+ * own signed client, orders and balances, and all accounts trade at the same time. Traders share one market data
+ * layer, so exchange information, prices, 24 hour statistics and candlesticks are downloaded once for all accounts,
+ * and one budget of request weight, which Binance counts per IP address. Failure of one account does not stop
+ * trading of other accounts. Trader has to be closed when it is not used anymore, so shared executors are shut down.
+ */
+public class MultiAccountTrader implements AutoCloseable {
+
+    private final Map<String, CryptoTrader> cryptoTraders;
+    private final TradingExecutors tradingExecutors;
+    private final MetricsRegistry marketDataMetricsRegistry;
+    private final LambdaLogger logger;
+
+    /**
+     * Default constructor.
+     *
+     * @param cryptoTraders             traders indexed by name of their account
+     * @param tradingExecutors          executors shared by all accounts, trading cycle of every account runs on its
+     *                                  own virtual thread
+     * @param marketDataMetricsRegistry registry of metrics of shared market data client, flushed after every cycle
+     * @param logger                    logger
+     */
+    public MultiAccountTrader(Map<String, CryptoTrader> cryptoTraders,
+                              TradingExecutors tradingExecutors,
+                              MetricsRegistry marketDataMetricsRegistry,
+                              LambdaLogger logger) {
+        this.cryptoTraders = new LinkedHashMap<>(cryptoTraders);
+        this.tradingExecutors = tradingExecutors;
+        this.marketDataMetricsRegistry = marketDataMetricsRegistry;
+        this.logger = logger;
+    }
+
+    /**
+     * Starts trading of all accounts and waits until every account finished its trading cycle.
+     *
+     * @throws CryptoTraderException when trading of any account failed, after all accounts finished
+     */
+    public void startTrading() {
+        logger.log("Start trading of " + cryptoTraders.size() + " accounts: " + cryptoTraders.keySet());
+        ExecutorService executor = tradingExecutors.getIoExecutor();
+        Map<String, Future<?>> cycles = new LinkedHashMap<>();
+        cryptoTraders.forEach((account, cryptoTrader) -> cycles.put(account, executor.submit(() -> {
+            Thread.currentThread().setName("account-" + account);
+            cryptoTrader.startTrading();
+        })));
+        Map<String, Throwable> failures = new LinkedHashMap<>();
+        try {
+            cycles.forEach((account, cycle) -> {
+                Throwable cause = await(cycle);
+                if (cause != null) {
+                    logger.log("Trading of account " + account + " failed: " + cause);
+                    failures.put(account, cause);
+                }
+            });
+        } finally {
+            marketDataMetricsRegistry.flush();
+        }
+        if (!failures.isEmpty()) {
+            CryptoTraderException exception = new CryptoTraderException("Trading failed for accounts "
+                                                                        + failures.keySet());
+            failures.values().forEach(exception::addSuppressed);
+            throw exception;
+        }
+        logger.log("Finished trading of " + cryptoTraders.size() + " accounts");
+    }
+
+    /**
+     * Closes traders of all accounts and shuts down shared executors.
+     */
+    @Override
+    public void close() {
+        cryptoTraders.values().forEach(CryptoTrader::close);
+        tradingExecutors.close();
+    }
+
+    private Throwable await(Future<?> cycle) {
+        try {
+            cycle.get();
+            return null;
+        } catch (ExecutionException e) {
+            return e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cycle.cancel(true);
+            return e;
+        }
+    }
+}
@@ -1,11 +1,17 @@
 package com.psw.cta;
 
+import static com.psw.cta.utils.IocProvider.DEFAULT_CACHE_DIRECTORY;
 import static com.psw.cta.utils.IocProvider.createCryptoTrader;
+import static com.psw.cta.utils.IocProvider.createLogger;
+import static com.psw.cta.utils.IocProvider.createMultiAccountTrader;
 
 import com.amazonaws.services.lambda.runtime.Context;
-import com.amazonaws.services.lambda.runtime.LambdaLogger;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.psw.cta.dto.Input;
+import com.psw.cta.dto.TradingAccount;
+import com.psw.cta.logging.AsyncLogger;
+import com.psw.cta.logging.LogLevel;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -14,6 +20,10 @@ import java.util.Map;
  * Main handler class for AWS Lambda function that processes cryptocurrency trading operations.
  * This class initializes and coordinates various components required for crypto trading,
  * including Binance API client, service layers, and trade processors.
+ * When environment variable accounts contains comma separated names of accounts, all accounts trade at the same time
+ * with shared market data. API key and secret of every account are read from variables apiKey_name and
+ * apiSecret_name. When environment variable recordFile is set, every request and response is appended to that file,
+ * so the invocation can be replayed later by a stand-in server.
  */
 public class ServiceHandler implements RequestHandler<Input, Object> {
 
@@ -30,13 +40,49 @@ public class ServiceHandler implements RequestHandler<Input, Object> {
         String forbiddenPairsVariable = variables.get("forbiddenPairs");
         String apiKey = variables.get("apiKey");
         String apiSecret = variables.get("apiSecret");
-        LambdaLogger logger = context.getLogger();
+        LogLevel logLevel = LogLevel.valueOf(variables.getOrDefault("logLevel", LogLevel.INFO.name()));
         List<String> forbiddenPairs = splitForbiddenPairs(forbiddenPairsVariable);
-        CryptoTrader cryptoTrader = createCryptoTrader(apiKey, apiSecret, logger, forbiddenPairs);
-        cryptoTrader.startTrading();
+        List<TradingAccount> accounts = createAccounts(variables.get("accounts"), variables);
+        Path recordFile = getRecordFile(variables.get("recordFile"));
+        try (AsyncLogger logger = createLogger(context.getLogger(), logLevel)) {
+            if (accounts.isEmpty()) {
+                try (CryptoTrader cryptoTrader = createCryptoTrader(apiKey,
+                                                                    apiSecret,
+                                                                    logger,
+                                                                    forbiddenPairs,
+                                                                    recordFile,
+                                                                    DEFAULT_CACHE_DIRECTORY)) {
+                    cryptoTrader.startTrading();
+                }
+            } else {
+                try (MultiAccountTrader multiAccountTrader = createMultiAccountTrader(accounts,
+                                                                                      logger,
+                                                                                      forbiddenPairs,
+                                                                                      recordFile,
+                                                                    DEFAULT_CACHE_DIRECTORY)) {
+                    multiAccountTrader.startTrading();
+                }
+            }
+        }
         return "Lambda Function is invoked....";
     }
 
+    private List<TradingAccount> createAccounts(String accounts, Map<String, String> variables) {
+        if (accounts == null || accounts.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(accounts.split(","))
+                     .map(String::trim)
+                     .map(name -> new TradingAccount(name,
+                                                     variables.get("apiKey_" + name),
+                                                     variables.get("apiSecret_" + name)))
+                     .toList();
+    }
+
+    private Path getRecordFile(String recordFile) {
+        return recordFile == null || recordFile.isBlank() ? null : Path.of(recordFile);
+    }
+
     private List<String> splitForbiddenPairs(String forbiddenPairs) {
         return Arrays.asList(forbiddenPairs.split(","));
     }
@@ -0,0 +1,145 @@
+package com.psw.cta;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Daemon running trading cycles of one {@link CryptoTrader} on a fixed schedule within one JVM. The trader is created
+ * once, so its HTTP connections, exchange information, candlesticks and price snapshots stay warm between cycles.
+ * Cycles start at multiples of the interval and never overlap. When a cycle takes longer than the interval, the
+ * missed starts are skipped and the next cycle starts at the following multiple. Cycle failed with an exception is
+ * logged and the next cycle runs as scheduled. Cycle failed with an error, such as running out of memory, stops the
+ * daemon, so waiting for its termination never hangs. Trader is closed with the daemon.
+ */
+public class TradingDaemon implements AutoCloseable {
+
+    private final CryptoTrader cryptoTrader;
+    private final Duration cycleInterval;
+    private final Duration shutdownTimeout;
+    private final LambdaLogger logger;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private final AtomicLong cycles = new AtomicLong();
+    private final AtomicLong failedCycles = new AtomicLong();
+
+    /**
+     * Default constructor.
+     *
+     * @param cryptoTrader    trader running every cycle
+     * @param cycleInterval   time between starts of two trading cycles
+     * @param shutdownTimeout maximal time to wait for running cycle when daemon is closed
+     * @param logger          logger
+     */
+    public TradingDaemon(CryptoTrader cryptoTrader,
+                         Duration cycleInterval,
+                         Duration shutdownTimeout,
+                         LambdaLogger logger) {
+        this.cryptoTrader = cryptoTrader;
+        this.cycleInterval = cycleInterval;
+        this.shutdownTimeout = shutdownTimeout;
+        this.logger = logger;
+        this.scheduler = new ScheduledThreadPoolExecutor(1, runnable -> new Thread(runnable, "trading-daemon"));
+        this.scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    /**
+     * Starts trading cycles. The first cycle starts immediately.
+     */
+    public void start() {
+        logger.log("Starting trading daemon with cycle interval " + cycleInterval);
+        scheduler.execute(this::runCycle);
+    }
+
+    private void runCycle() {
+        long cycleStart = System.nanoTime();
+        try {
+            cryptoTrader.startTrading();
+        } catch (RuntimeException e) {
+            failedCycles.incrementAndGet();
+            logger.log("Trading cycle failed: " + e);
+        } catch (Throwable e) {
+            failedCycles.incrementAndGet();
+            logger.log("Trading cycle failed with error, stopping trading daemon: " + e);
+            // Closing waits for the scheduler thread, so it cannot run on it.
+            Thread.ofPlatform().name("trading-daemon-stop").start(this::close);
+            return;
+        } finally {
+            cycles.incrementAndGet();
+        }
+        scheduleNextCycle(System.nanoTime() - cycleStart);
+    }
+
+    private void scheduleNextCycle(long cycleDurationNanos) {
+        if (closed.get()) {
+            return;
+        }
+        long intervalNanos = cycleInterval.toNanos();
+        try {
+            scheduler.schedule(this::runCycle, intervalNanos - cycleDurationNanos % intervalNanos, NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            logger.log("Trading daemon was stopped, next cycle is not scheduled");
+        }
+    }
+
+    /**
+     * Waits until the daemon is closed.
+     *
+     * @throws InterruptedException when waiting thread is interrupted
+     */
+    public void awaitTermination() throws InterruptedException {
+        terminated.await();
+    }
+
+    /**
+     * Returns number of finished trading cycles.
+     *
+     * @return number of cycles, including failed ones
+     */
+    public long getCycles() {
+        return cycles.get();
+    }
+
+    /**
+     * Returns number of trading cycles which failed with an exception.
+     *
+     * @return number of failed cycles
+     */
+    public long getFailedCycles() {
+        return failedCycles.get();
+    }
+
+    /**
+     * Stops scheduling of trading cycles and waits for running cycle to finish. Running cycle is interrupted when it
+     * does not finish within shutdown timeout. Trader is closed afterwards.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        logger.log("Stopping trading daemon");
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(shutdownTimeout.toMillis(), MILLISECONDS)) {
+                logger.log("Trading cycle did not finish within " + shutdownTimeout + ", interrupting it");
+                scheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            scheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        } finally {
+            cryptoTrader.close();
+            logger.log("Trading daemon stopped after " + cycles.get() + " cycles (" + failedCycles.get() + " failed)");
+            terminated.countDown();
+        }
+    }
+}
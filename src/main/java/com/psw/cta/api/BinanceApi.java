@@ -3,8 +3,9 @@ package com.psw.cta.api;
 import static com.psw.cta.utils.BinanceApiConstants.ENDPOINT_SECURITY_TYPE_SIGNED_HEADER;
 
 import com.psw.cta.dto.binance.Account;
+import com.psw.cta.dto.binance.BookTicker;
 import com.psw.cta.dto.binance.CancelOrderResponse;
-import com.psw.cta.dto.binance.Candlestick;
+import com.psw.cta.dto.binance.CandlestickSeries;
 import com.psw.cta.dto.binance.DelistResponse;
 import com.psw.cta.dto.binance.ExchangeInfo;
 import com.psw.cta.dto.binance.NewOrderResponse;
@@ -58,7 +59,7 @@ public interface BinanceApi {
      * @return candle sticks
      */
     @GET("/api/v3/klines")
-    Call<List<Candlestick>> getCandlestickBars(@Query("symbol") String symbol,
+    Call<CandlestickSeries> getCandlestickBars(@Query("symbol") String symbol,
                                                @Query("interval") String interval,
                                                @Query("limit") Integer limit,
                                                @Query("startTime") Long startTime,
@@ -72,6 +73,23 @@ public interface BinanceApi {
     @GET("/api/v3/ticker/24hr")
     Call<List<TickerStatistics>> getAll24HrPriceStatistics();
 
+    /**
+     * Return best price and quantity on the order book of all symbols.
+     *
+     * @return book tickers
+     */
+    @GET("/api/v3/ticker/bookTicker")
+    Call<List<BookTicker>> getBookTickers();
+
+    /**
+     * Return best price and quantity on the order book of symbol.
+     *
+     * @param symbol ticker symbol
+     * @return book ticker
+     */
+    @GET("/api/v3/ticker/bookTicker")
+    Call<BookTicker> getBookTicker(@Query("symbol") String symbol);
+
     /**
      * Place new order.
      *
@@ -0,0 +1,39 @@
+package com.psw.cta.backtest;
+
+import com.psw.cta.dto.binance.CandlestickInterval;
+import com.psw.cta.dto.binance.CandlestickSeries;
+import com.psw.cta.dto.binance.SymbolInfo;
+import com.psw.cta.service.BinanceClient;
+import com.psw.cta.service.CandlestickSource;
+
+/**
+ * Candlestick source of a backtest. Historical market already holds all klines in memory, so klines are requested
+ * directly from the client and nothing is written to disk.
+ */
+public class BacktestCandlestickStore implements CandlestickSource {
+
+    private static final int MAX_CANDLESTICKS_PER_REQUEST = 1000;
+
+    private final BinanceClient binanceClient;
+
+    /**
+     * Default constructor.
+     *
+     * @param binanceClient Binance client answering from simulated exchange
+     */
+    public BacktestCandlestickStore(BinanceClient binanceClient) {
+        this.binanceClient = binanceClient;
+    }
+
+    @Override
+    public CandlestickSeries getCandlesticks(SymbolInfo symbolInfo,
+                                             CandlestickInterval interval,
+                                             long startTime,
+                                             long endTime) {
+        return binanceClient.getCandlestickBars(symbolInfo.getSymbol(),
+                                                interval.getIntervalId(),
+                                                MAX_CANDLESTICKS_PER_REQUEST,
+                                                startTime,
+                                                endTime);
+    }
+}
@@ -0,0 +1,28 @@
+package com.psw.cta.backtest;
+
+import com.psw.cta.dto.binance.ExchangeInfo;
+import com.psw.cta.service.BinanceClient;
+import com.psw.cta.service.ExchangeInfoSource;
+
+/**
+ * Exchange information source of a backtest. Exchange information of historical market never changes, so it is
+ * returned directly from the client without any snapshot file or revalidation.
+ */
+public class BacktestExchangeInfoCache implements ExchangeInfoSource {
+
+    private final BinanceClient binanceClient;
+
+    /**
+     * Default constructor.
+     *
+     * @param binanceClient Binance client answering from simulated exchange
+     */
+    public BacktestExchangeInfoCache(BinanceClient binanceClient) {
+        this.binanceClient = binanceClient;
+    }
+
+    @Override
+    public ExchangeInfo getExchangeInfo() {
+        return binanceClient.getExchangeInfo();
+    }
+}
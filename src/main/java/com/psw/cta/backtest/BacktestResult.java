@@ -0,0 +1,41 @@
+package com.psw.cta.backtest;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.Instant;
+
+/**
+ * Result of one backtest.
+ *
+ * @param start         simulated time of the first trading cycle
+ * @param end           simulated time at which backtest stopped
+ * @param cycles        number of trading cycles
+ * @param failedCycles  number of trading cycles which failed with an exception
+ * @param trades        number of executed trades
+ * @param initialValue  value of account in BTC at start
+ * @param finalValue    value of account in BTC at end
+ * @param maxDrawdown   the largest drop of account value from its previous peak, as a fraction of the peak
+ */
+public record BacktestResult(Instant start,
+                             Instant end,
+                             int cycles,
+                             int failedCycles,
+                             long trades,
+                             BigDecimal initialValue,
+                             BigDecimal finalValue,
+                             double maxDrawdown) {
+
+    /**
+     * Returns profit of the backtest in percent of initial value.
+     *
+     * @return profit in percent
+     */
+    public double profitPercentage() {
+        if (initialValue.signum() == 0) {
+            return 0;
+        }
+        return finalValue.subtract(initialValue)
+                         .divide(initialValue, MathContext.DECIMAL64)
+                         .doubleValue() * 100;
+    }
+}
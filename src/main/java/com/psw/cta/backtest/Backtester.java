@@ -0,0 +1,97 @@
+package com.psw.cta.backtest;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.psw.cta.CryptoTrader;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Backtest driving the real {@link CryptoTrader} against a {@link Simulation} of a {@link HistoricalMarket}. Simulated
+ * time is advanced by one cycle duration before every trading cycle, limit orders reached by the market in the
+ * meantime are filled, and the value of the account is recorded after every cycle. Nothing waits for the wall clock,
+ * so months of cycles are replayed in seconds.
+ */
+public class Backtester {
+
+    private final CryptoTrader cryptoTrader;
+    private final Simulation simulation;
+    private final SimulatedClock clock;
+    private final Duration cycleDuration;
+    private final LambdaLogger logger;
+
+    /**
+     * Default constructor.
+     *
+     * @param cryptoTrader  trader wired to simulated exchange and clock
+     * @param simulation    simulated account answering requests of the trader
+     * @param clock         clock with simulated time
+     * @param cycleDuration simulated time between two trading cycles
+     * @param logger        logger
+     */
+    public Backtester(CryptoTrader cryptoTrader,
+                      Simulation simulation,
+                      SimulatedClock clock,
+                      Duration cycleDuration,
+                      LambdaLogger logger) {
+        this.cryptoTrader = cryptoTrader;
+        this.simulation = simulation;
+        this.clock = clock;
+        this.cycleDuration = cycleDuration;
+        this.logger = logger;
+    }
+
+    /**
+     * Runs trading cycles from start until end. Failed cycle is counted and the backtest continues with the next one,
+     * as the scheduled trader does.
+     *
+     * @param start simulated time of the first trading cycle
+     * @param end   simulated time after which no trading cycle is started
+     * @return result of the backtest
+     */
+    public BacktestResult run(Instant start, Instant end) {
+        advanceTo(start);
+        BigDecimal initialValue = simulation.getTotalBtcValue();
+        BigDecimal peakValue = initialValue;
+        double maxDrawdown = 0;
+        int cycles = 0;
+        int failedCycles = 0;
+        for (Instant time = start; time.isBefore(end); time = time.plus(cycleDuration)) {
+            advanceTo(time);
+            try {
+                cryptoTrader.startTrading();
+            } catch (RuntimeException e) {
+                logger.log("Trading cycle at " + time + " failed: " + e);
+                failedCycles++;
+            }
+            cycles++;
+            BigDecimal value = simulation.getTotalBtcValue();
+            peakValue = peakValue.max(value);
+            maxDrawdown = Math.max(maxDrawdown, getDrawdown(peakValue, value));
+        }
+        advanceTo(end);
+        return new BacktestResult(start,
+                                  end,
+                                  cycles,
+                                  failedCycles,
+                                  simulation.getTradeCount(),
+                                  initialValue,
+                                  simulation.getTotalBtcValue(),
+                                  maxDrawdown);
+    }
+
+    private void advanceTo(Instant time) {
+        clock.set(time);
+        simulation.advanceTo(time.toEpochMilli());
+    }
+
+    private double getDrawdown(BigDecimal peakValue, BigDecimal value) {
+        if (peakValue.signum() == 0) {
+            return 0;
+        }
+        return peakValue.subtract(value)
+                        .divide(peakValue, MathContext.DECIMAL64)
+                        .doubleValue();
+    }
+}
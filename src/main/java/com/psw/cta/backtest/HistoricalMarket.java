@@ -0,0 +1,384 @@
+package com.psw.cta.backtest;
+
+import static com.psw.cta.dto.binance.CandlestickInterval.DAILY;
+import static com.psw.cta.dto.binance.CandlestickInterval.FIFTEEN_MINUTES;
+import static com.psw.cta.dto.binance.CandlestickInterval.FIVE_MINUTES;
+import static com.psw.cta.dto.binance.CandlestickInterval.HOURLY;
+import static com.psw.cta.dto.binance.CandlestickInterval.WEEKLY;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.psw.cta.dto.binance.ArrayCandlestickSeries;
+import com.psw.cta.dto.binance.CandlestickInterval;
+import com.psw.cta.dto.binance.CandlestickSeries;
+import com.psw.cta.dto.binance.ExchangeInfo;
+import com.psw.cta.dto.binance.JoinedCandlestickSeries;
+import com.psw.cta.dto.binance.SymbolInfo;
+import com.psw.cta.exception.BinanceApiException;
+import com.psw.cta.service.MappedCandlestickSeries;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Historical market data of BTC quoted symbols replayed by a backtest. Market is built from 5 minute klines of every
+ * symbol, all longer intervals are aggregated from them once when the market is created. Every query is answered as
+ * it would be answered at the provided time: only klines closed before that time are visible and the kline of the
+ * current interval is built from the visible 5 minute klines, so a backtest can not look into the future.
+ *
+ * <p>Market is immutable, so one market can be shared by many backtests running at the same time.
+ */
+public class HistoricalMarket {
+
+    /**
+     * Name of file with exchange information inside of a market directory.
+     */
+    public static final String EXCHANGE_INFO_FILE = "exchangeInfo.json";
+
+    /**
+     * Suffix of files with 5 minute klines inside of a market directory.
+     */
+    public static final String FIVE_MINUTES_FILE_SUFFIX = "-5m.bin";
+
+    private static final int DEFAULT_LIMIT = 500;
+    private static final int MAX_LIMIT = 1000;
+    private static final long ONE_DAY_MILLIS = Duration.ofDays(1).toMillis();
+    private static final long WEEK_OFFSET_MILLIS = Duration.ofDays(4).toMillis();
+    private static final List<CandlestickInterval> AGGREGATED_INTERVALS = List.of(FIFTEEN_MINUTES,
+                                                                                   HOURLY,
+                                                                                   DAILY,
+                                                                                   WEEKLY);
+
+    private final ExchangeInfo exchangeInfo;
+    private final Map<String, SymbolHistory> histories = new HashMap<>();
+    private final long startTime;
+    private final long endTime;
+
+    /**
+     * Default constructor. Only symbols with klines are kept in exchange information.
+     *
+     * @param exchangeInfo           exchange information
+     * @param fiveMinuteCandlesticks 5 minute klines by symbol
+     */
+    public HistoricalMarket(ExchangeInfo exchangeInfo, Map<String, CandlestickSeries> fiveMinuteCandlesticks) {
+        List<SymbolInfo> symbols = exchangeInfo.getSymbols()
+                                               .stream()
+                                               .filter(symbolInfo -> hasCandlesticks(fiveMinuteCandlesticks,
+                                                                                     symbolInfo.getSymbol()))
+                                               .toList();
+        this.exchangeInfo = new ExchangeInfo();
+        this.exchangeInfo.setSymbols(symbols);
+        long firstOpenTime = Long.MAX_VALUE;
+        long lastCloseTime = Long.MIN_VALUE;
+        for (SymbolInfo symbolInfo : symbols) {
+            CandlestickSeries candlesticks = fiveMinuteCandlesticks.get(symbolInfo.getSymbol());
+            histories.put(symbolInfo.getSymbol(), createHistory(candlesticks));
+            firstOpenTime = Math.min(firstOpenTime, candlesticks.getOpenTime(0));
+            lastCloseTime = Math.max(lastCloseTime, candlesticks.getCloseTime(candlesticks.size() - 1));
+        }
+        this.startTime = firstOpenTime;
+        this.endTime = lastCloseTime;
+    }
+
+    /**
+     * Loads market from directory holding {@value #EXCHANGE_INFO_FILE} and memory mapped 5 minute klines of every
+     * symbol in files named by symbol with suffix {@value #FIVE_MINUTES_FILE_SUFFIX}.
+     *
+     * @param directory market directory
+     * @return historical market
+     * @throws IOException when exchange information or klines can not be read
+     */
+    public static HistoricalMarket load(Path directory) throws IOException {
+        ExchangeInfo exchangeInfo = new ObjectMapper().readValue(directory.resolve(EXCHANGE_INFO_FILE).toFile(),
+                                                                 ExchangeInfo.class);
+        Map<String, CandlestickSeries> candlesticks = new HashMap<>();
+        for (SymbolInfo symbolInfo : exchangeInfo.getSymbols()) {
+            Path file = directory.resolve(symbolInfo.getSymbol() + FIVE_MINUTES_FILE_SUFFIX);
+            if (Files.exists(file)) {
+                candlesticks.put(symbolInfo.getSymbol(), MappedCandlestickSeries.map(file));
+            }
+        }
+        return new HistoricalMarket(exchangeInfo, candlesticks);
+    }
+
+    private static boolean hasCandlesticks(Map<String, CandlestickSeries> candlesticks, String symbol) {
+        return candlesticks.containsKey(symbol) && !candlesticks.get(symbol).isEmpty();
+    }
+
+    private SymbolHistory createHistory(CandlestickSeries fiveMinutes) {
+        Map<CandlestickInterval, CandlestickSeries> aggregated = new EnumMap<>(CandlestickInterval.class);
+        AGGREGATED_INTERVALS.forEach(interval -> aggregated.put(interval, aggregate(fiveMinutes, interval)));
+        double[] quoteVolumeSums = new double[fiveMinutes.size() + 1];
+        for (int i = 0; i < fiveMinutes.size(); i++) {
+            quoteVolumeSums[i + 1] = quoteVolumeSums[i] + fiveMinutes.getVolume(i) * fiveMinutes.getClose(i);
+        }
+        return new SymbolHistory(fiveMinutes, aggregated, quoteVolumeSums);
+    }
+
+    private CandlestickSeries aggregate(CandlestickSeries fiveMinutes, CandlestickInterval interval) {
+        long durationMillis = interval.getDuration().toMillis();
+        ArrayCandlestickSeries aggregated = new ArrayCandlestickSeries();
+        int first = 0;
+        while (first < fiveMinutes.size()) {
+            long openTime = getIntervalOpenTime(fiveMinutes.getOpenTime(first), interval);
+            int last = first;
+            while (last + 1 < fiveMinutes.size() && fiveMinutes.getOpenTime(last + 1) < openTime + durationMillis) {
+                last++;
+            }
+            addAggregated(aggregated, fiveMinutes, first, last + 1, openTime, durationMillis);
+            first = last + 1;
+        }
+        return aggregated;
+    }
+
+    private void addAggregated(ArrayCandlestickSeries aggregated,
+                               CandlestickSeries fiveMinutes,
+                               int fromIndex,
+                               int toIndex,
+                               long openTime,
+                               long durationMillis) {
+        double high = fiveMinutes.getHigh(fromIndex);
+        double low = fiveMinutes.getLow(fromIndex);
+        double volume = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            high = Math.max(high, fiveMinutes.getHigh(i));
+            low = Math.min(low, fiveMinutes.getLow(i));
+            volume += fiveMinutes.getVolume(i);
+        }
+        aggregated.add(openTime,
+                       fiveMinutes.getOpen(fromIndex),
+                       high,
+                       low,
+                       fiveMinutes.getClose(toIndex - 1),
+                       volume,
+                       openTime + durationMillis - 1);
+    }
+
+    private long getIntervalOpenTime(long time, CandlestickInterval interval) {
+        long offset = interval == WEEKLY ? WEEK_OFFSET_MILLIS : 0;
+        long durationMillis = interval.getDuration().toMillis();
+        return Math.floorDiv(time - offset, durationMillis) * durationMillis + offset;
+    }
+
+    /**
+     * Returns exchange information of symbols with klines.
+     *
+     * @return exchange information
+     */
+    public ExchangeInfo getExchangeInfo() {
+        return exchangeInfo;
+    }
+
+    /**
+     * Returns symbols with klines.
+     *
+     * @return symbols
+     */
+    public Set<String> getSymbols() {
+        return histories.keySet();
+    }
+
+    /**
+     * Returns open time of the oldest kline in the market.
+     *
+     * @return start time in milliseconds
+     */
+    public long getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Returns close time of the newest kline in the market.
+     *
+     * @return end time in milliseconds
+     */
+    public long getEndTime() {
+        return endTime;
+    }
+
+    /**
+     * Returns close price of the last 5 minute kline closed before provided time.
+     *
+     * @param symbol symbol
+     * @param time   time in milliseconds
+     * @return price, or NaN when no kline of symbol was closed yet
+     */
+    public double getPrice(String symbol, long time) {
+        SymbolHistory history = histories.get(symbol);
+        if (history == null) {
+            return Double.NaN;
+        }
+        int visible = countClosed(history.fiveMinutes(), time);
+        return visible == 0 ? Double.NaN : history.fiveMinutes().getClose(visible - 1);
+    }
+
+    /**
+     * Returns the highest price of 5 minute klines closed within provided time range.
+     *
+     * @param symbol   symbol
+     * @param fromTime start of time range in milliseconds, inclusive
+     * @param toTime   end of time range in milliseconds, exclusive
+     * @return the highest price, or NaN when no kline was closed within time range
+     */
+    public double getHighestPrice(String symbol, long fromTime, long toTime) {
+        SymbolHistory history = histories.get(symbol);
+        if (history == null) {
+            return Double.NaN;
+        }
+        CandlestickSeries fiveMinutes = history.fiveMinutes();
+        int toIndex = countClosed(fiveMinutes, toTime);
+        double highest = Double.NaN;
+        for (int i = countClosed(fiveMinutes, fromTime); i < toIndex; i++) {
+            highest = Double.isNaN(highest) ? fiveMinutes.getHigh(i) : Math.max(highest, fiveMinutes.getHigh(i));
+        }
+        return highest;
+    }
+
+    /**
+     * Returns the lowest price of 5 minute klines closed within provided time range.
+     *
+     * @param symbol   symbol
+     * @param fromTime start of time range in milliseconds, inclusive
+     * @param toTime   end of time range in milliseconds, exclusive
+     * @return the lowest price, or NaN when no kline was closed within time range
+     */
+    public double getLowestPrice(String symbol, long fromTime, long toTime) {
+        SymbolHistory history = histories.get(symbol);
+        if (history == null) {
+            return Double.NaN;
+        }
+        CandlestickSeries fiveMinutes = history.fiveMinutes();
+        int toIndex = countClosed(fiveMinutes, toTime);
+        double lowest = Double.NaN;
+        for (int i = countClosed(fiveMinutes, fromTime); i < toIndex; i++) {
+            lowest = Double.isNaN(lowest) ? fiveMinutes.getLow(i) : Math.min(lowest, fiveMinutes.getLow(i));
+        }
+        return lowest;
+    }
+
+    /**
+     * Returns quote volume of symbol within 24 hours before provided time.
+     *
+     * @param symbol symbol
+     * @param time   time in milliseconds
+     * @return quote volume
+     */
+    public double getQuoteVolume(String symbol, long time) {
+        SymbolHistory history = histories.get(symbol);
+        if (history == null) {
+            return 0;
+        }
+        int visible = countClosed(history.fiveMinutes(), time);
+        int first = indexOfOpenTime(history.fiveMinutes(), time - ONE_DAY_MILLIS, visible);
+        return history.quoteVolumeSums()[visible] - history.quoteVolumeSums()[first];
+    }
+
+    /**
+     * Returns klines as Binance returns them at provided time. Klines are selected from start time when it is provided,
+     * otherwise the newest klines are returned.
+     *
+     * @param symbol    symbol
+     * @param interval  kline interval, 5 minutes or one of aggregated intervals
+     * @param limit     maximal number of klines, or null for default limit
+     * @param startTime open time of the first kline in milliseconds, or null
+     * @param endTime   open time of the last kline in milliseconds, or null
+     * @param time      time in milliseconds at which klines are requested
+     * @return klines
+     */
+    public CandlestickSeries getCandlesticks(String symbol,
+                                             CandlestickInterval interval,
+                                             Integer limit,
+                                             Long startTime,
+                                             Long endTime,
+                                             long time) {
+        SymbolHistory history = histories.get(symbol);
+        if (history == null) {
+            throw new BinanceApiException("Invalid symbol " + symbol);
+        }
+        CandlestickSeries fiveMinutes = history.fiveMinutes();
+        int visibleFiveMinutes = countClosed(fiveMinutes, time);
+        if (interval == FIVE_MINUTES) {
+            return select(fiveMinutes, visibleFiveMinutes, limit, startTime, endTime);
+        }
+        CandlestickSeries aggregated = history.aggregated().get(interval);
+        if (aggregated == null) {
+            throw new BinanceApiException("Interval " + interval.getIntervalId() + " is not available in backtest");
+        }
+        if (visibleFiveMinutes == 0) {
+            return new ArrayCandlestickSeries(0);
+        }
+        long currentOpenTime = getIntervalOpenTime(fiveMinutes.getOpenTime(visibleFiveMinutes - 1), interval);
+        int current = indexOfOpenTime(aggregated, currentOpenTime, aggregated.size());
+        if (aggregated.getCloseTime(current) < time) {
+            return select(aggregated, current + 1, limit, startTime, endTime);
+        }
+        ArrayCandlestickSeries currentCandlestick = new ArrayCandlestickSeries(1);
+        addAggregated(currentCandlestick,
+                      fiveMinutes,
+                      indexOfOpenTime(fiveMinutes, currentOpenTime, visibleFiveMinutes),
+                      visibleFiveMinutes,
+                      currentOpenTime,
+                      interval.getDuration().toMillis());
+        int[] range = getRange(aggregated, current + 1, limit, startTime, endTime);
+        if (range[1] <= current) {
+            return aggregated.slice(range[0], range[1]);
+        }
+        return new JoinedCandlestickSeries(aggregated.slice(range[0], current), currentCandlestick);
+    }
+
+    private CandlestickSeries select(CandlestickSeries series, int size, Integer limit, Long startTime, Long endTime) {
+        int[] range = getRange(series, size, limit, startTime, endTime);
+        return series.slice(range[0], range[1]);
+    }
+
+    private int[] getRange(CandlestickSeries series, int size, Integer limit, Long startTime, Long endTime) {
+        int maxCount = limit == null ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        int toIndex = endTime == null ? size : indexOfOpenTime(series, endTime + 1, size);
+        int fromIndex;
+        if (startTime == null) {
+            fromIndex = Math.max(0, toIndex - maxCount);
+        } else {
+            fromIndex = Math.min(indexOfOpenTime(series, startTime, size), toIndex);
+            toIndex = Math.min(toIndex, fromIndex + maxCount);
+        }
+        return new int[]{fromIndex, toIndex};
+    }
+
+    private int countClosed(CandlestickSeries series, long time) {
+        int low = 0;
+        int high = series.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (series.getCloseTime(middle) < time) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int indexOfOpenTime(CandlestickSeries series, long openTime, int size) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (series.getOpenTime(middle) < openTime) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private record SymbolHistory(CandlestickSeries fiveMinutes,
+                                 Map<CandlestickInterval, CandlestickSeries> aggregated,
+                                 double[] quoteVolumeSums) {
+    }
+}
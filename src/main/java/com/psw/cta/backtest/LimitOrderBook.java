@@ -0,0 +1,181 @@
+package com.psw.cta.backtest;
+
+import static com.psw.cta.dto.binance.OrderSide.BUY;
+
+import com.psw.cta.dto.binance.OrderSide;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Limit order book of one symbol. Prices are kept in ticks of PRICE_FILTER and quantities in steps of LOT_SIZE filter,
+ * so matching works with long arithmetic only. Orders on one price level are matched in order of their arrival.
+ */
+class LimitOrderBook {
+
+    private final NavigableMap<Long, ArrayDeque<RestingOrder>> bids = new TreeMap<>(Comparator.reverseOrder());
+    private final NavigableMap<Long, ArrayDeque<RestingOrder>> asks = new TreeMap<>();
+
+    /**
+     * Adds order to the end of its price level.
+     *
+     * @param order order to add
+     */
+    void add(RestingOrder order) {
+        getLevels(order.getSide()).computeIfAbsent(order.getPriceTicks(), price -> new ArrayDeque<>()).add(order);
+    }
+
+    /**
+     * Removes order from the book.
+     *
+     * @param order order to remove
+     */
+    void remove(RestingOrder order) {
+        NavigableMap<Long, ArrayDeque<RestingOrder>> levels = getLevels(order.getSide());
+        ArrayDeque<RestingOrder> level = levels.get(order.getPriceTicks());
+        if (level != null && level.remove(order) && level.isEmpty()) {
+            levels.remove(order.getPriceTicks());
+        }
+    }
+
+    /**
+     * Finds resting orders which would be matched by incoming order. The book is not changed.
+     *
+     * @param takerSide     side of incoming order
+     * @param limitTicks    limit price of incoming order, {@link Long#MAX_VALUE} for market buy and
+     *                      {@link Long#MIN_VALUE} for market sell
+     * @param quantitySteps quantity of incoming order
+     * @return fills in order of execution
+     */
+    List<Fill> findMatches(OrderSide takerSide, long limitTicks, long quantitySteps) {
+        List<Fill> fills = new ArrayList<>();
+        long remainingSteps = quantitySteps;
+        for (Map.Entry<Long, ArrayDeque<RestingOrder>> level : getLevels(opposite(takerSide)).entrySet()) {
+            long priceTicks = level.getKey();
+            boolean crosses = takerSide == BUY ? priceTicks <= limitTicks : priceTicks >= limitTicks;
+            if (remainingSteps == 0 || !crosses) {
+                break;
+            }
+            for (RestingOrder maker : level.getValue()) {
+                long steps = Math.min(remainingSteps, maker.getRemainingSteps());
+                fills.add(new Fill(maker, priceTicks, steps));
+                remainingSteps -= steps;
+                if (remainingSteps == 0) {
+                    break;
+                }
+            }
+        }
+        return fills;
+    }
+
+    /**
+     * Executes fills found by {@link #findMatches(OrderSide, long, long)}. Resting orders are reduced by filled
+     * quantity and fully filled orders are removed from the book.
+     *
+     * @param fills fills to execute
+     */
+    void execute(List<Fill> fills) {
+        for (Fill fill : fills) {
+            RestingOrder maker = fill.maker();
+            maker.remainingSteps -= fill.quantitySteps();
+            if (maker.remainingSteps == 0) {
+                remove(maker);
+            }
+        }
+    }
+
+    /**
+     * Returns aggregated price levels of one side of the book, the best price first.
+     *
+     * @param side  side of the book
+     * @param limit maximal number of price levels
+     * @return price levels
+     */
+    List<Level> getDepth(OrderSide side, int limit) {
+        List<Level> depth = new ArrayList<>(Math.min(limit, getLevels(side).size()));
+        for (Map.Entry<Long, ArrayDeque<RestingOrder>> level : getLevels(side).entrySet()) {
+            if (depth.size() == limit) {
+                break;
+            }
+            long quantitySteps = 0;
+            for (RestingOrder order : level.getValue()) {
+                quantitySteps += order.getRemainingSteps();
+            }
+            depth.add(new Level(level.getKey(), quantitySteps));
+        }
+        return depth;
+    }
+
+    private NavigableMap<Long, ArrayDeque<RestingOrder>> getLevels(OrderSide side) {
+        return side == BUY ? bids : asks;
+    }
+
+    private OrderSide opposite(OrderSide side) {
+        return side == BUY ? OrderSide.SELL : BUY;
+    }
+
+    /**
+     * Order resting in the book.
+     */
+    static final class RestingOrder {
+
+        private final long orderId;
+        private final OrderSide side;
+        private final long priceTicks;
+        private long remainingSteps;
+
+        /**
+         * Default constructor.
+         *
+         * @param orderId        id of order
+         * @param side           side of order
+         * @param priceTicks     limit price in ticks
+         * @param remainingSteps unfilled quantity in steps
+         */
+        RestingOrder(long orderId, OrderSide side, long priceTicks, long remainingSteps) {
+            this.orderId = orderId;
+            this.side = side;
+            this.priceTicks = priceTicks;
+            this.remainingSteps = remainingSteps;
+        }
+
+        long getOrderId() {
+            return orderId;
+        }
+
+        OrderSide getSide() {
+            return side;
+        }
+
+        long getPriceTicks() {
+            return priceTicks;
+        }
+
+        long getRemainingSteps() {
+            return remainingSteps;
+        }
+    }
+
+    /**
+     * Execution of incoming order against one resting order.
+     *
+     * @param maker         resting order
+     * @param priceTicks    execution price in ticks, the price of resting order
+     * @param quantitySteps executed quantity in steps
+     */
+    record Fill(RestingOrder maker, long priceTicks, long quantitySteps) {
+    }
+
+    /**
+     * Aggregated price level of the book.
+     *
+     * @param priceTicks    price in ticks
+     * @param quantitySteps quantity of all orders on the level in steps
+     */
+    record Level(long priceTicks, long quantitySteps) {
+    }
+}
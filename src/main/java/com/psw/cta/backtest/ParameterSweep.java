@@ -0,0 +1,259 @@
+package com.psw.cta.backtest;
+
+import static com.psw.cta.utils.IocProvider.createSimulatedTrader;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.psw.cta.CryptoTrader;
+import com.psw.cta.processor.StrategyParameters;
+import com.psw.cta.service.TradingExecutors;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parameter sweep evaluating many configurations of {@link StrategyParameters} by backtests of the same period. All
+ * backtests read one immutable {@link HistoricalMarket}, every backtest has its own simulated account and clock.
+ * Backtests run in parallel on a fork-join pool, one backtest per worker, and share provided executors for their
+ * market data fetches and CPU bound stages.
+ */
+public class ParameterSweep {
+
+    private static final Comparator<SweepResult> RANKING =
+        Comparator.comparingDouble((SweepResult sweepResult) -> sweepResult.result().profitPercentage())
+                  .reversed()
+                  .thenComparingDouble(sweepResult -> sweepResult.result().maxDrawdown());
+
+    private final HistoricalMarket market;
+    private final TradingExecutors tradingExecutors;
+    private final BigDecimal initialBtcBalance;
+    private final BigDecimal feeRate;
+    private final Duration cycleDuration;
+    private final int parallelism;
+    private final LambdaLogger logger;
+
+    /**
+     * Default constructor.
+     *
+     * @param market            historical market shared by all backtests
+     * @param tradingExecutors  executors shared by all backtests
+     * @param initialBtcBalance BTC balance of every simulated account
+     * @param feeRate           fee charged from every trade, e.g. 0.001 for 0.1 %
+     * @param cycleDuration     simulated time between two trading cycles
+     * @param parallelism       number of backtests running at the same time
+     * @param logger            logger
+     */
+    public ParameterSweep(HistoricalMarket market,
+                          TradingExecutors tradingExecutors,
+                          BigDecimal initialBtcBalance,
+                          BigDecimal feeRate,
+                          Duration cycleDuration,
+                          int parallelism,
+                          LambdaLogger logger) {
+        this.market = market;
+        this.tradingExecutors = tradingExecutors;
+        this.initialBtcBalance = initialBtcBalance;
+        this.feeRate = feeRate;
+        this.cycleDuration = cycleDuration;
+        this.parallelism = parallelism;
+        this.logger = logger;
+    }
+
+    /**
+     * Creates every combination of provided values. Repeated values of a parameter, e.g. 40 and 40.0, are used once.
+     * Parameters without values keep their default value.
+     *
+     * @param values values of swept parameters
+     * @return configurations of the grid
+     */
+    public static List<StrategyParameters> grid(Map<SweepParameter, List<BigDecimal>> values) {
+        List<StrategyParameters> configurations = List.of(StrategyParameters.DEFAULT);
+        for (Map.Entry<SweepParameter, List<BigDecimal>> entry : distinct(values).entrySet()) {
+            List<StrategyParameters> combined = new ArrayList<>();
+            for (StrategyParameters configuration : configurations) {
+                entry.getValue().forEach(value -> combined.add(entry.getKey().set(configuration, value)));
+            }
+            configurations = combined;
+        }
+        return configurations;
+    }
+
+    /**
+     * Creates distinct configurations with value of every swept parameter picked randomly from provided values. When
+     * the grid of distinct provided values is smaller than requested count, every configuration of the grid is
+     * returned.
+     *
+     * @param values values of swept parameters
+     * @param count  number of configurations
+     * @param seed   seed of random generator, so the same configurations can be created again
+     * @return random configurations
+     */
+    public static List<StrategyParameters> random(Map<SweepParameter, List<BigDecimal>> values, int count, long seed) {
+        Map<SweepParameter, List<BigDecimal>> distinctValues = distinct(values);
+        long gridSize = distinctValues.values()
+                                      .stream()
+                                      .mapToLong(List::size)
+                                      .reduce(1, Math::multiplyExact);
+        if (gridSize <= count) {
+            return grid(distinctValues);
+        }
+        Random random = new Random(seed);
+        Set<StrategyParameters> configurations = new LinkedHashSet<>();
+        while (configurations.size() < count) {
+            StrategyParameters configuration = StrategyParameters.DEFAULT;
+            for (Map.Entry<SweepParameter, List<BigDecimal>> entry : distinctValues.entrySet()) {
+                List<BigDecimal> parameterValues = entry.getValue();
+                BigDecimal value = parameterValues.get(random.nextInt(parameterValues.size()));
+                configuration = entry.getKey().set(configuration, value);
+            }
+            configurations.add(configuration);
+        }
+        return List.copyOf(configurations);
+    }
+
+    private static Map<SweepParameter, List<BigDecimal>> distinct(Map<SweepParameter, List<BigDecimal>> values) {
+        Map<SweepParameter, List<BigDecimal>> distinctValues = new EnumMap<>(SweepParameter.class);
+        values.forEach((parameter, parameterValues) -> {
+            Map<BigDecimal, BigDecimal> byStrippedValue = new LinkedHashMap<>();
+            parameterValues.forEach(value -> byStrippedValue.putIfAbsent(value.stripTrailingZeros(), value));
+            distinctValues.put(parameter, List.copyOf(byStrippedValue.values()));
+        });
+        return distinctValues;
+    }
+
+    /**
+     * Backtests every configuration from start until end.
+     *
+     * @param configurations thresholds of the strategy to evaluate
+     * @param start          simulated time of the first trading cycle
+     * @param end            simulated time after which no trading cycle is started
+     * @return results ranked by profit, the most profitable first, and by drawdown when profit is the same
+     */
+    public List<SweepResult> run(List<StrategyParameters> configurations, Instant start, Instant end) {
+        logger.log("Sweeping " + configurations.size() + " configurations with parallelism " + parallelism);
+        if (configurations.isEmpty()) {
+            return List.of();
+        }
+        AtomicInteger finished = new AtomicInteger();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<SweepResult> results = new ArrayList<>(pool.invoke(new SweepTask(configurations,
+                                                                                   0,
+                                                                                   configurations.size(),
+                                                                                   start,
+                                                                                   end,
+                                                                                   finished)));
+            results.sort(RANKING);
+            return results;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Writes results as a CSV table with one ranked row per configuration.
+     *
+     * @param results ranked results
+     * @param file    file where table is written
+     * @throws IOException when file can not be written
+     */
+    public static void writeTable(List<SweepResult> results, Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            StringBuilder header = new StringBuilder("rank");
+            for (SweepParameter parameter : SweepParameter.values()) {
+                header.append(',').append(parameter.getName());
+            }
+            writer.write(header.append(",profitPercentage,maxDrawdownPercentage,trades,failedCycles,finalValue")
+                               .toString());
+            writer.newLine();
+            for (int i = 0; i < results.size(); i++) {
+                writer.write(toRow(i + 1, results.get(i)));
+                writer.newLine();
+            }
+        }
+    }
+
+    private static String toRow(int rank, SweepResult sweepResult) {
+        StringBuilder row = new StringBuilder().append(rank);
+        for (SweepParameter parameter : SweepParameter.values()) {
+            row.append(',').append(parameter.get(sweepResult.parameters()).toPlainString());
+        }
+        BacktestResult result = sweepResult.result();
+        return row.append(String.format(Locale.ROOT,
+                                        ",%.4f,%.4f,%d,%d,%s",
+                                        result.profitPercentage(),
+                                        result.maxDrawdown() * 100,
+                                        result.trades(),
+                                        result.failedCycles(),
+                                        result.finalValue().toPlainString()))
+                  .toString();
+    }
+
+    private SweepResult backtest(StrategyParameters parameters, Instant start, Instant end) {
+        SimulatedClock clock = new SimulatedClock(start);
+        SimulatedExchange exchange = new SimulatedExchange(market, clock, initialBtcBalance, feeRate);
+        CryptoTrader cryptoTrader = createSimulatedTrader(exchange, clock, tradingExecutors, parameters, logger);
+        Backtester backtester = new Backtester(cryptoTrader, exchange, clock, cycleDuration, logger);
+        return new SweepResult(parameters, backtester.run(start, end));
+    }
+
+    /**
+     * Task backtesting a range of configurations. Range is split in halves until it holds a single configuration.
+     */
+    private final class SweepTask extends RecursiveTask<List<SweepResult>> {
+
+        private final List<StrategyParameters> configurations;
+        private final int fromIndex;
+        private final int toIndex;
+        private final Instant start;
+        private final Instant end;
+        private final AtomicInteger finished;
+
+        private SweepTask(List<StrategyParameters> configurations,
+                          int fromIndex,
+                          int toIndex,
+                          Instant start,
+                          Instant end,
+                          AtomicInteger finished) {
+            this.configurations = configurations;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.start = start;
+            this.end = end;
+            this.finished = finished;
+        }
+
+        @Override
+        protected List<SweepResult> compute() {
+            if (toIndex - fromIndex == 1) {
+                SweepResult result = backtest(configurations.get(fromIndex), start, end);
+                logger.log("Finished " + finished.incrementAndGet() + " of " + configurations.size()
+                           + " configurations");
+                return List.of(result);
+            }
+            int middle = (fromIndex + toIndex) >>> 1;
+            SweepTask left = new SweepTask(configurations, fromIndex, middle, start, end, finished);
+            SweepTask right = new SweepTask(configurations, middle, toIndex, start, end, finished);
+            right.fork();
+            List<SweepResult> results = new ArrayList<>(left.compute());
+            results.addAll(right.join());
+            return results;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.psw.cta.backtest;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import okio.Timeout;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * Retrofit call answered in process by {@link SimulatedExchange}. The request is evaluated when the call is executed.
+ * Request rejected by the exchange is answered with error response whose body carries Binance error code and message,
+ * as the exchange does.
+ *
+ * @param <T> type of response body
+ */
+class SimulatedCall<T> implements Call<T> {
+
+    private static final String BASE_URL = "http://simulated.exchange";
+    private static final MediaType JSON = MediaType.get("application/json");
+    private static final int OK = 200;
+    private static final int BAD_REQUEST = 400;
+
+    private final String method;
+    private final String path;
+    private final Supplier<T> response;
+    private final AtomicBoolean executed = new AtomicBoolean();
+    private volatile boolean canceled;
+
+    /**
+     * Default constructor.
+     *
+     * @param method   HTTP method of endpoint
+     * @param path     path of endpoint
+     * @param response supplier evaluating request on the exchange
+     */
+    SimulatedCall(String method, String path, Supplier<T> response) {
+        this.method = method;
+        this.path = path;
+        this.response = response;
+    }
+
+    @Override
+    public Response<T> execute() throws IOException {
+        if (!executed.compareAndSet(false, true)) {
+            throw new IllegalStateException("Already executed.");
+        }
+        if (canceled) {
+            throw new IOException("Canceled");
+        }
+        try {
+            T body = response.get();
+            return Response.success(body, createRawResponse(OK, "OK"));
+        } catch (SimulatedExchangeException e) {
+            String error = "{\"code\":" + e.getCode() + ",\"msg\":\"" + e.getMessage() + "\"}";
+            return Response.error(ResponseBody.create(error, JSON), createRawResponse(BAD_REQUEST, e.getMessage()));
+        }
+    }
+
+    @Override
+    public void enqueue(Callback<T> callback) {
+        Response<T> result;
+        try {
+            result = execute();
+        } catch (IOException e) {
+            callback.onFailure(this, e);
+            return;
+        }
+        callback.onResponse(this, result);
+    }
+
+    @Override
+    public boolean isExecuted() {
+        return executed.get();
+    }
+
+    @Override
+    public void cancel() {
+        canceled = true;
+    }
+
+    @Override
+    public boolean isCanceled() {
+        return canceled;
+    }
+
+    @Override
+    public Call<T> clone() {
+        return new SimulatedCall<>(method, path, response);
+    }
+
+    @Override
+    public Request request() {
+        RequestBody body = method.equals("POST") ? RequestBody.create(new byte[0]) : null;
+        return new Request.Builder().url(BASE_URL + path)
+                                    .method(method, body)
+                                    .build();
+    }
+
+    @Override
+    public Timeout timeout() {
+        return Timeout.NONE;
+    }
+
+    private okhttp3.Response createRawResponse(int code, String message) {
+        return new okhttp3.Response.Builder().request(request())
+                                             .protocol(Protocol.HTTP_1_1)
+                                             .code(code)
+                                             .message(message)
+                                             .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.psw.cta.backtest;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Clock showing simulated time. Time moves only when it is set, so a backtest decides when every trading cycle
+ * happens and no component waits for or reads the wall clock.
+ */
+public class SimulatedClock extends Clock {
+
+    private volatile Instant instant;
+
+    /**
+     * Default constructor.
+     *
+     * @param instant initial time
+     */
+    public SimulatedClock(Instant instant) {
+        this.instant = instant;
+    }
+
+    /**
+     * Moves clock to provided time.
+     *
+     * @param instant new time
+     */
+    public void set(Instant instant) {
+        this.instant = instant;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return zone.equals(ZoneOffset.UTC) ? this : Clock.fixed(instant, zone);
+    }
+
+    @Override
+    public Instant instant() {
+        return instant;
+    }
+}
@@ -0,0 +1,783 @@
+package com.psw.cta.backtest;
+
+import static com.psw.cta.dto.binance.OrderSide.BUY;
+import static com.psw.cta.dto.binance.OrderSide.SELL;
+import static com.psw.cta.dto.binance.OrderStatus.CANCELED;
+import static com.psw.cta.dto.binance.OrderStatus.EXPIRED;
+import static com.psw.cta.dto.binance.OrderStatus.FILLED;
+import static com.psw.cta.dto.binance.OrderStatus.NEW;
+import static com.psw.cta.dto.binance.OrderStatus.PARTIALLY_FILLED;
+import static com.psw.cta.dto.binance.OrderType.LIMIT;
+import static com.psw.cta.dto.binance.OrderType.MARKET;
+import static com.psw.cta.dto.binance.TimeInForce.FOK;
+import static com.psw.cta.dto.binance.TimeInForce.GTC;
+import static com.psw.cta.utils.Constants.ASSET_BTC;
+import static java.math.BigDecimal.ONE;
+import static java.math.BigDecimal.ZERO;
+import static java.math.RoundingMode.CEILING;
+import static java.math.RoundingMode.FLOOR;
+
+import com.psw.cta.api.BinanceApi;
+import com.psw.cta.backtest.LimitOrderBook.Fill;
+import com.psw.cta.backtest.LimitOrderBook.Level;
+import com.psw.cta.backtest.LimitOrderBook.RestingOrder;
+import com.psw.cta.dto.binance.Account;
+import com.psw.cta.dto.binance.AssetBalance;
+import com.psw.cta.dto.binance.BookTicker;
+import com.psw.cta.dto.binance.CancelOrderResponse;
+import com.psw.cta.dto.binance.CandlestickInterval;
+import com.psw.cta.dto.binance.CandlestickSeries;
+import com.psw.cta.dto.binance.DelistResponse;
+import com.psw.cta.dto.binance.ExchangeInfo;
+import com.psw.cta.dto.binance.NewOrderResponse;
+import com.psw.cta.dto.binance.NewOrderResponseType;
+import com.psw.cta.dto.binance.Order;
+import com.psw.cta.dto.binance.OrderBook;
+import com.psw.cta.dto.binance.OrderBookEntry;
+import com.psw.cta.dto.binance.OrderSide;
+import com.psw.cta.dto.binance.OrderType;
+import com.psw.cta.dto.binance.SymbolInfo;
+import com.psw.cta.dto.binance.TickerStatistics;
+import com.psw.cta.dto.binance.TimeInForce;
+import com.psw.cta.dto.binance.Trade;
+import com.psw.cta.exception.CryptoTraderException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import retrofit2.Call;
+
+/**
+ * In-process exchange answering {@link BinanceApi} calls of one simulated account without the network, so the real
+ * {@link com.psw.cta.service.BinanceClient} can be used on top of it. Every symbol of {@link HistoricalMarket} has its
+ * own {@link LimitOrderBook}. New orders are validated against PRICE_FILTER, LOT_SIZE and NOTIONAL filters and against
+ * free balances of the account, then they are matched against the book. Market orders take liquidity of the book,
+ * limit orders good till cancelled rest in the book with their balance locked until they are filled or cancelled.
+ * Liquidity of the book is provided by a market maker quoting several levels around the historical price, and resting
+ * orders are filled when the historical price moves through them. Fees are charged in BTC. Rejected requests are
+ * answered with error responses carrying error codes of Binance.
+ */
+public class SimulatedExchange implements BinanceApi, Simulation {
+
+    private static final long MARKET_MAKER_ORDER_ID = -1;
+    private static final int MARKET_MAKER_LEVELS = 5;
+    private static final BigDecimal MARKET_MAKER_LEVEL_SPREAD = new BigDecimal("0.001");
+    private static final BigDecimal MARKET_MAKER_LEVEL_BTC = ONE;
+    private static final int DEFAULT_DEPTH_LIMIT = 100;
+    private static final int MAX_DEPTH_LIMIT = 5000;
+
+    private final HistoricalMarket market;
+    private final SimulatedClock clock;
+    private final BigDecimal feeRate;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, SymbolBook> books = new HashMap<>();
+    private final Map<String, BigDecimal> freeBalances = new TreeMap<>();
+    private final Map<String, BigDecimal> lockedBalances = new TreeMap<>();
+    private final Map<Long, Order> orders = new HashMap<>();
+    private final Map<Long, Order> openOrders = new LinkedHashMap<>();
+    private final Map<Long, RestingOrder> restingOrders = new HashMap<>();
+    private final Map<String, Long> orderIdsByClientOrderId = new HashMap<>();
+    private final Map<Long, List<Trade>> tradesByOrderId = new HashMap<>();
+    private long lastOrderId;
+    private long lastTradeId;
+
+    /**
+     * Default constructor.
+     *
+     * @param market            historical market providing prices and exchange information
+     * @param clock             clock with simulated time
+     * @param initialBtcBalance BTC balance of simulated account
+     * @param feeRate           fee charged from every trade, e.g. 0.001 for 0.1 %
+     */
+    public SimulatedExchange(HistoricalMarket market,
+                             SimulatedClock clock,
+                             BigDecimal initialBtcBalance,
+                             BigDecimal feeRate) {
+        this.market = market;
+        this.clock = clock;
+        this.feeRate = feeRate;
+        this.freeBalances.put(ASSET_BTC, initialBtcBalance);
+    }
+
+    /**
+     * Advances the market to provided time. Resting orders whose price was reached by klines closed since the last
+     * synchronization of their book are filled at their price and market maker quotes are moved to the current price.
+     *
+     * @param time time in milliseconds
+     */
+    @Override
+    public void advanceTo(long time) {
+        lock.lock();
+        try {
+            books.values().forEach(book -> synchronize(book, time));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns value of all balances of the account in BTC at current simulated time. Locked balances are valued at
+     * market price, not at price of their orders.
+     *
+     * @return total value in BTC
+     */
+    @Override
+    public BigDecimal getTotalBtcValue() {
+        lock.lock();
+        try {
+            BigDecimal total = ZERO;
+            for (String asset : getAssets()) {
+                BigDecimal balance = getBalance(freeBalances, asset).add(getBalance(lockedBalances, asset));
+                if (asset.equals(ASSET_BTC)) {
+                    total = total.add(balance);
+                } else if (balance.signum() > 0) {
+                    double price = market.getPrice(asset + ASSET_BTC, clock.millis());
+                    total = Double.isNaN(price) ? total : total.add(balance.multiply(BigDecimal.valueOf(price)));
+                }
+            }
+            return total;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns number of trades executed so far.
+     *
+     * @return number of trades
+     */
+    @Override
+    public long getTradeCount() {
+        lock.lock();
+        try {
+            return lastTradeId;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Call<ExchangeInfo> getExchangeInfo(String permissions) {
+        return new SimulatedCall<>("GET", "/api/v3/exchangeInfo", market::getExchangeInfo);
+    }
+
+    @Override
+    public Call<OrderBook> getOrderBook(String symbol, Integer limit) {
+        return call("GET", "/api/v3/depth", () -> {
+            SymbolBook book = getSynchronizedBook(symbol);
+            int depthLimit = Math.min(limit == null ? DEFAULT_DEPTH_LIMIT : limit, MAX_DEPTH_LIMIT);
+            OrderBook orderBook = new OrderBook();
+            orderBook.setLastUpdateId(clock.millis());
+            orderBook.setBids(toEntries(book, book.orderBook.getDepth(BUY, depthLimit)));
+            orderBook.setAsks(toEntries(book, book.orderBook.getDepth(SELL, depthLimit)));
+            return orderBook;
+        });
+    }
+
+    @Override
+    public Call<CandlestickSeries> getCandlestickBars(String symbol,
+                                                      String interval,
+                                                      Integer limit,
+                                                      Long startTime,
+                                                      Long endTime) {
+        return new SimulatedCall<>("GET", "/api/v3/klines", () -> {
+            CandlestickInterval candlestickInterval = Arrays.stream(CandlestickInterval.values())
+                                                            .filter(candidate -> candidate.getIntervalId()
+                                                                                          .equals(interval))
+                                                            .findFirst()
+                                                            .orElseThrow(() -> new SimulatedExchangeException(
+                                                                -1120, "Invalid interval."));
+            getSymbolInfo(symbol);
+            return market.getCandlesticks(symbol, candlestickInterval, limit, startTime, endTime, clock.millis());
+        });
+    }
+
+    @Override
+    public Call<List<TickerStatistics>> getAll24HrPriceStatistics() {
+        return new SimulatedCall<>("GET", "/api/v3/ticker/24hr", () -> {
+            long time = clock.millis();
+            List<TickerStatistics> tickers = new ArrayList<>();
+            for (String symbol : market.getSymbols()) {
+                double price = market.getPrice(symbol, time);
+                if (!Double.isNaN(price)) {
+                    TickerStatistics ticker = new TickerStatistics();
+                    ticker.setSymbol(symbol);
+                    ticker.setLastPrice(BigDecimal.valueOf(price).toPlainString());
+                    ticker.setQuoteVolume(BigDecimal.valueOf(market.getQuoteVolume(symbol, time)).toPlainString());
+                    ticker.setCloseTime(time);
+                    tickers.add(ticker);
+                }
+            }
+            return tickers;
+        });
+    }
+
+    @Override
+    public Call<List<BookTicker>> getBookTickers() {
+        return call("GET", "/api/v3/ticker/bookTicker", () -> market.getSymbols()
+                                                                    .stream()
+                                                                    .filter(symbol -> !Double.isNaN(
+                                                                        market.getPrice(symbol, clock.millis())))
+                                                                    .map(this::createBookTicker)
+                                                                    .toList());
+    }
+
+    @Override
+    public Call<BookTicker> getBookTicker(String symbol) {
+        return call("GET", "/api/v3/ticker/bookTicker", () -> createBookTicker(symbol));
+    }
+
+    @Override
+    public Call<NewOrderResponse> newOrder(String symbol,
+                                           OrderSide side,
+                                           OrderType type,
+                                           TimeInForce timeInForce,
+                                           String quantity,
+                                           String price,
+                                           NewOrderResponseType newOrderRespType,
+                                           Long recvWindow,
+                                           Long timestamp) {
+        return call("POST", "/api/v3/order", () -> placeOrder(symbol, side, type, timeInForce, quantity, price));
+    }
+
+    @Override
+    public Call<Order> getOrderStatus(String symbol, Long orderId, Long recvWindow, Long timestamp) {
+        return call("GET", "/api/v3/order", () -> {
+            getSynchronizedBook(symbol);
+            Order order = orders.get(orderId);
+            if (order == null || !order.getSymbol().equals(symbol)) {
+                throw new SimulatedExchangeException(-2013, "Order does not exist.");
+            }
+            return copyOf(order);
+        });
+    }
+
+    @Override
+    public Call<CancelOrderResponse> cancelOrder(String symbol,
+                                                 String origClientOrderId,
+                                                 Long recvWindow,
+                                                 Long timestamp) {
+        return call("DELETE", "/api/v3/order", () -> {
+            SymbolBook book = getSynchronizedBook(symbol);
+            Long orderId = orderIdsByClientOrderId.get(origClientOrderId);
+            Order order = orderId == null ? null : openOrders.get(orderId);
+            if (order == null || !order.getSymbol().equals(symbol)) {
+                throw new SimulatedExchangeException(-2011, "Unknown order sent.");
+            }
+            RestingOrder restingOrder = restingOrders.remove(orderId);
+            book.orderBook.remove(restingOrder);
+            openOrders.remove(orderId);
+            BigDecimal remainingQuantity = book.toQuantity(restingOrder.getRemainingSteps());
+            if (order.getSide() == BUY) {
+                BigDecimal price = book.toPrice(restingOrder.getPriceTicks());
+                unlockBalance(ASSET_BTC, remainingQuantity.multiply(price).multiply(ONE.add(feeRate)));
+            } else {
+                unlockBalance(book.asset, remainingQuantity);
+            }
+            order.setStatus(CANCELED);
+            CancelOrderResponse response = new CancelOrderResponse();
+            response.setSymbol(symbol);
+            return response;
+        });
+    }
+
+    @Override
+    public Call<List<Order>> getOpenOrders(Long recvWindow, Long timestamp) {
+        return call("GET", "/api/v3/openOrders", () -> {
+            books.values().forEach(book -> synchronize(book, clock.millis()));
+            return openOrders.values()
+                             .stream()
+                             .map(this::copyOf)
+                             .toList();
+        });
+    }
+
+    @Override
+    public Call<Account> getAccount(Long recvWindow, Long timestamp) {
+        return call("GET", "/api/v3/account", () -> {
+            books.values().forEach(book -> synchronize(book, clock.millis()));
+            List<AssetBalance> balances = new ArrayList<>();
+            for (String asset : getAssets()) {
+                AssetBalance assetBalance = new AssetBalance();
+                assetBalance.setAsset(asset);
+                assetBalance.setFree(getBalance(freeBalances, asset).toPlainString());
+                assetBalance.setLocked(getBalance(lockedBalances, asset).toPlainString());
+                balances.add(assetBalance);
+            }
+            Account account = new Account();
+            account.setCanTrade(true);
+            account.setUpdateTime(clock.millis());
+            account.setBalances(balances);
+            return account;
+        });
+    }
+
+    @Override
+    public Call<List<Trade>> getMyTrades(String symbol, String orderId, Long timestamp) {
+        return call("GET", "/api/v3/myTrades", () -> {
+            getSynchronizedBook(symbol);
+            if (orderId != null) {
+                return new ArrayList<>(tradesByOrderId.getOrDefault(Long.parseLong(orderId), List.of()));
+            }
+            return tradesByOrderId.values()
+                                  .stream()
+                                  .flatMap(List::stream)
+                                  .filter(trade -> trade.getSymbol().equals(symbol))
+                                  .sorted(Comparator.comparingLong(Trade::getId))
+                                  .toList();
+        });
+    }
+
+    @Override
+    public Call<List<DelistResponse>> getDelistSchedule() {
+        return new SimulatedCall<>("GET", "/sapi/v1/spot/delist-schedule", List::of);
+    }
+
+    private <T> Call<T> call(String method, String path, Supplier<T> response) {
+        return new SimulatedCall<>(method, path, () -> {
+            lock.lock();
+            try {
+                return response.get();
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    private NewOrderResponse placeOrder(String symbol,
+                                        OrderSide side,
+                                        OrderType type,
+                                        TimeInForce timeInForce,
+                                        String quantity,
+                                        String price) {
+        if (side == null || type == null || quantity == null) {
+            throw new SimulatedExchangeException(-1102, "Mandatory parameter was not sent, was empty/null.");
+        }
+        if (type != MARKET && type != LIMIT) {
+            throw new SimulatedExchangeException(-1014, "Unsupported order combination.");
+        }
+        if (type == LIMIT && (price == null || timeInForce == null)) {
+            throw new SimulatedExchangeException(-1102, "Mandatory parameter was not sent, was empty/null.");
+        }
+        SymbolBook book = getSynchronizedBook(symbol);
+        BigDecimal orderQuantity = parse(quantity, "quantity");
+        long quantitySteps = book.toSteps(orderQuantity);
+        BigDecimal limitPrice = type == LIMIT ? parse(price, "price") : null;
+        long limitTicks = getLimitTicks(book, side, limitPrice);
+        BigDecimal notionalPrice = limitPrice == null ? getMarketPrice(symbol) : limitPrice;
+        if (orderQuantity.multiply(notionalPrice).compareTo(book.symbolInfo.getMinNotional()) < 0) {
+            throw new SimulatedExchangeException(-1013, "Filter failure: NOTIONAL");
+        }
+        List<Fill> fills = book.orderBook.findMatches(side, limitTicks, quantitySteps);
+        long filledSteps = fills.stream().mapToLong(Fill::quantitySteps).sum();
+        if (timeInForce == FOK && filledSteps < quantitySteps) {
+            fills = List.of();
+            filledSteps = 0;
+        }
+        checkBalance(book, side, orderQuantity, limitPrice, fills);
+        boolean rests = type == LIMIT && timeInForce == GTC && filledSteps < quantitySteps;
+        Order order = createOrder(symbol, side, type, timeInForce, orderQuantity, limitPrice);
+        book.orderBook.execute(fills);
+        List<Trade> trades = new ArrayList<>(fills.size());
+        for (Fill fill : fills) {
+            trades.add(settleTakerFill(book, order, fill));
+            settleMakerFill(book, fill);
+        }
+        if (rests) {
+            long remainingSteps = quantitySteps - filledSteps;
+            RestingOrder restingOrder = new RestingOrder(order.getOrderId(), side, limitTicks, remainingSteps);
+            book.orderBook.add(restingOrder);
+            restingOrders.put(order.getOrderId(), restingOrder);
+            openOrders.put(order.getOrderId(), order);
+            BigDecimal remainingQuantity = book.toQuantity(remainingSteps);
+            if (side == BUY) {
+                lockBalance(ASSET_BTC, remainingQuantity.multiply(limitPrice).multiply(ONE.add(feeRate)));
+            } else {
+                lockBalance(book.asset, remainingQuantity);
+            }
+        } else if (filledSteps < quantitySteps) {
+            order.setStatus(EXPIRED);
+        }
+        return createResponse(order, trades);
+    }
+
+    private long getLimitTicks(SymbolBook book, OrderSide side, BigDecimal limitPrice) {
+        if (limitPrice != null) {
+            return book.toTicks(limitPrice);
+        }
+        return side == BUY ? Long.MAX_VALUE : Long.MIN_VALUE;
+    }
+
+    private void checkBalance(SymbolBook book,
+                              OrderSide side,
+                              BigDecimal quantity,
+                              BigDecimal limitPrice,
+                              List<Fill> fills) {
+        BigDecimal required;
+        String asset;
+        if (side == SELL) {
+            required = quantity;
+            asset = book.asset;
+        } else if (limitPrice != null) {
+            required = quantity.multiply(limitPrice).multiply(ONE.add(feeRate));
+            asset = ASSET_BTC;
+        } else {
+            required = fills.stream()
+                            .map(fill -> getQuoteQuantity(book, fill))
+                            .reduce(ZERO, BigDecimal::add)
+                            .multiply(ONE.add(feeRate));
+            asset = ASSET_BTC;
+        }
+        if (getBalance(freeBalances, asset).compareTo(required) < 0) {
+            throw new SimulatedExchangeException(-2010, "Account has insufficient balance for requested action.");
+        }
+    }
+
+    private BigDecimal getQuoteQuantity(SymbolBook book, Fill fill) {
+        return book.toQuantity(fill.quantitySteps()).multiply(book.toPrice(fill.priceTicks()));
+    }
+
+    private Order createOrder(String symbol,
+                              OrderSide side,
+                              OrderType type,
+                              TimeInForce timeInForce,
+                              BigDecimal quantity,
+                              BigDecimal price) {
+        long orderId = ++lastOrderId;
+        Order order = new Order();
+        order.setSymbol(symbol);
+        order.setOrderId(orderId);
+        order.setClientOrderId("simulated-" + orderId);
+        order.setPrice(price == null ? "0" : price.toPlainString());
+        order.setOrigQty(quantity.toPlainString());
+        order.setExecutedQty("0");
+        order.setCummulativeQuoteQty("0");
+        order.setStatus(NEW);
+        order.setTimeInForce(timeInForce);
+        order.setType(type);
+        order.setSide(side);
+        order.setTime(clock.millis());
+        orders.put(orderId, order);
+        orderIdsByClientOrderId.put(order.getClientOrderId(), orderId);
+        return order;
+    }
+
+    private NewOrderResponse createResponse(Order order, List<Trade> fills) {
+        NewOrderResponse response = new NewOrderResponse();
+        response.setSymbol(order.getSymbol());
+        response.setOrderId(order.getOrderId());
+        response.setClientOrderId(order.getClientOrderId());
+        response.setTransactTime(order.getTime());
+        response.setPrice(order.getPrice());
+        response.setOrigQty(order.getOrigQty());
+        response.setExecutedQty(order.getExecutedQty());
+        response.setCummulativeQuoteQty(order.getCummulativeQuoteQty());
+        response.setStatus(order.getStatus());
+        response.setTimeInForce(order.getTimeInForce());
+        response.setType(order.getType());
+        response.setSide(order.getSide());
+        response.setFills(fills);
+        return response;
+    }
+
+    private Trade settleTakerFill(SymbolBook book, Order order, Fill fill) {
+        BigDecimal quantity = book.toQuantity(fill.quantitySteps());
+        BigDecimal price = book.toPrice(fill.priceTicks());
+        BigDecimal quoteQuantity = quantity.multiply(price);
+        if (order.getSide() == BUY) {
+            takeBalance(ASSET_BTC, quoteQuantity.multiply(ONE.add(feeRate)));
+            addBalance(book.asset, quantity);
+        } else {
+            takeBalance(book.asset, quantity);
+            addBalance(ASSET_BTC, quoteQuantity.multiply(ONE.subtract(feeRate)));
+        }
+        return recordFill(order, quantity, price, false);
+    }
+
+    private void settleMakerFills(SymbolBook book, List<Fill> fills) {
+        book.orderBook.execute(fills);
+        fills.forEach(fill -> settleMakerFill(book, fill));
+    }
+
+    private void settleMakerFill(SymbolBook book, Fill fill) {
+        RestingOrder maker = fill.maker();
+        if (maker.getOrderId() == MARKET_MAKER_ORDER_ID) {
+            return;
+        }
+        Order order = openOrders.get(maker.getOrderId());
+        BigDecimal quantity = book.toQuantity(fill.quantitySteps());
+        BigDecimal price = book.toPrice(fill.priceTicks());
+        BigDecimal quoteQuantity = quantity.multiply(price);
+        if (order.getSide() == BUY) {
+            takeLockedBalance(ASSET_BTC, quoteQuantity.multiply(ONE.add(feeRate)));
+            addBalance(book.asset, quantity);
+        } else {
+            takeLockedBalance(book.asset, quantity);
+            addBalance(ASSET_BTC, quoteQuantity.multiply(ONE.subtract(feeRate)));
+        }
+        recordFill(order, quantity, price, true);
+        if (maker.getRemainingSteps() == 0) {
+            openOrders.remove(maker.getOrderId());
+            restingOrders.remove(maker.getOrderId());
+        }
+    }
+
+    private Trade recordFill(Order order, BigDecimal quantity, BigDecimal price, boolean maker) {
+        BigDecimal quoteQuantity = quantity.multiply(price);
+        BigDecimal executedQuantity = new BigDecimal(order.getExecutedQty()).add(quantity);
+        order.setExecutedQty(executedQuantity.toPlainString());
+        order.setCummulativeQuoteQty(new BigDecimal(order.getCummulativeQuoteQty()).add(quoteQuantity)
+                                                                                   .toPlainString());
+        order.setStatus(executedQuantity.compareTo(new BigDecimal(order.getOrigQty())) < 0 ? PARTIALLY_FILLED
+                                                                                           : FILLED);
+        Trade trade = new Trade();
+        trade.setId(++lastTradeId);
+        trade.setSymbol(order.getSymbol());
+        trade.setOrderId(String.valueOf(order.getOrderId()));
+        trade.setPrice(price.toPlainString());
+        trade.setQty(quantity.toPlainString());
+        trade.setQuoteQty(quoteQuantity.toPlainString());
+        trade.setCommission(quoteQuantity.multiply(feeRate).toPlainString());
+        trade.setCommissionAsset(ASSET_BTC);
+        trade.setTime(clock.millis());
+        trade.setBuyer(order.getSide() == BUY);
+        trade.setMaker(maker);
+        tradesByOrderId.computeIfAbsent(order.getOrderId(), id -> new ArrayList<>()).add(trade);
+        return trade;
+    }
+
+    private SymbolBook getSynchronizedBook(String symbol) {
+        long time = clock.millis();
+        SymbolBook book = books.get(symbol);
+        if (book == null) {
+            book = new SymbolBook(getSymbolInfo(symbol), time);
+            books.put(symbol, book);
+            quoteMarketMaker(book, time);
+        } else {
+            synchronize(book, time);
+        }
+        return book;
+    }
+
+    /**
+     * Brings book to provided time. Resting orders are filled by external traders when the historical price moved
+     * through them since the last synchronization and market maker quotes are moved to the current price.
+     */
+    private void synchronize(SymbolBook book, long time) {
+        if (time <= book.synchronizedTo) {
+            return;
+        }
+        book.marketMakerOrders.forEach(book.orderBook::remove);
+        book.marketMakerOrders.clear();
+        String symbol = book.symbolInfo.getSymbol();
+        double highestPrice = market.getHighestPrice(symbol, book.synchronizedTo, time);
+        if (!Double.isNaN(highestPrice)) {
+            long highestTicks = book.toTicks(highestPrice, FLOOR);
+            settleMakerFills(book, book.orderBook.findMatches(BUY, highestTicks, Long.MAX_VALUE));
+        }
+        double lowestPrice = market.getLowestPrice(symbol, book.synchronizedTo, time);
+        if (!Double.isNaN(lowestPrice)) {
+            long lowestTicks = book.toTicks(lowestPrice, CEILING);
+            settleMakerFills(book, book.orderBook.findMatches(SELL, lowestTicks, Long.MAX_VALUE));
+        }
+        book.synchronizedTo = time;
+        quoteMarketMaker(book, time);
+    }
+
+    private void quoteMarketMaker(SymbolBook book, long time) {
+        double price = market.getPrice(book.symbolInfo.getSymbol(), time);
+        if (Double.isNaN(price)) {
+            return;
+        }
+        BigDecimal marketPrice = BigDecimal.valueOf(price);
+        for (int level = 1; level <= MARKET_MAKER_LEVELS; level++) {
+            BigDecimal spread = MARKET_MAKER_LEVEL_SPREAD.multiply(BigDecimal.valueOf(level));
+            long bidTicks = book.toTicks(marketPrice.multiply(ONE.subtract(spread)), FLOOR);
+            long askTicks = book.toTicks(marketPrice.multiply(ONE.add(spread)), CEILING);
+            long quantitySteps = book.toSteps(MARKET_MAKER_LEVEL_BTC.divide(marketPrice, 8, CEILING), CEILING);
+            if (bidTicks > 0) {
+                quoteMarketMaker(book, BUY, bidTicks, quantitySteps);
+            }
+            quoteMarketMaker(book, SELL, askTicks, quantitySteps);
+        }
+    }
+
+    private void quoteMarketMaker(SymbolBook book, OrderSide side, long priceTicks, long quantitySteps) {
+        List<Fill> fills = book.orderBook.findMatches(side, priceTicks, quantitySteps);
+        settleMakerFills(book, fills);
+        long remainingSteps = quantitySteps - fills.stream().mapToLong(Fill::quantitySteps).sum();
+        if (remainingSteps > 0) {
+            RestingOrder order = new RestingOrder(MARKET_MAKER_ORDER_ID, side, priceTicks, remainingSteps);
+            book.orderBook.add(order);
+            book.marketMakerOrders.add(order);
+        }
+    }
+
+    private BookTicker createBookTicker(String symbol) {
+        SymbolBook book = getSynchronizedBook(symbol);
+        BookTicker bookTicker = new BookTicker();
+        bookTicker.setSymbol(symbol);
+        List<Level> bids = book.orderBook.getDepth(BUY, 1);
+        if (!bids.isEmpty()) {
+            bookTicker.setBidPrice(book.toPrice(bids.getFirst().priceTicks()).toPlainString());
+            bookTicker.setBidQty(book.toQuantity(bids.getFirst().quantitySteps()).toPlainString());
+        }
+        List<Level> asks = book.orderBook.getDepth(SELL, 1);
+        if (!asks.isEmpty()) {
+            bookTicker.setAskPrice(book.toPrice(asks.getFirst().priceTicks()).toPlainString());
+            bookTicker.setAskQty(book.toQuantity(asks.getFirst().quantitySteps()).toPlainString());
+        }
+        return bookTicker;
+    }
+
+    private List<OrderBookEntry> toEntries(SymbolBook book, List<Level> levels) {
+        List<OrderBookEntry> entries = new ArrayList<>(levels.size());
+        for (Level level : levels) {
+            OrderBookEntry entry = new OrderBookEntry();
+            entry.setPrice(book.toPrice(level.priceTicks()).toPlainString());
+            entry.setQty(book.toQuantity(level.quantitySteps()).toPlainString());
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    private SymbolInfo getSymbolInfo(String symbol) {
+        if (symbol == null || !market.getSymbols().contains(symbol)) {
+            throw new SimulatedExchangeException(-1121, "Invalid symbol.");
+        }
+        return market.getExchangeInfo().getSymbolInfo(symbol);
+    }
+
+    private BigDecimal getMarketPrice(String symbol) {
+        double price = market.getPrice(symbol, clock.millis());
+        if (Double.isNaN(price)) {
+            throw new SimulatedExchangeException(-1121, "Invalid symbol.");
+        }
+        return BigDecimal.valueOf(price);
+    }
+
+    private BigDecimal parse(String value, String parameter) {
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new SimulatedExchangeException(-1100, "Illegal characters found in parameter '" + parameter + "'.");
+        }
+    }
+
+    private Order copyOf(Order order) {
+        Order copy = new Order();
+        copy.setSymbol(order.getSymbol());
+        copy.setOrderId(order.getOrderId());
+        copy.setClientOrderId(order.getClientOrderId());
+        copy.setPrice(order.getPrice());
+        copy.setOrigQty(order.getOrigQty());
+        copy.setExecutedQty(order.getExecutedQty());
+        copy.setCummulativeQuoteQty(order.getCummulativeQuoteQty());
+        copy.setStatus(order.getStatus());
+        copy.setTimeInForce(order.getTimeInForce());
+        copy.setType(order.getType());
+        copy.setSide(order.getSide());
+        copy.setTime(order.getTime());
+        return copy;
+    }
+
+    private Set<String> getAssets() {
+        Set<String> assets = new TreeSet<>(freeBalances.keySet());
+        assets.addAll(lockedBalances.keySet());
+        return assets;
+    }
+
+    private BigDecimal getBalance(Map<String, BigDecimal> balances, String asset) {
+        return balances.getOrDefault(asset, ZERO);
+    }
+
+    private void addBalance(String asset, BigDecimal amount) {
+        freeBalances.put(asset, getBalance(freeBalances, asset).add(amount));
+    }
+
+    private void takeBalance(String asset, BigDecimal amount) {
+        BigDecimal balance = getBalance(freeBalances, asset);
+        if (balance.compareTo(amount) < 0) {
+            throw new CryptoTraderException("Free balance of " + asset + " is lower than " + amount);
+        }
+        freeBalances.put(asset, balance.subtract(amount));
+    }
+
+    private void lockBalance(String asset, BigDecimal amount) {
+        takeBalance(asset, amount);
+        lockedBalances.put(asset, getBalance(lockedBalances, asset).add(amount));
+    }
+
+    private void unlockBalance(String asset, BigDecimal amount) {
+        takeLockedBalance(asset, amount);
+        addBalance(asset, amount);
+    }
+
+    private void takeLockedBalance(String asset, BigDecimal amount) {
+        lockedBalances.put(asset, getBalance(lockedBalances, asset).subtract(amount));
+    }
+
+    /**
+     * Order book of one symbol together with its filters.
+     */
+    private static final class SymbolBook {
+
+        private final SymbolInfo symbolInfo;
+        private final String asset;
+        private final LimitOrderBook orderBook = new LimitOrderBook();
+        private final List<RestingOrder> marketMakerOrders = new ArrayList<>();
+        private long synchronizedTo;
+
+        private SymbolBook(SymbolInfo symbolInfo, long synchronizedTo) {
+            this.symbolInfo = symbolInfo;
+            this.asset = symbolInfo.getSymbol().substring(0, symbolInfo.getSymbol().length() - ASSET_BTC.length());
+            this.synchronizedTo = synchronizedTo;
+        }
+
+        private long toTicks(BigDecimal price) {
+            BigDecimal tickSize = symbolInfo.getTickSize();
+            if (price.signum() <= 0 || price.remainder(tickSize).signum() != 0) {
+                throw new SimulatedExchangeException(-1013, "Filter failure: PRICE_FILTER");
+            }
+            return price.divideToIntegralValue(tickSize).longValueExact();
+        }
+
+        private long toTicks(double price, RoundingMode roundingMode) {
+            return toTicks(BigDecimal.valueOf(price), roundingMode);
+        }
+
+        private long toTicks(BigDecimal price, RoundingMode roundingMode) {
+            return price.divide(symbolInfo.getTickSize(), 0, roundingMode).longValueExact();
+        }
+
+        private long toSteps(BigDecimal quantity) {
+            BigDecimal stepSize = symbolInfo.getStepSize();
+            if (quantity.compareTo(symbolInfo.getMinQty()) < 0 || quantity.remainder(stepSize).signum() != 0) {
+                throw new SimulatedExchangeException(-1013, "Filter failure: LOT_SIZE");
+            }
+            return quantity.divideToIntegralValue(stepSize).longValueExact();
+        }
+
+        private long toSteps(BigDecimal quantity, RoundingMode roundingMode) {
+            return quantity.divide(symbolInfo.getStepSize(), 0, roundingMode).longValueExact();
+        }
+
+        private BigDecimal toPrice(long ticks) {
+            return symbolInfo.getTickSize().multiply(BigDecimal.valueOf(ticks));
+        }
+
+        private BigDecimal toQuantity(long steps) {
+            return symbolInfo.getStepSize().multiply(BigDecimal.valueOf(steps));
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.psw.cta.backtest;
+
+/**
+ * Rejection of request by {@link SimulatedExchange}. It carries error code of Binance API and is turned into error
+ * response by {@link SimulatedCall}.
+ */
+class SimulatedExchangeException extends RuntimeException {
+
+    private final int code;
+
+    /**
+     * Default constructor.
+     *
+     * @param code    error code of Binance API
+     * @param message error message
+     */
+    SimulatedExchangeException(int code, String message) {
+        super(message);
+        this.code = code;
+    }
+
+    int getCode() {
+        return code;
+    }
+}
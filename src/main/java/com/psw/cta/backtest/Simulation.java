@@ -0,0 +1,31 @@
+package com.psw.cta.backtest;
+
+import java.math.BigDecimal;
+
+/**
+ * Simulated account driven by {@link Backtester}. The simulation answers requests of the trader at the time of
+ * {@link SimulatedClock} and fills open orders when the market is advanced.
+ */
+public interface Simulation {
+
+    /**
+     * Advances the market to provided time. Open orders reached by the market in the meantime are filled.
+     *
+     * @param time time in milliseconds
+     */
+    void advanceTo(long time);
+
+    /**
+     * Returns value of all balances of the account in BTC at current simulated time.
+     *
+     * @return total value in BTC
+     */
+    BigDecimal getTotalBtcValue();
+
+    /**
+     * Returns number of trades of the account executed so far.
+     *
+     * @return number of trades
+     */
+    long getTradeCount();
+}
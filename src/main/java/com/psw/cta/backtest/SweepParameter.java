@@ -0,0 +1,69 @@
+package com.psw.cta.backtest;
+
+import com.psw.cta.processor.StrategyParameters;
+import java.math.BigDecimal;
+
+/**
+ * Threshold of {@link StrategyParameters} which can be varied by {@link ParameterSweep}.
+ */
+public enum SweepParameter {
+
+    MIN_PRICE_TO_SELL_PERCENTAGE("minPriceToSellPercentage"),
+    MIN_QUOTE_VOLUME("minQuoteVolume"),
+    FIBONACCI_SPLIT_UNIT("fibonacciSplitUnit"),
+    SPLIT_LOWEST_ORDER_PRICE_PERCENTAGE("splitLowestOrderPricePercentage"),
+    REBUY_ORDER_PRICE_PERCENTAGE("rebuyOrderPricePercentage"),
+    SPLIT_DELISTED_ORDER_PRICE_PERCENTAGE("splitDelistedOrderPricePercentage");
+
+    private final String name;
+
+    SweepParameter(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns name of the parameter as it is named in {@link StrategyParameters}.
+     *
+     * @return name of the parameter
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns value of the parameter.
+     *
+     * @param parameters thresholds of the strategy
+     * @return value of the parameter
+     */
+    public BigDecimal get(StrategyParameters parameters) {
+        return switch (this) {
+            case MIN_PRICE_TO_SELL_PERCENTAGE -> parameters.minPriceToSellPercentage();
+            case MIN_QUOTE_VOLUME -> parameters.minQuoteVolume();
+            case FIBONACCI_SPLIT_UNIT -> parameters.fibonacciSplitUnit();
+            case SPLIT_LOWEST_ORDER_PRICE_PERCENTAGE -> parameters.splitLowestOrderPricePercentage();
+            case REBUY_ORDER_PRICE_PERCENTAGE -> parameters.rebuyOrderPricePercentage();
+            case SPLIT_DELISTED_ORDER_PRICE_PERCENTAGE -> parameters.splitDelistedOrderPricePercentage();
+        };
+    }
+
+    /**
+     * Returns copy of parameters with provided value of the parameter.
+     *
+     * @param parameters thresholds of the strategy
+     * @param value      new value of the parameter
+     * @return thresholds of the strategy with the new value
+     */
+    public StrategyParameters set(StrategyParameters parameters, BigDecimal value) {
+        BigDecimal[] values = new BigDecimal[values().length];
+        for (SweepParameter parameter : values()) {
+            values[parameter.ordinal()] = parameter == this ? value : parameter.get(parameters);
+        }
+        return new StrategyParameters(values[MIN_PRICE_TO_SELL_PERCENTAGE.ordinal()],
+                                      values[MIN_QUOTE_VOLUME.ordinal()],
+                                      values[FIBONACCI_SPLIT_UNIT.ordinal()],
+                                      values[SPLIT_LOWEST_ORDER_PRICE_PERCENTAGE.ordinal()],
+                                      values[REBUY_ORDER_PRICE_PERCENTAGE.ordinal()],
+                                      values[SPLIT_DELISTED_ORDER_PRICE_PERCENTAGE.ordinal()]);
+    }
+}
@@ -0,0 +1,12 @@
+package com.psw.cta.backtest;
+
+import com.psw.cta.processor.StrategyParameters;
+
+/**
+ * Result of one backtest of {@link ParameterSweep}.
+ *
+ * @param parameters thresholds of the strategy used by the backtest
+ * @param result     result of the backtest
+ */
+public record SweepResult(StrategyParameters parameters, BacktestResult result) {
+}
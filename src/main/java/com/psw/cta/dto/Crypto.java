@@ -1,37 +1,37 @@
 package com.psw.cta.dto;
 
-import static com.psw.cta.utils.Constants.HUNDRED_PERCENT;
 import static com.psw.cta.utils.LeastSquares.getSlope;
-import static java.math.BigDecimal.ZERO;
-import static java.math.RoundingMode.CEILING;
+import static com.psw.cta.utils.Satoshis.toBtc;
+import static com.psw.cta.utils.Satoshis.toBtcDouble;
+import static com.psw.cta.utils.Satoshis.toSatoshis;
 import static java.math.RoundingMode.UP;
-import static java.util.Comparator.naturalOrder;
 
-import com.psw.cta.dto.binance.Candlestick;
+import com.psw.cta.dto.binance.CandlestickSeries;
 import com.psw.cta.dto.binance.SymbolInfo;
-import com.psw.cta.dto.binance.TickerStatistics;
 import com.psw.cta.exception.CryptoTraderException;
 import java.math.BigDecimal;
-import java.math.MathContext;
-import java.util.List;
+import java.util.Map;
 
 /**
- * Object holding information about crypto.
+ * Object holding information about crypto. Screening metrics are calculated in satoshis and doubles, only prices
+ * used for orders are kept in {@link BigDecimal}.
  */
 public class Crypto {
 
+    private static final double MIN_SLOPE = 0.00000001;
+
     private final SymbolInfo symbolInfo;
-    private List<Candlestick> threeMonthsCandleStickData;
+    private CandlestickSeries threeMonthsCandleStickData;
     private BigDecimal currentPrice;
-    private BigDecimal volume;
-    private BigDecimal sumPercentageDifferences1h;
-    private BigDecimal sumPercentageDifferences10h;
+    private double volume;
+    private double sumPercentageDifferences1h;
+    private double sumPercentageDifferences10h;
     private BigDecimal priceToSell;
-    private BigDecimal priceToSellPercentage;
-    private BigDecimal lastThreeHighAverage;
-    private BigDecimal previousThreeHighAverage;
-    private BigDecimal priceCountToSlope;
-    private BigDecimal numberOfCandles;
+    private double priceToSellPercentage;
+    private long lastThreeHighAverage;
+    private long previousThreeHighAverage;
+    private double priceCountToSlope;
+    private int numberOfCandles;
 
     /**
      * Default constructor.
@@ -45,18 +45,15 @@ public class Crypto {
     /**
      * Calculate volume.
      *
-     * @param tickers ticker statistics
+     * @param quoteVolumes 24 hour quote volumes by symbol
      * @return volume
      */
-    public Crypto calculateVolume(List<TickerStatistics> tickers) {
-        this.volume = tickers.parallelStream()
-                             .filter(ticker -> ticker.getSymbol().equals(symbolInfo.getSymbol()))
-                             .map(TickerStatistics::getQuoteVolume)
-                             .map(BigDecimal::new)
-                             .findAny()
-                             .orElseThrow(() -> new CryptoTraderException("Ticker with symbol: "
-                                                                          + symbolInfo.getSymbol()
-                                                                          + " not found."));
+    public Crypto calculateVolume(Map<String, Double> quoteVolumes) {
+        Double quoteVolume = quoteVolumes.get(symbolInfo.getSymbol());
+        if (quoteVolume == null) {
+            throw new CryptoTraderException("Ticker with symbol: " + symbolInfo.getSymbol() + " not found.");
+        }
+        this.volume = quoteVolume;
         return this;
     }
 
@@ -66,86 +63,63 @@ public class Crypto {
      * @param fifteenMinutesCandleStickData candle stick data
      * @return {@link Crypto}
      */
-    public Crypto calculateDataFromCandlesticks(List<Candlestick> fifteenMinutesCandleStickData) {
+    public Crypto calculateDataFromCandlesticks(CandlestickSeries fifteenMinutesCandleStickData) {
         this.lastThreeHighAverage = calculateHighAverage(fifteenMinutesCandleStickData, 3);
         this.previousThreeHighAverage = calculateHighAverage(fifteenMinutesCandleStickData, 6);
         this.priceToSell = calculatePriceToSell(fifteenMinutesCandleStickData, currentPrice);
-        this.priceToSellPercentage = calculatePricePercentage(currentPrice, priceToSell);
-        this.sumPercentageDifferences1h = calculateSumPercentageDifferences1h(fifteenMinutesCandleStickData,
-                                                                              currentPrice);
-        this.sumPercentageDifferences10h = calculateSumPercentageDifferences10h(fifteenMinutesCandleStickData,
-                                                                                currentPrice);
+        long currentPriceSatoshis = toSatoshis(currentPrice);
+        this.priceToSellPercentage = calculatePricePercentage(currentPriceSatoshis, toSatoshis(priceToSell));
+        this.sumPercentageDifferences1h = calculateSumPercentageDifferences(4,
+                                                                            fifteenMinutesCandleStickData,
+                                                                            currentPriceSatoshis);
+        this.sumPercentageDifferences10h = calculateSumPercentageDifferences(40,
+                                                                             fifteenMinutesCandleStickData,
+                                                                             currentPriceSatoshis);
         return this;
     }
 
-    private BigDecimal calculateHighAverage(List<Candlestick> fifteenMinutesCandleStickData, int notSkipped) {
-        int skipSize = fifteenMinutesCandleStickData.size() - notSkipped;
-        return fifteenMinutesCandleStickData.stream()
-                                            .skip(skipSize)
-                                            .limit(3)
-                                            .map(Candlestick::getHigh)
-                                            .map(BigDecimal::new)
-                                            .reduce(ZERO, BigDecimal::add)
-                                            .divide(new BigDecimal("3"), 8, UP);
+    private long calculateHighAverage(CandlestickSeries fifteenMinutesCandleStickData, int notSkipped) {
+        int from = Math.max(0, fifteenMinutesCandleStickData.size() - notSkipped);
+        int to = Math.min(from + 3, fifteenMinutesCandleStickData.size());
+        long sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += toSatoshis(fifteenMinutesCandleStickData.getHigh(i));
+        }
+        return Math.ceilDiv(sum, 3);
     }
 
-    private BigDecimal calculatePriceToSell(List<Candlestick> fifteenMinutesCandleStickData,
+    private BigDecimal calculatePriceToSell(CandlestickSeries fifteenMinutesCandleStickData,
                                             BigDecimal currentPrice) {
         int size = fifteenMinutesCandleStickData.size();
         if (size - 4 < 0) {
             return currentPrice;
         }
-        return fifteenMinutesCandleStickData.stream()
-                                            .skip(size - 4L)
-                                            .map(Candlestick::getHigh)
-                                            .map(BigDecimal::new)
-                                            .max(naturalOrder())
-                                            .orElse(currentPrice)
-                                            .subtract(currentPrice)
-                                            .divide(new BigDecimal("2"), 8, UP)
-                                            .add(currentPrice);
-    }
-
-    private BigDecimal calculatePricePercentage(BigDecimal lowestPrice,
-                                                BigDecimal highestPrice) {
-        BigDecimal percentage = lowestPrice.multiply(HUNDRED_PERCENT).divide(highestPrice, 8, UP);
-        return HUNDRED_PERCENT.subtract(percentage);
-    }
-
-    private BigDecimal calculateSumPercentageDifferences1h(List<Candlestick> fifteenMinutesCandleStickData,
-                                                           BigDecimal currentPrice) {
-        return calculateSumPercentageDifferences(4, fifteenMinutesCandleStickData, currentPrice);
+        long maxHigh = Long.MIN_VALUE;
+        for (int i = size - 4; i < size; i++) {
+            maxHigh = Math.max(maxHigh, toSatoshis(fifteenMinutesCandleStickData.getHigh(i)));
+        }
+        return toBtc(maxHigh).subtract(currentPrice)
+                             .divide(new BigDecimal("2"), 8, UP)
+                             .add(currentPrice);
     }
 
-    private BigDecimal calculateSumPercentageDifferences10h(List<Candlestick> fifteenMinutesCandleStickData,
-                                                            BigDecimal currentPrice) {
-        return calculateSumPercentageDifferences(40, fifteenMinutesCandleStickData, currentPrice);
+    private double calculatePricePercentage(long lowestPrice, long highestPrice) {
+        return 100 - lowestPrice * 100.0 / highestPrice;
     }
 
-    private BigDecimal calculateSumPercentageDifferences(int numberOfDataToKeep,
-                                                         List<Candlestick> fifteenMinutesCandleStickData,
-                                                         BigDecimal currentPrice) {
+    private double calculateSumPercentageDifferences(int numberOfDataToKeep,
+                                                     CandlestickSeries fifteenMinutesCandleStickData,
+                                                     long currentPrice) {
         int size = fifteenMinutesCandleStickData.size();
         if (size - numberOfDataToKeep < 0) {
-            return ZERO;
+            return 0;
         }
-        return sumPercentageDifferences(size - numberOfDataToKeep, fifteenMinutesCandleStickData, currentPrice);
-    }
-
-    private BigDecimal sumPercentageDifferences(int size,
-                                                List<Candlestick> fifteenMinutesCandleStickData,
-                                                BigDecimal currentPrice) {
-        return fifteenMinutesCandleStickData.stream()
-                                            .skip(size)
-                                            .map(data -> getPercentageDifference(data, currentPrice))
-                                            .reduce(ZERO, BigDecimal::add);
-    }
-
-    private BigDecimal getPercentageDifference(Candlestick data, BigDecimal currentPrice) {
-        BigDecimal averagePrice = getAveragePrice(data);
-        BigDecimal relativeValue = averagePrice.multiply(new BigDecimal("100"))
-                                               .divide(currentPrice, 8, UP);
-        return relativeValue.subtract(new BigDecimal("100")).abs();
+        double sum = 0;
+        for (int i = size - numberOfDataToKeep; i < size; i++) {
+            long averagePrice = getAveragePrice(fifteenMinutesCandleStickData, i);
+            sum += Math.abs(averagePrice * 100.0 / currentPrice - 100);
+        }
+        return sum;
     }
 
     /**
@@ -154,48 +128,45 @@ public class Crypto {
      * @return {@link Crypto}
      */
     public Crypto calculateSlopeData() {
-        List<BigDecimal> averagePrices = getAveragePrices(threeMonthsCandleStickData);
+        double[] averagePrices = getAveragePrices(threeMonthsCandleStickData);
         this.priceCountToSlope = calculatePriceCountToSlope(averagePrices);
-        this.numberOfCandles = new BigDecimal(threeMonthsCandleStickData.size());
+        this.numberOfCandles = threeMonthsCandleStickData.size();
         return this;
     }
 
-    private List<BigDecimal> getAveragePrices(List<Candlestick> threeMonthsCandleStickData) {
-        return threeMonthsCandleStickData.parallelStream()
-                                         .map(this::getAveragePrice)
-                                         .toList();
+    private double[] getAveragePrices(CandlestickSeries threeMonthsCandleStickData) {
+        double[] averagePrices = new double[threeMonthsCandleStickData.size()];
+        for (int i = 0; i < averagePrices.length; i++) {
+            averagePrices[i] = toBtcDouble(getAveragePrice(threeMonthsCandleStickData, i));
+        }
+        return averagePrices;
     }
 
-    private BigDecimal calculatePriceCountToSlope(List<BigDecimal> averagePrices) {
-        BigDecimal priceCount = new BigDecimal(averagePrices.size(), new MathContext(8));
-        double leastSquaresSlope = getSlope(averagePrices);
-        if (Double.isNaN(leastSquaresSlope)) {
-            leastSquaresSlope = 0.00000001;
+    private double calculatePriceCountToSlope(double[] averagePrices) {
+        double slope = getSlope(averagePrices);
+        if (Double.isNaN(slope) || slope == 0) {
+            slope = MIN_SLOPE;
         }
-        BigDecimal slope = new BigDecimal(String.valueOf(leastSquaresSlope), new MathContext(8));
-        if (ZERO.compareTo(slope) == 0) {
-            slope = new BigDecimal("0.00000001");
-        }
-        return priceCount.divide(slope, 8, CEILING);
+        return averagePrices.length / slope;
     }
 
-    private BigDecimal getAveragePrice(Candlestick candle) {
-        BigDecimal open = new BigDecimal(candle.getOpen());
-        BigDecimal close = new BigDecimal(candle.getClose());
-        BigDecimal high = new BigDecimal(candle.getHigh());
-        BigDecimal low = new BigDecimal(candle.getLow());
-        return open.add(close).add(high).add(low).divide(new BigDecimal("4"), 8, CEILING);
+    private long getAveragePrice(CandlestickSeries candlesticks, int index) {
+        long sum = toSatoshis(candlesticks.getOpen(index))
+                   + toSatoshis(candlesticks.getClose(index))
+                   + toSatoshis(candlesticks.getHigh(index))
+                   + toSatoshis(candlesticks.getLow(index));
+        return Math.ceilDiv(sum, 4);
     }
 
-    public BigDecimal getNumberOfCandles() {
+    public int getNumberOfCandles() {
         return numberOfCandles;
     }
 
-    public BigDecimal getPriceCountToSlope() {
+    public double getPriceCountToSlope() {
         return priceCountToSlope;
     }
 
-    public List<Candlestick> getThreeMonthsCandleStickData() {
+    public CandlestickSeries getThreeMonthsCandleStickData() {
         return threeMonthsCandleStickData;
     }
 
@@ -205,7 +176,7 @@ public class Crypto {
      * @param threeMonthsCandleStickData candle stick data
      * @return {@link Crypto}
      */
-    public Crypto setThreeMonthsCandleStickData(List<Candlestick> threeMonthsCandleStickData) {
+    public Crypto setThreeMonthsCandleStickData(CandlestickSeries threeMonthsCandleStickData) {
         this.threeMonthsCandleStickData = threeMonthsCandleStickData;
         return this;
     }
@@ -229,7 +200,7 @@ public class Crypto {
         return this;
     }
 
-    public BigDecimal getVolume() {
+    public double getVolume() {
         return volume;
     }
 
@@ -237,23 +208,33 @@ public class Crypto {
         return priceToSell;
     }
 
-    public BigDecimal getPriceToSellPercentage() {
+    public double getPriceToSellPercentage() {
         return priceToSellPercentage;
     }
 
-    public BigDecimal getSumPercentageDifferences1h() {
+    public double getSumPercentageDifferences1h() {
         return sumPercentageDifferences1h;
     }
 
-    public BigDecimal getSumPercentageDifferences10h() {
+    public double getSumPercentageDifferences10h() {
         return sumPercentageDifferences10h;
     }
 
-    public BigDecimal getLastThreeHighAverage() {
+    /**
+     * Returns average of highest prices of last three candles in satoshis.
+     *
+     * @return average of highest prices
+     */
+    public long getLastThreeHighAverage() {
         return lastThreeHighAverage;
     }
 
-    public BigDecimal getPreviousThreeHighAverage() {
+    /**
+     * Returns average of highest prices of three candles before last three candles in satoshis.
+     *
+     * @return average of highest prices
+     */
+    public long getPreviousThreeHighAverage() {
         return previousThreeHighAverage;
     }
 
@@ -267,9 +248,9 @@ public class Crypto {
                + "sumPercentageDifferences10h=" + sumPercentageDifferences10h + ", "
                + "priceToSell=" + priceToSell + ", "
                + "priceToSellPercentage=" + priceToSellPercentage + ", "
-               + "lastThreeHighAverage=" + lastThreeHighAverage + ", "
-               + "previousThreeHighAverage=" + previousThreeHighAverage + ", "
-               + "priceCountToSlope=" + (priceCountToSlope != null ? priceCountToSlope.toPlainString() : null) + ", "
+               + "lastThreeHighAverage=" + toBtc(lastThreeHighAverage) + ", "
+               + "previousThreeHighAverage=" + toBtc(previousThreeHighAverage) + ", "
+               + "priceCountToSlope=" + priceCountToSlope + ", "
                + "numberOfCandles=" + numberOfCandles + '}';
     }
 }
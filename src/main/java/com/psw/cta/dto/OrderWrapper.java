@@ -1,35 +1,28 @@
 package com.psw.cta.dto;
 
+import static com.psw.cta.logging.LogFormatter.appendField;
+import static com.psw.cta.logging.LogFormatter.appendPadded;
 import static com.psw.cta.utils.Constants.HUNDRED_PERCENT;
 import static com.psw.cta.utils.Constants.TWO;
-import static com.psw.cta.utils.LeastSquares.getRegression;
 import static java.lang.Math.sqrt;
-import static java.lang.String.format;
 import static java.math.BigDecimal.ONE;
 import static java.math.BigDecimal.TEN;
-import static java.math.BigDecimal.valueOf;
 import static java.math.MathContext.DECIMAL32;
 import static java.math.RoundingMode.CEILING;
 import static java.math.RoundingMode.UP;
-import static java.util.Comparator.comparing;
 
-import com.psw.cta.dto.binance.Candlestick;
+import com.psw.cta.dto.binance.CandlestickSeries;
 import com.psw.cta.dto.binance.Order;
 import java.math.BigDecimal;
 import java.math.MathContext;
-import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
-import org.apache.commons.math3.stat.regression.SimpleRegression;
+import java.util.stream.IntStream;
 
 /**
  * Object holding information about order.
  */
 public class OrderWrapper {
 
-    private static final BigDecimal HALF_OF_MAX_PROFIT = new BigDecimal("0.15");
-    private static final BigDecimal HALF_OF_MIN_PROFIT = new BigDecimal("0.0025");
-
     private final Order order;
     private final BigDecimal currentPrice;
     private final BigDecimal orderPrice;
@@ -49,8 +42,7 @@ public class OrderWrapper {
      * @param order                open order info
      * @param orderPrice           price from order
      * @param currentPrice         current market price
-     * @param myBtcBalance         my btc balance
-     * @param actualBalance        actual balance of all trades and my btc balance
+     * @param profitModel          profit model of current trading cycle
      * @param orderPricePercentage percentage of order price to current price
      * @param totalAmounts         all amounts
      * @param candleStickData      candle sticks
@@ -59,11 +51,10 @@ public class OrderWrapper {
     public OrderWrapper(Order order,
                         BigDecimal orderPrice,
                         BigDecimal currentPrice,
-                        BigDecimal myBtcBalance,
-                        BigDecimal actualBalance,
+                        ProfitModel profitModel,
                         BigDecimal orderPricePercentage,
                         Map<String, BigDecimal> totalAmounts,
-                        List<Candlestick> candleStickData,
+                        CandlestickSeries candleStickData,
                         BigDecimal actualWaitingTime) {
         this.order = order;
         this.currentPrice = currentPrice;
@@ -73,8 +64,7 @@ public class OrderWrapper {
         this.priceToSell = calculatePriceToSell(this.orderPrice,
                                                 this.currentPrice,
                                                 this.orderBtcAmount,
-                                                myBtcBalance,
-                                                actualBalance);
+                                                profitModel);
         this.currentBtcAmount = this.quantity.multiply(this.currentPrice)
                                              .setScale(8, CEILING);
         this.orderPricePercentage = orderPricePercentage;
@@ -115,14 +105,11 @@ public class OrderWrapper {
     private BigDecimal calculatePriceToSell(BigDecimal orderPrice,
                                             BigDecimal currentPrice,
                                             BigDecimal orderBtcAmount,
-                                            BigDecimal myBtcBalance,
-                                            BigDecimal actualBalance) {
+                                            ProfitModel profitModel) {
         BigDecimal loss = orderPrice.subtract(currentPrice);
         BigDecimal halfLoss = loss.divide(TWO, 8, UP);
         BigDecimal priceToSellWithoutProfit = currentPrice.add(halfLoss);
-        BigDecimal profitCoefficient = getProfitCoefficient(orderBtcAmount,
-                                                            myBtcBalance,
-                                                            actualBalance);
+        BigDecimal profitCoefficient = profitModel.getProfitCoefficient(orderBtcAmount);
         BigDecimal realProfit = halfLoss.multiply(profitCoefficient);
         BigDecimal priceToSell = priceToSellWithoutProfit.add(realProfit);
         return priceToSell.setScale(8, CEILING);
@@ -138,22 +125,24 @@ public class OrderWrapper {
                                                Map<String, BigDecimal> totalAmounts,
                                                BigDecimal orderBtcAmount,
                                                BigDecimal orderPricePercentage,
-                                               List<Candlestick> candleStickData,
+                                               CandlestickSeries candleStickData,
                                                BigDecimal currentPrice) {
         String symbol = order.getSymbol();
         BigDecimal oldMinWaitingTime = calculateOldMinWaitingTime(totalAmounts.get(symbol),
                                                                   orderBtcAmount,
                                                                   orderPricePercentage);
-        BigDecimal min = candleStickData.stream()
-                                        .map(Candlestick::getLow)
-                                        .map(BigDecimal::new)
-                                        .min(comparing(Function.identity()))
-                                        .orElse(BigDecimal.ZERO);
-        BigDecimal max = candleStickData.stream()
-                                        .map(Candlestick::getHigh)
-                                        .map(BigDecimal::new)
-                                        .max(comparing(Function.identity()))
-                                        .orElse(currentPrice);
+        BigDecimal min = candleStickData.isEmpty()
+                         ? BigDecimal.ZERO
+                         : BigDecimal.valueOf(IntStream.range(0, candleStickData.size())
+                                                       .mapToDouble(candleStickData::getLow)
+                                                       .min()
+                                                       .orElseThrow());
+        BigDecimal max = candleStickData.isEmpty()
+                         ? currentPrice
+                         : BigDecimal.valueOf(IntStream.range(0, candleStickData.size())
+                                                       .mapToDouble(candleStickData::getHigh)
+                                                       .max()
+                                                       .orElseThrow());
         BigDecimal minPricePercentage = calculatePricePercentage(max, min).negate();
         return oldMinWaitingTime.add(oldMinWaitingTime.multiply(minPricePercentage.divide(new BigDecimal("50"), 8, UP)))
                                 .abs(new MathContext(5))
@@ -165,25 +154,6 @@ public class OrderWrapper {
                              .round(new MathContext(5));
     }
 
-    private BigDecimal getProfitCoefficient(BigDecimal orderBtcAmount,
-                                            BigDecimal myBtcBalance,
-                                            BigDecimal actualBalance) {
-        BigDecimal btcBalanceToTotalBalanceRatio = myBtcBalance.divide(actualBalance, 8, CEILING);
-        BigDecimal maxBtcAmountToReduceProfit = myBtcBalance.divide(new BigDecimal("2"), 8, CEILING);
-        SimpleRegression regression = getRegression(0.0001,
-                                                    HALF_OF_MAX_PROFIT.doubleValue(),
-                                                    maxBtcAmountToReduceProfit.doubleValue(),
-                                                    HALF_OF_MIN_PROFIT.doubleValue());
-        BigDecimal btcAmountProfitPart = calculateProfitPart(orderBtcAmount,
-                                                             valueOf(regression.getSlope()),
-                                                             valueOf(regression.getIntercept()));
-        BigDecimal ratioProfitPart = calculateProfitPart(btcBalanceToTotalBalanceRatio,
-                                                         new BigDecimal("0.1638"),
-                                                         new BigDecimal("-0.0138"));
-        BigDecimal profitPercentage = btcAmountProfitPart.add(ratioProfitPart);
-        return profitPercentage.max(new BigDecimal("0.005"));
-    }
-
     private BigDecimal calculateOldMinWaitingTime(BigDecimal totalSymbolAmount,
                                                   BigDecimal orderBtcAmount,
                                                   BigDecimal orderPricePercentage) {
@@ -195,12 +165,6 @@ public class OrderWrapper {
                           .round(DECIMAL32);
     }
 
-    private BigDecimal calculateProfitPart(BigDecimal x, BigDecimal a, BigDecimal b) {
-        return calculateLineEquation(x, a, b)
-            .min(HALF_OF_MAX_PROFIT)
-            .max(HALF_OF_MIN_PROFIT);
-    }
-
     private BigDecimal getTimeFromAmount(BigDecimal totalAmount) {
         double totalTime = 100 * sqrt(totalAmount.doubleValue());
         return new BigDecimal(String.valueOf(totalTime), new MathContext(3));
@@ -218,10 +182,6 @@ public class OrderWrapper {
         return firstElement.add(secondElement.add(c));
     }
 
-    private BigDecimal calculateLineEquation(BigDecimal x, BigDecimal a, BigDecimal b) {
-        return (x.multiply(a)).add(b);
-    }
-
     public Order getOrder() {
         return order;
     }
@@ -272,18 +232,20 @@ public class OrderWrapper {
 
     @Override
     public String toString() {
-        return format("%-11s", order.getSymbol())
-               + format("orderAmount=%-11s", bigDecimalToString(orderBtcAmount))
-               + format("neededAmount=%-11s", bigDecimalToString(neededBtcAmount))
-               + format("currentAmount=%-11s", bigDecimalToString(currentBtcAmount))
-               + format("quantity=%-8s", bigDecimalToString(quantity))
-               + format("currentPrice=%-11s", bigDecimalToString(currentPrice))
-               + format("orderPrice=%-11s", bigDecimalToString(orderPrice))
-               + format("priceToSell=%-11s", bigDecimalToString(priceToSell))
-               + format("orderPricePerc=%-12s", bigDecimalToString(orderPricePercentage))
-               + format("priceToSellPerc=%-12s", bigDecimalToString(priceToSellPercentage))
-               + format("remainTime=%-8s", bigDecimalToString(remainWaitingTime))
-               + format("actualTime=%-1s", bigDecimalToString(actualWaitingTime));
+        StringBuilder builder = new StringBuilder(200);
+        appendPadded(builder, order.getSymbol(), 11);
+        appendField(builder, "orderAmount", bigDecimalToString(orderBtcAmount), 11);
+        appendField(builder, "neededAmount", bigDecimalToString(neededBtcAmount), 11);
+        appendField(builder, "currentAmount", bigDecimalToString(currentBtcAmount), 11);
+        appendField(builder, "quantity", bigDecimalToString(quantity), 8);
+        appendField(builder, "currentPrice", bigDecimalToString(currentPrice), 11);
+        appendField(builder, "orderPrice", bigDecimalToString(orderPrice), 11);
+        appendField(builder, "priceToSell", bigDecimalToString(priceToSell), 11);
+        appendField(builder, "orderPricePerc", bigDecimalToString(orderPricePercentage), 12);
+        appendField(builder, "priceToSellPerc", bigDecimalToString(priceToSellPercentage), 12);
+        appendField(builder, "remainTime", bigDecimalToString(remainWaitingTime), 8);
+        appendField(builder, "actualTime", bigDecimalToString(actualWaitingTime), 1);
+        return builder.toString();
     }
 
     private String bigDecimalToString(BigDecimal bigDecimal) {
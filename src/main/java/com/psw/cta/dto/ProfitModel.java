@@ -0,0 +1,61 @@
+package com.psw.cta.dto;
+
+import static java.math.BigDecimal.valueOf;
+import static java.math.RoundingMode.CEILING;
+
+import java.math.BigDecimal;
+
+/**
+ * Model of profit required from sell orders. The model depends only on balances of the account, so it is created once
+ * per trading cycle and shared by all {@link OrderWrapper}s of the cycle.
+ */
+public class ProfitModel {
+
+    static final BigDecimal HALF_OF_MAX_PROFIT = new BigDecimal("0.15");
+    static final BigDecimal HALF_OF_MIN_PROFIT = new BigDecimal("0.0025");
+    private static final double MIN_BTC_AMOUNT_TO_REDUCE_PROFIT = 0.0001;
+    private static final BigDecimal RATIO_SLOPE = new BigDecimal("0.1638");
+    private static final BigDecimal RATIO_INTERCEPT = new BigDecimal("-0.0138");
+    private static final BigDecimal MIN_PROFIT_COEFFICIENT = new BigDecimal("0.005");
+
+    private final BigDecimal btcAmountSlope;
+    private final BigDecimal btcAmountIntercept;
+    private final BigDecimal ratioProfitPart;
+
+    /**
+     * Default constructor. Profit for BTC amount of order falls linearly from maximal profit at 0.0001 BTC to minimal
+     * profit at half of my BTC balance.
+     *
+     * @param myBtcBalance  my btc balance
+     * @param actualBalance actual balance of all trades and my btc balance
+     */
+    public ProfitModel(BigDecimal myBtcBalance, BigDecimal actualBalance) {
+        double maxBtcAmountToReduceProfit = myBtcBalance.divide(new BigDecimal("2"), 8, CEILING).doubleValue();
+        double slope = (HALF_OF_MIN_PROFIT.doubleValue() - HALF_OF_MAX_PROFIT.doubleValue())
+                       / (maxBtcAmountToReduceProfit - MIN_BTC_AMOUNT_TO_REDUCE_PROFIT);
+        double intercept = HALF_OF_MAX_PROFIT.doubleValue() - slope * MIN_BTC_AMOUNT_TO_REDUCE_PROFIT;
+        this.btcAmountSlope = valueOf(slope);
+        this.btcAmountIntercept = valueOf(intercept);
+        BigDecimal btcBalanceToTotalBalanceRatio = myBtcBalance.divide(actualBalance, 8, CEILING);
+        this.ratioProfitPart = calculateProfitPart(btcBalanceToTotalBalanceRatio, RATIO_SLOPE, RATIO_INTERCEPT);
+    }
+
+    /**
+     * Returns coefficient of half of the loss which is added to price to sell as profit.
+     *
+     * @param orderBtcAmount btc amount of order
+     * @return profit coefficient
+     */
+    public BigDecimal getProfitCoefficient(BigDecimal orderBtcAmount) {
+        BigDecimal btcAmountProfitPart = calculateProfitPart(orderBtcAmount, btcAmountSlope, btcAmountIntercept);
+        return btcAmountProfitPart.add(ratioProfitPart)
+                                  .max(MIN_PROFIT_COEFFICIENT);
+    }
+
+    private static BigDecimal calculateProfitPart(BigDecimal x, BigDecimal a, BigDecimal b) {
+        return x.multiply(a)
+                .add(b)
+                .min(HALF_OF_MAX_PROFIT)
+                .max(HALF_OF_MIN_PROFIT);
+    }
+}
@@ -0,0 +1,17 @@
+package com.psw.cta.dto;
+
+/**
+ * Binance account traded by {@link com.psw.cta.MultiAccountTrader}. Secret is never part of the string
+ * representation, so accounts can be logged.
+ *
+ * @param name      name of the account used in logs and metrics
+ * @param apiKey    Binance API key of the account
+ * @param apiSecret Binance API secret of the account
+ */
+public record TradingAccount(String name, String apiKey, String apiSecret) {
+
+    @Override
+    public String toString() {
+        return "TradingAccount{name=" + name + '}';
+    }
+}
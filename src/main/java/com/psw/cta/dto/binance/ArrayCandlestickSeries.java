@@ -0,0 +1,139 @@
+package com.psw.cta.dto.binance;
+
+import static com.psw.cta.utils.BinanceApiConstants.TO_STRING_BUILDER_STYLE;
+
+import java.util.Arrays;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Kline/Candlestick bars of one symbol stored column-wise in primitive arrays on heap.
+ */
+public class ArrayCandlestickSeries implements CandlestickSeries {
+
+    private static final int DEFAULT_CAPACITY = 128;
+
+    private long[] openTimes;
+    private double[] opens;
+    private double[] highs;
+    private double[] lows;
+    private double[] closes;
+    private double[] volumes;
+    private long[] closeTimes;
+    private int size;
+
+    /**
+     * Creates empty series.
+     */
+    public ArrayCandlestickSeries() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates empty series with space for provided number of klines.
+     *
+     * @param capacity expected number of klines
+     */
+    public ArrayCandlestickSeries(int capacity) {
+        this.openTimes = new long[capacity];
+        this.opens = new double[capacity];
+        this.highs = new double[capacity];
+        this.lows = new double[capacity];
+        this.closes = new double[capacity];
+        this.volumes = new double[capacity];
+        this.closeTimes = new long[capacity];
+    }
+
+    /**
+     * Appends kline to the end of series.
+     *
+     * @param openTime  open time
+     * @param open      open price
+     * @param high      high price
+     * @param low       low price
+     * @param close     close price
+     * @param volume    volume
+     * @param closeTime close time
+     */
+    public void add(long openTime, double open, double high, double low, double close, double volume, long closeTime) {
+        if (size == openTimes.length) {
+            grow();
+        }
+        openTimes[size] = openTime;
+        opens[size] = open;
+        highs[size] = high;
+        lows[size] = low;
+        closes[size] = close;
+        volumes[size] = volume;
+        closeTimes[size] = closeTime;
+        size++;
+    }
+
+    private void grow() {
+        int capacity = Math.max(DEFAULT_CAPACITY, openTimes.length * 2);
+        openTimes = Arrays.copyOf(openTimes, capacity);
+        opens = Arrays.copyOf(opens, capacity);
+        highs = Arrays.copyOf(highs, capacity);
+        lows = Arrays.copyOf(lows, capacity);
+        closes = Arrays.copyOf(closes, capacity);
+        volumes = Arrays.copyOf(volumes, capacity);
+        closeTimes = Arrays.copyOf(closeTimes, capacity);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long getOpenTime(int index) {
+        return openTimes[index];
+    }
+
+    @Override
+    public double getOpen(int index) {
+        return opens[index];
+    }
+
+    @Override
+    public double getHigh(int index) {
+        return highs[index];
+    }
+
+    @Override
+    public double getLow(int index) {
+        return lows[index];
+    }
+
+    @Override
+    public double getClose(int index) {
+        return closes[index];
+    }
+
+    @Override
+    public double getVolume(int index) {
+        return volumes[index];
+    }
+
+    @Override
+    public long getCloseTime(int index) {
+        return closeTimes[index];
+    }
+
+    @Override
+    public CandlestickSeries slice(int fromIndex, int toIndex) {
+        ArrayCandlestickSeries slice = new ArrayCandlestickSeries(Math.max(0, toIndex - fromIndex));
+        for (int i = fromIndex; i < toIndex; i++) {
+            slice.add(openTimes[i], opens[i], highs[i], lows[i], closes[i], volumes[i], closeTimes[i]);
+        }
+        return slice;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, TO_STRING_BUILDER_STYLE)
+            .append("size", size)
+            .append("firstOpenTime", size > 0 ? openTimes[0] : null)
+            .append("lastCloseTime", size > 0 ? closeTimes[size - 1] : null)
+            .toString();
+    }
+}
@@ -0,0 +1,89 @@
+package com.psw.cta.dto.binance;
+
+import static com.psw.cta.utils.BinanceApiConstants.TO_STRING_BUILDER_STYLE;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Best price and quantity on the order book of a symbol.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BookTicker {
+
+    /**
+     * Ticker symbol.
+     */
+    private String symbol;
+
+    /**
+     * Best bid price.
+     */
+    private String bidPrice;
+
+    /**
+     * Quantity available at best bid price.
+     */
+    private String bidQty;
+
+    /**
+     * Best ask price.
+     */
+    private String askPrice;
+
+    /**
+     * Quantity available at best ask price.
+     */
+    private String askQty;
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public void setSymbol(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public String getBidPrice() {
+        return bidPrice;
+    }
+
+    public void setBidPrice(String bidPrice) {
+        this.bidPrice = bidPrice;
+    }
+
+    public String getBidQty() {
+        return bidQty;
+    }
+
+    public void setBidQty(String bidQty) {
+        this.bidQty = bidQty;
+    }
+
+    public String getAskPrice() {
+        return askPrice;
+    }
+
+    public void setAskPrice(String askPrice) {
+        this.askPrice = askPrice;
+    }
+
+    public String getAskQty() {
+        return askQty;
+    }
+
+    public void setAskQty(String askQty) {
+        this.askQty = askQty;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, TO_STRING_BUILDER_STYLE)
+            .append("symbol", symbol)
+            .append("bidPrice", bidPrice)
+            .append("bidQty", bidQty)
+            .append("askPrice", askPrice)
+            .append("askQty", askQty)
+            .toString();
+    }
+}
@@ -1,6 +1,7 @@
 package com.psw.cta.dto.binance;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.time.Duration;
 
 /**
  * Kline/Candlestick intervals.
@@ -8,29 +9,40 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
  */
 @JsonIgnoreProperties(ignoreUnknown = true)
 public enum CandlestickInterval {
-    ONE_MINUTE("1m"),
-    THREE_MINUTES("3m"),
-    FIVE_MINUTES("5m"),
-    FIFTEEN_MINUTES("15m"),
-    HALF_HOURLY("30m"),
-    HOURLY("1h"),
-    TWO_HOURLY("2h"),
-    FOUR_HOURLY("4h"),
-    SIX_HOURLY("6h"),
-    EIGHT_HOURLY("8h"),
-    TWELVE_HOURLY("12h"),
-    DAILY("1d"),
-    THREE_DAILY("3d"),
-    WEEKLY("1w"),
-    MONTHLY("1M");
+    ONE_MINUTE("1m", Duration.ofMinutes(1)),
+    THREE_MINUTES("3m", Duration.ofMinutes(3)),
+    FIVE_MINUTES("5m", Duration.ofMinutes(5)),
+    FIFTEEN_MINUTES("15m", Duration.ofMinutes(15)),
+    HALF_HOURLY("30m", Duration.ofMinutes(30)),
+    HOURLY("1h", Duration.ofHours(1)),
+    TWO_HOURLY("2h", Duration.ofHours(2)),
+    FOUR_HOURLY("4h", Duration.ofHours(4)),
+    SIX_HOURLY("6h", Duration.ofHours(6)),
+    EIGHT_HOURLY("8h", Duration.ofHours(8)),
+    TWELVE_HOURLY("12h", Duration.ofHours(12)),
+    DAILY("1d", Duration.ofDays(1)),
+    THREE_DAILY("3d", Duration.ofDays(3)),
+    WEEKLY("1w", Duration.ofDays(7)),
+    MONTHLY("1M", null);
 
     private final String intervalId;
+    private final Duration duration;
 
-    CandlestickInterval(String intervalId) {
+    CandlestickInterval(String intervalId, Duration duration) {
         this.intervalId = intervalId;
+        this.duration = duration;
     }
 
     public String getIntervalId() {
         return intervalId;
     }
+
+    /**
+     * Returns duration of one candlestick, or null when the duration is not fixed (months).
+     *
+     * @return duration of candlestick
+     */
+    public Duration getDuration() {
+        return duration;
+    }
 }
@@ -0,0 +1,91 @@
+package com.psw.cta.dto.binance;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+/**
+ * Kline/Candlestick bars of one symbol. Klines are ordered by their open time and accessed by index.
+ */
+@JsonDeserialize(using = CandlestickSeriesDeserializer.class)
+public interface CandlestickSeries {
+
+    /**
+     * Returns number of klines in series.
+     *
+     * @return number of klines
+     */
+    int size();
+
+    /**
+     * Returns whether series holds no kline.
+     *
+     * @return true when series is empty
+     */
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns open time of kline at provided index.
+     *
+     * @param index index of kline
+     * @return open time
+     */
+    long getOpenTime(int index);
+
+    /**
+     * Returns open price of kline at provided index.
+     *
+     * @param index index of kline
+     * @return open price
+     */
+    double getOpen(int index);
+
+    /**
+     * Returns high price of kline at provided index.
+     *
+     * @param index index of kline
+     * @return high price
+     */
+    double getHigh(int index);
+
+    /**
+     * Returns low price of kline at provided index.
+     *
+     * @param index index of kline
+     * @return low price
+     */
+    double getLow(int index);
+
+    /**
+     * Returns close price of kline at provided index.
+     *
+     * @param index index of kline
+     * @return close price
+     */
+    double getClose(int index);
+
+    /**
+     * Returns volume of kline at provided index.
+     *
+     * @param index index of kline
+     * @return volume
+     */
+    double getVolume(int index);
+
+    /**
+     * Returns close time of kline at provided index.
+     *
+     * @param index index of kline
+     * @return close time
+     */
+    long getCloseTime(int index);
+
+    /**
+     * Returns klines between provided indexes.
+     *
+     * @param fromIndex index of first kline, inclusive
+     * @param toIndex   index of last kline, exclusive
+     * @return klines between indexes
+     */
+    CandlestickSeries slice(int fromIndex, int toIndex);
+}
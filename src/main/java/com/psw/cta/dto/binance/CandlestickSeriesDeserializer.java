@@ -0,0 +1,112 @@
+package com.psw.cta.dto.binance;
+
+import static com.fasterxml.jackson.core.JsonToken.END_ARRAY;
+import static com.fasterxml.jackson.core.JsonToken.START_ARRAY;
+import static com.fasterxml.jackson.core.JsonToken.VALUE_STRING;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import java.io.IOException;
+
+/**
+ * Streaming deserializer of klines, since the API returns an array of arrays in the format
+ * [ openTime, open, high, low, close, volume, closeTime, ... ]. Prices are parsed directly from the characters of the
+ * parser into columns of {@link ArrayCandlestickSeries}, without creating intermediate objects or strings.
+ */
+public class CandlestickSeriesDeserializer extends JsonDeserializer<CandlestickSeries> {
+
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    @Override
+    public CandlestickSeries deserialize(JsonParser jp, DeserializationContext ctx) throws IOException {
+        if (!jp.isExpectedStartArrayToken()) {
+            return (CandlestickSeries) ctx.handleUnexpectedToken(CandlestickSeries.class, jp);
+        }
+        ArrayCandlestickSeries series = new ArrayCandlestickSeries();
+        while (jp.nextToken() == START_ARRAY) {
+            jp.nextToken();
+            long openTime = jp.getLongValue();
+            double open = nextDecimal(jp);
+            double high = nextDecimal(jp);
+            double low = nextDecimal(jp);
+            double close = nextDecimal(jp);
+            double volume = nextDecimal(jp);
+            jp.nextToken();
+            long closeTime = jp.getLongValue();
+            skipRemainingValues(jp);
+            series.add(openTime, open, high, low, close, volume, closeTime);
+        }
+        return series;
+    }
+
+    private double nextDecimal(JsonParser jp) throws IOException {
+        JsonToken token = jp.nextToken();
+        if (token == VALUE_STRING) {
+            return parseDecimal(jp.getTextCharacters(), jp.getTextOffset(), jp.getTextLength());
+        }
+        return jp.getDoubleValue();
+    }
+
+    private void skipRemainingValues(JsonParser jp) throws IOException {
+        JsonToken token = jp.nextToken();
+        while (token != END_ARRAY) {
+            jp.skipChildren();
+            token = jp.nextToken();
+        }
+    }
+
+    /**
+     * Parses plain decimal number like "0.00012345". When both digits without decimal point and the power of ten
+     * are exactly representable as double, a single division gives correctly rounded result. Other numbers are parsed
+     * by {@link Double#parseDouble(String)}.
+     *
+     * @param chars  characters holding the number
+     * @param offset offset of first character of the number
+     * @param length number of characters of the number
+     * @return parsed number
+     */
+    static double parseDecimal(char[] chars, int offset, int length) {
+        long mantissa = 0;
+        int scale = -1;
+        int start = offset;
+        boolean negative = length > 0 && chars[offset] == '-';
+        if (negative) {
+            start++;
+        }
+        int end = offset + length;
+        if (start == end) {
+            return fallback(chars, offset, length);
+        }
+        for (int i = start; i < end; i++) {
+            char character = chars[i];
+            if (character == '.' && scale < 0) {
+                scale = 0;
+            } else if (character >= '0' && character <= '9') {
+                mantissa = mantissa * 10 + (character - '0');
+                if (mantissa >= MAX_EXACT_MANTISSA) {
+                    return fallback(chars, offset, length);
+                }
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else {
+                return fallback(chars, offset, length);
+            }
+        }
+        if (scale >= POWERS_OF_TEN.length) {
+            return fallback(chars, offset, length);
+        }
+        double value = scale > 0 ? mantissa / POWERS_OF_TEN[scale] : mantissa;
+        return negative ? -value : value;
+    }
+
+    private static double fallback(char[] chars, int offset, int length) {
+        return Double.parseDouble(new String(chars, offset, length));
+    }
+}
@@ -4,7 +4,9 @@ import static com.psw.cta.utils.BinanceApiConstants.TO_STRING_BUILDER_STYLE;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.psw.cta.exception.BinanceApiException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 /**
@@ -16,10 +18,26 @@ public class ExchangeInfo {
 
     private List<SymbolInfo> symbols;
 
+    private Map<String, SymbolInfo> symbolsBySymbol = new HashMap<>();
+
     public List<SymbolInfo> getSymbols() {
         return symbols;
     }
 
+    /**
+     * Sets symbols and indexes them by symbol.
+     *
+     * @param symbols symbol information
+     */
+    public void setSymbols(List<SymbolInfo> symbols) {
+        this.symbols = symbols;
+        Map<String, SymbolInfo> index = new HashMap<>(symbols == null ? 0 : symbols.size() * 2);
+        if (symbols != null) {
+            symbols.forEach(symbolInfo -> index.putIfAbsent(symbolInfo.getSymbol(), symbolInfo));
+        }
+        this.symbolsBySymbol = index;
+    }
+
     /**
      * Returns Symbol information.
      *
@@ -27,11 +45,11 @@ public class ExchangeInfo {
      * @return symbol exchange information
      */
     public SymbolInfo getSymbolInfo(String symbol) {
-        return symbols.stream()
-                      .filter(symbolInfo -> symbolInfo.getSymbol().equals(symbol))
-                      .findFirst()
-                      .orElseThrow(() -> new BinanceApiException(
-                          "Unable to obtain information for symbol " + symbol));
+        SymbolInfo symbolInfo = symbolsBySymbol.get(symbol);
+        if (symbolInfo == null) {
+            throw new BinanceApiException("Unable to obtain information for symbol " + symbol);
+        }
+        return symbolInfo;
     }
 
     @Override
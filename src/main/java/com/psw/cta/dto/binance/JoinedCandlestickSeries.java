@@ -0,0 +1,82 @@
+package com.psw.cta.dto.binance;
+
+import static com.psw.cta.utils.BinanceApiConstants.TO_STRING_BUILDER_STYLE;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Klines of two series following each other, accessed as one series without copying.
+ */
+public class JoinedCandlestickSeries implements CandlestickSeries {
+
+    private final CandlestickSeries first;
+    private final CandlestickSeries second;
+
+    /**
+     * Default constructor.
+     *
+     * @param first  older klines
+     * @param second newer klines
+     */
+    public JoinedCandlestickSeries(CandlestickSeries first, CandlestickSeries second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    @Override
+    public int size() {
+        return first.size() + second.size();
+    }
+
+    @Override
+    public long getOpenTime(int index) {
+        return index < first.size() ? first.getOpenTime(index) : second.getOpenTime(index - first.size());
+    }
+
+    @Override
+    public double getOpen(int index) {
+        return index < first.size() ? first.getOpen(index) : second.getOpen(index - first.size());
+    }
+
+    @Override
+    public double getHigh(int index) {
+        return index < first.size() ? first.getHigh(index) : second.getHigh(index - first.size());
+    }
+
+    @Override
+    public double getLow(int index) {
+        return index < first.size() ? first.getLow(index) : second.getLow(index - first.size());
+    }
+
+    @Override
+    public double getClose(int index) {
+        return index < first.size() ? first.getClose(index) : second.getClose(index - first.size());
+    }
+
+    @Override
+    public double getVolume(int index) {
+        return index < first.size() ? first.getVolume(index) : second.getVolume(index - first.size());
+    }
+
+    @Override
+    public long getCloseTime(int index) {
+        return index < first.size() ? first.getCloseTime(index) : second.getCloseTime(index - first.size());
+    }
+
+    @Override
+    public CandlestickSeries slice(int fromIndex, int toIndex) {
+        int firstSize = first.size();
+        CandlestickSeries firstSlice = first.slice(Math.min(fromIndex, firstSize), Math.min(toIndex, firstSize));
+        CandlestickSeries secondSlice = second.slice(Math.max(fromIndex - firstSize, 0),
+                                                     Math.max(toIndex - firstSize, 0));
+        return new JoinedCandlestickSeries(firstSlice, secondSlice);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, TO_STRING_BUILDER_STYLE)
+            .append("first", first)
+            .append("second", second)
+            .toString();
+    }
+}
@@ -40,6 +40,29 @@ public class SymbolFilter {
      */
     private String minNotional;
 
+    /**
+     * Default constructor.
+     */
+    public SymbolFilter() {
+    }
+
+    /**
+     * Creates filter with provided values.
+     *
+     * @param filterType  type of filter
+     * @param tickSize    tick size of price
+     * @param minQty      minimal quantity
+     * @param stepSize    step size of quantity
+     * @param minNotional minimal notional value
+     */
+    public SymbolFilter(FilterType filterType, String tickSize, String minQty, String stepSize, String minNotional) {
+        this.filterType = filterType;
+        this.tickSize = tickSize;
+        this.minQty = minQty;
+        this.stepSize = stepSize;
+        this.minNotional = minNotional;
+    }
+
     public FilterType getFilterType() {
         return filterType;
     }
@@ -3,11 +3,13 @@ package com.psw.cta.dto.binance;
 import static com.psw.cta.utils.BinanceApiConstants.TO_STRING_BUILDER_STYLE;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.psw.cta.exception.CryptoTraderException;
+import java.math.BigDecimal;
 import java.util.List;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 /**
- * Symbol information (base/quote).
+ * Symbol information (base/quote). Values of trading filters are parsed once, when filters are set.
  */
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class SymbolInfo {
@@ -18,6 +20,14 @@ public class SymbolInfo {
 
     private List<SymbolFilter> filters;
 
+    private BigDecimal tickSize;
+
+    private BigDecimal stepSize;
+
+    private BigDecimal minQty;
+
+    private BigDecimal minNotional;
+
     public String getSymbol() {
         return symbol;
     }
@@ -38,8 +48,82 @@ public class SymbolInfo {
         return filters;
     }
 
+    /**
+     * Sets filters and parses values of trading filters.
+     *
+     * @param filters symbol filters
+     */
     public void setFilters(List<SymbolFilter> filters) {
         this.filters = filters;
+        this.tickSize = null;
+        this.stepSize = null;
+        this.minQty = null;
+        this.minNotional = null;
+        if (filters == null) {
+            return;
+        }
+        for (SymbolFilter filter : filters) {
+            switch (filter.getFilterType()) {
+                case PRICE_FILTER -> tickSize = toBigDecimal(filter.getTickSize(), tickSize);
+                case LOT_SIZE -> {
+                    stepSize = toBigDecimal(filter.getStepSize(), stepSize);
+                    minQty = toBigDecimal(filter.getMinQty(), minQty);
+                }
+                case MIN_NOTIONAL, NOTIONAL -> minNotional = toBigDecimal(filter.getMinNotional(), minNotional);
+                case null, default -> {
+                }
+            }
+        }
+    }
+
+    private BigDecimal toBigDecimal(String value, BigDecimal previousValue) {
+        if (previousValue != null || value == null) {
+            return previousValue;
+        }
+        return new BigDecimal(value);
+    }
+
+    /**
+     * Returns tick size from PRICE_FILTER.
+     *
+     * @return tick size
+     */
+    public BigDecimal getTickSize() {
+        return requireFilterValue(tickSize, "PRICE_FILTER");
+    }
+
+    /**
+     * Returns step size from LOT_SIZE filter.
+     *
+     * @return step size
+     */
+    public BigDecimal getStepSize() {
+        return requireFilterValue(stepSize, "LOT_SIZE");
+    }
+
+    /**
+     * Returns minimal quantity from LOT_SIZE filter.
+     *
+     * @return minimal quantity
+     */
+    public BigDecimal getMinQty() {
+        return requireFilterValue(minQty, "LOT_SIZE");
+    }
+
+    /**
+     * Returns minimal notional value from MIN_NOTIONAL or NOTIONAL filter.
+     *
+     * @return minimal notional value
+     */
+    public BigDecimal getMinNotional() {
+        return requireFilterValue(minNotional, "MIN_NOTIONAL, NOTIONAL");
+    }
+
+    private BigDecimal requireFilterValue(BigDecimal value, String filterTypes) {
+        if (value == null) {
+            throw new CryptoTraderException("Value from filters [" + filterTypes + "] not found for " + symbol);
+        }
+        return value;
     }
 
     @Override
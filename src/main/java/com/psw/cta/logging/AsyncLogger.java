@@ -0,0 +1,232 @@
+package com.psw.cta.logging;
+
+import static com.psw.cta.logging.LogLevel.DEBUG;
+import static com.psw.cta.logging.LogLevel.INFO;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Level aware logger writing messages asynchronously to the delegate {@link LambdaLogger}. Messages below the minimal
+ * level are dropped before they are built, messages logged through suppliers are built only when their level is
+ * enabled. Enabled messages are put into a lock-free bounded ring buffer and written by a background flusher thread,
+ * so the logging thread never waits for the delegate. When the buffer is full, the logging thread flushes it itself,
+ * so no message is lost. Messages logged by {@link #log(String)} have level INFO.
+ *
+ * <p>Lambda freezes the process after the handler returns, so the logger has to be flushed or closed before that.
+ */
+public class AsyncLogger implements LambdaLogger, AutoCloseable {
+
+    private final LambdaLogger delegate;
+    private final LogLevel minLevel;
+    private final long flushIntervalNanos;
+    private final int mask;
+    private final AtomicReferenceArray<Entry> entries;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final Thread flusher;
+    private long head;
+    private volatile boolean closed;
+
+    /**
+     * Default constructor. Starts the background flusher.
+     *
+     * @param delegate      logger receiving formatted messages
+     * @param minLevel      minimal level of logged messages
+     * @param capacity      capacity of the ring buffer, rounded up to power of two
+     * @param flushInterval interval in which the background flusher writes buffered messages
+     */
+    public AsyncLogger(LambdaLogger delegate, LogLevel minLevel, int capacity, Duration flushInterval) {
+        this.delegate = delegate;
+        this.minLevel = minLevel;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.mask = size - 1;
+        this.entries = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.flusher = Thread.ofPlatform()
+                             .name("log-flusher")
+                             .daemon()
+                             .start(this::runFlusher);
+    }
+
+    /**
+     * Logs debug message of provided logger. When logger is not level aware, message is logged directly.
+     *
+     * @param logger  logger
+     * @param message supplier of message, called only when debug level is enabled
+     */
+    public static void debug(LambdaLogger logger, Supplier<String> message) {
+        if (logger instanceof AsyncLogger asyncLogger) {
+            asyncLogger.log(DEBUG, message);
+        } else {
+            logger.log(message.get());
+        }
+    }
+
+    /**
+     * Returns whether debug messages of provided logger are logged. Logger which is not level aware logs everything.
+     *
+     * @param logger logger
+     * @return whether debug messages are logged
+     */
+    public static boolean isDebugEnabled(LambdaLogger logger) {
+        return !(logger instanceof AsyncLogger asyncLogger) || asyncLogger.isEnabled(DEBUG);
+    }
+
+    /**
+     * Returns logger writing synchronously to the final destination, bypassing buffering and formatting.
+     *
+     * @param logger logger
+     * @return delegate of level aware logger, or provided logger
+     */
+    public static LambdaLogger unwrap(LambdaLogger logger) {
+        if (logger instanceof AsyncLogger asyncLogger) {
+            return asyncLogger.delegate;
+        }
+        return logger;
+    }
+
+    @Override
+    public void log(String message) {
+        log(INFO, message);
+    }
+
+    @Override
+    public void log(byte[] message) {
+        log(INFO, new String(message, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Logs message with provided level.
+     *
+     * @param level   level of message
+     * @param message message
+     */
+    public void log(LogLevel level, String message) {
+        if (isEnabled(level)) {
+            append(new Entry(level, getThreadName(), message));
+        }
+    }
+
+    /**
+     * Logs message with provided level. Message is built only when the level is enabled.
+     *
+     * @param level   level of message
+     * @param message supplier of message
+     */
+    public void log(LogLevel level, Supplier<String> message) {
+        if (isEnabled(level)) {
+            append(new Entry(level, getThreadName(), message.get()));
+        }
+    }
+
+    /**
+     * Returns whether messages with provided level are logged.
+     *
+     * @param level level of message
+     * @return whether messages with provided level are logged
+     */
+    public boolean isEnabled(LogLevel level) {
+        return level.compareTo(minLevel) >= 0;
+    }
+
+    /**
+     * Writes all buffered messages to the delegate.
+     */
+    public void flush() {
+        drainLock.lock();
+        try {
+            Entry entry = poll();
+            while (entry != null) {
+                delegate.log(LogFormatter.format(entry.level(), entry.threadName(), entry.message()));
+                entry = poll();
+            }
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    /**
+     * Stops the background flusher and writes all buffered messages.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private String getThreadName() {
+        Thread thread = Thread.currentThread();
+        return thread.getName().isEmpty() ? "#" + thread.threadId() : thread.getName();
+    }
+
+    private void append(Entry entry) {
+        if (closed) {
+            delegate.log(LogFormatter.format(entry.level(), entry.threadName(), entry.message()));
+            return;
+        }
+        while (!offer(entry)) {
+            flush();
+        }
+    }
+
+    private boolean offer(Entry entry) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    entries.set(index, entry);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    private Entry poll() {
+        int index = (int) head & mask;
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        final Entry entry = entries.get(index);
+        entries.set(index, null);
+        sequences.set(index, head + mask + 1);
+        head++;
+        return entry;
+    }
+
+    private void runFlusher() {
+        while (!closed) {
+            LockSupport.parkNanos(flushIntervalNanos);
+            flush();
+        }
+    }
+
+    private record Entry(LogLevel level, String threadName, String message) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.psw.cta.logging;
+
+/**
+ * Compact formatter of log lines and of fixed width columns of logged values. Columns are padded by appending to a
+ * single builder, so no format string is parsed for every value.
+ */
+public final class LogFormatter {
+
+    private LogFormatter() {
+    }
+
+    /**
+     * Formats log line as level, thread and message.
+     *
+     * @param level      level of message
+     * @param threadName name of thread which logged message
+     * @param message    message
+     * @return formatted log line
+     */
+    public static String format(LogLevel level, String threadName, String message) {
+        StringBuilder builder = new StringBuilder(message.length() + threadName.length() + 10);
+        appendPadded(builder, level.name(), 5);
+        return builder.append(" [")
+                      .append(threadName)
+                      .append("] ")
+                      .append(message)
+                      .toString();
+    }
+
+    /**
+     * Appends value left aligned and padded by spaces to provided width.
+     *
+     * @param builder builder to append to
+     * @param value   appended value
+     * @param width   minimal width of column
+     * @return provided builder
+     */
+    public static StringBuilder appendPadded(StringBuilder builder, String value, int width) {
+        builder.append(value);
+        return appendSpaces(builder, width - value.length());
+    }
+
+    /**
+     * Appends value right aligned and padded by spaces to provided width.
+     *
+     * @param builder builder to append to
+     * @param value   appended value
+     * @param width   minimal width of column
+     * @return provided builder
+     */
+    public static StringBuilder appendRightAligned(StringBuilder builder, String value, int width) {
+        return appendSpaces(builder, width - value.length()).append(value);
+    }
+
+    /**
+     * Appends field as name=value with value left aligned and padded by spaces to provided width.
+     *
+     * @param builder builder to append to
+     * @param name    name of field
+     * @param value   value of field
+     * @param width   minimal width of value
+     * @return provided builder
+     */
+    public static StringBuilder appendField(StringBuilder builder, String name, String value, int width) {
+        builder.append(name)
+               .append('=');
+        return appendPadded(builder, value, width);
+    }
+
+    private static StringBuilder appendSpaces(StringBuilder builder, int count) {
+        for (int i = 0; i < count; i++) {
+            builder.append(' ');
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,11 @@
+package com.psw.cta.logging;
+
+/**
+ * Level of log message.
+ */
+public enum LogLevel {
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR
+}
@@ -0,0 +1,25 @@
+package com.psw.cta.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of one endpoint of Binance API.
+ */
+class EndpointMetrics {
+
+    final LatencyHistogram latency = new LatencyHistogram();
+    final LongAdder calls = new LongAdder();
+    final LongAdder requestWeight = new LongAdder();
+    final LongAdder bytesReceived = new LongAdder();
+    final Map<Integer, LongAdder> errorCodes = new ConcurrentHashMap<>();
+
+    void recordError(int code) {
+        LongAdder errors = errorCodes.get(code);
+        if (errors == null) {
+            errors = errorCodes.computeIfAbsent(code, key -> new LongAdder());
+        }
+        errors.increment();
+    }
+}
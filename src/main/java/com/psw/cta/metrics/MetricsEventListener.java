@@ -0,0 +1,26 @@
+package com.psw.cta.metrics;
+
+import okhttp3.Call;
+import okhttp3.EventListener;
+
+/**
+ * Listener of HTTP calls recording number of bytes received from the network per endpoint.
+ */
+public class MetricsEventListener extends EventListener {
+
+    private final MetricsRegistry metricsRegistry;
+
+    /**
+     * Default constructor.
+     *
+     * @param metricsRegistry registry of metrics
+     */
+    public MetricsEventListener(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @Override
+    public void responseBodyEnd(Call call, long byteCount) {
+        metricsRegistry.recordBytesReceived(call.request().url().encodedPath(), byteCount);
+    }
+}
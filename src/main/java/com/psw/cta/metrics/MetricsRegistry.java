@@ -0,0 +1,215 @@
+package com.psw.cta.metrics;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Registry of metrics of one trading cycle: latency, calls, request weight, bytes received and error codes per
+ * endpoint of Binance API and durations of trading stages. Recording only increments atomic counters, so it can be
+ * called on every request. At the end of the cycle the metrics are flushed as CloudWatch Embedded Metric Format lines
+ * through the logger and the registry starts over.
+ */
+public class MetricsRegistry {
+
+    private static final String ENDPOINT_DIMENSION = "Endpoint";
+    private static final String ERROR_CODE_DIMENSION = "ErrorCode";
+    private static final String STAGE_DIMENSION = "Stage";
+    private static final String COUNT = "Count";
+    private static final String MILLISECONDS = "Milliseconds";
+    private static final double[] PERCENTILES = {50, 90, 99};
+
+    private final String namespace;
+    private final Clock clock;
+    private final LambdaLogger logger;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicReference<Map<String, EndpointMetrics>> endpoints =
+        new AtomicReference<>(new ConcurrentHashMap<>());
+    private final AtomicReference<Map<String, LatencyHistogram>> stages =
+        new AtomicReference<>(new ConcurrentHashMap<>());
+
+    /**
+     * Default constructor.
+     *
+     * @param namespace namespace of metrics in CloudWatch
+     * @param clock     clock providing timestamp of flushed metrics
+     * @param logger    logger receiving flushed metrics
+     */
+    public MetricsRegistry(String namespace, Clock clock, LambdaLogger logger) {
+        this.namespace = namespace;
+        this.clock = clock;
+        this.logger = logger;
+    }
+
+    /**
+     * Records one call of endpoint.
+     *
+     * @param endpoint     path of endpoint
+     * @param latencyNanos duration of call in nanoseconds
+     * @param statusCode   HTTP status code, or -1 when no response was received
+     * @param weight       request weight charged for the call
+     */
+    public void recordCall(String endpoint, long latencyNanos, int statusCode, int weight) {
+        EndpointMetrics metrics = getEndpointMetrics(endpoint);
+        metrics.calls.increment();
+        metrics.requestWeight.add(weight);
+        metrics.latency.record(NANOSECONDS.toMicros(latencyNanos));
+        if (statusCode < 200 || statusCode >= 300) {
+            metrics.recordError(statusCode);
+        }
+    }
+
+    /**
+     * Records bytes received from endpoint.
+     *
+     * @param endpoint path of endpoint
+     * @param bytes    number of bytes
+     */
+    public void recordBytesReceived(String endpoint, long bytes) {
+        getEndpointMetrics(endpoint).bytesReceived.add(bytes);
+    }
+
+    /**
+     * Records duration of trading stage.
+     *
+     * @param stage         name of stage
+     * @param durationNanos duration in nanoseconds
+     */
+    public void recordStage(String stage, long durationNanos) {
+        Map<String, LatencyHistogram> currentStages = stages.get();
+        LatencyHistogram histogram = currentStages.get(stage);
+        if (histogram == null) {
+            histogram = currentStages.computeIfAbsent(stage, key -> new LatencyHistogram());
+        }
+        histogram.record(NANOSECONDS.toMicros(durationNanos));
+    }
+
+    /**
+     * Runs stage and records its duration.
+     *
+     * @param stage name of stage
+     * @param task  task of stage
+     */
+    public void time(String stage, Runnable task) {
+        long start = System.nanoTime();
+        try {
+            task.run();
+        } finally {
+            recordStage(stage, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Runs stage and records its duration.
+     *
+     * @param stage name of stage
+     * @param task  task of stage
+     * @param <T>   type of result
+     * @return result of stage
+     */
+    public <T> T time(String stage, Supplier<T> task) {
+        long start = System.nanoTime();
+        try {
+            return task.get();
+        } finally {
+            recordStage(stage, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Logs all metrics recorded since the last flush in CloudWatch Embedded Metric Format and starts recording again.
+     */
+    public void flush() {
+        long timestamp = clock.millis();
+        Map<String, EndpointMetrics> flushedEndpoints = endpoints.getAndSet(new ConcurrentHashMap<>());
+        Map<String, LatencyHistogram> flushedStages = stages.getAndSet(new ConcurrentHashMap<>());
+        flushedEndpoints.forEach((endpoint, metrics) -> {
+            Map<String, Object> values = new LinkedHashMap<>();
+            List<Map<String, String>> definitions = new ArrayList<>();
+            addMetric(values, definitions, "Calls", COUNT, metrics.calls.sum());
+            addMetric(values, definitions, "RequestWeight", COUNT, metrics.requestWeight.sum());
+            addMetric(values, definitions, "BytesReceived", "Bytes", metrics.bytesReceived.sum());
+            addLatencyMetrics(values, definitions, "Latency", metrics.latency);
+            log(timestamp, ENDPOINT_DIMENSION, endpoint, values, definitions);
+            metrics.errorCodes.forEach((code, errors) -> {
+                Map<String, Object> errorValues = new LinkedHashMap<>();
+                List<Map<String, String>> errorDefinitions = new ArrayList<>();
+                errorValues.put(ERROR_CODE_DIMENSION, String.valueOf(code));
+                addMetric(errorValues, errorDefinitions, "Errors", COUNT, errors.sum());
+                log(timestamp, ENDPOINT_DIMENSION + "," + ERROR_CODE_DIMENSION, endpoint, errorValues,
+                    errorDefinitions);
+            });
+        });
+        flushedStages.forEach((stage, histogram) -> {
+            Map<String, Object> values = new LinkedHashMap<>();
+            List<Map<String, String>> definitions = new ArrayList<>();
+            addMetric(values, definitions, "Executions", COUNT, histogram.getCount());
+            addLatencyMetrics(values, definitions, "Duration", histogram);
+            log(timestamp, STAGE_DIMENSION, stage, values, definitions);
+        });
+    }
+
+    private EndpointMetrics getEndpointMetrics(String endpoint) {
+        Map<String, EndpointMetrics> currentEndpoints = endpoints.get();
+        EndpointMetrics metrics = currentEndpoints.get(endpoint);
+        if (metrics == null) {
+            metrics = currentEndpoints.computeIfAbsent(endpoint, key -> new EndpointMetrics());
+        }
+        return metrics;
+    }
+
+    private void addLatencyMetrics(Map<String, Object> values,
+                                   List<Map<String, String>> definitions,
+                                   String name,
+                                   LatencyHistogram histogram) {
+        for (double percentile : PERCENTILES) {
+            addMetric(values, definitions, name + "P" + (int) percentile, MILLISECONDS,
+                      toMillis(histogram.getPercentile(percentile)));
+        }
+        addMetric(values, definitions, name + "Max", MILLISECONDS, toMillis(histogram.getMax()));
+        addMetric(values, definitions, name + "Sum", MILLISECONDS, toMillis(histogram.getSum()));
+    }
+
+    private double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private void addMetric(Map<String, Object> values,
+                           List<Map<String, String>> definitions,
+                           String name,
+                           String unit,
+                           Object value) {
+        values.put(name, value);
+        definitions.add(Map.of("Name", name, "Unit", unit));
+    }
+
+    private void log(long timestamp,
+                     String dimensions,
+                     String dimensionValue,
+                     Map<String, Object> values,
+                     List<Map<String, String>> definitions) {
+        String[] dimensionNames = dimensions.split(",");
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("_aws", Map.of("Timestamp", timestamp,
+                                    "CloudWatchMetrics", List.of(Map.of("Namespace", namespace,
+                                                                        "Dimensions", List.of(List.of(dimensionNames)),
+                                                                        "Metrics", definitions))));
+        document.put(dimensionNames[0], dimensionValue);
+        document.putAll(values);
+        try {
+            logger.log(objectMapper.writeValueAsString(document));
+        } catch (JsonProcessingException e) {
+            logger.log("Failed to write metrics: " + e);
+        }
+    }
+}
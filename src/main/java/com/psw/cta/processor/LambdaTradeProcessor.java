@@ -5,6 +5,7 @@ import static com.psw.cta.utils.Constants.SYMBOL_BNB_BTC;
 import static com.psw.cta.utils.Constants.SYMBOL_PAXG_BTC;
 import static com.psw.cta.utils.Constants.SYMBOL_WBTC_BTC;
 import static com.psw.cta.utils.Constants.SYMBOL_XAUT_BTC;
+import static com.psw.cta.utils.Constants.TWO;
 import static java.math.BigDecimal.ZERO;
 import static java.math.RoundingMode.CEILING;
 import static java.time.ZoneOffset.UTC;
@@ -12,8 +13,11 @@ import static java.time.ZoneOffset.UTC;
 import com.amazonaws.services.lambda.runtime.LambdaLogger;
 import com.psw.cta.dto.Crypto;
 import com.psw.cta.dto.OrderWrapper;
+import com.psw.cta.dto.ProfitModel;
 import com.psw.cta.dto.binance.ExchangeInfo;
 import com.psw.cta.dto.binance.Order;
+import com.psw.cta.logging.AsyncLogger;
+import com.psw.cta.metrics.MetricsRegistry;
 import com.psw.cta.processor.trade.AcquireProcessor;
 import com.psw.cta.processor.trade.CancelProcessor;
 import com.psw.cta.processor.trade.CryptoProcessor;
@@ -21,7 +25,12 @@ import com.psw.cta.processor.trade.ExtractProcessor;
 import com.psw.cta.processor.trade.RepeatTradingProcessor;
 import com.psw.cta.processor.trade.SplitProcessor;
 import com.psw.cta.service.BinanceService;
+import com.psw.cta.service.MarketDataFetcher;
+import com.psw.cta.trace.Tracer;
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -29,15 +38,23 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
  * Trade service for AWS lambda that processes cryptocurrency trading operations.
  * Handles splitting, acquiring, repeating, extracting and canceling trade orders
  * based on various market conditions and trading rules.
+ * Forbidden pairs, including pairs scheduled for delisting, are refreshed every hour,
+ * so a long running processor does not trade pairs delisted after it was created.
  */
 public class LambdaTradeProcessor extends MainTradeProcessor {
 
+    private static final BigDecimal REBUY_ALL_ORDERS_BALANCE_MULTIPLIER = new BigDecimal("3");
+    private static final BigDecimal MIN_BTC_BALANCE_TO_EXTRACT_MORE_ORDERS = new BigDecimal("0.003");
+    private static final BigDecimal OPEN_ORDERS_PER_BTC = new BigDecimal("100");
+    private static final Duration FORBIDDEN_PAIRS_TIME_TO_LIVE = Duration.ofHours(1);
+
     private final LambdaLogger logger;
     private final CryptoProcessor cryptoProcessor;
     private final SplitProcessor splitProcessor;
@@ -45,12 +62,20 @@ public class LambdaTradeProcessor extends MainTradeProcessor {
     private final RepeatTradingProcessor repeatTradingProcessor;
     private final ExtractProcessor extractProcessor;
     private final CancelProcessor cancelProcessor;
-    private final List<String> allForbiddenPairs;
+    private final MetricsRegistry metricsRegistry;
+    private final Tracer tracer;
+    private final List<String> forbiddenPairs;
+    private List<String> allForbiddenPairs;
+    private Instant forbiddenPairsUpdatedAt;
+    private final BigDecimal splitLowestOrderPricePercentage;
+    private final BigDecimal rebuyOrderPricePercentage;
+    private final BigDecimal splitDelistedOrderPricePercentage;
 
     /**
      * Constructs a new LambdaTradeProcessor with the specified dependencies.
      *
      * @param binanceService         service for executing Binance API operations
+     * @param marketDataFetcher      engine fetching market data of orders concurrently
      * @param cryptoProcessor        processor for handling cryptocurrency operations
      * @param splitProcessor         processor for splitting trade orders
      * @param acquireProcessor       processor for acquiring new cryptocurrencies
@@ -58,9 +83,14 @@ public class LambdaTradeProcessor extends MainTradeProcessor {
      * @param extractProcessor       processor for extracting trade orders
      * @param cancelProcessor        processor for canceling trade orders
      * @param forbiddenPairs         list of trading pairs that are forbidden for trading
+     * @param parameters             thresholds of the strategy
+     * @param clock                  clock determining waiting time of orders and time of day
+     * @param metricsRegistry        registry recording duration of every trading stage
+     * @param tracer                 tracer recording every trading stage as a span
      * @param logger                 lambda logger for logging operations
      */
     public LambdaTradeProcessor(BinanceService binanceService,
+                                MarketDataFetcher marketDataFetcher,
                                 CryptoProcessor cryptoProcessor,
                                 SplitProcessor splitProcessor,
                                 AcquireProcessor acquireProcessor,
@@ -68,16 +98,27 @@ public class LambdaTradeProcessor extends MainTradeProcessor {
                                 ExtractProcessor extractProcessor,
                                 CancelProcessor cancelProcessor,
                                 List<String> forbiddenPairs,
+                                StrategyParameters parameters,
+                                Clock clock,
+                                MetricsRegistry metricsRegistry,
+                                Tracer tracer,
                                 LambdaLogger logger) {
-        super(binanceService);
+        super(binanceService, marketDataFetcher, clock);
         this.cryptoProcessor = cryptoProcessor;
         this.splitProcessor = splitProcessor;
         this.acquireProcessor = acquireProcessor;
         this.repeatTradingProcessor = repeatTradingProcessor;
         this.extractProcessor = extractProcessor;
         this.cancelProcessor = cancelProcessor;
+        this.metricsRegistry = metricsRegistry;
+        this.tracer = tracer;
         this.logger = logger;
+        this.forbiddenPairs = forbiddenPairs;
         this.allForbiddenPairs = initializeForbiddenPairs(forbiddenPairs, binanceService);
+        this.forbiddenPairsUpdatedAt = clock.instant();
+        this.splitLowestOrderPricePercentage = parameters.splitLowestOrderPricePercentage();
+        this.rebuyOrderPricePercentage = parameters.rebuyOrderPricePercentage();
+        this.splitDelistedOrderPricePercentage = parameters.splitDelistedOrderPricePercentage();
     }
 
     private ArrayList<String> initializeForbiddenPairs(List<String> forbiddenPairs, BinanceService binanceService) {
@@ -126,69 +167,151 @@ public class LambdaTradeProcessor extends MainTradeProcessor {
                       long uniqueOpenOrdersSize,
                       BigDecimal totalAmount,
                       int minOpenOrders) {
+        refreshForbiddenPairs();
+        ProfitModel profitModel = new ProfitModel(myBtcBalance, actualBalance);
+        List<OrderWrapper> orderWrappers = stage("OrderWrappers",
+                                                 () -> getOrderWrapperStream(openOrders,
+                                                                             profitModel,
+                                                                             totalAmounts).toList());
+        Runnable action = tracer.trace("Decision", () -> decideAction(openOrders,
+                                                                      totalAmounts,
+                                                                      myBtcBalance,
+                                                                      actualBalance,
+                                                                      exchangeInfo,
+                                                                      uniqueOpenOrdersSize,
+                                                                      totalAmount,
+                                                                      minOpenOrders,
+                                                                      orderWrappers));
+        action.run();
+    }
+
+    private void refreshForbiddenPairs() {
+        Instant now = clock.instant();
+        if (Duration.between(forbiddenPairsUpdatedAt, now).compareTo(FORBIDDEN_PAIRS_TIME_TO_LIVE) >= 0) {
+            allForbiddenPairs = initializeForbiddenPairs(forbiddenPairs, binanceService);
+            forbiddenPairsUpdatedAt = now;
+        }
+    }
+
+    private Runnable decideAction(List<Order> openOrders,
+                                  Map<String, BigDecimal> totalAmounts,
+                                  BigDecimal myBtcBalance,
+                                  BigDecimal actualBalance,
+                                  ExchangeInfo exchangeInfo,
+                                  long uniqueOpenOrdersSize,
+                                  BigDecimal totalAmount,
+                                  int minOpenOrders,
+                                  List<OrderWrapper> orderWrappers) {
         Set<String> orderSymbolsToSplit = getOrderSymbolsToSplit(openOrders);
         BigDecimal ordersAmount = totalAmounts.values()
                                               .stream()
                                               .reduce(ZERO, BigDecimal::add);
-        List<OrderWrapper> orderWrappers = getOrderWrapperStream(openOrders,
-                                                                 myBtcBalance,
-                                                                 actualBalance,
-                                                                 totalAmounts)
-            .toList();
+        PortfolioSnapshot snapshot = new PortfolioSnapshot(orderWrappers,
+                                                           myBtcBalance,
+                                                           rebuyOrderPricePercentage,
+                                                           orderWrapper -> repeatTradingProcessor.shouldBeRebought(
+                                                               orderWrapper,
+                                                               myBtcBalance));
+        AsyncLogger.debug(logger, snapshot::toString);
         if (!orderSymbolsToSplit.isEmpty()) {
-            logger.log("***** ***** Splitting first cancelled trade ***** *****");
-            orderSymbolsToSplit.stream()
-                               .findFirst()
-                               .ifPresent(symbol -> handleDelistedOrder(totalAmounts,
-                                                                        myBtcBalance,
-                                                                        exchangeInfo,
-                                                                        symbol,
-                                                                        orderWrappers));
-        } else if (shouldSplitOrderWithLowestOrderPrice(orderWrappers)) {
-            List<Crypto> cryptos = cryptoProcessor.getCryptos(exchangeInfo, allForbiddenPairs);
-            splitProcessor.splitOrderWithLowestOrderPrice(orderWrappers, exchangeInfo, cryptos, totalAmounts.keySet());
+            return () -> stage("SplitDelistedOrder", () -> {
+                logger.log("***** ***** Splitting first cancelled trade ***** *****");
+                orderSymbolsToSplit.stream()
+                                   .findFirst()
+                                   .ifPresent(symbol -> handleDelistedOrder(totalAmounts,
+                                                                            myBtcBalance,
+                                                                            exchangeInfo,
+                                                                            symbol,
+                                                                            orderWrappers));
+            });
+        } else if (shouldSplitOrderWithLowestOrderPrice(snapshot)) {
+            return () -> stage("SplitOrderWithLowestOrderPrice", () -> {
+                List<Crypto> cryptos = getCryptos(exchangeInfo);
+                splitProcessor.splitOrderWithLowestOrderPrice(orderWrappers,
+                                                              exchangeInfo,
+                                                              cryptos,
+                                                              totalAmounts.keySet());
+            });
         } else if (shouldSplitHighestOrderAndBuy(uniqueOpenOrdersSize, minOpenOrders)) {
-            List<Crypto> cryptos = cryptoProcessor.getCryptos(exchangeInfo, allForbiddenPairs);
-            splitProcessor.splitHighestOrder(orderWrappers, exchangeInfo, cryptos, totalAmounts.keySet());
-            BigDecimal myBalance = binanceService.getMyBalance(ASSET_BTC);
-            if (acquireProcessor.haveBalanceForInitialTrading(myBalance)) {
-                cryptos = cryptoProcessor.getCryptos(exchangeInfo, allForbiddenPairs);
-                acquireProcessor.initTrading(cryptos);
-            }
+            return () -> stage("SplitHighestOrderAndBuy", () -> {
+                List<Crypto> cryptos = getCryptos(exchangeInfo);
+                splitProcessor.splitHighestOrder(orderWrappers, exchangeInfo, cryptos, totalAmounts.keySet());
+                BigDecimal myBalance = binanceService.getMyBalance(ASSET_BTC);
+                if (acquireProcessor.haveBalanceForInitialTrading(myBalance)) {
+                    acquireProcessor.initTrading(getCryptos(exchangeInfo));
+                }
+            });
         } else if (shouldRebuyAllOrders(myBtcBalance, ordersAmount)) {
-            repeatTradingProcessor.rebuyAllOrders(orderWrappers, exchangeInfo);
-        } else if (shouldRebuyOrderWithHighPricePercentage(orderWrappers, myBtcBalance)) {
-            orderWrappers.stream()
-                         .filter(ow -> ow.getOrderPricePercentage().compareTo(new BigDecimal("40")) > 0
-                                       && myBtcBalance.compareTo(ow.getCurrentBtcAmount()) > 0)
-                         .findFirst()
-                         .ifPresent(ow -> repeatTradingProcessor.rebuySingleOrder(ow,
-                                                                                  (service, wrapper) -> true,
-                                                                                  exchangeInfo));
-        } else if (shouldSplitOrderWithHighNeededAmount(orderWrappers)) {
-            List<Crypto> cryptos = cryptoProcessor.getCryptos(exchangeInfo, allForbiddenPairs);
-            splitProcessor.splitOrderWithHighNeededAmount(orderWrappers, exchangeInfo, cryptos, totalAmounts.keySet());
-        } else if (shouldRebuyAnyOrder(orderWrappers, myBtcBalance)) {
-            repeatTradingProcessor.rebuyOrders(orderWrappers, myBtcBalance, exchangeInfo);
-        } else if (shouldExtractMoreOrders(orderWrappers, myBtcBalance)) {
-            extractProcessor.extractOrders(orderWrappers, myBtcBalance, exchangeInfo);
-        } else if (shouldExtractOneOrder(orderWrappers, myBtcBalance)) {
-            extractProcessor.extractOnlyFirstOrder(orderWrappers, exchangeInfo);
+            return () -> stage("RebuyAllOrders",
+                               () -> repeatTradingProcessor.rebuyAllOrders(orderWrappers, exchangeInfo));
+        } else if (snapshot.haveOrderToRebuyWithHighPricePercentage()) {
+            return () -> stage("RebuyOrderWithHighPricePercentage",
+                               () -> rebuyOrderWithHighPricePercentage(orderWrappers, myBtcBalance, exchangeInfo));
+        } else if (shouldSplitOrderWithHighNeededAmount(snapshot)) {
+            return () -> stage("SplitOrderWithHighNeededAmount", () -> {
+                List<Crypto> cryptos = getCryptos(exchangeInfo);
+                splitProcessor.splitOrderWithHighNeededAmount(orderWrappers,
+                                                              exchangeInfo,
+                                                              cryptos,
+                                                              totalAmounts.keySet());
+            });
+        } else if (snapshot.haveOrderToRebuy()) {
+            return () -> stage("RebuyOrders",
+                               () -> repeatTradingProcessor.rebuyOrders(orderWrappers, myBtcBalance, exchangeInfo));
+        } else if (shouldExtractMoreOrders(snapshot, myBtcBalance)) {
+            return () -> stage("ExtractOrders",
+                               () -> extractProcessor.extractOrders(orderWrappers, myBtcBalance, exchangeInfo));
+        } else if (shouldExtractOneOrder(snapshot, myBtcBalance)) {
+            return () -> stage("ExtractOnlyFirstOrder",
+                               () -> extractProcessor.extractOnlyFirstOrder(orderWrappers, exchangeInfo));
         } else if (shouldSplitOrderForQuickerSelling(myBtcBalance,
                                                      actualBalance,
                                                      uniqueOpenOrdersSize,
                                                      totalAmount)) {
-            List<Crypto> cryptos = cryptoProcessor.getCryptos(exchangeInfo, allForbiddenPairs);
-            splitProcessor.splitOrdersForQuickerSelling(orderWrappers, exchangeInfo, cryptos, totalAmounts.keySet());
-        } else if (haveOrdersWithOrderPricePercentageGreaterThan10(orderWrappers)) {
-            List<Crypto> cryptos = cryptoProcessor.getCryptos(exchangeInfo, allForbiddenPairs);
-            splitProcessor.splitOrdersWithOrderPricePercGreaterThen10(orderWrappers,
-                                                                      exchangeInfo,
-                                                                      cryptos,
-                                                                      totalAmounts.keySet());
-        } else if (shouldCancelTrade(orderWrappers, myBtcBalance)) {
-            cancelProcessor.cancelTrade(orderWrappers, exchangeInfo);
+            return () -> stage("SplitOrdersForQuickerSelling", () -> {
+                List<Crypto> cryptos = getCryptos(exchangeInfo);
+                splitProcessor.splitOrdersForQuickerSelling(orderWrappers,
+                                                            exchangeInfo,
+                                                            cryptos,
+                                                            totalAmounts.keySet());
+            });
+        } else if (snapshot.haveOrdersWithOrderPricePercentageGreaterThan10()) {
+            return () -> stage("SplitOrdersWithOrderPricePercentageGreaterThan10", () -> {
+                List<Crypto> cryptos = getCryptos(exchangeInfo);
+                splitProcessor.splitOrdersWithOrderPricePercGreaterThen10(orderWrappers,
+                                                                          exchangeInfo,
+                                                                          cryptos,
+                                                                          totalAmounts.keySet());
+            });
+        } else if (shouldCancelTrade(snapshot)) {
+            return () -> stage("CancelTrade", () -> cancelProcessor.cancelTrade(orderWrappers, exchangeInfo));
         }
+        return () -> {
+        };
+    }
+
+    private void stage(String name, Runnable task) {
+        tracer.trace(name, () -> metricsRegistry.time(name, task));
+    }
+
+    private <T> T stage(String name, Supplier<T> task) {
+        return tracer.trace(name, () -> metricsRegistry.time(name, task));
+    }
+
+    private List<Crypto> getCryptos(ExchangeInfo exchangeInfo) {
+        return stage("Cryptos", () -> cryptoProcessor.getCryptos(exchangeInfo, allForbiddenPairs));
+    }
+
+    private void rebuyOrderWithHighPricePercentage(List<OrderWrapper> orderWrappers,
+                                                   BigDecimal myBtcBalance,
+                                                   ExchangeInfo exchangeInfo) {
+        orderWrappers.stream()
+                     .filter(ow -> ow.getOrderPricePercentage().compareTo(rebuyOrderPricePercentage) > 0
+                                   && myBtcBalance.compareTo(ow.getCurrentBtcAmount()) > 0)
+                     .findFirst()
+                     .ifPresent(ow -> repeatTradingProcessor.rebuySingleOrder(ow,
+                                                                              (service, wrapper) -> true,
+                                                                              exchangeInfo));
     }
 
     private Set<String> getOrderSymbolsToSplit(List<Order> openOrders) {
@@ -210,10 +333,10 @@ public class LambdaTradeProcessor extends MainTradeProcessor {
                                                   .findFirst()
                                                   .orElseThrow();
         logger.log("Delisted order:" + delistedOrder);
-        if (delistedOrder.getOrderPricePercentage().compareTo(new BigDecimal("45")) < 0) {
-            List<Crypto> cryptos = cryptoProcessor.getCryptos(exchangeInfo, allForbiddenPairs);
+        if (delistedOrder.getOrderPricePercentage().compareTo(splitDelistedOrderPricePercentage) < 0) {
+            List<Crypto> cryptos = getCryptos(exchangeInfo);
             splitProcessor.splitCancelledOrder(orderWrappers, symbol, exchangeInfo, cryptos, totalAmounts.keySet());
-        } else if (delistedOrder.getOrderPricePercentage().compareTo(new BigDecimal("45")) >= 0
+        } else if (delistedOrder.getOrderPricePercentage().compareTo(splitDelistedOrderPricePercentage) >= 0
                    && delistedOrder.getCurrentBtcAmount().compareTo(myBtcBalance) < 0) {
             repeatTradingProcessor.rebuySingleOrder(delistedOrder, (binanceService, wrapper) -> true, exchangeInfo);
         } else {
@@ -221,14 +344,9 @@ public class LambdaTradeProcessor extends MainTradeProcessor {
         }
     }
 
-    private boolean shouldSplitOrderWithLowestOrderPrice(List<OrderWrapper> orderWrappers) {
-        return allOrderPricePercentageHigher20(orderWrappers) && allOlderThanDay(orderWrappers);
-    }
-
-    private boolean allOrderPricePercentageHigher20(List<OrderWrapper> orderWrappers) {
-        return orderWrappers.stream()
-                            .map(OrderWrapper::getOrderPricePercentage)
-                            .allMatch(orderPricePercentage -> orderPricePercentage.compareTo(new BigDecimal("20")) > 0);
+    private boolean shouldSplitOrderWithLowestOrderPrice(PortfolioSnapshot snapshot) {
+        return snapshot.allOrderPricePercentageHigherThan(splitLowestOrderPricePercentage)
+               && snapshot.allOlderThanDay();
     }
 
     private boolean shouldSplitHighestOrderAndBuy(long uniqueOpenOrdersSize, long minOpenOrders) {
@@ -236,26 +354,19 @@ public class LambdaTradeProcessor extends MainTradeProcessor {
     }
 
     private boolean shouldRebuyAllOrders(BigDecimal myBtcBalance, BigDecimal ordersAmount) {
-        return myBtcBalance.compareTo(ordersAmount.multiply(new BigDecimal("3"))) > 0;
-    }
-
-    private boolean shouldRebuyAnyOrder(List<OrderWrapper> orderWrappers, BigDecimal myBtcBalance) {
-        return orderWrappers.stream()
-                            .anyMatch(
-                                orderWrapper -> repeatTradingProcessor.shouldBeRebought(orderWrapper,
-                                                                                        myBtcBalance));
+        return myBtcBalance.compareTo(ordersAmount.multiply(REBUY_ALL_ORDERS_BALANCE_MULTIPLIER)) > 0;
     }
 
-    private boolean shouldExtractMoreOrders(List<OrderWrapper> orderWrappers, BigDecimal myBtcBalance) {
-        return allOlderThanDay(orderWrappers) && haveEnoughBtcToExtractMoreOrders(myBtcBalance);
+    private boolean shouldExtractMoreOrders(PortfolioSnapshot snapshot, BigDecimal myBtcBalance) {
+        return snapshot.allOlderThanDay() && haveEnoughBtcToExtractMoreOrders(myBtcBalance);
     }
 
-    private boolean shouldExtractOneOrder(List<OrderWrapper> orderWrappers, BigDecimal myBtcBalance) {
-        return allOlderThanDay(orderWrappers) && !haveEnoughBtcToExtractMoreOrders(myBtcBalance);
+    private boolean shouldExtractOneOrder(PortfolioSnapshot snapshot, BigDecimal myBtcBalance) {
+        return snapshot.allOlderThanDay() && !haveEnoughBtcToExtractMoreOrders(myBtcBalance);
     }
 
     private boolean haveEnoughBtcToExtractMoreOrders(BigDecimal myBtcBalance) {
-        return myBtcBalance.compareTo(new BigDecimal("0.003")) > 0;
+        return myBtcBalance.compareTo(MIN_BTC_BALANCE_TO_EXTRACT_MORE_ORDERS) > 0;
     }
 
     private boolean shouldSplitOrderForQuickerSelling(BigDecimal myBtcBalance,
@@ -267,56 +378,24 @@ public class LambdaTradeProcessor extends MainTradeProcessor {
     }
 
     private boolean actualBtcBalanceMoreThanHalfOfActualBalance(BigDecimal myBtcBalance, BigDecimal actualBalance) {
-        return myBtcBalance.compareTo(actualBalance.divide(new BigDecimal("2"), 8, CEILING)) > 0;
+        return myBtcBalance.compareTo(actualBalance.divide(TWO, 8, CEILING)) > 0;
     }
 
     private boolean uniqueOpenOrdersSizeIsLessThanHundredTotalAmounts(long uniqueOpenOrdersSize,
                                                                       BigDecimal totalAmount) {
-        return new BigDecimal(uniqueOpenOrdersSize).compareTo(totalAmount.multiply(new BigDecimal("100"))) < 0;
-    }
-
-    private boolean shouldRebuyOrderWithHighPricePercentage(List<OrderWrapper> orderWrappers,
-                                                            BigDecimal myBtcBalance) {
-        return orderWrappers.stream()
-                            .anyMatch(ow -> ow.getOrderPricePercentage().compareTo(new BigDecimal("40")) > 0
-                                            && myBtcBalance.compareTo(ow.getCurrentBtcAmount()) > 0);
+        return new BigDecimal(uniqueOpenOrdersSize).compareTo(totalAmount.multiply(OPEN_ORDERS_PER_BTC)) < 0;
     }
 
-    private boolean shouldSplitOrderWithHighNeededAmount(List<OrderWrapper> orderWrappers) {
-        LocalTime now = LocalTime.now(UTC);
+    private boolean shouldSplitOrderWithHighNeededAmount(PortfolioSnapshot snapshot) {
+        LocalTime now = LocalTime.now(clock.withZone(UTC));
         return now.getHour() == 0
                && now.getMinute() < 30
-               && orderWrappers.stream().anyMatch(SplitProcessor::hasHighNeededBtcAmount);
-    }
-
-    private boolean haveOrdersWithOrderPricePercentageGreaterThan10(List<OrderWrapper> orderWrappers) {
-        return orderWrappers.stream()
-                            .anyMatch(ow -> ow.getOrderPricePercentage().compareTo(new BigDecimal("10")) > 0
-                                            && ow.getOrderBtcAmount().compareTo(new BigDecimal("0.001")) > 0);
-    }
-
-    private boolean shouldCancelTrade(List<OrderWrapper> orderWrappers, BigDecimal myBtcBalance) {
-        return allOlderThanDay(orderWrappers)
-               && allRemainWaitingTimeLessThanZero(orderWrappers)
-               && allNeededBtcAmountBiggerThanMyBtcBalance(orderWrappers, myBtcBalance);
-    }
-
-    private boolean allOlderThanDay(List<OrderWrapper> orderWrappers) {
-        return orderWrappers.stream()
-                            .allMatch(orderWrapper -> orderWrapper.getActualWaitingTime()
-                                                                  .compareTo(new BigDecimal("24")) > 0);
-    }
-
-    private boolean allRemainWaitingTimeLessThanZero(List<OrderWrapper> orderWrappers) {
-        return orderWrappers.stream()
-                            .map(OrderWrapper::getRemainWaitingTime)
-                            .allMatch(time -> time.compareTo(ZERO) < 0);
+               && snapshot.haveOrderWithHighNeededBtcAmount();
     }
 
-    private boolean allNeededBtcAmountBiggerThanMyBtcBalance(List<OrderWrapper> orderWrappers,
-                                                             BigDecimal myBtcBalance) {
-        return orderWrappers.stream()
-                            .map(OrderWrapper::getNeededBtcAmount)
-                            .allMatch(orderBtcAmount -> orderBtcAmount.compareTo(myBtcBalance) > 0);
+    private boolean shouldCancelTrade(PortfolioSnapshot snapshot) {
+        return snapshot.allOlderThanDay()
+               && snapshot.allRemainWaitingTimeLessThanZero()
+               && snapshot.allNeededBtcAmountBiggerThanMyBtcBalance();
     }
 }
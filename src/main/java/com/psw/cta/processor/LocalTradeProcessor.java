@@ -3,10 +3,15 @@ package com.psw.cta.processor;
 import com.amazonaws.services.lambda.runtime.LambdaLogger;
 import com.psw.cta.api.BinanceApi;
 import com.psw.cta.dto.OrderWrapper;
+import com.psw.cta.dto.ProfitModel;
 import com.psw.cta.dto.binance.ExchangeInfo;
 import com.psw.cta.dto.binance.Order;
+import com.psw.cta.logging.AsyncLogger;
 import com.psw.cta.service.BinanceService;
+import com.psw.cta.service.MarketDataFetcher;
+import com.psw.cta.trace.Tracer;
 import java.math.BigDecimal;
+import java.time.Clock;
 import java.util.List;
 import java.util.Map;
 
@@ -15,16 +20,25 @@ import java.util.Map;
  */
 public class LocalTradeProcessor extends MainTradeProcessor {
 
+    private final Tracer tracer;
     private final LambdaLogger logger;
 
     /**
      * Default constructor.
      *
-     * @param binanceService service for {@link BinanceApi}
-     * @param logger         logger
+     * @param binanceService    service for {@link BinanceApi}
+     * @param marketDataFetcher engine fetching market data of orders concurrently
+     * @param clock             clock determining waiting time of orders
+     * @param tracer            tracer recording building of order wrappers as a span
+     * @param logger            logger
      */
-    public LocalTradeProcessor(BinanceService binanceService, LambdaLogger logger) {
-        super(binanceService);
+    public LocalTradeProcessor(BinanceService binanceService,
+                               MarketDataFetcher marketDataFetcher,
+                               Clock clock,
+                               Tracer tracer,
+                               LambdaLogger logger) {
+        super(binanceService, marketDataFetcher, clock);
+        this.tracer = tracer;
         this.logger = logger;
     }
 
@@ -38,10 +52,15 @@ public class LocalTradeProcessor extends MainTradeProcessor {
                       BigDecimal totalAmount,
                       int minOpenOrders) {
 
-        BigDecimal neededBtcAmount = getOrderWrapperStream(openOrders, myBtcBalance, actualBalance, totalAmounts)
-            .peek(orderWrapper -> logger.log(orderWrapper.toString()))
-            .map(OrderWrapper::getNeededBtcAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        ProfitModel profitModel = new ProfitModel(myBtcBalance, actualBalance);
+        List<OrderWrapper> orderWrappers = tracer.trace("OrderWrappers",
+                                                        () -> getOrderWrapperStream(openOrders,
+                                                                                    profitModel,
+                                                                                    totalAmounts).toList());
+        orderWrappers.forEach(orderWrapper -> AsyncLogger.debug(logger, orderWrapper::toString));
+        BigDecimal neededBtcAmount = orderWrappers.stream()
+                                                  .map(OrderWrapper::getNeededBtcAmount)
+                                                  .reduce(BigDecimal.ZERO, BigDecimal::add);
         logger.log("Needed btc amount from all orders: " + neededBtcAmount);
     }
 }
@@ -2,26 +2,32 @@ package com.psw.cta.processor;
 
 import static com.psw.cta.dto.OrderWrapper.calculatePricePercentage;
 import static java.time.Duration.between;
-import static java.time.Instant.ofEpochMilli;
-import static java.time.LocalDateTime.now;
-import static java.time.LocalDateTime.ofInstant;
-import static java.time.ZoneId.systemDefault;
 import static java.time.temporal.ChronoUnit.SECONDS;
 import static java.util.Comparator.comparing;
+import static java.util.function.BinaryOperator.minBy;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
 
 import com.psw.cta.api.BinanceApi;
 import com.psw.cta.dto.OrderWrapper;
-import com.psw.cta.dto.binance.Candlestick;
+import com.psw.cta.dto.ProfitModel;
+import com.psw.cta.dto.binance.CandlestickSeries;
 import com.psw.cta.dto.binance.ExchangeInfo;
 import com.psw.cta.dto.binance.Order;
 import com.psw.cta.service.BinanceService;
+import com.psw.cta.service.MarketDataFetcher;
 import java.math.BigDecimal;
 import java.math.MathContext;
+import java.time.Clock;
 import java.time.Duration;
-import java.time.LocalDateTime;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
@@ -29,15 +35,23 @@ import java.util.stream.Stream;
  */
 public abstract class MainTradeProcessor {
 
+    private static final Comparator<Order> ORDER_PRICE = comparing(order -> new BigDecimal(order.getPrice()));
+
     protected final BinanceService binanceService;
+    protected final Clock clock;
+    private final MarketDataFetcher marketDataFetcher;
 
     /**
      * Default constructor.
      *
-     * @param binanceService service for {@link BinanceApi}
+     * @param binanceService    service for {@link BinanceApi}
+     * @param marketDataFetcher engine fetching market data of orders concurrently
+     * @param clock             clock determining waiting time of orders
      */
-    protected MainTradeProcessor(BinanceService binanceService) {
+    protected MainTradeProcessor(BinanceService binanceService, MarketDataFetcher marketDataFetcher, Clock clock) {
         this.binanceService = binanceService;
+        this.marketDataFetcher = marketDataFetcher;
+        this.clock = clock;
     }
 
     /**
@@ -62,45 +76,48 @@ public abstract class MainTradeProcessor {
                                int minOpenOrders);
 
     /**
-     * Get stream of order wrapper for later processing.
+     * Get stream of order wrapper for later processing. Only the order with the lowest price of every symbol is
+     * wrapped. Market data of all wrapped orders are fetched concurrently and orders whose request timed out are left
+     * out.
      *
-     * @param openOrders    open orders
-     * @param myBtcBalance  my balance in btc
-     * @param actualBalance actual balance of all trades and my btc balance
-     * @param totalAmounts  all orders amount
+     * @param openOrders   open orders
+     * @param profitModel  profit model of current trading cycle
+     * @param totalAmounts all orders amount
      * @return stream of {@link OrderWrapper}
      */
     protected Stream<OrderWrapper> getOrderWrapperStream(List<Order> openOrders,
-                                                         BigDecimal myBtcBalance,
-                                                         BigDecimal actualBalance,
+                                                         ProfitModel profitModel,
                                                          Map<String, BigDecimal> totalAmounts) {
-        return openOrders.stream()
-                         .map(Order::getSymbol)
-                         .distinct()
-                         .map(symbol -> openOrders.parallelStream()
-                                                  .filter(order -> order.getSymbol().equals(symbol))
-                                                  .min(comparing(order -> new BigDecimal(order.getPrice()))))
-                         .map(Optional::orElseThrow)
-                         .map(order -> createOrderWrapper(order, myBtcBalance, actualBalance, totalAmounts))
-                         .sorted(comparing(OrderWrapper::getOrderPricePercentage));
+        Map<String, Order> lowestPriceOrders = openOrders.stream()
+                                                         .collect(toMap(Order::getSymbol,
+                                                                        identity(),
+                                                                        minBy(ORDER_PRICE),
+                                                                        LinkedHashMap::new));
+        Function<Order, OrderWrapper> wrapOrder = order -> createOrderWrapper(order, profitModel, totalAmounts);
+        Map<String, OrderWrapper> orderWrappers = new HashMap<>();
+        marketDataFetcher.fetchAll(lowestPriceOrders.values(), wrapOrder)
+                         .forEach(wrapper -> orderWrappers.put(wrapper.getOrder().getSymbol(), wrapper));
+        return lowestPriceOrders.keySet()
+                                .stream()
+                                .map(orderWrappers::get)
+                                .filter(Objects::nonNull)
+                                .sorted(comparing(OrderWrapper::getOrderPricePercentage));
     }
 
     private OrderWrapper createOrderWrapper(Order order,
-                                            BigDecimal myBtcBalance,
-                                            BigDecimal actualBalance,
+                                            ProfitModel profitModel,
                                             Map<String, BigDecimal> totalAmounts) {
         BigDecimal currentPrice = binanceService.getCurrentPrice(order.getSymbol());
         BigDecimal actualWaitingTime = calculateActualWaitingTime(order);
         BigDecimal orderPrice = new BigDecimal(order.getPrice());
         BigDecimal orderPricePercentage = calculatePricePercentage(currentPrice, orderPrice);
-        List<Candlestick> candleStickData = binanceService.getCandlesticks(order,
+        CandlestickSeries candleStickData = binanceService.getCandlesticks(order,
                                                                            actualWaitingTime,
                                                                            orderPricePercentage);
         return new OrderWrapper(order,
                                 orderPrice,
                                 currentPrice,
-                                myBtcBalance,
-                                actualBalance,
+                                profitModel,
                                 orderPricePercentage,
                                 totalAmounts,
                                 candleStickData,
@@ -108,9 +125,7 @@ public abstract class MainTradeProcessor {
     }
 
     private BigDecimal calculateActualWaitingTime(Order order) {
-        LocalDateTime date = ofInstant(ofEpochMilli(order.getTime()), systemDefault());
-        LocalDateTime now = now();
-        Duration duration = between(date, now);
+        Duration duration = between(Instant.ofEpochMilli(order.getTime()), clock.instant());
         double actualWaitingTimeDouble = (double) duration.get(SECONDS) / (double) 3600;
         return new BigDecimal(String.valueOf(actualWaitingTimeDouble), new MathContext(5));
     }
@@ -0,0 +1,140 @@
+package com.psw.cta.processor;
+
+import com.psw.cta.dto.OrderWrapper;
+import com.psw.cta.processor.trade.SplitProcessor;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Aggregates of open orders deciding the action of {@link LambdaTradeProcessor}. All aggregates are computed in a
+ * single pass over the orders when the snapshot is created, so every decision is answered without iterating the
+ * orders again. Conditions over all orders hold when there is no order, conditions over any order do not.
+ */
+final class PortfolioSnapshot {
+
+    private static final BigDecimal ONE_DAY_HOURS = new BigDecimal("24");
+    private static final BigDecimal SPLIT_ORDER_PRICE_PERCENTAGE = new BigDecimal("10");
+    private static final BigDecimal MIN_SPLIT_ORDER_BTC_AMOUNT = new BigDecimal("0.001");
+
+    private final int orderCount;
+    private final BigDecimal minOrderPricePercentage;
+    private final BigDecimal minActualWaitingTime;
+    private final BigDecimal maxRemainWaitingTime;
+    private final BigDecimal minNeededBtcAmount;
+    private final BigDecimal myBtcBalance;
+    private final int ordersToRebuy;
+    private final int ordersToRebuyWithHighPricePercentage;
+    private final int ordersToSplitWithOrderPricePercentageGreaterThan10;
+    private final int ordersWithHighNeededBtcAmount;
+
+    /**
+     * Creates snapshot of provided orders.
+     *
+     * @param orderWrappers             open orders
+     * @param myBtcBalance              current balance in BTC
+     * @param rebuyOrderPricePercentage order with order price percentage higher than this value is rebought when
+     *                                  there is enough BTC
+     * @param rebuyCondition            condition of order to be rebought
+     */
+    PortfolioSnapshot(List<OrderWrapper> orderWrappers,
+                      BigDecimal myBtcBalance,
+                      BigDecimal rebuyOrderPricePercentage,
+                      Predicate<OrderWrapper> rebuyCondition) {
+        BigDecimal minPricePercentage = null;
+        BigDecimal minWaitingTime = null;
+        BigDecimal maxRemainingTime = null;
+        BigDecimal minNeededAmount = null;
+        int toRebuy = 0;
+        int toRebuyWithHighPricePercentage = 0;
+        int toSplit = 0;
+        int withHighNeededAmount = 0;
+        for (OrderWrapper orderWrapper : orderWrappers) {
+            BigDecimal orderPricePercentage = orderWrapper.getOrderPricePercentage();
+            minPricePercentage = min(minPricePercentage, orderPricePercentage);
+            minWaitingTime = min(minWaitingTime, orderWrapper.getActualWaitingTime());
+            maxRemainingTime = max(maxRemainingTime, orderWrapper.getRemainWaitingTime());
+            minNeededAmount = min(minNeededAmount, orderWrapper.getNeededBtcAmount());
+            if (rebuyCondition.test(orderWrapper)) {
+                toRebuy++;
+            }
+            if (orderPricePercentage.compareTo(rebuyOrderPricePercentage) > 0
+                && myBtcBalance.compareTo(orderWrapper.getCurrentBtcAmount()) > 0) {
+                toRebuyWithHighPricePercentage++;
+            }
+            if (orderPricePercentage.compareTo(SPLIT_ORDER_PRICE_PERCENTAGE) > 0
+                && orderWrapper.getOrderBtcAmount().compareTo(MIN_SPLIT_ORDER_BTC_AMOUNT) > 0) {
+                toSplit++;
+            }
+            if (SplitProcessor.hasHighNeededBtcAmount(orderWrapper)) {
+                withHighNeededAmount++;
+            }
+        }
+        this.orderCount = orderWrappers.size();
+        this.minOrderPricePercentage = minPricePercentage;
+        this.minActualWaitingTime = minWaitingTime;
+        this.maxRemainWaitingTime = maxRemainingTime;
+        this.minNeededBtcAmount = minNeededAmount;
+        this.myBtcBalance = myBtcBalance;
+        this.ordersToRebuy = toRebuy;
+        this.ordersToRebuyWithHighPricePercentage = toRebuyWithHighPricePercentage;
+        this.ordersToSplitWithOrderPricePercentageGreaterThan10 = toSplit;
+        this.ordersWithHighNeededBtcAmount = withHighNeededAmount;
+    }
+
+    private static BigDecimal min(BigDecimal current, BigDecimal value) {
+        return current == null || value.compareTo(current) < 0 ? value : current;
+    }
+
+    private static BigDecimal max(BigDecimal current, BigDecimal value) {
+        return current == null || value.compareTo(current) > 0 ? value : current;
+    }
+
+    boolean allOrderPricePercentageHigherThan(BigDecimal percentage) {
+        return minOrderPricePercentage == null || minOrderPricePercentage.compareTo(percentage) > 0;
+    }
+
+    boolean allOlderThanDay() {
+        return minActualWaitingTime == null || minActualWaitingTime.compareTo(ONE_DAY_HOURS) > 0;
+    }
+
+    boolean allRemainWaitingTimeLessThanZero() {
+        return maxRemainWaitingTime == null || maxRemainWaitingTime.signum() < 0;
+    }
+
+    boolean allNeededBtcAmountBiggerThanMyBtcBalance() {
+        return minNeededBtcAmount == null || minNeededBtcAmount.compareTo(myBtcBalance) > 0;
+    }
+
+    boolean haveOrderToRebuy() {
+        return ordersToRebuy > 0;
+    }
+
+    boolean haveOrderToRebuyWithHighPricePercentage() {
+        return ordersToRebuyWithHighPricePercentage > 0;
+    }
+
+    boolean haveOrdersWithOrderPricePercentageGreaterThan10() {
+        return ordersToSplitWithOrderPricePercentageGreaterThan10 > 0;
+    }
+
+    boolean haveOrderWithHighNeededBtcAmount() {
+        return ordersWithHighNeededBtcAmount > 0;
+    }
+
+    @Override
+    public String toString() {
+        return "PortfolioSnapshot{"
+               + "orderCount=" + orderCount
+               + ", minOrderPricePercentage=" + minOrderPricePercentage
+               + ", minActualWaitingTime=" + minActualWaitingTime
+               + ", maxRemainWaitingTime=" + maxRemainWaitingTime
+               + ", minNeededBtcAmount=" + minNeededBtcAmount
+               + ", ordersToRebuy=" + ordersToRebuy
+               + ", ordersToRebuyWithHighPricePercentage=" + ordersToRebuyWithHighPricePercentage
+               + ", ordersToSplitWithOrderPricePercentageGreaterThan10="
+               + ordersToSplitWithOrderPricePercentageGreaterThan10
+               + ", ordersWithHighNeededBtcAmount=" + ordersWithHighNeededBtcAmount
+               + '}';
+    }
+}
@@ -0,0 +1,67 @@
+package com.psw.cta.processor;
+
+import static com.psw.cta.utils.Constants.MIN_PRICE_TO_SELL_PERCENTAGE;
+import static com.psw.cta.utils.Constants.TWO;
+import static java.math.RoundingMode.CEILING;
+
+import java.math.BigDecimal;
+
+/**
+ * Tunable thresholds of the trading strategy. Production trader uses {@link #DEFAULT}, backtests can evaluate the
+ * strategy with other values.
+ *
+ * @param minPriceToSellPercentage          minimal percentage between current price and price to sell of crypto
+ *                                          acquired by initial trading
+ * @param minQuoteVolume                    minimal 24 hour quote volume in BTC of crypto to be traded
+ * @param fibonacciSplitUnit                BTC amount of one unit of Fibonacci sequence used when order is split
+ * @param splitLowestOrderPricePercentage   order with the lowest order price percentage is split when order price
+ *                                          percentage of all orders is higher than this value
+ * @param rebuyOrderPricePercentage         order with order price percentage higher than this value is rebought
+ *                                          when there is enough BTC
+ * @param splitDelistedOrderPricePercentage delisted order with order price percentage lower than this value is split,
+ *                                          otherwise it is rebought or cancelled
+ */
+public record StrategyParameters(BigDecimal minPriceToSellPercentage,
+                                 BigDecimal minQuoteVolume,
+                                 BigDecimal fibonacciSplitUnit,
+                                 BigDecimal splitLowestOrderPricePercentage,
+                                 BigDecimal rebuyOrderPricePercentage,
+                                 BigDecimal splitDelistedOrderPricePercentage) {
+
+    /**
+     * Parameters of production trader.
+     */
+    public static final StrategyParameters DEFAULT = new StrategyParameters(MIN_PRICE_TO_SELL_PERCENTAGE,
+                                                                            new BigDecimal("0.5"),
+                                                                            new BigDecimal("0.0001"),
+                                                                            new BigDecimal("20"),
+                                                                            new BigDecimal("40"),
+                                                                            new BigDecimal("45"));
+
+    /**
+     * Validates parameters.
+     */
+    public StrategyParameters {
+        requirePositive("minPriceToSellPercentage", minPriceToSellPercentage);
+        requirePositive("minQuoteVolume", minQuoteVolume);
+        requirePositive("fibonacciSplitUnit", fibonacciSplitUnit);
+        requirePositive("splitLowestOrderPricePercentage", splitLowestOrderPricePercentage);
+        requirePositive("rebuyOrderPricePercentage", rebuyOrderPricePercentage);
+        requirePositive("splitDelistedOrderPricePercentage", splitDelistedOrderPricePercentage);
+    }
+
+    private static void requirePositive(String name, BigDecimal value) {
+        if (value == null || value.signum() <= 0) {
+            throw new IllegalArgumentException(name + " has to be positive, but was " + value);
+        }
+    }
+
+    /**
+     * Returns minimal difference between order price percentage and price to sell percentage of order to be rebought.
+     *
+     * @return half of minimal price to sell percentage
+     */
+    public BigDecimal minProfitPercentage() {
+        return minPriceToSellPercentage.divide(TWO, 8, CEILING);
+    }
+}
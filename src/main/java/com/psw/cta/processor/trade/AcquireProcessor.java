@@ -2,16 +2,21 @@ package com.psw.cta.processor.trade;
 
 import static com.psw.cta.dto.binance.CandlestickInterval.FIFTEEN_MINUTES;
 import static com.psw.cta.utils.Constants.ASSET_BTC;
-import static com.psw.cta.utils.Constants.MIN_PRICE_TO_SELL_PERCENTAGE;
 import static java.time.temporal.ChronoUnit.MINUTES;
+import static java.util.stream.Collectors.toMap;
 
 import com.amazonaws.services.lambda.runtime.LambdaLogger;
 import com.psw.cta.api.BinanceApi;
 import com.psw.cta.dto.Crypto;
-import com.psw.cta.dto.binance.Candlestick;
+import com.psw.cta.dto.binance.CandlestickSeries;
+import com.psw.cta.processor.StrategyParameters;
 import com.psw.cta.service.BinanceService;
+import com.psw.cta.service.MarketDataFetcher;
+import com.psw.cta.service.TradingExecutors;
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.tuple.Pair;
 
 /**
  * Service for acquire crypto.
@@ -19,16 +24,29 @@ import java.util.List;
 public class AcquireProcessor {
 
     private final BinanceService binanceService;
+    private final MarketDataFetcher marketDataFetcher;
+    private final TradingExecutors tradingExecutors;
+    private final double minPriceToSellPercentage;
     private final LambdaLogger logger;
 
     /**
      * Default constructor.
      *
-     * @param binanceService service for {@link BinanceApi}
-     * @param logger         logger
+     * @param binanceService    service for {@link BinanceApi}
+     * @param marketDataFetcher engine fetching candlesticks of cryptos concurrently
+     * @param tradingExecutors  executors providing pool for calculation of crypto data
+     * @param parameters        thresholds of the strategy
+     * @param logger            logger
      */
-    public AcquireProcessor(BinanceService binanceService, LambdaLogger logger) {
+    public AcquireProcessor(BinanceService binanceService,
+                            MarketDataFetcher marketDataFetcher,
+                            TradingExecutors tradingExecutors,
+                            StrategyParameters parameters,
+                            LambdaLogger logger) {
         this.binanceService = binanceService;
+        this.marketDataFetcher = marketDataFetcher;
+        this.tradingExecutors = tradingExecutors;
+        this.minPriceToSellPercentage = parameters.minPriceToSellPercentage().doubleValue();
         this.logger = logger;
     }
 
@@ -39,20 +57,26 @@ public class AcquireProcessor {
      */
     public void initTrading(List<Crypto> cryptos) {
         logger.log("***** ***** Initial trading ***** *****");
-        cryptos.stream()
-               .map(crypto -> {
-                   List<Candlestick> candleStickData = binanceService.getCandleStickData(
-                       crypto.getSymbolInfo().getSymbol(),
-                       FIFTEEN_MINUTES,
-                       96L * 15L,
-                       MINUTES);
-                   return crypto.calculateDataFromCandlesticks(candleStickData);
-               })
-               .filter(crypto -> crypto.getLastThreeHighAverage().compareTo(crypto.getPreviousThreeHighAverage()) > 0)
-               .filter(crypto -> crypto.getPriceToSellPercentage().compareTo(MIN_PRICE_TO_SELL_PERCENTAGE) > 0)
-               .filter(crypto -> crypto.getSumPercentageDifferences1h().compareTo(new BigDecimal("4")) < 0)
-               .filter(crypto -> crypto.getSumPercentageDifferences10h().compareTo(new BigDecimal("400")) < 0)
-               .forEach(this::acquireCrypto);
+        Map<Crypto, CandlestickSeries> candlesticks = marketDataFetcher.fetchAll(cryptos, this::fetchCandlesticks)
+                                                                       .stream()
+                                                                       .collect(toMap(Pair::getLeft, Pair::getRight));
+        List<Crypto> cryptosToAcquire = tradingExecutors.computeOnCpu(
+            () -> cryptos.parallelStream()
+                         .filter(candlesticks::containsKey)
+                         .map(crypto -> crypto.calculateDataFromCandlesticks(candlesticks.get(crypto)))
+                         .filter(crypto -> crypto.getLastThreeHighAverage() > crypto.getPreviousThreeHighAverage())
+                         .filter(crypto -> crypto.getPriceToSellPercentage() > minPriceToSellPercentage)
+                         .filter(crypto -> crypto.getSumPercentageDifferences1h() < 4)
+                         .filter(crypto -> crypto.getSumPercentageDifferences10h() < 400)
+                         .toList());
+        cryptosToAcquire.forEach(this::acquireCrypto);
+    }
+
+    private Pair<Crypto, CandlestickSeries> fetchCandlesticks(Crypto crypto) {
+        return Pair.of(crypto, binanceService.getCandleStickData(crypto.getSymbolInfo(),
+                                                                 FIFTEEN_MINUTES,
+                                                                 96L * 15L,
+                                                                 MINUTES));
     }
 
     private void acquireCrypto(Crypto crypto) {
@@ -6,6 +6,7 @@ import com.psw.cta.dto.OrderWrapper;
 import com.psw.cta.dto.binance.ExchangeInfo;
 import com.psw.cta.dto.binance.SymbolInfo;
 import com.psw.cta.service.BinanceService;
+import com.psw.cta.trace.Tracer;
 import java.math.BigDecimal;
 import java.util.Comparator;
 import java.util.List;
@@ -16,16 +17,19 @@ import java.util.List;
 public class CancelProcessor {
 
     private final BinanceService binanceService;
+    private final Tracer tracer;
     private final LambdaLogger logger;
 
     /**
      * Default constructor.
      *
      * @param binanceService service for {@link BinanceApi}
+     * @param tracer         tracer recording every cancellation as a span
      * @param logger         logger
      */
-    public CancelProcessor(BinanceService binanceService, LambdaLogger logger) {
+    public CancelProcessor(BinanceService binanceService, Tracer tracer, LambdaLogger logger) {
         this.binanceService = binanceService;
+        this.tracer = tracer;
         this.logger = logger;
     }
 
@@ -50,12 +54,15 @@ public class CancelProcessor {
      * @param exchangeInfo  exchange info containing symbol information
      */
     public void cancelAndSell(OrderWrapper orderToCancel, ExchangeInfo exchangeInfo) {
-        // 1. cancel existing order
-        binanceService.cancelOrder(orderToCancel);
+        String symbol = orderToCancel.getOrder().getSymbol();
+        try (Tracer.Span ignored = tracer.span("CancelProcessor.cancelAndSell " + symbol)) {
+            // 1. cancel existing order
+            binanceService.cancelOrder(orderToCancel);
 
-        // 2. sell cancelled order
-        BigDecimal currentQuantity = orderToCancel.getQuantity();
-        SymbolInfo symbolInfoOfSellOrder = exchangeInfo.getSymbolInfo(orderToCancel.getOrder().getSymbol());
-        binanceService.sellAvailableBalance(symbolInfoOfSellOrder, currentQuantity);
+            // 2. sell cancelled order
+            BigDecimal currentQuantity = orderToCancel.getQuantity();
+            SymbolInfo symbolInfoOfSellOrder = exchangeInfo.getSymbolInfo(symbol);
+            binanceService.sellAvailableBalance(symbolInfoOfSellOrder, currentQuantity);
+        }
     }
 }
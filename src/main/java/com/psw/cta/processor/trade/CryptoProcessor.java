@@ -9,10 +9,12 @@ import com.amazonaws.services.lambda.runtime.LambdaLogger;
 import com.psw.cta.api.BinanceApi;
 import com.psw.cta.dto.Crypto;
 import com.psw.cta.dto.binance.ExchangeInfo;
-import com.psw.cta.dto.binance.TickerStatistics;
+import com.psw.cta.processor.StrategyParameters;
 import com.psw.cta.service.BinanceService;
+import com.psw.cta.service.MarketDataFetcher;
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service providing functionality to get cryptos.
@@ -20,16 +22,25 @@ import java.util.List;
 public class CryptoProcessor {
 
     private final BinanceService binanceService;
+    private final MarketDataFetcher marketDataFetcher;
+    private final double minQuoteVolume;
     private final LambdaLogger logger;
 
     /**
      * Default constructor.
      *
-     * @param binanceService service for {@link BinanceApi}
-     * @param logger         logger
+     * @param binanceService    service for {@link BinanceApi}
+     * @param marketDataFetcher engine fetching market data of cryptos concurrently
+     * @param parameters        thresholds of the strategy
+     * @param logger            logger
      */
-    public CryptoProcessor(BinanceService binanceService, LambdaLogger logger) {
+    public CryptoProcessor(BinanceService binanceService,
+                           MarketDataFetcher marketDataFetcher,
+                           StrategyParameters parameters,
+                           LambdaLogger logger) {
         this.binanceService = binanceService;
+        this.marketDataFetcher = marketDataFetcher;
+        this.minQuoteVolume = parameters.minQuoteVolume().doubleValue();
         this.logger = logger;
     }
 
@@ -42,31 +53,36 @@ public class CryptoProcessor {
      */
     public List<Crypto> getCryptos(ExchangeInfo exchangeInfo, List<String> allForbiddenPairs) {
         logger.log("Get all cryptos");
-        List<TickerStatistics> tickers = binanceService.getAll24hTickers();
-        List<Crypto> cryptos = exchangeInfo.getSymbols()
-                                           .parallelStream()
-                                           .map(Crypto::new)
-                                           .filter(crypto -> crypto.getSymbolInfo().getSymbol().endsWith(ASSET_BTC))
-                                           .filter(crypto -> !allForbiddenPairs.contains(crypto.getSymbolInfo()
-                                                                                               .getSymbol()))
-                                           .filter(crypto -> crypto.getSymbolInfo().getStatus() == TRADING)
-                                           .map(crypto -> crypto.calculateVolume(tickers))
-                                           .filter(crypto -> crypto.getVolume().compareTo(new BigDecimal("0.5")) > 0)
-                                           .map(crypto -> crypto.setThreeMonthsCandleStickData(
-                                               binanceService.getCandleStickData(
-                                                   crypto.getSymbolInfo().getSymbol(),
-                                                   DAILY,
-                                                   90L,
-                                                   DAYS)))
-                                           .filter(crypto -> crypto.getThreeMonthsCandleStickData().size() >= 90)
-                                           .map(crypto -> crypto.setCurrentPrice(
-                                               binanceService.getCurrentPrice(crypto.getSymbolInfo()
-                                                                                    .getSymbol())))
-                                           .filter(
-                                               crypto -> crypto.getCurrentPrice().compareTo(new BigDecimal("0.000001"))
-                                                         > 0)
-                                           .toList();
+        Map<String, Double> quoteVolumes = binanceService.getQuoteVolumes();
+        List<Crypto> candidates = exchangeInfo.getSymbols()
+                                              .stream()
+                                              .map(Crypto::new)
+                                              .filter(crypto -> crypto.getSymbolInfo().getSymbol().endsWith(ASSET_BTC))
+                                              .filter(crypto -> !allForbiddenPairs.contains(crypto.getSymbolInfo()
+                                                                                                  .getSymbol()))
+                                              .filter(crypto -> crypto.getSymbolInfo().getStatus() == TRADING)
+                                              .map(crypto -> crypto.calculateVolume(quoteVolumes))
+                                              .filter(crypto -> crypto.getVolume() > minQuoteVolume)
+                                              .toList();
+        List<Crypto> cryptos = marketDataFetcher.fetchAll(candidates, this::fetchMarketData)
+                                                .stream()
+                                                .filter(crypto -> crypto.getThreeMonthsCandleStickData().size() >= 90)
+                                                .filter(crypto -> crypto.getCurrentPrice()
+                                                                        .compareTo(new BigDecimal("0.000001")) > 0)
+                                                .toList();
         logger.log("Cryptos count: " + cryptos.size());
         return cryptos;
     }
+
+    private Crypto fetchMarketData(Crypto crypto) {
+        String symbol = crypto.getSymbolInfo().getSymbol();
+        crypto.setThreeMonthsCandleStickData(binanceService.getCandleStickData(crypto.getSymbolInfo(),
+                                                                               DAILY,
+                                                                               90L,
+                                                                               DAYS));
+        if (crypto.getThreeMonthsCandleStickData().size() < 90) {
+            return crypto;
+        }
+        return crypto.setCurrentPrice(binanceService.getCurrentPrice(symbol));
+    }
 }
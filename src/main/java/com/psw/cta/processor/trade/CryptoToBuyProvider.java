@@ -1,7 +1,6 @@
 package com.psw.cta.processor.trade;
 
-import static java.math.BigDecimal.ZERO;
-import static java.util.Comparator.comparing;
+import static java.util.Comparator.comparingDouble;
 
 import com.psw.cta.dto.Crypto;
 import java.util.List;
@@ -26,8 +25,8 @@ public interface CryptoToBuyProvider {
         return cryptos.stream()
                       .filter(crypto -> !existingSymbols.contains(crypto.getSymbolInfo().getSymbol()))
                       .map(Crypto::calculateSlopeData)
-                      .filter(crypto -> crypto.getPriceCountToSlope().compareTo(ZERO) < 0)
-                      .sorted(comparing(Crypto::getPriceCountToSlope).reversed())
+                      .filter(crypto -> crypto.getPriceCountToSlope() < 0)
+                      .sorted(comparingDouble(Crypto::getPriceCountToSlope).reversed())
                       .toList();
     }
 }
@@ -1,7 +1,6 @@
 package com.psw.cta.processor.trade;
 
 import static com.psw.cta.utils.Constants.ASSET_BTC;
-import static com.psw.cta.utils.Constants.MIN_PROFIT_PERCENTAGE;
 
 import com.amazonaws.services.lambda.runtime.LambdaLogger;
 import com.psw.cta.api.BinanceApi;
@@ -9,7 +8,10 @@ import com.psw.cta.dto.OrderWrapper;
 import com.psw.cta.dto.binance.ExchangeInfo;
 import com.psw.cta.dto.binance.NewOrderResponse;
 import com.psw.cta.dto.binance.SymbolInfo;
+import com.psw.cta.logging.AsyncLogger;
+import com.psw.cta.processor.StrategyParameters;
 import com.psw.cta.service.BinanceService;
+import com.psw.cta.trace.Tracer;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.function.BiPredicate;
@@ -20,16 +22,25 @@ import java.util.function.BiPredicate;
 public class RepeatTradingProcessor {
 
     private final BinanceService binanceService;
+    private final Tracer tracer;
+    private final BigDecimal minProfitPercentage;
     private final LambdaLogger logger;
 
     /**
      * Default constructor.
      *
      * @param binanceService service for {@link BinanceApi}
+     * @param tracer         tracer recording every rebuy as a span
+     * @param parameters     thresholds of the strategy
      * @param logger         logger
      */
-    public RepeatTradingProcessor(BinanceService binanceService, LambdaLogger logger) {
+    public RepeatTradingProcessor(BinanceService binanceService,
+                                  Tracer tracer,
+                                  StrategyParameters parameters,
+                                  LambdaLogger logger) {
         this.binanceService = binanceService;
+        this.tracer = tracer;
+        this.minProfitPercentage = parameters.minProfitPercentage();
         this.logger = logger;
     }
 
@@ -76,8 +87,15 @@ public class RepeatTradingProcessor {
     public void rebuySingleOrder(OrderWrapper orderWrapper,
                                  BiPredicate<BinanceService, OrderWrapper> hasBtcPredicate,
                                  ExchangeInfo exchangeInfo) {
+        tracer.trace("RepeatTradingProcessor.rebuySingleOrder " + orderWrapper.getOrder().getSymbol(),
+                     () -> rebuy(orderWrapper, hasBtcPredicate, exchangeInfo));
+    }
+
+    private void rebuy(OrderWrapper orderWrapper,
+                       BiPredicate<BinanceService, OrderWrapper> hasBtcPredicate,
+                       ExchangeInfo exchangeInfo) {
         logger.log("***** ***** Repeat trading ***** *****");
-        logger.log("OrderWrapper: " + orderWrapper);
+        AsyncLogger.debug(logger, () -> "OrderWrapper: " + orderWrapper);
 
 
         // 0. Check if still have enough balance
@@ -115,7 +133,7 @@ public class RepeatTradingProcessor {
     private boolean hasMinProfit(OrderWrapper orderWrapper) {
         return orderWrapper.getOrderPricePercentage()
                            .subtract(orderWrapper.getPriceToSellPercentage())
-                           .compareTo(MIN_PROFIT_PERCENTAGE) > 0;
+                           .compareTo(minProfitPercentage) > 0;
     }
 
     private boolean isRemainingTimeLessZero(OrderWrapper orderWrapper) {
@@ -3,6 +3,7 @@ package com.psw.cta.processor.trade;
 import static com.psw.cta.utils.Constants.FIBONACCI_SEQUENCE;
 import static java.math.BigDecimal.ZERO;
 import static java.math.RoundingMode.CEILING;
+import static java.math.RoundingMode.FLOOR;
 import static java.util.Comparator.comparing;
 
 import com.amazonaws.services.lambda.runtime.LambdaLogger;
@@ -13,7 +14,9 @@ import com.psw.cta.dto.binance.ExchangeInfo;
 import com.psw.cta.dto.binance.SymbolInfo;
 import com.psw.cta.exception.AcceptedSplitCancellationException;
 import com.psw.cta.exception.BinanceApiException;
+import com.psw.cta.processor.StrategyParameters;
 import com.psw.cta.service.BinanceService;
+import com.psw.cta.trace.Tracer;
 import java.math.BigDecimal;
 import java.util.Comparator;
 import java.util.List;
@@ -26,17 +29,30 @@ import java.util.stream.Stream;
  */
 public class SplitProcessor implements CryptoToBuyProvider {
 
+    private static final BigDecimal MAX_NEEDED_BTC_AMOUNT = new BigDecimal("0.02");
+    private static final BigDecimal NEEDED_BTC_AMOUNT_DECREASE_PER_PERCENT = new BigDecimal("0.0004");
+    private static final BigDecimal MIN_NEEDED_BTC_AMOUNT = new BigDecimal("0.002");
+
     private final BinanceService binanceService;
+    private final Tracer tracer;
+    private final BigDecimal fibonacciSplitUnit;
     private final LambdaLogger logger;
 
     /**
      * Default constructor.
      *
      * @param binanceService service for {@link BinanceApi}
+     * @param tracer         tracer recording every split as a span
+     * @param parameters     thresholds of the strategy
      * @param logger         logger
      */
-    public SplitProcessor(BinanceService binanceService, LambdaLogger logger) {
+    public SplitProcessor(BinanceService binanceService,
+                          Tracer tracer,
+                          StrategyParameters parameters,
+                          LambdaLogger logger) {
         this.binanceService = binanceService;
+        this.tracer = tracer;
+        this.fibonacciSplitUnit = parameters.fibonacciSplitUnit();
         this.logger = logger;
     }
 
@@ -90,9 +106,9 @@ public class SplitProcessor implements CryptoToBuyProvider {
      * @return true if neededBtcAmount is above the threshold
      */
     public static boolean hasHighNeededBtcAmount(OrderWrapper orderWrapper) {
-        BigDecimal threshold = new BigDecimal("0.02")
-            .subtract(new BigDecimal("0.0004").multiply(orderWrapper.getOrderPricePercentage()))
-            .max(new BigDecimal("0.002"));
+        BigDecimal threshold = MAX_NEEDED_BTC_AMOUNT
+            .subtract(NEEDED_BTC_AMOUNT_DECREASE_PER_PERCENT.multiply(orderWrapper.getOrderPricePercentage()))
+            .max(MIN_NEEDED_BTC_AMOUNT);
         return orderWrapper.getNeededBtcAmount().compareTo(threshold) > 0;
     }
 
@@ -198,6 +214,14 @@ public class SplitProcessor implements CryptoToBuyProvider {
                        ExchangeInfo exchangeInfo,
                        List<Crypto> cryptos,
                        Set<String> existingSymbols) {
+        tracer.trace("SplitProcessor.split " + orderToCancel.getOrder().getSymbol(),
+                     () -> splitOrder(orderToCancel, exchangeInfo, cryptos, existingSymbols));
+    }
+
+    private void splitOrder(OrderWrapper orderToCancel,
+                            ExchangeInfo exchangeInfo,
+                            List<Crypto> cryptos,
+                            Set<String> existingSymbols) {
         logger.log("***** ***** Splitting amounts ***** *****");
 
         // 0. Check order still exist
@@ -239,11 +263,11 @@ public class SplitProcessor implements CryptoToBuyProvider {
             logger.log("No more cryptos to buy, stopping split.");
             return;
         }
-        BigDecimal minBtcAmountToTrade = new BigDecimal("0.0001");
+        BigDecimal minBtcAmountToTrade = fibonacciSplitUnit;
         logger.log("minBtcAmountToTrade: " + minBtcAmountToTrade);
         BigDecimal quarterOfBtcAmountToSpend = btcAmountToSpend.divide(new BigDecimal("4"), 8, CEILING);
         logger.log("quarterOfBtcAmountToSpend: " + quarterOfBtcAmountToSpend);
-        BigDecimal fibonacciAmount = quarterOfBtcAmountToSpend.multiply(new BigDecimal("10000"));
+        BigDecimal fibonacciAmount = quarterOfBtcAmountToSpend.divide(fibonacciSplitUnit, 8, FLOOR);
         logger.log("fibonacciAmount: " + fibonacciAmount);
         BigDecimal fibonacciNumber = Stream.of(FIBONACCI_SEQUENCE)
                                            .filter(number -> number.compareTo(fibonacciAmount) < 0)
@@ -261,7 +285,7 @@ public class SplitProcessor implements CryptoToBuyProvider {
                                     cryptosToBuy,
                                     btcAmountToSpend.subtract(fibonacciAmountToSpend),
                                     cryptoToBuyIndex + 1);
-        } else if (btcAmountToSpend.compareTo(new BigDecimal("0.0002")) > 0
+        } else if (btcAmountToSpend.compareTo(minBtcAmountToTrade.multiply(new BigDecimal("2"))) > 0
                    && cryptoToBuyIndex < cryptosToBuy.size() - 1) {
             logger.log("Splitting for remaining BTC");
             Crypto cryptoToBuy = cryptosToBuy.get(cryptoToBuyIndex);
@@ -0,0 +1,101 @@
+package com.psw.cta.replay;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * One request and response pair of Binance API captured by {@link RecordingInterceptor}.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class RecordedExchange {
+
+    private static final Set<String> TIME_DEPENDENT_PARAMETERS = Set.of("timestamp",
+                                                                        "signature",
+                                                                        "recvWindow",
+                                                                        "startTime",
+                                                                        "endTime");
+
+    private String method;
+    private String path;
+    private String query;
+    private int code;
+    private String usedWeight;
+    private String body;
+    private long latencyMillis;
+
+    /**
+     * Creates key identifying request regardless of the time it was sent at. Parameters depending on time of the
+     * request (timestamp, signature, receiving window and time ranges) are left out.
+     *
+     * @param method HTTP method
+     * @param path   path of request
+     * @param query  raw query of request, can be null
+     * @return key of request
+     */
+    public static String createKey(String method, String path, String query) {
+        String stableQuery = query == null ? "" : Arrays.stream(query.split("&"))
+                                                        .filter(parameter -> !TIME_DEPENDENT_PARAMETERS.contains(
+                                                            parameter.split("=")[0]))
+                                                        .sorted()
+                                                        .collect(Collectors.joining("&"));
+        return method + " " + path + "?" + stableQuery;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public void setCode(int code) {
+        this.code = code;
+    }
+
+    public String getUsedWeight() {
+        return usedWeight;
+    }
+
+    public void setUsedWeight(String usedWeight) {
+        this.usedWeight = usedWeight;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public void setBody(String body) {
+        this.body = body;
+    }
+
+    public long getLatencyMillis() {
+        return latencyMillis;
+    }
+
+    public void setLatencyMillis(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+}
@@ -0,0 +1,86 @@
+package com.psw.cta.replay;
+
+import static com.psw.cta.utils.BinanceApiConstants.USED_WEIGHT_HEADER;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An interceptor capturing every request and response pair into an archive. The archive holds one JSON serialized
+ * {@link RecordedExchange} per line, so it can be replayed later without access to the exchange. Signatures of signed
+ * requests are not captured. Failure of recording is logged and never fails the recorded request.
+ */
+public class RecordingInterceptor implements Interceptor {
+
+    private final Path archive;
+    private final LambdaLogger logger;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Default constructor.
+     *
+     * @param archive file where captured requests are appended
+     * @param logger  logger
+     */
+    public RecordingInterceptor(Path archive, LambdaLogger logger) {
+        this.archive = archive;
+        this.logger = logger;
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        Response response = chain.proceed(request);
+        record(request, response);
+        return response;
+    }
+
+    private void record(Request request, Response response) {
+        try {
+            RecordedExchange recordedExchange = new RecordedExchange();
+            recordedExchange.setMethod(request.method());
+            recordedExchange.setPath(request.url().encodedPath());
+            recordedExchange.setQuery(removeSignature(request.url().encodedQuery()));
+            recordedExchange.setCode(response.code());
+            recordedExchange.setUsedWeight(response.header(USED_WEIGHT_HEADER));
+            recordedExchange.setBody(response.peekBody(Long.MAX_VALUE).string());
+            recordedExchange.setLatencyMillis(response.receivedResponseAtMillis() - response.sentRequestAtMillis());
+            append(objectMapper.writeValueAsString(recordedExchange) + System.lineSeparator());
+        } catch (IOException e) {
+            logger.log("Failed to record request " + request.url().encodedPath() + ": " + e);
+        }
+    }
+
+    private void append(String line) throws IOException {
+        lock.lock();
+        try {
+            Files.writeString(archive, line, UTF_8, CREATE, APPEND);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private String removeSignature(String query) {
+        if (query == null) {
+            return null;
+        }
+        return Arrays.stream(query.split("&"))
+                     .filter(parameter -> !parameter.startsWith("signature="))
+                     .collect(Collectors.joining("&"));
+    }
+}
@@ -2,12 +2,14 @@ package com.psw.cta.service;
 
 import static com.psw.cta.dto.binance.NewOrderResponseType.RESULT;
 import static com.psw.cta.utils.BinanceApiConstants.DEFAULT_RECEIVING_WINDOW;
+import static com.psw.cta.utils.BinanceApiConstants.USED_WEIGHT_HEADER;
 import static java.lang.System.currentTimeMillis;
 
 import com.amazonaws.services.lambda.runtime.LambdaLogger;
 import com.psw.cta.api.BinanceApi;
 import com.psw.cta.dto.binance.Account;
-import com.psw.cta.dto.binance.Candlestick;
+import com.psw.cta.dto.binance.BookTicker;
+import com.psw.cta.dto.binance.CandlestickSeries;
 import com.psw.cta.dto.binance.DelistResponse;
 import com.psw.cta.dto.binance.ExchangeInfo;
 import com.psw.cta.dto.binance.NewOrderResponse;
@@ -19,6 +21,8 @@ import com.psw.cta.dto.binance.TickerStatistics;
 import com.psw.cta.dto.binance.TimeInForce;
 import com.psw.cta.dto.binance.Trade;
 import com.psw.cta.exception.BinanceApiException;
+import com.psw.cta.metrics.MetricsRegistry;
+import com.psw.cta.trace.Tracer;
 import java.io.IOException;
 import java.util.List;
 import okhttp3.ResponseBody;
@@ -31,18 +35,45 @@ import retrofit2.Response;
  */
 public class BinanceClient {
 
+    private static final int EXCHANGE_INFO_WEIGHT = 20;
+    private static final int KLINES_WEIGHT = 2;
+    private static final int ALL_TICKERS_WEIGHT = 80;
+    private static final int ALL_BOOK_TICKERS_WEIGHT = 4;
+    private static final int BOOK_TICKER_WEIGHT = 2;
+    private static final int NEW_ORDER_WEIGHT = 1;
+    private static final int ORDER_STATUS_WEIGHT = 4;
+    private static final int CANCEL_ORDER_WEIGHT = 1;
+    private static final int ALL_OPEN_ORDERS_WEIGHT = 80;
+    private static final int ACCOUNT_WEIGHT = 20;
+    private static final int ORDER_TRADES_WEIGHT = 5;
+    private static final int SAPI_WEIGHT = 0;
+    private static final String ACQUIRE_WEIGHT_SPAN = "acquire weight";
+
     private final BinanceApi binanceApi;
+    private final RequestWeightLimiter requestWeightLimiter;
+    private final MetricsRegistry metricsRegistry;
+    private final Tracer tracer;
     private final LambdaLogger logger;
 
     /**
      * Creates a new BinanceClient instance with authentication credentials and logging.
      *
-     * @param logger     Logger for recording client operations
-     * @param binanceApi Retrofit interface for Binance API
+     * @param logger               Logger for recording client operations
+     * @param binanceApi           Retrofit interface for Binance API
+     * @param requestWeightLimiter Limiter guarding request weight budget of Binance API
+     * @param metricsRegistry      Registry recording latency, weight and errors of every call
+     * @param tracer               Tracer recording every call as a span
      */
-    public BinanceClient(LambdaLogger logger, BinanceApi binanceApi) {
+    public BinanceClient(LambdaLogger logger,
+                         BinanceApi binanceApi,
+                         RequestWeightLimiter requestWeightLimiter,
+                         MetricsRegistry metricsRegistry,
+                         Tracer tracer) {
         this.logger = logger;
         this.binanceApi = binanceApi;
+        this.requestWeightLimiter = requestWeightLimiter;
+        this.metricsRegistry = metricsRegistry;
+        this.tracer = tracer;
     }
 
     /**
@@ -51,7 +82,7 @@ public class BinanceClient {
      * @return Exchange information containing trading rules and symbol details
      */
     public ExchangeInfo getExchangeInfo() {
-        return executeCall(binanceApi.getExchangeInfo("SPOT"));
+        return executeCall(binanceApi.getExchangeInfo("SPOT"), EXCHANGE_INFO_WEIGHT);
     }
 
     /**
@@ -63,8 +94,26 @@ public class BinanceClient {
      * @param endTime    End time in milliseconds
      * @return List of candlestick data
      */
-    public List<Candlestick> getCandlestickBars(String symbol, String intervalId, Long startTime, Long endTime) {
-        return executeCall(binanceApi.getCandlestickBars(symbol, intervalId, null, startTime, endTime));
+    public CandlestickSeries getCandlestickBars(String symbol, String intervalId, Long startTime, Long endTime) {
+        return executeCall(binanceApi.getCandlestickBars(symbol, intervalId, null, startTime, endTime), KLINES_WEIGHT);
+    }
+
+    /**
+     * Retrieves a limited number of candlestick/kline data for a symbol within a specified time range.
+     *
+     * @param symbol     The trading pair symbol
+     * @param intervalId Candlestick interval identifier
+     * @param limit      Maximum number of candlesticks to return
+     * @param startTime  Start time in milliseconds
+     * @param endTime    End time in milliseconds
+     * @return List of candlestick data
+     */
+    public CandlestickSeries getCandlestickBars(String symbol,
+                                                String intervalId,
+                                                Integer limit,
+                                                Long startTime,
+                                                Long endTime) {
+        return executeCall(binanceApi.getCandlestickBars(symbol, intervalId, limit, startTime, endTime), KLINES_WEIGHT);
     }
 
     /**
@@ -75,8 +124,8 @@ public class BinanceClient {
      * @param limit      Maximum number of candlesticks to return
      * @return List of candlestick data
      */
-    public List<Candlestick> getCandlestickBars(String symbol, String intervalId, Integer limit) {
-        return executeCall(binanceApi.getCandlestickBars(symbol, intervalId, limit, null, null));
+    public CandlestickSeries getCandlestickBars(String symbol, String intervalId, Integer limit) {
+        return executeCall(binanceApi.getCandlestickBars(symbol, intervalId, limit, null, null), KLINES_WEIGHT);
     }
 
     /**
@@ -85,7 +134,26 @@ public class BinanceClient {
      * @return List of 24-hour price statistics for all symbols
      */
     public List<TickerStatistics> getAll24HrPriceStatistics() {
-        return executeCall(binanceApi.getAll24HrPriceStatistics());
+        return executeCall(binanceApi.getAll24HrPriceStatistics(), ALL_TICKERS_WEIGHT);
+    }
+
+    /**
+     * Retrieves best price and quantity on the order book for all symbols.
+     *
+     * @return List of book tickers for all symbols
+     */
+    public List<BookTicker> getBookTickers() {
+        return executeCall(binanceApi.getBookTickers(), ALL_BOOK_TICKERS_WEIGHT);
+    }
+
+    /**
+     * Retrieves best price and quantity on the order book for a symbol.
+     *
+     * @param symbol The trading pair symbol
+     * @return Book ticker of the symbol
+     */
+    public BookTicker getBookTicker(String symbol) {
+        return executeCall(binanceApi.getBookTicker(symbol), BOOK_TICKER_WEIGHT);
     }
 
     /**
@@ -113,7 +181,8 @@ public class BinanceClient {
                                                price,
                                                RESULT,
                                                DEFAULT_RECEIVING_WINDOW,
-                                               currentTimeMillis()));
+                                               currentTimeMillis()),
+                           NEW_ORDER_WEIGHT);
     }
 
     /**
@@ -123,7 +192,8 @@ public class BinanceClient {
      * @param orderId ID of the order to check
      */
     public void getOrderStatus(String symbol, Long orderId) {
-        executeCall(binanceApi.getOrderStatus(symbol, orderId, DEFAULT_RECEIVING_WINDOW, currentTimeMillis()));
+        executeCall(binanceApi.getOrderStatus(symbol, orderId, DEFAULT_RECEIVING_WINDOW, currentTimeMillis()),
+                    ORDER_STATUS_WEIGHT);
     }
 
     /**
@@ -133,7 +203,8 @@ public class BinanceClient {
      * @param clientOrderId Client order ID to cancel
      */
     public void cancelOrder(String symbol, String clientOrderId) {
-        executeCall(binanceApi.cancelOrder(symbol, clientOrderId, DEFAULT_RECEIVING_WINDOW, currentTimeMillis()));
+        executeCall(binanceApi.cancelOrder(symbol, clientOrderId, DEFAULT_RECEIVING_WINDOW, currentTimeMillis()),
+                    CANCEL_ORDER_WEIGHT);
     }
 
     /**
@@ -142,7 +213,8 @@ public class BinanceClient {
      * @return List of currently open orders
      */
     public List<Order> getOpenOrders() {
-        return executeCall(binanceApi.getOpenOrders(DEFAULT_RECEIVING_WINDOW, currentTimeMillis()));
+        return executeCall(binanceApi.getOpenOrders(DEFAULT_RECEIVING_WINDOW, currentTimeMillis()),
+                           ALL_OPEN_ORDERS_WEIGHT);
     }
 
     /**
@@ -151,7 +223,7 @@ public class BinanceClient {
      * @return Account information including balances
      */
     public Account getAccount() {
-        return executeCall(binanceApi.getAccount(DEFAULT_RECEIVING_WINDOW, currentTimeMillis()));
+        return executeCall(binanceApi.getAccount(DEFAULT_RECEIVING_WINDOW, currentTimeMillis()), ACCOUNT_WEIGHT);
     }
 
     /**
@@ -162,7 +234,7 @@ public class BinanceClient {
      * @return OrderBook containing bids and asks
      */
     public OrderBook getOrderBook(String symbol, Integer limit) {
-        return executeCall(binanceApi.getOrderBook(symbol, limit));
+        return executeCall(binanceApi.getOrderBook(symbol, limit), getOrderBookWeight(limit));
     }
 
     /**
@@ -173,7 +245,7 @@ public class BinanceClient {
      * @return List of trades for the specified order
      */
     public List<Trade> getMyTrades(String symbol, String orderId) {
-        return executeCall(binanceApi.getMyTrades(symbol, orderId, currentTimeMillis()));
+        return executeCall(binanceApi.getMyTrades(symbol, orderId, currentTimeMillis()), ORDER_TRADES_WEIGHT);
     }
 
     /**
@@ -182,17 +254,41 @@ public class BinanceClient {
      * @return List of delist responses containing delisting schedule information
      */
     public List<DelistResponse> getDelistSchedule() {
-        return executeCall(binanceApi.getDelistSchedule());
+        return executeCall(binanceApi.getDelistSchedule(), SAPI_WEIGHT);
+    }
+
+    /**
+     * Persists state of request weight budget, so the next invocation starts with weight left by this one.
+     */
+    public void flushRequestWeight() {
+        requestWeightLimiter.flush();
+    }
+
+    private int getOrderBookWeight(Integer limit) {
+        if (limit == null || limit <= 100) {
+            return 5;
+        } else if (limit <= 500) {
+            return 25;
+        } else if (limit <= 1000) {
+            return 50;
+        }
+        return 250;
     }
 
-    private <T> T executeCall(Call<T> call) {
+    private <T> T executeCall(Call<T> call, int weight) {
+        String endpoint = call.request().url().encodedPath();
+        tracer.trace(ACQUIRE_WEIGHT_SPAN, () -> requestWeightLimiter.acquire(weight));
+        long start = System.nanoTime();
         Response<T> response;
-        try {
+        try (Tracer.Span ignored = tracer.span(endpoint)) {
             response = call.execute();
         } catch (IOException e) {
+            metricsRegistry.recordCall(endpoint, System.nanoTime() - start, -1, weight);
             logger.log("Exception during execution of request: " + e);
             throw new BinanceApiException(e);
         }
+        metricsRegistry.recordCall(endpoint, System.nanoTime() - start, response.code(), weight);
+        reconcileUsedWeight(response);
         if (response.isSuccessful()) {
             return response.body();
         } else {
@@ -214,4 +310,11 @@ public class BinanceClient {
             throw new BinanceApiException(response.toString());
         }
     }
-}
\ No newline at end of file
+
+    private void reconcileUsedWeight(Response<?> response) {
+        String usedWeight = response.headers().get(USED_WEIGHT_HEADER);
+        if (usedWeight != null) {
+            requestWeightLimiter.reconcile(Integer.parseInt(usedWeight));
+        }
+    }
+}
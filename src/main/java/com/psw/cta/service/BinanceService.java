@@ -4,10 +4,6 @@ import static com.psw.cta.dto.binance.CandlestickInterval.DAILY;
 import static com.psw.cta.dto.binance.CandlestickInterval.FIVE_MINUTES;
 import static com.psw.cta.dto.binance.CandlestickInterval.HOURLY;
 import static com.psw.cta.dto.binance.CandlestickInterval.WEEKLY;
-import static com.psw.cta.dto.binance.FilterType.LOT_SIZE;
-import static com.psw.cta.dto.binance.FilterType.MIN_NOTIONAL;
-import static com.psw.cta.dto.binance.FilterType.NOTIONAL;
-import static com.psw.cta.dto.binance.FilterType.PRICE_FILTER;
 import static com.psw.cta.dto.binance.OrderSide.BUY;
 import static com.psw.cta.dto.binance.OrderSide.SELL;
 import static com.psw.cta.dto.binance.OrderType.LIMIT;
@@ -18,36 +14,34 @@ import static java.math.BigDecimal.ONE;
 import static java.math.BigDecimal.ZERO;
 import static java.math.RoundingMode.CEILING;
 import static java.math.RoundingMode.UP;
+import static java.util.stream.Collectors.toMap;
 
 import com.amazonaws.services.lambda.runtime.LambdaLogger;
 import com.psw.cta.dto.OrderWrapper;
 import com.psw.cta.dto.binance.Account;
 import com.psw.cta.dto.binance.AssetBalance;
-import com.psw.cta.dto.binance.Candlestick;
 import com.psw.cta.dto.binance.CandlestickInterval;
+import com.psw.cta.dto.binance.CandlestickSeries;
 import com.psw.cta.dto.binance.DelistResponse;
 import com.psw.cta.dto.binance.ExchangeInfo;
-import com.psw.cta.dto.binance.FilterType;
 import com.psw.cta.dto.binance.NewOrderResponse;
 import com.psw.cta.dto.binance.Order;
-import com.psw.cta.dto.binance.OrderBook;
-import com.psw.cta.dto.binance.OrderBookEntry;
 import com.psw.cta.dto.binance.OrderSide;
 import com.psw.cta.dto.binance.OrderType;
-import com.psw.cta.dto.binance.SymbolFilter;
 import com.psw.cta.dto.binance.SymbolInfo;
 import com.psw.cta.dto.binance.TickerStatistics;
 import com.psw.cta.dto.binance.TimeInForce;
 import com.psw.cta.dto.binance.Trade;
-import com.psw.cta.exception.BinanceApiException;
 import com.psw.cta.exception.CryptoTraderException;
+import com.psw.cta.trace.Tracer;
+import com.psw.cta.utils.Sleeper;
 import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BinaryOperator;
-import java.util.function.Function;
 import org.apache.commons.lang3.tuple.Pair;
 
 /**
@@ -56,64 +50,87 @@ import org.apache.commons.lang3.tuple.Pair;
 public class BinanceService {
 
     private final BinanceClient binanceClient;
+    private final PriceSnapshotService priceSnapshotService;
+    private final ExchangeInfoSource exchangeInfoSource;
+    private final CandlestickSource candlestickSource;
+    private final TickerStatisticsCache tickerStatisticsCache;
+    private final Clock clock;
+    private final Sleeper sleeper;
+    private final Tracer tracer;
     private final LambdaLogger logger;
 
     /**
      * Default constructor.
      *
-     * @param binanceClient Binance client
-     * @param logger        Lambda logger for logging errors and messages.
+     * @param binanceClient         Binance client
+     * @param priceSnapshotService  Service providing snapshot of prices of all symbols
+     * @param exchangeInfoSource    Source of exchange information
+     * @param candlestickSource     Source of candlesticks
+     * @param tickerStatisticsCache Cache of 24 hour price change statistics of all symbols
+     * @param clock                 Clock determining time range of requested candlesticks
+     * @param sleeper               Sleeper pausing while waiting for balances and trades
+     * @param tracer                Tracer recording every sleep as a span
+     * @param logger                Lambda logger for logging errors and messages.
      */
-    public BinanceService(BinanceClient binanceClient, LambdaLogger logger) {
+    public BinanceService(BinanceClient binanceClient,
+                          PriceSnapshotService priceSnapshotService,
+                          ExchangeInfoSource exchangeInfoSource,
+                          CandlestickSource candlestickSource,
+                          TickerStatisticsCache tickerStatisticsCache,
+                          Clock clock,
+                          Sleeper sleeper,
+                          Tracer tracer,
+                          LambdaLogger logger) {
         this.binanceClient = binanceClient;
+        this.priceSnapshotService = priceSnapshotService;
+        this.exchangeInfoSource = exchangeInfoSource;
+        this.candlestickSource = candlestickSource;
+        this.tickerStatisticsCache = tickerStatisticsCache;
+        this.clock = clock;
+        this.sleeper = sleeper;
+        this.tracer = tracer;
         this.logger = logger;
     }
 
     /**
-     * Returns exchange info.
+     * Returns exchange info of BTC quoted symbols.
      *
      * @return Current exchange trading rules and symbol information
      */
     public ExchangeInfo getExchangeInfo() {
         logger.log("Get exchange info.");
-        return binanceClient.getExchangeInfo();
+        return exchangeInfoSource.getExchangeInfo();
     }
 
     /**
-     * Returns current price for provided symbol.
+     * Returns current price for provided symbol from the price snapshot.
      *
      * @param symbol Order symbol
      * @return current price
      */
     public BigDecimal getCurrentPrice(String symbol) {
-        return getOrderBook(symbol, 1)
-            .getAsks()
-            .stream()
-            .map(OrderBookEntry::getPrice)
-            .map(BigDecimal::new)
-            .findFirst()
-            .orElseThrow(() -> new CryptoTraderException("No price found!"));
+        return priceSnapshotService.getAskPrice(symbol);
     }
 
     /**
      * Returns Kline/Candlestick bars for a symbol and provided number of units.
      *
-     * @param symbol            Order symbol
+     * @param symbolInfo        Symbol information
      * @param interval          Interval for Candlestick
      * @param numberOfTimeUnits number of time intervals
      * @param chronoUnit        the unit of the amount to subtract
      * @return List of candlestick data
      */
-    public List<Candlestick> getCandleStickData(String symbol,
+    public CandlestickSeries getCandleStickData(SymbolInfo symbolInfo,
                                                 CandlestickInterval interval,
                                                 long numberOfTimeUnits,
                                                 ChronoUnit chronoUnit) {
-        Instant endTime = Instant.now();
+        Instant endTime = clock.instant();
         Instant startTime = endTime.minus(numberOfTimeUnits, chronoUnit);
-        return binanceClient.getCandlestickBars(symbol,
-                                                interval.getIntervalId(),
-                                                startTime.toEpochMilli(),
-                                                endTime.toEpochMilli());
+        return candlestickSource.getCandlesticks(symbolInfo,
+                                                 interval,
+                                                 startTime.toEpochMilli(),
+                                                 endTime.toEpochMilli());
     }
 
     /**
@@ -124,7 +141,7 @@ public class BinanceService {
      * @param orderPricePercentage percentual price of order
      * @return candlesticks
      */
-    public List<Candlestick> getCandlesticks(Order order,
+    public CandlestickSeries getCandlesticks(Order order,
                                              BigDecimal actualWaitingTime,
                                              BigDecimal orderPricePercentage) {
         if (actualWaitingTime.compareTo(ONE) < 0) {
@@ -142,7 +159,7 @@ public class BinanceService {
         }
     }
 
-    private List<Candlestick> getCandlestickList(Order order,
+    private CandlestickSeries getCandlestickList(Order order,
                                                  BigDecimal actualWaitingTime,
                                                  BigDecimal orderPricePercentage,
                                                  BigDecimal divisor,
@@ -163,7 +180,7 @@ public class BinanceService {
                             .intValue();
     }
 
-    private List<Candlestick> getCandlestickBars(String symbol, CandlestickInterval interval, Integer limit) {
+    private CandlestickSeries getCandlestickBars(String symbol, CandlestickInterval interval, Integer limit) {
         return binanceClient.getCandlestickBars(symbol, interval.getIntervalId(), limit);
     }
 
@@ -171,9 +188,19 @@ public class BinanceService {
      * Get 24 hour price change statistics for all symbols.
      */
     public List<TickerStatistics> getAll24hTickers() {
-        logger.log("Get 24 h Tickers");
-        sleep(1000 * 60, logger);
-        return binanceClient.getAll24HrPriceStatistics();
+        return tickerStatisticsCache.getAll24hTickers();
+    }
+
+    /**
+     * Returns 24 hour quote volumes of all symbols indexed by symbol.
+     *
+     * @return quote volume by symbol
+     */
+    public Map<String, Double> getQuoteVolumes() {
+        return getAll24hTickers().stream()
+                                 .collect(toMap(TickerStatistics::getSymbol,
+                                                ticker -> Double.parseDouble(ticker.getQuoteVolume()),
+                                                (first, second) -> second));
     }
 
     /**
@@ -185,7 +212,7 @@ public class BinanceService {
      */
     public NewOrderResponse buyWithQuantity(SymbolInfo symbolInfo, BigDecimal quantity) {
         logger.log("Buy " + symbolInfo.getSymbol() + " with quantity=" + quantity);
-        BigDecimal currentPrice = getCurrentPrice(symbolInfo.getSymbol());
+        BigDecimal currentPrice = priceSnapshotService.getFreshAskPrice(symbolInfo.getSymbol());
         logger.log("currentPrice: " + currentPrice);
         return roundQuantityUpAndBuy(symbolInfo, quantity, currentPrice);
     }
@@ -199,7 +226,7 @@ public class BinanceService {
      */
     public BigDecimal buyWithBtcs(SymbolInfo symbolInfo, BigDecimal btcAmount) {
         logger.log("Buy " + symbolInfo.getSymbol() + " with btc amount=" + btcAmount);
-        BigDecimal currentPrice = getCurrentPrice(symbolInfo.getSymbol());
+        BigDecimal currentPrice = priceSnapshotService.getFreshAskPrice(symbolInfo.getSymbol());
         logger.log("currentPrice: " + currentPrice);
         BigDecimal myQuantity = btcAmount.divide(currentPrice, 8, CEILING);
         NewOrderResponse newOrder = buy(symbolInfo, myQuantity, currentPrice);
@@ -225,12 +252,9 @@ public class BinanceService {
     }
 
     private BigDecimal getMinQuantityToBuy(SymbolInfo symbolInfo, BigDecimal quantity, BigDecimal currentPrice) {
-        BigDecimal minValueFromMinNotionalFilter = getValueFromFilter(symbolInfo,
-                                                                      SymbolFilter::getMinNotional,
-                                                                      MIN_NOTIONAL,
-                                                                      NOTIONAL);
+        BigDecimal minValueFromMinNotionalFilter = symbolInfo.getMinNotional();
         logger.log("minValueFromMinNotionalFilter: " + minValueFromMinNotionalFilter);
-        BigDecimal stepSizeFromLotSizeFilter = getValueFromFilter(symbolInfo, SymbolFilter::getStepSize, LOT_SIZE);
+        BigDecimal stepSizeFromLotSizeFilter = symbolInfo.getStepSize();
         logger.log("stepSizeFromLotSizeFilter: " + stepSizeFromLotSizeFilter);
         BigDecimal minNotionalWithBuffer = minValueFromMinNotionalFilter.multiply(new BigDecimal("1.1"));
         BigDecimal minQuantity = minNotionalWithBuffer.divide(currentPrice, 8, CEILING)
@@ -293,12 +317,9 @@ public class BinanceService {
         logger.log("balance: " + balance);
         BigDecimal orderPrice = orderToExtract.getOrderPrice();
         logger.log("orderPrice: " + orderPrice);
-        BigDecimal minValueFromLotSizeFilter = getValueFromFilter(symbolInfo, SymbolFilter::getMinQty, LOT_SIZE);
+        BigDecimal minValueFromLotSizeFilter = symbolInfo.getMinQty();
         logger.log("minValueFromLotSizeFilter: " + minValueFromLotSizeFilter);
-        BigDecimal minValueFromMinNotionalFilter = getValueFromFilter(symbolInfo,
-                                                                      SymbolFilter::getMinNotional,
-                                                                      MIN_NOTIONAL,
-                                                                      NOTIONAL);
+        BigDecimal minValueFromMinNotionalFilter = symbolInfo.getMinNotional();
         logger.log("minValueFromMinNotionalFilter: " + minValueFromMinNotionalFilter);
         BigDecimal extractedBalance = getExtractedBalance(minValueFromMinNotionalFilter,
                                                           orderPrice,
@@ -306,7 +327,7 @@ public class BinanceService {
         logger.log("extractedBalance: " + extractedBalance);
 
         createSellLimitOrder(symbolInfo, orderToExtract.getOrderPrice(), extractedBalance);
-        BigDecimal minPriceTickSize = getValueFromFilter(symbolInfo, SymbolFilter::getTickSize, PRICE_FILTER);
+        BigDecimal minPriceTickSize = symbolInfo.getTickSize();
         createSellLimitOrder(symbolInfo,
                              orderToExtract.getOrderPrice().add(minPriceTickSize),
                              balance.subtract(extractedBalance));
@@ -347,10 +368,7 @@ public class BinanceService {
     }
 
     private BigDecimal getMinBalance(BigDecimal balance, BigDecimal priceToSell, SymbolInfo symbolInfo) {
-        BigDecimal minValueFromMinNotionalFilter = getValueFromFilter(symbolInfo,
-                                                                      SymbolFilter::getMinNotional,
-                                                                      MIN_NOTIONAL,
-                                                                      NOTIONAL);
+        BigDecimal minValueFromMinNotionalFilter = symbolInfo.getMinNotional();
         BigDecimal btcAmount = balance.multiply(priceToSell);
         if (btcAmount.compareTo(minValueFromMinNotionalFilter) < 0) {
             logger.log("Calling recursively: balance: " + balance);
@@ -360,55 +378,25 @@ public class BinanceService {
     }
 
     private BigDecimal roundQuantity(SymbolInfo symbolInfo, BigDecimal quantity) {
-        return round(symbolInfo,
-                     quantity,
-                     LOT_SIZE,
-                     SymbolFilter::getStepSize,
-                     (roundedValue, valueFromFilter) -> roundedValue);
+        return round(quantity, symbolInfo.getStepSize(), (roundedValue, valueFromFilter) -> roundedValue);
     }
 
     private BigDecimal roundQuantityUp(SymbolInfo symbolInfo, BigDecimal quantity) {
-        return round(symbolInfo,
-                     quantity,
-                     LOT_SIZE,
-                     SymbolFilter::getStepSize,
-                     BigDecimal::add);
+        return round(quantity, symbolInfo.getStepSize(), BigDecimal::add);
     }
 
     private BigDecimal roundPrice(SymbolInfo symbolInfo, BigDecimal price) {
-        return round(symbolInfo,
-                     price,
-                     PRICE_FILTER,
-                     SymbolFilter::getTickSize,
-                     BigDecimal::add);
+        return round(price, symbolInfo.getTickSize(), BigDecimal::add);
     }
 
-    private BigDecimal round(SymbolInfo symbolInfo,
-                             BigDecimal amountToRound,
-                             FilterType filterType,
-                             Function<SymbolFilter, String> symbolFilterFunction,
+    private BigDecimal round(BigDecimal amountToRound,
+                             BigDecimal valueFromFilter,
                              BinaryOperator<BigDecimal> roundUpFunction) {
-        BigDecimal valueFromFilter = getValueFromFilter(symbolInfo, symbolFilterFunction, filterType);
         BigDecimal remainder = amountToRound.remainder(valueFromFilter);
         BigDecimal roundedValue = amountToRound.subtract(remainder);
         return roundUpFunction.apply(roundedValue, valueFromFilter);
     }
 
-    private BigDecimal getValueFromFilter(SymbolInfo symbolInfo,
-                                          Function<SymbolFilter, String> symbolFilterFunction,
-                                          FilterType... filterTypes) {
-        List<FilterType> filterTypesList = Arrays.asList(filterTypes);
-        return symbolInfo.getFilters()
-                         .parallelStream()
-                         .filter(filter -> filterTypesList.contains(filter.getFilterType()))
-                         .map(symbolFilterFunction)
-                         .map(BigDecimal::new)
-                         .findAny()
-                         .orElseThrow(() -> new CryptoTraderException("Value from filters "
-                                                                      + Arrays.toString(filterTypes)
-                                                                      + " not found"));
-    }
-
     private void createNewSellLimitOrder(String symbol, String quantity, String price) {
         createNewOrder(symbol, SELL, LIMIT, GTC, quantity, price);
     }
@@ -463,7 +451,7 @@ public class BinanceService {
         logger.log("Get my balance for " + asset);
         BigDecimal myBalance = getAccount()
             .getBalances()
-            .parallelStream()
+            .stream()
             .filter(balance -> balance.getAsset().equals(asset))
             .map(AssetBalance::getFree)
             .map(BigDecimal::new)
@@ -482,7 +470,7 @@ public class BinanceService {
         logger.log("Get my actual balance");
         return getAccount()
             .getBalances()
-            .parallelStream()
+            .stream()
             .filter(assetBalance -> !assetBalance.getAsset().equals("NFT"))
             .map(this::mapToAssetAndBalance)
             .filter(pair -> pair.getLeft().compareTo(ZERO) > 0)
@@ -504,24 +492,14 @@ public class BinanceService {
             return pair.getLeft();
         } else {
             try {
-                return getOrderBook(pair.getRight() + ASSET_BTC, 20)
-                    .getBids()
-                    .parallelStream()
-                    .map(OrderBookEntry::getPrice)
-                    .map(BigDecimal::new)
-                    .max(BigDecimal::compareTo)
-                    .orElse(ZERO)
-                    .multiply(pair.getLeft());
-            } catch (BinanceApiException e) {
+                return priceSnapshotService.getBidPrice(pair.getRight() + ASSET_BTC)
+                                           .multiply(pair.getLeft());
+            } catch (CryptoTraderException e) {
                 return ZERO;
             }
         }
     }
 
-    private OrderBook getOrderBook(String symbol, Integer limit) {
-        return binanceClient.getOrderBook(symbol, limit);
-    }
-
     /**
      * Returns new price to sell. If crypto was bought with different prices, then new price to sell must be calculated.
      * If crypto with the same price was bought, then no change is done to the price to sell.
@@ -556,8 +534,8 @@ public class BinanceService {
 
     private void sleep(int millis, LambdaLogger logger) {
         logger.log("Sleeping for " + millis / 1000 + " seconds");
-        try {
-            Thread.sleep(millis);
+        try (Tracer.Span ignored = tracer.span("sleep " + millis + " ms")) {
+            sleeper.sleep(millis);
         } catch (InterruptedException e) {
             logger.log("Error during sleeping");
         }
@@ -577,4 +555,11 @@ public class BinanceService {
     public List<DelistResponse> getDelistSchedule() {
         return binanceClient.getDelistSchedule();
     }
+
+    /**
+     * Persists state of request weight budget of Binance API. Called at the end of every trading cycle.
+     */
+    public void flushRequestWeight() {
+        binanceClient.flushRequestWeight();
+    }
 }
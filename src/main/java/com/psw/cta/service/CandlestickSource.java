@@ -0,0 +1,27 @@
+package com.psw.cta.service;
+
+import com.psw.cta.dto.binance.CandlestickInterval;
+import com.psw.cta.dto.binance.CandlestickSeries;
+import com.psw.cta.dto.binance.SymbolInfo;
+
+/**
+ * Source of candlesticks of a symbol. Production reads them from {@link CandlestickStore}, simulations read them
+ * directly from the simulated exchange.
+ */
+@FunctionalInterface
+public interface CandlestickSource {
+
+    /**
+     * Returns candlesticks opened within provided time range.
+     *
+     * @param symbolInfo symbol information
+     * @param interval   candlestick interval
+     * @param startTime  start time in milliseconds
+     * @param endTime    end time in milliseconds
+     * @return candlesticks
+     */
+    CandlestickSeries getCandlesticks(SymbolInfo symbolInfo,
+                                      CandlestickInterval interval,
+                                      long startTime,
+                                      long endTime);
+}
@@ -0,0 +1,181 @@
+package com.psw.cta.service;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.psw.cta.dto.binance.ArrayCandlestickSeries;
+import com.psw.cta.dto.binance.CandlestickInterval;
+import com.psw.cta.dto.binance.CandlestickSeries;
+import com.psw.cta.dto.binance.JoinedCandlestickSeries;
+import com.psw.cta.dto.binance.SymbolInfo;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Store of closed candlesticks keyed by symbol and interval. Closed candlesticks never change, so they are kept in
+ * a memory mapped file per key with prices scaled to decimal places of the tick size of the symbol, and only
+ * candlesticks newer than the last stored close time are downloaded. When stored candlesticks are not contiguous,
+ * download starts at the first gap, so the gap is repaired.
+ */
+public class CandlestickStore implements CandlestickSource {
+
+    private static final int MAX_CANDLESTICKS_PER_REQUEST = 1000;
+
+    private final BinanceClient binanceClient;
+    private final Path directory;
+    private final Clock clock;
+    private final LambdaLogger logger;
+    private final Map<String, CandlestickSeries> closedCandlesticks = new ConcurrentHashMap<>();
+    private final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+    /**
+     * Default constructor.
+     *
+     * @param binanceClient Binance client
+     * @param directory     directory where candlesticks are stored
+     * @param clock         clock used to determine which candlesticks are closed
+     * @param logger        logger
+     */
+    public CandlestickStore(BinanceClient binanceClient, Path directory, Clock clock, LambdaLogger logger) {
+        this.binanceClient = binanceClient;
+        this.directory = directory;
+        this.clock = clock;
+        this.logger = logger;
+    }
+
+    /**
+     * Returns candlesticks opened within provided time range. Candlesticks of intervals without fixed duration are
+     * always downloaded.
+     *
+     * @param symbolInfo symbol information
+     * @param interval   candlestick interval
+     * @param startTime  start time in milliseconds
+     * @param endTime    end time in milliseconds
+     * @return candlesticks
+     */
+    @Override
+    public CandlestickSeries getCandlesticks(SymbolInfo symbolInfo,
+                                             CandlestickInterval interval,
+                                             long startTime,
+                                             long endTime) {
+        String symbol = symbolInfo.getSymbol();
+        if (interval.getDuration() == null) {
+            return binanceClient.getCandlestickBars(symbol, interval.getIntervalId(), startTime, endTime);
+        }
+        String key = symbol + "-" + interval.getIntervalId();
+        ReentrantLock lock = locks.computeIfAbsent(key, k -> new ReentrantLock());
+        lock.lock();
+        try {
+            CandlestickSeries stored = closedCandlesticks.computeIfAbsent(key, this::load);
+            long syncStart = getSyncStart(stored, startTime, interval.getDuration().toMillis());
+            CandlestickSeries kept = stored.slice(indexOf(stored, startTime), indexOf(stored, syncStart));
+            CandlestickSeries downloaded = download(symbol, interval, syncStart, endTime);
+            int closedCount = indexOfOpen(downloaded, clock.millis());
+            CandlestickSeries closed = kept;
+            if (closedCount > 0 || kept.size() != stored.size()) {
+                closed = save(key,
+                              new JoinedCandlestickSeries(kept, downloaded.slice(0, closedCount)),
+                              getPriceScale(symbolInfo));
+                closedCandlesticks.put(key, closed);
+            }
+            CandlestickSeries open = downloaded.slice(closedCount, indexOf(downloaded, endTime + 1));
+            return new JoinedCandlestickSeries(closed.slice(0, indexOf(closed, endTime + 1)), open);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long getSyncStart(CandlestickSeries stored, long startTime, long durationMillis) {
+        int first = indexOf(stored, startTime);
+        if (first == stored.size() || stored.getOpenTime(first) > startTime + durationMillis) {
+            return startTime;
+        }
+        for (int i = first + 1; i < stored.size(); i++) {
+            if (stored.getOpenTime(i) != stored.getOpenTime(i - 1) + durationMillis) {
+                logger.log("Repairing gap in candlesticks after " + stored.getCloseTime(i - 1));
+                return stored.getCloseTime(i - 1) + 1;
+            }
+        }
+        return stored.getCloseTime(stored.size() - 1) + 1;
+    }
+
+    private int indexOf(CandlestickSeries series, long openTime) {
+        int low = 0;
+        int high = series.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (series.getOpenTime(middle) < openTime) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int indexOfOpen(CandlestickSeries series, long now) {
+        int index = 0;
+        while (index < series.size() && series.getCloseTime(index) < now) {
+            index++;
+        }
+        return index;
+    }
+
+    private CandlestickSeries download(String symbol, CandlestickInterval interval, long startTime, long endTime) {
+        ArrayCandlestickSeries downloaded = new ArrayCandlestickSeries();
+        long from = startTime;
+        while (from <= endTime) {
+            CandlestickSeries batch = binanceClient.getCandlestickBars(symbol,
+                                                                       interval.getIntervalId(),
+                                                                       MAX_CANDLESTICKS_PER_REQUEST,
+                                                                       from,
+                                                                       endTime);
+            for (int i = 0; i < batch.size(); i++) {
+                downloaded.add(batch.getOpenTime(i),
+                               batch.getOpen(i),
+                               batch.getHigh(i),
+                               batch.getLow(i),
+                               batch.getClose(i),
+                               batch.getVolume(i),
+                               batch.getCloseTime(i));
+            }
+            if (batch.size() < MAX_CANDLESTICKS_PER_REQUEST) {
+                break;
+            }
+            from = batch.getCloseTime(batch.size() - 1) + 1;
+        }
+        return downloaded;
+    }
+
+    private int getPriceScale(SymbolInfo symbolInfo) {
+        return Math.max(0, symbolInfo.getTickSize().stripTrailingZeros().scale());
+    }
+
+    private CandlestickSeries load(String key) {
+        Path file = directory.resolve(key + ".bin");
+        if (!Files.exists(file)) {
+            return new ArrayCandlestickSeries(0);
+        }
+        try {
+            return MappedCandlestickSeries.map(file);
+        } catch (IOException e) {
+            logger.log("Failed to load candlesticks " + key + ": " + e);
+            return new ArrayCandlestickSeries(0);
+        }
+    }
+
+    private CandlestickSeries save(String key, CandlestickSeries series, int priceScale) {
+        Path file = directory.resolve(key + ".bin");
+        try {
+            Files.createDirectories(directory);
+            MappedCandlestickSeries.write(file, series, priceScale);
+            return MappedCandlestickSeries.map(file);
+        } catch (IOException e) {
+            logger.log("Failed to save candlesticks " + key + ": " + e);
+            return series;
+        }
+    }
+}
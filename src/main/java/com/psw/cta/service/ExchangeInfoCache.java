@@ -0,0 +1,242 @@
+package com.psw.cta.service;
+
+import static com.psw.cta.dto.binance.FilterType.LOT_SIZE;
+import static com.psw.cta.dto.binance.FilterType.NOTIONAL;
+import static com.psw.cta.dto.binance.FilterType.PRICE_FILTER;
+import static com.psw.cta.utils.Constants.ASSET_BTC;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.psw.cta.dto.binance.ExchangeInfo;
+import com.psw.cta.dto.binance.SymbolFilter;
+import com.psw.cta.dto.binance.SymbolInfo;
+import com.psw.cta.dto.binance.SymbolStatus;
+import com.psw.cta.exception.CryptoTraderException;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Cache of exchange information keeping only BTC quoted symbols with their trading filters. The cache is kept in
+ * memory and in a binary snapshot file, so warm Lambda invocations do not download the whole exchange information.
+ * A snapshot older than the time to live is revalidated by provided executor. Long running processes revalidate in
+ * the background and serve the old snapshot meanwhile, Lambda revalidates in the calling thread, because its
+ * executors are frozen between invocations, and serves the fresh snapshot. A snapshot older than the maximal
+ * staleness is downloaded before it is served.
+ */
+public class ExchangeInfoCache implements ExchangeInfoSource {
+
+    private static final int MAGIC = 0x43544145;
+    private static final int FORMAT_VERSION = 1;
+
+    private final BinanceClient binanceClient;
+    private final Path snapshotFile;
+    private final Duration timeToLive;
+    private final Duration maxStaleness;
+    private final Clock clock;
+    private final Executor revalidationExecutor;
+    private final LambdaLogger logger;
+    private final ReentrantLock downloadLock = new ReentrantLock();
+    private final AtomicBoolean revalidating = new AtomicBoolean();
+    private volatile Snapshot snapshot;
+
+    /**
+     * Default constructor.
+     *
+     * @param binanceClient        Binance client
+     * @param snapshotFile         file where snapshot is stored
+     * @param timeToLive           age of snapshot after which it is revalidated
+     * @param maxStaleness         age of snapshot after which it is not served anymore
+     * @param clock                clock used to determine age of snapshot
+     * @param revalidationExecutor executor downloading fresh snapshot, calling thread is used when it runs tasks
+     *                             directly
+     * @param logger               logger
+     */
+    public ExchangeInfoCache(BinanceClient binanceClient,
+                             Path snapshotFile,
+                             Duration timeToLive,
+                             Duration maxStaleness,
+                             Clock clock,
+                             Executor revalidationExecutor,
+                             LambdaLogger logger) {
+        this.binanceClient = binanceClient;
+        this.snapshotFile = snapshotFile;
+        this.timeToLive = timeToLive;
+        this.maxStaleness = maxStaleness;
+        this.clock = clock;
+        this.revalidationExecutor = revalidationExecutor;
+        this.logger = logger;
+    }
+
+    @Override
+    public ExchangeInfo getExchangeInfo() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            current = loadOrDownload(() -> {
+                Snapshot stored = load();
+                return stored != null && !isOlderThan(stored, maxStaleness) ? stored : download();
+            });
+        } else if (isOlderThan(current, maxStaleness)) {
+            current = loadOrDownload(this::download);
+        }
+        if (isOlderThan(current, timeToLive)) {
+            revalidate();
+            current = snapshot;
+        }
+        return current.exchangeInfo();
+    }
+
+    private Snapshot loadOrDownload(Supplier<Snapshot> supplier) {
+        downloadLock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (current == null || isOlderThan(current, maxStaleness)) {
+                current = supplier.get();
+                snapshot = current;
+            }
+            return current;
+        } finally {
+            downloadLock.unlock();
+        }
+    }
+
+    private boolean isOlderThan(Snapshot current, Duration age) {
+        return current.createdAt().plus(age).isBefore(clock.instant());
+    }
+
+    private void revalidate() {
+        if (!revalidating.compareAndSet(false, true)) {
+            return;
+        }
+        revalidationExecutor.execute(() -> {
+            try {
+                Snapshot downloaded = download();
+                snapshot = downloaded;
+            } catch (RuntimeException e) {
+                logger.log("Failed to revalidate exchange info: " + e);
+            } finally {
+                revalidating.set(false);
+            }
+        });
+    }
+
+    private Snapshot download() {
+        logger.log("Download exchange info");
+        List<SymbolInfo> btcSymbols = binanceClient.getExchangeInfo()
+                                                   .getSymbols()
+                                                   .stream()
+                                                   .filter(symbolInfo -> symbolInfo.getSymbol().endsWith(ASSET_BTC))
+                                                   .toList();
+        ExchangeInfo exchangeInfo = new ExchangeInfo();
+        exchangeInfo.setSymbols(btcSymbols);
+        Snapshot downloaded = new Snapshot(exchangeInfo, clock.instant());
+        store(downloaded);
+        return downloaded;
+    }
+
+    private void store(Snapshot current) {
+        Path tempFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        try (OutputStream file = Files.newOutputStream(tempFile);
+             DataOutputStream output = new DataOutputStream(new BufferedOutputStream(file))) {
+            List<SymbolInfo> symbols = current.exchangeInfo().getSymbols();
+            output.writeInt(MAGIC);
+            output.writeInt(FORMAT_VERSION);
+            output.writeLong(current.createdAt().toEpochMilli());
+            output.writeInt(symbols.size());
+            for (SymbolInfo symbolInfo : symbols) {
+                output.writeUTF(symbolInfo.getSymbol());
+                writeNullable(output, symbolInfo.getStatus() == null ? null : symbolInfo.getStatus().name());
+                writeNullable(output, getFilterValue(symbolInfo::getTickSize));
+                writeNullable(output, getFilterValue(symbolInfo::getMinQty));
+                writeNullable(output, getFilterValue(symbolInfo::getStepSize));
+                writeNullable(output, getFilterValue(symbolInfo::getMinNotional));
+            }
+        } catch (IOException e) {
+            logger.log("Failed to store exchange info snapshot: " + e);
+            return;
+        }
+        try {
+            Files.move(tempFile, snapshotFile, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.log("Failed to store exchange info snapshot: " + e);
+        }
+    }
+
+    private String getFilterValue(Supplier<BigDecimal> filterValue) {
+        try {
+            return filterValue.get().toPlainString();
+        } catch (CryptoTraderException e) {
+            return null;
+        }
+    }
+
+    private void writeNullable(DataOutputStream output, String value) throws IOException {
+        output.writeBoolean(value != null);
+        if (value != null) {
+            output.writeUTF(value);
+        }
+    }
+
+    private Snapshot load() {
+        if (!Files.exists(snapshotFile)) {
+            return null;
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotFile)))) {
+            if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION) {
+                logger.log("Ignoring exchange info snapshot with unknown format");
+                return null;
+            }
+            Instant createdAt = Instant.ofEpochMilli(input.readLong());
+            int size = input.readInt();
+            List<SymbolInfo> symbols = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                symbols.add(readSymbolInfo(input));
+            }
+            ExchangeInfo exchangeInfo = new ExchangeInfo();
+            exchangeInfo.setSymbols(symbols);
+            logger.log("Loaded exchange info snapshot created at " + createdAt);
+            return new Snapshot(exchangeInfo, createdAt);
+        } catch (IOException | RuntimeException e) {
+            logger.log("Failed to load exchange info snapshot: " + e);
+            return null;
+        }
+    }
+
+    private SymbolInfo readSymbolInfo(DataInputStream input) throws IOException {
+        SymbolInfo symbolInfo = new SymbolInfo();
+        symbolInfo.setSymbol(input.readUTF());
+        String status = readNullable(input);
+        symbolInfo.setStatus(status == null ? null : SymbolStatus.valueOf(status));
+        String tickSize = readNullable(input);
+        String minQty = readNullable(input);
+        String stepSize = readNullable(input);
+        String minNotional = readNullable(input);
+        symbolInfo.setFilters(List.of(new SymbolFilter(PRICE_FILTER, tickSize, null, null, null),
+                                      new SymbolFilter(LOT_SIZE, null, minQty, stepSize, null),
+                                      new SymbolFilter(NOTIONAL, null, null, null, minNotional)));
+        return symbolInfo;
+    }
+
+    private String readNullable(DataInputStream input) throws IOException {
+        return input.readBoolean() ? input.readUTF() : null;
+    }
+
+    private record Snapshot(ExchangeInfo exchangeInfo, Instant createdAt) {
+    }
+}
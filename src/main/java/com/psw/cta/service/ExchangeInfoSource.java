@@ -0,0 +1,18 @@
+package com.psw.cta.service;
+
+import com.psw.cta.dto.binance.ExchangeInfo;
+
+/**
+ * Source of exchange information of BTC quoted symbols. Production reads it from {@link ExchangeInfoCache},
+ * simulations read it directly from the simulated exchange.
+ */
+@FunctionalInterface
+public interface ExchangeInfoSource {
+
+    /**
+     * Returns exchange information with BTC quoted symbols.
+     *
+     * @return exchange information
+     */
+    ExchangeInfo getExchangeInfo();
+}
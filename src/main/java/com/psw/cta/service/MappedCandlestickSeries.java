@@ -0,0 +1,173 @@
+package com.psw.cta.service;
+
+import static com.psw.cta.utils.BinanceApiConstants.TO_STRING_BUILDER_STYLE;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import com.psw.cta.dto.binance.CandlestickSeries;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Klines read directly from a memory mapped file. Prices are stored as longs equal to the price multiplied by ten to
+ * the power of the price scale, which is the number of decimal places of the symbol's tick size. Every price on the
+ * tick grid is therefore an exact long, and it is converted to double only when read.
+ *
+ * <p>File starts with a header (magic number, format version, price scale, number of klines) followed by klines of
+ * fixed size: open time, scaled open, high, low and close, volume and close time.
+ */
+public class MappedCandlestickSeries implements CandlestickSeries {
+
+    private static final int MAGIC = 0x43544143;
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_SIZE = 16;
+    private static final int KLINE_SIZE = 56;
+    private static final int OPEN_OFFSET = 8;
+    private static final int HIGH_OFFSET = 16;
+    private static final int LOW_OFFSET = 24;
+    private static final int CLOSE_OFFSET = 32;
+    private static final int VOLUME_OFFSET = 40;
+    private static final int CLOSE_TIME_OFFSET = 48;
+
+    private final ByteBuffer buffer;
+    private final int fromIndex;
+    private final int size;
+    private final int priceScale;
+    private final double scaleFactor;
+
+    private MappedCandlestickSeries(ByteBuffer buffer, int fromIndex, int size, int priceScale) {
+        this.buffer = buffer;
+        this.fromIndex = fromIndex;
+        this.size = size;
+        this.priceScale = priceScale;
+        this.scaleFactor = Math.pow(10, priceScale);
+    }
+
+    /**
+     * Maps klines from file.
+     *
+     * @param file file with klines
+     * @return mapped klines
+     * @throws IOException when file can not be mapped or has unknown format
+     */
+    public static MappedCandlestickSeries map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, READ)) {
+            ByteBuffer buffer = channel.map(READ_ONLY, 0, channel.size());
+            if (buffer.limit() < HEADER_SIZE
+                || buffer.getInt(0) != MAGIC
+                || buffer.getInt(4) != FORMAT_VERSION) {
+                throw new IOException("Unknown format of klines file " + file);
+            }
+            int priceScale = buffer.getInt(8);
+            int size = buffer.getInt(12);
+            if (buffer.limit() != HEADER_SIZE + (long) size * KLINE_SIZE) {
+                throw new IOException("Truncated klines file " + file);
+            }
+            return new MappedCandlestickSeries(buffer, 0, size, priceScale);
+        }
+    }
+
+    /**
+     * Writes klines into file. Prices are rounded to provided number of decimal places.
+     *
+     * @param file       file for klines
+     * @param series     klines to write
+     * @param priceScale number of decimal places of prices
+     * @throws IOException when file can not be written
+     */
+    public static void write(Path file, CandlestickSeries series, int priceScale) throws IOException {
+        double scaleFactor = Math.pow(10, priceScale);
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + series.size() * KLINE_SIZE);
+        buffer.putInt(MAGIC)
+              .putInt(FORMAT_VERSION)
+              .putInt(priceScale)
+              .putInt(series.size());
+        for (int i = 0; i < series.size(); i++) {
+            buffer.putLong(series.getOpenTime(i))
+                  .putLong(Math.round(series.getOpen(i) * scaleFactor))
+                  .putLong(Math.round(series.getHigh(i) * scaleFactor))
+                  .putLong(Math.round(series.getLow(i) * scaleFactor))
+                  .putLong(Math.round(series.getClose(i) * scaleFactor))
+                  .putDouble(series.getVolume(i))
+                  .putLong(series.getCloseTime(i));
+        }
+        buffer.flip();
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempFile, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        Files.move(tempFile, file, REPLACE_EXISTING, ATOMIC_MOVE);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long getOpenTime(int index) {
+        return buffer.getLong(position(index));
+    }
+
+    @Override
+    public double getOpen(int index) {
+        return toPrice(buffer.getLong(position(index) + OPEN_OFFSET));
+    }
+
+    @Override
+    public double getHigh(int index) {
+        return toPrice(buffer.getLong(position(index) + HIGH_OFFSET));
+    }
+
+    @Override
+    public double getLow(int index) {
+        return toPrice(buffer.getLong(position(index) + LOW_OFFSET));
+    }
+
+    @Override
+    public double getClose(int index) {
+        return toPrice(buffer.getLong(position(index) + CLOSE_OFFSET));
+    }
+
+    @Override
+    public double getVolume(int index) {
+        return buffer.getDouble(position(index) + VOLUME_OFFSET);
+    }
+
+    @Override
+    public long getCloseTime(int index) {
+        return buffer.getLong(position(index) + CLOSE_TIME_OFFSET);
+    }
+
+    @Override
+    public CandlestickSeries slice(int fromIndex, int toIndex) {
+        return new MappedCandlestickSeries(buffer, this.fromIndex + fromIndex, toIndex - fromIndex, priceScale);
+    }
+
+    private int position(int index) {
+        return HEADER_SIZE + (fromIndex + index) * KLINE_SIZE;
+    }
+
+    private double toPrice(long scaledPrice) {
+        return scaledPrice / scaleFactor;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, TO_STRING_BUILDER_STYLE)
+            .append("size", size)
+            .append("priceScale", priceScale)
+            .toString();
+    }
+}
@@ -0,0 +1,112 @@
+package com.psw.cta.service;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.psw.cta.exception.CryptoTraderException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * Engine fetching market data for many inputs concurrently. Every fetch runs on its own virtual thread, so blocking
+ * HTTP calls do not occupy the common fork-join pool. The number of fetches running at the same time is capped.
+ * Timeout of every request is enforced by the HTTP client from the moment the request is sent, so waiting for request
+ * weight never counts against it. An input whose request timed out is skipped, so one slow symbol does not fail the
+ * whole scan. Fetchers are stages sharing the I/O executor of {@link TradingExecutors}.
+ */
+public class MarketDataFetcher {
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final LambdaLogger logger;
+
+    /**
+     * Default constructor.
+     *
+     * @param executor              executor running every fetch on its own virtual thread
+     * @param maxConcurrentRequests maximal number of fetches running at the same time
+     * @param logger                logger
+     */
+    public MarketDataFetcher(ExecutorService executor, int maxConcurrentRequests, LambdaLogger logger) {
+        this.executor = executor;
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.logger = logger;
+    }
+
+    /**
+     * Fetches data for all provided inputs concurrently and returns when all fetches finished. Results are ordered by
+     * completion of their fetches, not by order of inputs. Inputs whose request timed out are logged and left out of
+     * the results. When any fetch fails otherwise, all remaining fetches are cancelled and the failure is rethrown.
+     *
+     * @param inputs inputs to fetch data for
+     * @param fetch  blocking function fetching data for one input
+     * @param <T>    type of input
+     * @param <R>    type of result
+     * @return results in order of completion
+     */
+    public <T, R> List<R> fetchAll(Collection<T> inputs, Function<T, R> fetch) {
+        CompletionService<R> completionService = new ExecutorCompletionService<>(executor);
+        Map<Future<R>, T> fetches = new LinkedHashMap<>();
+        for (T input : inputs) {
+            fetches.put(completionService.submit(() -> fetch(input, fetch)), input);
+        }
+        List<R> results = new ArrayList<>(fetches.size());
+        try {
+            for (int i = 0; i < fetches.size(); i++) {
+                Future<R> completed = completionService.take();
+                try {
+                    results.add(completed.get());
+                } catch (ExecutionException e) {
+                    if (!isTimeout(e.getCause())) {
+                        throw unwrap(e);
+                    }
+                    logger.log("Skipping " + fetches.get(completed) + ", request timed out: " + e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CryptoTraderException(e);
+        } finally {
+            fetches.keySet().forEach(future -> future.cancel(true));
+        }
+        return results;
+    }
+
+    private <T, R> R fetch(T input, Function<T, R> fetch) throws InterruptedException {
+        permits.acquire();
+        try {
+            return fetch.apply(input);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private boolean isTimeout(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedIOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private RuntimeException unwrap(ExecutionException exception) {
+        Throwable cause = exception.getCause();
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new CryptoTraderException(exception);
+    }
+}
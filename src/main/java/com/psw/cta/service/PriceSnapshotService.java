@@ -0,0 +1,121 @@
+package com.psw.cta.service;
+
+import static java.math.BigDecimal.ZERO;
+import static java.util.stream.Collectors.toConcurrentMap;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.psw.cta.dto.binance.BookTicker;
+import com.psw.cta.exception.CryptoTraderException;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Snapshot of best bid and ask prices of all symbols. The whole snapshot is downloaded by a single bulk book ticker
+ * request and reused until it is older than the staleness bound. Prices used for placing orders are always
+ * refreshed for the traded symbol.
+ */
+public class PriceSnapshotService {
+
+    private final BinanceClient binanceClient;
+    private final Duration maxAge;
+    private final Clock clock;
+    private final LambdaLogger logger;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile Map<String, BookTicker> bookTickers = new ConcurrentHashMap<>();
+    private volatile Instant refreshedAt = Instant.MIN;
+
+    /**
+     * Default constructor.
+     *
+     * @param binanceClient Binance client
+     * @param maxAge        maximal age of snapshot before it is downloaded again
+     * @param clock         clock used to determine age of snapshot
+     * @param logger        logger
+     */
+    public PriceSnapshotService(BinanceClient binanceClient, Duration maxAge, Clock clock, LambdaLogger logger) {
+        this.binanceClient = binanceClient;
+        this.maxAge = maxAge;
+        this.clock = clock;
+        this.logger = logger;
+    }
+
+    /**
+     * Returns best ask price of symbol from snapshot.
+     *
+     * @param symbol symbol
+     * @return best ask price
+     */
+    public BigDecimal getAskPrice(String symbol) {
+        return getPrice(getSnapshot().get(symbol), BookTicker::getAskPrice, symbol);
+    }
+
+    /**
+     * Returns best bid price of symbol from snapshot.
+     *
+     * @param symbol symbol
+     * @return best bid price
+     */
+    public BigDecimal getBidPrice(String symbol) {
+        return getPrice(getSnapshot().get(symbol), BookTicker::getBidPrice, symbol);
+    }
+
+    /**
+     * Returns best ask price of symbol downloaded right now. Snapshot is updated with downloaded price.
+     *
+     * @param symbol symbol
+     * @return best ask price
+     */
+    public BigDecimal getFreshAskPrice(String symbol) {
+        BookTicker bookTicker = binanceClient.getBookTicker(symbol);
+        bookTickers.put(symbol, bookTicker);
+        return getPrice(bookTicker, BookTicker::getAskPrice, symbol);
+    }
+
+    /**
+     * Downloads prices of all symbols.
+     */
+    public void refresh() {
+        logger.log("Refresh price snapshot");
+        bookTickers = binanceClient.getBookTickers()
+                                   .stream()
+                                   .collect(toConcurrentMap(BookTicker::getSymbol,
+                                                            Function.identity(),
+                                                            (first, second) -> second));
+        refreshedAt = clock.instant();
+    }
+
+    private Map<String, BookTicker> getSnapshot() {
+        if (isStale()) {
+            refreshLock.lock();
+            try {
+                if (isStale()) {
+                    refresh();
+                }
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+        return bookTickers;
+    }
+
+    private boolean isStale() {
+        return refreshedAt.plus(maxAge).isBefore(clock.instant());
+    }
+
+    private BigDecimal getPrice(BookTicker bookTicker, Function<BookTicker, String> priceFunction, String symbol) {
+        if (bookTicker == null || priceFunction.apply(bookTicker) == null) {
+            throw new CryptoTraderException("No price found for " + symbol + "!");
+        }
+        BigDecimal price = new BigDecimal(priceFunction.apply(bookTicker));
+        if (price.compareTo(ZERO) == 0) {
+            throw new CryptoTraderException("No price found for " + symbol + "!");
+        }
+        return price;
+    }
+}
@@ -0,0 +1,178 @@
+package com.psw.cta.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.psw.cta.exception.BinanceApiException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Token bucket guarding the request weight budget of Binance API. Every request is charged with its known weight
+ * before it is sent and the bucket is refilled continuously with the whole budget per minute. The bucket is reconciled
+ * with the weight reported by the exchange in responses and its state is persisted at most once per second and
+ * flushed at the end of every trading cycle, so warm Lambda invocations continue with the budget left by the previous
+ * invocation.
+ */
+public class RequestWeightLimiter {
+
+    private static final long ONE_MINUTE_MILLIS = 60_000L;
+    private static final long PERSIST_INTERVAL_MILLIS = 1_000L;
+
+    private final int weightPerMinute;
+    private final Path stateFile;
+    private final Clock clock;
+    private final LambdaLogger logger;
+    private final ReentrantLock lock = new ReentrantLock();
+    private double availableWeight;
+    private long lastRefillMillis;
+    private long lastPersistMillis;
+
+    /**
+     * Default constructor.
+     *
+     * @param weightPerMinute request weight allowed per minute
+     * @param stateFile       file where state of the bucket is persisted, or null when state is not persisted
+     * @param clock           clock used for refilling of the bucket
+     * @param logger          logger
+     */
+    public RequestWeightLimiter(int weightPerMinute, Path stateFile, Clock clock, LambdaLogger logger) {
+        this.weightPerMinute = weightPerMinute;
+        this.stateFile = stateFile;
+        this.clock = clock;
+        this.logger = logger;
+        this.availableWeight = weightPerMinute;
+        this.lastRefillMillis = clock.millis();
+        load();
+    }
+
+    /**
+     * Takes provided weight from the bucket. Blocks until the bucket holds enough weight.
+     *
+     * @param weight weight of request
+     * @throws BinanceApiException when waiting thread is interrupted, the request must not be sent then
+     */
+    public void acquire(int weight) {
+        long waitMillis = tryAcquire(weight);
+        while (waitMillis > 0) {
+            logger.log("Request weight budget exhausted, waiting " + waitMillis + " ms");
+            try {
+                Thread.sleep(waitMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BinanceApiException("Interrupted while waiting for request weight", e);
+            }
+            waitMillis = tryAcquire(weight);
+        }
+    }
+
+    /**
+     * Reconciles the bucket with weight used in current minute as reported by the exchange.
+     *
+     * @param usedWeight weight used in current minute
+     */
+    public void reconcile(int usedWeight) {
+        lock.lock();
+        try {
+            refill();
+            availableWeight = Math.min(availableWeight, weightPerMinute - usedWeight);
+            persist();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Persists state of the bucket right now, so weight charged since the last throttled persist is not lost.
+     */
+    public void flush() {
+        lock.lock();
+        try {
+            lastPersistMillis = clock.millis();
+            write();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns weight currently available in the bucket.
+     *
+     * @return available weight
+     */
+    public double getAvailableWeight() {
+        lock.lock();
+        try {
+            refill();
+            return availableWeight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long tryAcquire(int weight) {
+        lock.lock();
+        try {
+            refill();
+            int requiredWeight = Math.min(weight, weightPerMinute);
+            if (availableWeight >= requiredWeight) {
+                availableWeight -= requiredWeight;
+                persist();
+                return 0;
+            }
+            double missingWeight = requiredWeight - availableWeight;
+            return (long) Math.ceil(missingWeight * ONE_MINUTE_MILLIS / weightPerMinute);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill() {
+        long now = clock.millis();
+        long elapsedMillis = Math.max(0, now - lastRefillMillis);
+        availableWeight = Math.min(weightPerMinute,
+                                   availableWeight + (double) elapsedMillis * weightPerMinute / ONE_MINUTE_MILLIS);
+        lastRefillMillis = now;
+    }
+
+    private void load() {
+        if (stateFile == null || !Files.exists(stateFile)) {
+            return;
+        }
+        try {
+            String[] state = Files.readString(stateFile, UTF_8).trim().split(" ");
+            availableWeight = Math.min(weightPerMinute, Double.parseDouble(state[0]));
+            lastRefillMillis = Long.parseLong(state[1]);
+            refill();
+        } catch (IOException | RuntimeException e) {
+            logger.log("Failed to load request weight state: " + e);
+        }
+    }
+
+    private void persist() {
+        long now = clock.millis();
+        if (now - lastPersistMillis < PERSIST_INTERVAL_MILLIS) {
+            return;
+        }
+        lastPersistMillis = now;
+        write();
+    }
+
+    private void write() {
+        if (stateFile == null) {
+            return;
+        }
+        try {
+            Path tempFile = stateFile.resolveSibling(stateFile.getFileName() + ".tmp");
+            Files.writeString(tempFile, availableWeight + " " + lastRefillMillis, UTF_8);
+            Files.move(tempFile, stateFile, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.log("Failed to persist request weight state: " + e);
+        }
+    }
+}
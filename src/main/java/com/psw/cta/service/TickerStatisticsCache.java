@@ -0,0 +1,69 @@
+package com.psw.cta.service;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.psw.cta.dto.binance.TickerStatistics;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cache of 24 hour price change statistics of all symbols. Statistics are downloaded by a single request and reused
+ * until they are older than the staleness bound. Callers asking for stale statistics at the same time wait for one
+ * download, so the heavy request is paid once also when the cache is shared by many traders.
+ */
+public class TickerStatisticsCache {
+
+    private final BinanceClient binanceClient;
+    private final Duration maxAge;
+    private final Clock clock;
+    private final LambdaLogger logger;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile List<TickerStatistics> tickerStatistics = List.of();
+    private volatile Instant refreshedAt = Instant.MIN;
+
+    /**
+     * Default constructor.
+     *
+     * @param binanceClient Binance client
+     * @param maxAge        maximal age of statistics before they are downloaded again
+     * @param clock         clock used to determine age of statistics
+     * @param logger        logger
+     */
+    public TickerStatisticsCache(BinanceClient binanceClient, Duration maxAge, Clock clock, LambdaLogger logger) {
+        this.binanceClient = binanceClient;
+        this.maxAge = maxAge;
+        this.clock = clock;
+        this.logger = logger;
+    }
+
+    /**
+     * Returns 24 hour price change statistics of all symbols.
+     *
+     * @return statistics of all symbols
+     */
+    public List<TickerStatistics> getAll24hTickers() {
+        if (isStale()) {
+            refreshLock.lock();
+            try {
+                if (isStale()) {
+                    refresh();
+                }
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+        return tickerStatistics;
+    }
+
+    private void refresh() {
+        logger.log("Get 24 h Tickers");
+        tickerStatistics = List.copyOf(binanceClient.getAll24HrPriceStatistics());
+        refreshedAt = clock.instant();
+    }
+
+    private boolean isStale() {
+        return refreshedAt.plus(maxAge).isBefore(clock.instant());
+    }
+}
@@ -0,0 +1,69 @@
+package com.psw.cta.service;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+/**
+ * Executors of one trader. Blocking calls of Binance API run on virtual threads, so stages doing I/O scale with
+ * latency of the exchange instead of number of cores. Every I/O stage has its own limit of concurrent requests. CPU
+ * bound analytics run on a pool bounded by number of cores, so they neither occupy the common fork-join pool nor wait
+ * behind blocked I/O.
+ */
+public class TradingExecutors implements AutoCloseable {
+
+    private final ExecutorService ioExecutor;
+    private final ForkJoinPool cpuPool;
+    private final LambdaLogger logger;
+
+    /**
+     * Default constructor.
+     *
+     * @param cpuParallelism number of threads of the pool for CPU bound analytics
+     * @param logger         logger
+     */
+    public TradingExecutors(int cpuParallelism, LambdaLogger logger) {
+        this.ioExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        this.cpuPool = new ForkJoinPool(cpuParallelism);
+        this.logger = logger;
+    }
+
+    /**
+     * Creates stage fetching market data on virtual threads.
+     *
+     * @param maxConcurrentRequests maximal number of fetches of the stage running at the same time
+     * @return fetcher of the stage
+     */
+    public MarketDataFetcher createIoStage(int maxConcurrentRequests) {
+        return new MarketDataFetcher(ioExecutor, maxConcurrentRequests, logger);
+    }
+
+    /**
+     * Returns executor for blocking tasks.
+     *
+     * @return executor running every task on its own virtual thread
+     */
+    public ExecutorService getIoExecutor() {
+        return ioExecutor;
+    }
+
+    /**
+     * Runs CPU bound computation on the bounded pool and waits for its result. Parallel streams used by the
+     * computation run on the same pool.
+     *
+     * @param computation computation
+     * @param <T>         type of result
+     * @return result of computation
+     */
+    public <T> T computeOnCpu(Supplier<T> computation) {
+        return cpuPool.submit(computation::get).join();
+    }
+
+    @Override
+    public void close() {
+        ioExecutor.shutdownNow();
+        cpuPool.shutdownNow();
+    }
+}
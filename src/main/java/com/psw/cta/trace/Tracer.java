@@ -0,0 +1,173 @@
+package com.psw.cta.trace;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+/**
+ * Tracer of trading cycle. Spans are recorded as complete events of the thread which opened them, so nested spans of
+ * one thread are shown as a call tree and spans of concurrent fetches as parallel tracks. Recorded spans are exported
+ * as Chrome trace JSON, which can be opened in Perfetto or in chrome://tracing. Tracer without trace file records
+ * nothing and its spans cost a single branch.
+ */
+public class Tracer {
+
+    private static final Span NOOP_SPAN = new Span(null, null);
+
+    private final Path traceFile;
+    private final LambdaLogger logger;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Queue<Event> events = new ConcurrentLinkedQueue<>();
+    private final long originNanos = System.nanoTime();
+
+    /**
+     * Default constructor.
+     *
+     * @param traceFile file where spans are exported, or null when tracing is disabled
+     * @param logger    logger
+     */
+    public Tracer(Path traceFile, LambdaLogger logger) {
+        this.traceFile = traceFile;
+        this.logger = logger;
+    }
+
+    /**
+     * Opens span on current thread. Span is recorded when it is closed.
+     *
+     * @param name name of span
+     * @return opened span
+     */
+    public Span span(String name) {
+        if (traceFile == null) {
+            return NOOP_SPAN;
+        }
+        return new Span(this, name);
+    }
+
+    /**
+     * Runs task inside of span.
+     *
+     * @param name name of span
+     * @param task traced task
+     */
+    public void trace(String name, Runnable task) {
+        try (Span ignored = span(name)) {
+            task.run();
+        }
+    }
+
+    /**
+     * Runs task inside of span.
+     *
+     * @param name name of span
+     * @param task traced task
+     * @param <T>  type of result
+     * @return result of task
+     */
+    public <T> T trace(String name, Supplier<T> task) {
+        try (Span ignored = span(name)) {
+            return task.get();
+        }
+    }
+
+    /**
+     * Writes all spans recorded since the last export into trace file and starts recording again.
+     */
+    public void export() {
+        if (traceFile == null) {
+            return;
+        }
+        List<Event> exportedEvents = new ArrayList<>();
+        Event event = events.poll();
+        while (event != null) {
+            exportedEvents.add(event);
+            event = events.poll();
+        }
+        try {
+            Path tempFile = traceFile.resolveSibling(traceFile.getFileName() + ".tmp");
+            Files.writeString(tempFile, objectMapper.writeValueAsString(toChromeTrace(exportedEvents)), UTF_8);
+            Files.move(tempFile, traceFile, REPLACE_EXISTING, ATOMIC_MOVE);
+            logger.log("Trace with " + exportedEvents.size() + " spans written to " + traceFile);
+        } catch (IOException e) {
+            logger.log("Failed to write trace: " + e);
+        }
+    }
+
+    private Map<String, Object> toChromeTrace(List<Event> exportedEvents) {
+        List<Map<String, Object>> traceEvents = new ArrayList<>();
+        Map<Long, String> threadNames = new LinkedHashMap<>();
+        for (Event event : exportedEvents) {
+            threadNames.putIfAbsent(event.threadId(), event.threadName());
+            Map<String, Object> traceEvent = new LinkedHashMap<>();
+            traceEvent.put("name", event.name());
+            traceEvent.put("ph", "X");
+            traceEvent.put("ts", event.startMicros());
+            traceEvent.put("dur", event.durationMicros());
+            traceEvent.put("pid", 1);
+            traceEvent.put("tid", event.threadId());
+            traceEvents.add(traceEvent);
+        }
+        threadNames.forEach((threadId, threadName) -> {
+            Map<String, Object> metadata = new LinkedHashMap<>();
+            metadata.put("name", "thread_name");
+            metadata.put("ph", "M");
+            metadata.put("pid", 1);
+            metadata.put("tid", threadId);
+            metadata.put("args", Map.of("name", threadName));
+            traceEvents.add(metadata);
+        });
+        Map<String, Object> trace = new LinkedHashMap<>();
+        trace.put("traceEvents", traceEvents);
+        trace.put("displayTimeUnit", "ms");
+        return trace;
+    }
+
+    private void record(String name, long startNanos, long endNanos) {
+        Thread thread = Thread.currentThread();
+        String threadName = thread.getName().isEmpty() ? "thread-" + thread.threadId() : thread.getName();
+        events.add(new Event(name,
+                             thread.threadId(),
+                             threadName,
+                             (startNanos - originNanos) / 1_000,
+                             (endNanos - startNanos) / 1_000));
+    }
+
+    /**
+     * Span of traced operation. Closing of span records it.
+     */
+    public static final class Span implements AutoCloseable {
+
+        private final Tracer tracer;
+        private final String name;
+        private final long startNanos;
+
+        private Span(Tracer tracer, String name) {
+            this.tracer = tracer;
+            this.name = name;
+            this.startNanos = tracer == null ? 0 : System.nanoTime();
+        }
+
+        @Override
+        public void close() {
+            if (tracer != null) {
+                tracer.record(name, startNanos, System.nanoTime());
+            }
+        }
+    }
+
+    private record Event(String name, long threadId, String threadName, long startMicros, long durationMicros) {
+    }
+}
@@ -17,6 +17,16 @@ public class BinanceApiConstants {
      */
     public static final String API_KEY_HEADER = "X-MBX-APIKEY";
 
+    /**
+     * HTTP Header holding request weight used by the IP in the current minute.
+     */
+    public static final String USED_WEIGHT_HEADER = "X-MBX-USED-WEIGHT-1M";
+
+    /**
+     * Request weight allowed per IP and minute.
+     */
+    public static final int REQUEST_WEIGHT_PER_MINUTE = 6000;
+
     /**
      * Decorator to indicate that an endpoint requires an API key.
      */
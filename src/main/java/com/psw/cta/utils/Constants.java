@@ -1,7 +1,5 @@
 package com.psw.cta.utils;
 
-import static java.math.RoundingMode.CEILING;
-
 import java.math.BigDecimal;
 
 /**
@@ -18,7 +16,6 @@ public class Constants {
     public static final String ASSET_BNB = "BNB";
     public static final String ASSET_BTC = "BTC";
     public static final BigDecimal MIN_PRICE_TO_SELL_PERCENTAGE = new BigDecimal("0.5");
-    public static final BigDecimal MIN_PROFIT_PERCENTAGE = MIN_PRICE_TO_SELL_PERCENTAGE.divide(TWO, 8, CEILING);
     public static final BigDecimal[] FIBONACCI_SEQUENCE = new BigDecimal[] {new BigDecimal("2"),
                                                                             new BigDecimal("3"),
                                                                             new BigDecimal("5"),
@@ -1,13 +1,25 @@
 package com.psw.cta.utils;
 
 import static com.psw.cta.utils.BinanceApiConstants.API_BASE_URL;
+import static com.psw.cta.utils.BinanceApiConstants.REQUEST_WEIGHT_PER_MINUTE;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
 import com.amazonaws.services.lambda.runtime.LambdaLogger;
 import com.psw.cta.CryptoTrader;
+import com.psw.cta.MultiAccountTrader;
 import com.psw.cta.api.BinanceApi;
+import com.psw.cta.backtest.BacktestCandlestickStore;
+import com.psw.cta.backtest.BacktestExchangeInfoCache;
+import com.psw.cta.backtest.SimulatedClock;
+import com.psw.cta.backtest.SimulatedExchange;
+import com.psw.cta.dto.TradingAccount;
+import com.psw.cta.logging.AsyncLogger;
+import com.psw.cta.logging.LogLevel;
+import com.psw.cta.metrics.MetricsEventListener;
+import com.psw.cta.metrics.MetricsRegistry;
 import com.psw.cta.processor.LambdaTradeProcessor;
 import com.psw.cta.processor.LocalTradeProcessor;
+import com.psw.cta.processor.StrategyParameters;
 import com.psw.cta.processor.trade.AcquireProcessor;
 import com.psw.cta.processor.trade.BnbTradeProcessor;
 import com.psw.cta.processor.trade.CancelProcessor;
@@ -15,10 +27,25 @@ import com.psw.cta.processor.trade.CryptoProcessor;
 import com.psw.cta.processor.trade.ExtractProcessor;
 import com.psw.cta.processor.trade.RepeatTradingProcessor;
 import com.psw.cta.processor.trade.SplitProcessor;
+import com.psw.cta.replay.RecordingInterceptor;
 import com.psw.cta.security.AuthenticationInterceptor;
 import com.psw.cta.service.BinanceClient;
 import com.psw.cta.service.BinanceService;
+import com.psw.cta.service.CandlestickStore;
+import com.psw.cta.service.ExchangeInfoCache;
+import com.psw.cta.service.MarketDataFetcher;
+import com.psw.cta.service.PriceSnapshotService;
+import com.psw.cta.service.RequestWeightLimiter;
+import com.psw.cta.service.TickerStatisticsCache;
+import com.psw.cta.service.TradingExecutors;
+import com.psw.cta.trace.Tracer;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
 import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 import retrofit2.Retrofit;
@@ -31,6 +58,28 @@ import retrofit2.converter.jackson.JacksonConverterFactory;
  */
 public class IocProvider {
 
+    /**
+     * Directory where state of request weight, exchange information and candlesticks survives between invocations.
+     */
+    public static final Path DEFAULT_CACHE_DIRECTORY = Path.of("/tmp");
+
+    private static final String METRICS_NAMESPACE = "CryptoTrader";
+    private static final int LOG_BUFFER_CAPACITY = 8192;
+    private static final Duration LOG_FLUSH_INTERVAL = Duration.ofMillis(200);
+    private static final int CRYPTO_STAGE_CONCURRENT_REQUESTS = 32;
+    private static final int ORDER_STAGE_CONCURRENT_REQUESTS = 16;
+    private static final int ACQUIRE_STAGE_CONCURRENT_REQUESTS = 16;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration PRICE_SNAPSHOT_MAX_AGE = Duration.ofSeconds(30);
+    private static final Duration TICKER_STATISTICS_MAX_AGE = Duration.ofMinutes(1);
+    private static final String REQUEST_WEIGHT_STATE_FILE = "binance-request-weight";
+    private static final String EXCHANGE_INFO_SNAPSHOT_FILE = "exchange-info.bin";
+    private static final Duration EXCHANGE_INFO_TIME_TO_LIVE = Duration.ofMinutes(15);
+    private static final Duration EXCHANGE_INFO_MAX_STALENESS = Duration.ofHours(6);
+    private static final Executor CALLING_THREAD_EXECUTOR = Runnable::run;
+    private static final String CANDLESTICK_STORE_DIRECTORY = "candlesticks";
+    private static final int SIMULATED_REQUEST_WEIGHT_PER_MINUTE = Integer.MAX_VALUE;
+    private static final String MARKET_DATA_METRICS_NAMESPACE = METRICS_NAMESPACE + "/MarketData";
 
     /**
      * Private constructor to prevent instantiation of this utility class.
@@ -39,24 +88,44 @@ public class IocProvider {
     }
 
     /**
-     * Creates CryptoTrader instance with lambda trade processor and forbidden pairs.
+     * Creates level aware logger writing asynchronously to provided logger. Logger has to be closed at the end of
+     * invocation, so all messages are written.
+     *
+     * @param logger   Lambda logger instance
+     * @param minLevel minimal level of logged messages
+     * @return asynchronous logger
+     */
+    public static AsyncLogger createLogger(LambdaLogger logger, LogLevel minLevel) {
+        return new AsyncLogger(logger, minLevel, LOG_BUFFER_CAPACITY, LOG_FLUSH_INTERVAL);
+    }
+
+    /**
+     * Creates CryptoTrader instance with lambda trade processor and forbidden pairs. Exchange information is
+     * revalidated in the calling thread, because executors of Lambda are frozen between invocations.
      *
      * @param apiKey         Binance API key
      * @param apiSecret      Binance API secret
      * @param logger         Lambda logger instance
      * @param forbiddenPairs List of trading pairs that are forbidden for trading
+     * @param recordFile     archive where requests are recorded, or null when recording is disabled
+     * @param cacheDirectory existing directory where state of request weight and market data is cached
      * @return CryptoTrader instance
      */
     public static CryptoTrader createCryptoTrader(String apiKey,
                                                   String apiSecret,
                                                   LambdaLogger logger,
-                                                  List<String> forbiddenPairs) {
-        BinanceApi binanceApi = createBinanceApi(apiKey, apiSecret);
-        BinanceClient binanceClient = createBinanceClient(binanceApi, logger);
-        BinanceService binanceService = createBinanceService(binanceClient, logger);
-        BnbTradeProcessor bnbTradeProcessor = createBnbTradeProcessor(binanceService, logger);
-        LambdaTradeProcessor tradeProcessor = createLambdaTradeProcessor(binanceService, forbiddenPairs, logger);
-        return new CryptoTrader(binanceService, bnbTradeProcessor, tradeProcessor, logger);
+                                                  List<String> forbiddenPairs,
+                                                  Path recordFile,
+                                                  Path cacheDirectory) {
+        return createSingleAccountTrader(apiKey,
+                                         apiSecret,
+                                         forbiddenPairs,
+                                         API_BASE_URL,
+                                         recordFile,
+                                         null,
+                                         cacheDirectory,
+                                         false,
+                                         logger);
     }
 
     /**
@@ -68,29 +137,356 @@ public class IocProvider {
      * @return CryptoTrader instance
      */
     public static CryptoTrader createCryptoTrader(String apiKey, String apiSecret, LambdaLogger logger) {
-        BinanceApi binanceApi = createBinanceApi(apiKey, apiSecret);
-        BinanceClient binanceClient = createBinanceClient(binanceApi, logger);
-        BinanceService binanceService = createBinanceService(binanceClient, logger);
+        return createCryptoTrader(apiKey, apiSecret, logger, API_BASE_URL, null, null, DEFAULT_CACHE_DIRECTORY);
+    }
+
+    /**
+     * Creates CryptoTrader instance with local trade processor connected to provided server. Every request and
+     * response can be recorded into an archive, which can be replayed later by a stand-in server. Spans of every
+     * trading cycle can be written into a Chrome trace file. A trader connected to a stand-in server should get its
+     * own cache directory, so recorded market data is not mixed with the data of the exchange.
+     *
+     * @param apiKey         Binance API key
+     * @param apiSecret      Binance API secret
+     * @param logger         Lambda logger instance
+     * @param baseUrl        base URL of Binance API or of a stand-in server
+     * @param recordFile     archive where requests are recorded, or null when recording is disabled
+     * @param traceFile      file where trace of trading cycle is written, or null when tracing is disabled
+     * @param cacheDirectory existing directory where state of request weight and market data is cached
+     * @return CryptoTrader instance
+     */
+    public static CryptoTrader createCryptoTrader(String apiKey,
+                                                  String apiSecret,
+                                                  LambdaLogger logger,
+                                                  String baseUrl,
+                                                  Path recordFile,
+                                                  Path traceFile,
+                                                  Path cacheDirectory) {
+        MetricsRegistry metricsRegistry = createMetricsRegistry(logger);
+        Tracer tracer = new Tracer(traceFile, logger);
+        BinanceApi binanceApi = createBinanceApi(apiKey, apiSecret, baseUrl, recordFile, metricsRegistry, logger);
+        BinanceClient binanceClient = createBinanceClient(binanceApi, metricsRegistry, tracer, cacheDirectory, logger);
+        TradingExecutors tradingExecutors = createTradingExecutors(logger);
+        BinanceService binanceService = createBinanceService(binanceClient,
+                                                             createMarketData(binanceClient,
+                                                                              tradingExecutors.getIoExecutor(),
+                                                                              cacheDirectory,
+                                                                              logger),
+                                                             tracer,
+                                                             logger);
+        BnbTradeProcessor bnbTradeProcessor = createBnbTradeProcessor(binanceService, logger);
+        LocalTradeProcessor tradeProcessor = createLocalTradeProcessor(binanceService,
+                                                                       tradingExecutors,
+                                                                       tracer,
+                                                                       logger);
+        return new CryptoTrader(binanceService,
+                                bnbTradeProcessor,
+                                tradeProcessor,
+                                tradingExecutors,
+                                metricsRegistry,
+                                tracer,
+                                Clock.systemUTC(),
+                                logger);
+    }
+
+    /**
+     * Creates CryptoTrader instance with lambda trade processor for {@link com.psw.cta.TradingDaemon} connected to
+     * provided server. The trader lives as long as the daemon, so exchange information is revalidated in the
+     * background between cycles. The trace file holds spans of the last trading cycle.
+     *
+     * @param apiKey         Binance API key
+     * @param apiSecret      Binance API secret
+     * @param logger         Lambda logger instance
+     * @param forbiddenPairs List of trading pairs that are forbidden for trading
+     * @param baseUrl        base URL of Binance API or of a stand-in server
+     * @param recordFile     archive where requests are recorded, or null when recording is disabled
+     * @param traceFile      file where trace of trading cycle is written, or null when tracing is disabled
+     * @param cacheDirectory existing directory where state of request weight and market data is cached
+     * @return CryptoTrader instance
+     */
+    public static CryptoTrader createDaemonTrader(String apiKey,
+                                                  String apiSecret,
+                                                  LambdaLogger logger,
+                                                  List<String> forbiddenPairs,
+                                                  String baseUrl,
+                                                  Path recordFile,
+                                                  Path traceFile,
+                                                  Path cacheDirectory) {
+        return createSingleAccountTrader(apiKey,
+                                         apiSecret,
+                                         forbiddenPairs,
+                                         baseUrl,
+                                         recordFile,
+                                         traceFile,
+                                         cacheDirectory,
+                                         true,
+                                         logger);
+    }
+
+    private static CryptoTrader createSingleAccountTrader(String apiKey,
+                                                          String apiSecret,
+                                                          List<String> forbiddenPairs,
+                                                          String baseUrl,
+                                                          Path recordFile,
+                                                          Path traceFile,
+                                                          Path cacheDirectory,
+                                                          boolean backgroundRevalidation,
+                                                          LambdaLogger logger) {
+        MetricsRegistry metricsRegistry = createMetricsRegistry(logger);
+        Tracer tracer = new Tracer(traceFile, logger);
+        BinanceApi binanceApi = createBinanceApi(apiKey,
+                                                 apiSecret,
+                                                 baseUrl,
+                                                 recordFile,
+                                                 metricsRegistry,
+                                                 logger);
+        BinanceClient binanceClient = createBinanceClient(binanceApi, metricsRegistry, tracer, cacheDirectory, logger);
+        TradingExecutors tradingExecutors = createTradingExecutors(logger);
+        Executor revalidationExecutor = backgroundRevalidation ? tradingExecutors.getIoExecutor()
+            : CALLING_THREAD_EXECUTOR;
+        BinanceService binanceService = createBinanceService(binanceClient,
+                                                             createMarketData(binanceClient,
+                                                                              revalidationExecutor,
+                                                                              cacheDirectory,
+                                                                              logger),
+                                                             tracer,
+                                                             logger);
+        return createLambdaTrader(binanceService,
+                                  tradingExecutors,
+                                  tradingExecutors,
+                                  forbiddenPairs,
+                                  metricsRegistry,
+                                  tracer,
+                                  logger);
+    }
+
+    /**
+     * Creates trader of several Binance accounts trading with lambda trade processor at the same time. Every account
+     * has its own signed client, metrics and trace. Exchange information, prices, 24 hour statistics and candlesticks
+     * are downloaded by one unsigned client and cached once for all accounts. All clients share one connection pool
+     * and one budget of request weight, because Binance limits request weight per IP address. Executors of all
+     * accounts are closed with the returned trader.
+     *
+     * @param accounts       traded accounts
+     * @param logger         Lambda logger instance
+     * @param forbiddenPairs List of trading pairs that are forbidden for trading in every account
+     * @param recordFile     archive where requests of all clients are recorded, or null when recording is disabled
+     * @param cacheDirectory existing directory where state of request weight and market data is cached
+     * @return trader of all accounts
+     */
+    public static MultiAccountTrader createMultiAccountTrader(List<TradingAccount> accounts,
+                                                              LambdaLogger logger,
+                                                              List<String> forbiddenPairs,
+                                                              Path recordFile,
+                                                              Path cacheDirectory) {
+        OkHttpClient sharedOkHttpClient = createSharedOkHttpClient();
+        RecordingInterceptor recordingInterceptor = createRecordingInterceptor(recordFile, logger);
+        RequestWeightLimiter requestWeightLimiter = createRequestWeightLimiter(cacheDirectory, logger);
+        MetricsRegistry marketDataMetricsRegistry = createMetricsRegistry(MARKET_DATA_METRICS_NAMESPACE, logger);
+        OkHttpClient marketDataOkHttpClient = build(sharedOkHttpClient.newBuilder()
+                                                                      .eventListener(new MetricsEventListener(
+                                                                          marketDataMetricsRegistry)),
+                                                    recordingInterceptor);
+        BinanceClient marketDataClient = new BinanceClient(logger,
+                                                           createBinanceApi(marketDataOkHttpClient, API_BASE_URL),
+                                                           requestWeightLimiter,
+                                                           marketDataMetricsRegistry,
+                                                           new Tracer(null, logger));
+        TradingExecutors tradingExecutors = createTradingExecutors(logger);
+        MarketData marketData = createMarketData(marketDataClient, CALLING_THREAD_EXECUTOR, cacheDirectory, logger);
+        Map<String, CryptoTrader> cryptoTraders = new LinkedHashMap<>();
+        for (TradingAccount account : accounts) {
+            MetricsRegistry metricsRegistry = createMetricsRegistry(METRICS_NAMESPACE + "/" + account.name(), logger);
+            Tracer tracer = new Tracer(null, logger);
+            OkHttpClient okHttpClient = build(getOkHttpClientBuilder(sharedOkHttpClient,
+                                                                     account.apiKey(),
+                                                                     account.apiSecret(),
+                                                                     metricsRegistry),
+                                              recordingInterceptor);
+            BinanceClient binanceClient = new BinanceClient(logger,
+                                                            createBinanceApi(okHttpClient, API_BASE_URL),
+                                                            requestWeightLimiter,
+                                                            metricsRegistry,
+                                                            tracer);
+            BinanceService binanceService = createBinanceService(binanceClient, marketData, tracer, logger);
+            cryptoTraders.put(account.name(), createLambdaTrader(binanceService,
+                                                                 tradingExecutors,
+                                                                 null,
+                                                                 forbiddenPairs,
+                                                                 metricsRegistry,
+                                                                 tracer,
+                                                                 logger));
+        }
+        return new MultiAccountTrader(cryptoTraders,
+                                      tradingExecutors,
+                                      marketDataMetricsRegistry,
+                                      logger);
+    }
+
+    /**
+     * Creates CryptoTrader instance with lambda trade processor trading on simulated exchange. The exchange is called
+     * through the real Binance client, so requests go through weight limiting, metrics and error handling as they do
+     * in production. Every component reads simulated time from provided clock and nothing sleeps, so trading cycles
+     * run as fast as they are computed. Provided executors are not closed, so they can be shared by many simulations.
+     *
+     * @param exchange         simulated exchange answering calls of Binance API
+     * @param clock            clock with simulated time
+     * @param tradingExecutors executors running market data fetches and CPU bound stages
+     * @param logger           Lambda logger instance
+     * @return CryptoTrader instance
+     */
+    public static CryptoTrader createSimulatedTrader(SimulatedExchange exchange,
+                                                     SimulatedClock clock,
+                                                     TradingExecutors tradingExecutors,
+                                                     LambdaLogger logger) {
+        return createSimulatedTrader(exchange, clock, tradingExecutors, StrategyParameters.DEFAULT, logger);
+    }
+
+    /**
+     * Creates CryptoTrader instance with lambda trade processor trading on simulated exchange with provided thresholds
+     * of the strategy. Provided executors are not closed, so they can be shared by many simulations.
+     *
+     * @param exchange         simulated exchange answering calls of Binance API
+     * @param clock            clock with simulated time
+     * @param tradingExecutors executors running market data fetches and CPU bound stages
+     * @param parameters       thresholds of the strategy
+     * @param logger           Lambda logger instance
+     * @return CryptoTrader instance
+     */
+    public static CryptoTrader createSimulatedTrader(SimulatedExchange exchange,
+                                                     SimulatedClock clock,
+                                                     TradingExecutors tradingExecutors,
+                                                     StrategyParameters parameters,
+                                                     LambdaLogger logger) {
+        MetricsRegistry metricsRegistry = new MetricsRegistry(METRICS_NAMESPACE, clock, logger);
+        Tracer tracer = new Tracer(null, logger);
+        BinanceClient binanceClient = new BinanceClient(logger,
+                                                        exchange,
+                                                        new RequestWeightLimiter(SIMULATED_REQUEST_WEIGHT_PER_MINUTE,
+                                                                                 null,
+                                                                                 clock,
+                                                                                 logger),
+                                                        metricsRegistry,
+                                                        tracer);
+        return createSimulationTrader(binanceClient,
+                                      clock,
+                                      tradingExecutors,
+                                      parameters,
+                                      metricsRegistry,
+                                      tracer,
+                                      logger);
+    }
+
+    private static CryptoTrader createSimulationTrader(BinanceClient binanceClient,
+                                                       SimulatedClock clock,
+                                                       TradingExecutors tradingExecutors,
+                                                       StrategyParameters parameters,
+                                                       MetricsRegistry metricsRegistry,
+                                                       Tracer tracer,
+                                                       LambdaLogger logger) {
+        BinanceService binanceService = new BinanceService(binanceClient,
+                                                           new PriceSnapshotService(binanceClient,
+                                                                                    Duration.ZERO,
+                                                                                    clock,
+                                                                                    logger),
+                                                           new BacktestExchangeInfoCache(binanceClient),
+                                                           new BacktestCandlestickStore(binanceClient),
+                                                           new TickerStatisticsCache(binanceClient,
+                                                                                     Duration.ZERO,
+                                                                                     clock,
+                                                                                     logger),
+                                                           clock,
+                                                           Sleeper.NONE,
+                                                           tracer,
+                                                           logger);
         BnbTradeProcessor bnbTradeProcessor = createBnbTradeProcessor(binanceService, logger);
-        LocalTradeProcessor tradeProcessor = createLocalTradeProcessor(binanceService, logger);
-        return new CryptoTrader(binanceService, bnbTradeProcessor, tradeProcessor, logger);
+        LambdaTradeProcessor tradeProcessor = createLambdaTradeProcessor(binanceService,
+                                                                         tradingExecutors,
+                                                                         List.of(),
+                                                                         parameters,
+                                                                         clock,
+                                                                         metricsRegistry,
+                                                                         tracer,
+                                                                         logger);
+        return new CryptoTrader(binanceService,
+                                bnbTradeProcessor,
+                                tradeProcessor,
+                                null,
+                                metricsRegistry,
+                                tracer,
+                                clock,
+                                logger);
+    }
+
+    private static MetricsRegistry createMetricsRegistry(LambdaLogger logger) {
+        return createMetricsRegistry(METRICS_NAMESPACE, logger);
+    }
+
+    private static MetricsRegistry createMetricsRegistry(String namespace, LambdaLogger logger) {
+        return new MetricsRegistry(namespace, Clock.systemUTC(), AsyncLogger.unwrap(logger));
     }
 
-    private static BinanceApi createBinanceApi(String apiKey, String apiSecret) {
-        return new Retrofit.Builder().baseUrl(API_BASE_URL)
-                                     .client(getOkHttpClient(apiKey, apiSecret))
+    private static BinanceApi createBinanceApi(String apiKey,
+                                               String apiSecret,
+                                               String baseUrl,
+                                               Path recordFile,
+                                               MetricsRegistry metricsRegistry,
+                                               LambdaLogger logger) {
+        OkHttpClient okHttpClient = getOkHttpClient(apiKey, apiSecret, recordFile, metricsRegistry, logger);
+        return createBinanceApi(okHttpClient, baseUrl);
+    }
+
+    private static BinanceApi createBinanceApi(OkHttpClient okHttpClient, String baseUrl) {
+        return new Retrofit.Builder().baseUrl(baseUrl)
+                                     .client(okHttpClient)
                                      .addConverterFactory(JacksonConverterFactory.create())
                                      .build()
                                      .create(BinanceApi.class);
     }
 
-    private static OkHttpClient getOkHttpClient(String apiKey, String secret) {
+    private static OkHttpClient getOkHttpClient(String apiKey,
+                                                String secret,
+                                                Path recordFile,
+                                                MetricsRegistry metricsRegistry,
+                                                LambdaLogger logger) {
+        OkHttpClient.Builder builder = getOkHttpClientBuilder(createSharedOkHttpClient(),
+                                                              apiKey,
+                                                              secret,
+                                                              metricsRegistry);
+        return build(builder, createRecordingInterceptor(recordFile, logger));
+    }
+
+    private static RecordingInterceptor createRecordingInterceptor(Path recordFile, LambdaLogger logger) {
+        if (recordFile == null) {
+            return null;
+        }
+        logger.log("Recording requests into " + recordFile);
+        return new RecordingInterceptor(recordFile, logger);
+    }
+
+    private static OkHttpClient build(OkHttpClient.Builder builder, RecordingInterceptor recordingInterceptor) {
+        if (recordingInterceptor != null) {
+            builder.addInterceptor(recordingInterceptor);
+        }
+        return builder.build();
+    }
+
+    private static OkHttpClient createSharedOkHttpClient() {
         return new OkHttpClient.Builder().dispatcher(getDispatcher())
+                                         .callTimeout(REQUEST_TIMEOUT)
                                          .pingInterval(20, SECONDS)
-                                         .addInterceptor(new AuthenticationInterceptor(apiKey, secret))
                                          .build();
     }
 
+    private static OkHttpClient.Builder getOkHttpClientBuilder(OkHttpClient sharedOkHttpClient,
+                                                               String apiKey,
+                                                               String secret,
+                                                               MetricsRegistry metricsRegistry) {
+        return sharedOkHttpClient.newBuilder()
+                                 .eventListener(new MetricsEventListener(metricsRegistry))
+                                 .addInterceptor(new AuthenticationInterceptor(apiKey, secret));
+    }
+
     private static Dispatcher getDispatcher() {
         Dispatcher dispatcher = new Dispatcher();
         dispatcher.setMaxRequestsPerHost(500);
@@ -98,12 +494,94 @@ public class IocProvider {
         return dispatcher;
     }
 
-    private static BinanceClient createBinanceClient(BinanceApi binanceApi, LambdaLogger logger) {
-        return new BinanceClient(logger, binanceApi);
+    private static BinanceClient createBinanceClient(BinanceApi binanceApi,
+                                                     MetricsRegistry metricsRegistry,
+                                                     Tracer tracer,
+                                                     Path cacheDirectory,
+                                                     LambdaLogger logger) {
+        return new BinanceClient(logger,
+                                 binanceApi,
+                                 createRequestWeightLimiter(cacheDirectory, logger),
+                                 metricsRegistry,
+                                 tracer);
     }
 
-    private static BinanceService createBinanceService(BinanceClient binanceClient, LambdaLogger logger) {
-        return new BinanceService(binanceClient, logger);
+    private static RequestWeightLimiter createRequestWeightLimiter(Path cacheDirectory, LambdaLogger logger) {
+        return new RequestWeightLimiter(REQUEST_WEIGHT_PER_MINUTE,
+                                        cacheDirectory.resolve(REQUEST_WEIGHT_STATE_FILE),
+                                        Clock.systemUTC(),
+                                        logger);
+    }
+
+    private static TradingExecutors createTradingExecutors(LambdaLogger logger) {
+        return new TradingExecutors(Runtime.getRuntime().availableProcessors(), logger);
+    }
+
+    private static MarketData createMarketData(BinanceClient binanceClient,
+                                               Executor revalidationExecutor,
+                                               Path cacheDirectory,
+                                               LambdaLogger logger) {
+        PriceSnapshotService priceSnapshotService = new PriceSnapshotService(binanceClient,
+                                                                             PRICE_SNAPSHOT_MAX_AGE,
+                                                                             Clock.systemUTC(),
+                                                                             logger);
+        ExchangeInfoCache exchangeInfoCache = new ExchangeInfoCache(binanceClient,
+                                                                    cacheDirectory.resolve(EXCHANGE_INFO_SNAPSHOT_FILE),
+                                                                    EXCHANGE_INFO_TIME_TO_LIVE,
+                                                                    EXCHANGE_INFO_MAX_STALENESS,
+                                                                    Clock.systemUTC(),
+                                                                    revalidationExecutor,
+                                                                    logger);
+        CandlestickStore candlestickStore = new CandlestickStore(binanceClient,
+                                                                 cacheDirectory.resolve(CANDLESTICK_STORE_DIRECTORY),
+                                                                 Clock.systemUTC(),
+                                                                 logger);
+        TickerStatisticsCache tickerStatisticsCache = new TickerStatisticsCache(binanceClient,
+                                                                                TICKER_STATISTICS_MAX_AGE,
+                                                                                Clock.systemUTC(),
+                                                                                logger);
+        return new MarketData(priceSnapshotService, exchangeInfoCache, candlestickStore, tickerStatisticsCache);
+    }
+
+    private static BinanceService createBinanceService(BinanceClient binanceClient,
+                                                       MarketData marketData,
+                                                       Tracer tracer,
+                                                       LambdaLogger logger) {
+        return new BinanceService(binanceClient,
+                                  marketData.priceSnapshotService(),
+                                  marketData.exchangeInfoCache(),
+                                  marketData.candlestickStore(),
+                                  marketData.tickerStatisticsCache(),
+                                  Clock.systemUTC(),
+                                  Sleeper.THREAD,
+                                  tracer,
+                                  logger);
+    }
+
+    private static CryptoTrader createLambdaTrader(BinanceService binanceService,
+                                                   TradingExecutors tradingExecutors,
+                                                   TradingExecutors ownedTradingExecutors,
+                                                   List<String> forbiddenPairs,
+                                                   MetricsRegistry metricsRegistry,
+                                                   Tracer tracer,
+                                                   LambdaLogger logger) {
+        BnbTradeProcessor bnbTradeProcessor = createBnbTradeProcessor(binanceService, logger);
+        LambdaTradeProcessor tradeProcessor = createLambdaTradeProcessor(binanceService,
+                                                                         tradingExecutors,
+                                                                         forbiddenPairs,
+                                                                         StrategyParameters.DEFAULT,
+                                                                         Clock.systemUTC(),
+                                                                         metricsRegistry,
+                                                                         tracer,
+                                                                         logger);
+        return new CryptoTrader(binanceService,
+                                bnbTradeProcessor,
+                                tradeProcessor,
+                                ownedTradingExecutors,
+                                metricsRegistry,
+                                tracer,
+                                Clock.systemUTC(),
+                                logger);
     }
 
     private static BnbTradeProcessor createBnbTradeProcessor(BinanceService binanceService, LambdaLogger logger) {
@@ -111,20 +589,56 @@ public class IocProvider {
     }
 
     private static LambdaTradeProcessor createLambdaTradeProcessor(BinanceService binanceService,
+                                                                   TradingExecutors tradingExecutors,
                                                                    List<String> forbiddenPairs,
+                                                                   StrategyParameters parameters,
+                                                                   Clock clock,
+                                                                   MetricsRegistry metricsRegistry,
+                                                                   Tracer tracer,
                                                                    LambdaLogger logger) {
+        MarketDataFetcher cryptoStage = tradingExecutors.createIoStage(CRYPTO_STAGE_CONCURRENT_REQUESTS);
+        MarketDataFetcher acquireStage = tradingExecutors.createIoStage(ACQUIRE_STAGE_CONCURRENT_REQUESTS);
         return new LambdaTradeProcessor(binanceService,
-                                        new CryptoProcessor(binanceService, logger),
-                                        new SplitProcessor(binanceService, logger),
-                                        new AcquireProcessor(binanceService, logger),
-                                        new RepeatTradingProcessor(binanceService, logger),
+                                        createOrderStage(tradingExecutors),
+                                        new CryptoProcessor(binanceService, cryptoStage, parameters, logger),
+                                        new SplitProcessor(binanceService, tracer, parameters, logger),
+                                        new AcquireProcessor(binanceService,
+                                                             acquireStage,
+                                                             tradingExecutors,
+                                                             parameters,
+                                                             logger),
+                                        new RepeatTradingProcessor(binanceService, tracer, parameters, logger),
                                         new ExtractProcessor(binanceService, logger),
-                                        new CancelProcessor(binanceService, logger),
+                                        new CancelProcessor(binanceService, tracer, logger),
                                         forbiddenPairs,
+                                        parameters,
+                                        clock,
+                                        metricsRegistry,
+                                        tracer,
                                         logger);
     }
 
-    private static LocalTradeProcessor createLocalTradeProcessor(BinanceService binanceService, LambdaLogger logger) {
-        return new LocalTradeProcessor(binanceService, logger);
+    private static MarketDataFetcher createOrderStage(TradingExecutors tradingExecutors) {
+        return tradingExecutors.createIoStage(ORDER_STAGE_CONCURRENT_REQUESTS);
+    }
+
+    private static LocalTradeProcessor createLocalTradeProcessor(BinanceService binanceService,
+                                                                 TradingExecutors tradingExecutors,
+                                                                 Tracer tracer,
+                                                                 LambdaLogger logger) {
+        return new LocalTradeProcessor(binanceService,
+                                       createOrderStage(tradingExecutors),
+                                       Clock.systemUTC(),
+                                       tracer,
+                                       logger);
+    }
+
+    /**
+     * Market data caches, which can be shared by traders of many accounts.
+     */
+    private record MarketData(PriceSnapshotService priceSnapshotService,
+                              ExchangeInfoCache exchangeInfoCache,
+                              CandlestickStore candlestickStore,
+                              TickerStatisticsCache tickerStatisticsCache) {
     }
 }
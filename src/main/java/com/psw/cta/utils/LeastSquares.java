@@ -16,14 +16,30 @@ public class LeastSquares {
      * @return Regression
      */
     public static double getSlope(List<BigDecimal> data) {
-        SimpleRegression simpleRegression = new SimpleRegression(true);
-        double[][] regressionData = new double[data.size()][2];
-        for (int i = 0; i < data.size(); i++) {
-            regressionData[i][0] = i;
-            regressionData[i][1] = data.get(i).doubleValue();
+        return getSlope(data.stream()
+                            .mapToDouble(BigDecimal::doubleValue)
+                            .toArray());
+    }
+
+    /**
+     * Returns slope of least squares line for equally spaced values.
+     *
+     * @param values values with x equal to their index
+     * @return slope, or NaN for less than two values
+     */
+    public static double getSlope(double[] values) {
+        if (values.length < 2) {
+            return Double.NaN;
         }
-        simpleRegression.addData(regressionData);
-        return simpleRegression.getSlope();
+        double sumY = 0;
+        double sumXy = 0;
+        for (int x = 0; x < values.length; x++) {
+            sumY += values[x];
+            sumXy += x * values[x];
+        }
+        double meanX = (values.length - 1) / 2.0;
+        double sumSquaredDeviationsX = values.length * ((double) values.length * values.length - 1) / 12.0;
+        return (sumXy - meanX * sumY) / sumSquaredDeviationsX;
     }
 
     /**
@@ -0,0 +1,60 @@
+package com.psw.cta.utils;
+
+import static java.math.RoundingMode.HALF_UP;
+
+import java.math.BigDecimal;
+
+/**
+ * Util for fixed point calculation of BTC prices in satoshis. Prices of BTC quoted symbols have at most 8 decimal
+ * places, so every such price is an exact number of satoshis.
+ */
+public class Satoshis {
+
+    public static final long SATOSHIS_PER_BTC = 100_000_000L;
+    private static final double SATOSHIS_PER_BTC_DOUBLE = SATOSHIS_PER_BTC;
+
+    private Satoshis() {
+    }
+
+    /**
+     * Returns number of satoshis nearest to provided price.
+     *
+     * @param price price in BTC
+     * @return price in satoshis
+     */
+    public static long toSatoshis(double price) {
+        return Math.round(price * SATOSHIS_PER_BTC_DOUBLE);
+    }
+
+    /**
+     * Returns number of satoshis nearest to provided price.
+     *
+     * @param price price in BTC
+     * @return price in satoshis
+     */
+    public static long toSatoshis(BigDecimal price) {
+        return price.movePointRight(8)
+                    .setScale(0, HALF_UP)
+                    .longValueExact();
+    }
+
+    /**
+     * Returns exact price in BTC.
+     *
+     * @param satoshis price in satoshis
+     * @return price in BTC
+     */
+    public static BigDecimal toBtc(long satoshis) {
+        return BigDecimal.valueOf(satoshis, 8);
+    }
+
+    /**
+     * Returns price in BTC nearest to provided number of satoshis.
+     *
+     * @param satoshis price in satoshis
+     * @return price in BTC
+     */
+    public static double toBtcDouble(long satoshis) {
+        return satoshis / SATOSHIS_PER_BTC_DOUBLE;
+    }
+}
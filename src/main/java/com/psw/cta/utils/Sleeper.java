@@ -0,0 +1,27 @@
+package com.psw.cta.utils;
+
+/**
+ * Pause of current thread. Production code sleeps the thread, simulations replace it so they never wait.
+ */
+@FunctionalInterface
+public interface Sleeper {
+
+    /**
+     * Sleeper pausing current thread.
+     */
+    Sleeper THREAD = Thread::sleep;
+
+    /**
+     * Sleeper returning immediately.
+     */
+    Sleeper NONE = millis -> {
+    };
+
+    /**
+     * Pauses current thread.
+     *
+     * @param millis duration of pause in milliseconds
+     * @throws InterruptedException if thread is interrupted
+     */
+    void sleep(long millis) throws InterruptedException;
+}
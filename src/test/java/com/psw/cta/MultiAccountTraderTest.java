@@ -0,0 +1,81 @@
+package com.psw.cta;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.psw.cta.exception.BinanceApiException;
+import com.psw.cta.exception.CryptoTraderException;
+import com.psw.cta.metrics.MetricsRegistry;
+import com.psw.cta.service.TradingExecutors;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MultiAccountTraderTest {
+
+    @Mock
+    private MetricsRegistry marketDataMetricsRegistry;
+
+    @Mock
+    private LambdaLogger logger;
+
+    @Test
+    void shouldTradeAllAccountsAtTheSameTime() {
+        CountDownLatch allAccountsTrading = new CountDownLatch(3);
+        Map<String, CryptoTrader> cryptoTraders = new LinkedHashMap<>();
+        for (String account : new String[]{"main", "second", "third"}) {
+            CryptoTrader cryptoTrader = mock(CryptoTrader.class);
+            doAnswer(invocation -> {
+                allAccountsTrading.countDown();
+                assertThat(Thread.currentThread().getName()).isEqualTo("account-" + account);
+                assertThat(allAccountsTrading.await(5, TimeUnit.SECONDS)).isTrue();
+                return null;
+            }).when(cryptoTrader).startTrading();
+            cryptoTraders.put(account, cryptoTrader);
+        }
+
+        try (MultiAccountTrader multiAccountTrader = createMultiAccountTrader(cryptoTraders)) {
+            multiAccountTrader.startTrading();
+        }
+
+        assertThat(allAccountsTrading.getCount()).isZero();
+        verify(marketDataMetricsRegistry).flush();
+        cryptoTraders.values().forEach(cryptoTrader -> verify(cryptoTrader).close());
+    }
+
+    @Test
+    void shouldFinishTradingOfOtherAccountsWhenOneAccountFails() {
+        CryptoTrader failingTrader = mock(CryptoTrader.class);
+        BinanceApiException failure = new BinanceApiException("Account is locked");
+        doThrow(failure).when(failingTrader).startTrading();
+        CryptoTrader cryptoTrader = mock(CryptoTrader.class);
+        Map<String, CryptoTrader> cryptoTraders = new LinkedHashMap<>();
+        cryptoTraders.put("main", failingTrader);
+        cryptoTraders.put("second", cryptoTrader);
+        try (MultiAccountTrader multiAccountTrader = createMultiAccountTrader(cryptoTraders)) {
+            assertThatThrownBy(multiAccountTrader::startTrading).isInstanceOf(CryptoTraderException.class)
+                                                                .hasMessage("Trading failed for accounts [main]")
+                                                                .hasSuppressedException(failure);
+        }
+        verify(cryptoTrader).startTrading();
+        verify(marketDataMetricsRegistry).flush();
+    }
+
+    private MultiAccountTrader createMultiAccountTrader(Map<String, CryptoTrader> cryptoTraders) {
+        return new MultiAccountTrader(cryptoTraders,
+                                      new TradingExecutors(1, logger),
+                                      marketDataMetricsRegistry,
+                                      logger);
+    }
+}
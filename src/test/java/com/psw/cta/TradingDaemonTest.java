@@ -0,0 +1,93 @@
+package com.psw.cta;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.psw.cta.exception.BinanceApiException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TradingDaemonTest {
+
+    private static final Duration CYCLE_INTERVAL = Duration.ofMillis(20);
+
+    @Mock
+    private LambdaLogger logger;
+
+    @Test
+    void shouldKeepRunningCyclesOfTheSameTraderAfterFailedCycle() throws InterruptedException {
+        CryptoTrader cryptoTrader = mock(CryptoTrader.class);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch threeCycles = new CountDownLatch(3);
+        doAnswer(invocation -> {
+            threeCycles.countDown();
+            if (calls.incrementAndGet() == 1) {
+                throw new BinanceApiException("Exchange is not available");
+            }
+            return null;
+        }).when(cryptoTrader).startTrading();
+
+        TradingDaemon daemon = new TradingDaemon(cryptoTrader, CYCLE_INTERVAL, Duration.ofSeconds(5), logger);
+        daemon.start();
+        boolean finished = threeCycles.await(5, TimeUnit.SECONDS);
+        daemon.close();
+        int callsAfterClose = calls.get();
+        Thread.sleep(CYCLE_INTERVAL.multipliedBy(3).toMillis());
+
+        assertThat(finished).isTrue();
+        assertThat(daemon.getCycles()).isEqualTo(callsAfterClose);
+        assertThat(daemon.getFailedCycles()).isEqualTo(1);
+        assertThat(calls.get()).isEqualTo(callsAfterClose);
+    }
+
+    @Test
+    void shouldStopWhenCycleFailsWithError() throws InterruptedException {
+        CryptoTrader cryptoTrader = mock(CryptoTrader.class);
+        doThrow(new OutOfMemoryError("Java heap space")).when(cryptoTrader).startTrading();
+
+        TradingDaemon daemon = new TradingDaemon(cryptoTrader, CYCLE_INTERVAL, Duration.ofSeconds(5), logger);
+        daemon.start();
+        daemon.awaitTermination();
+
+        assertThat(daemon.getCycles()).isEqualTo(1);
+        assertThat(daemon.getFailedCycles()).isEqualTo(1);
+        verify(cryptoTrader).startTrading();
+        verify(cryptoTrader).close();
+    }
+
+    @Test
+    void shouldFinishRunningCycleWhenClosed() throws InterruptedException {
+        CryptoTrader cryptoTrader = mock(CryptoTrader.class);
+        CountDownLatch cycleStarted = new CountDownLatch(1);
+        AtomicBoolean cycleFinished = new AtomicBoolean();
+        doAnswer(invocation -> {
+            cycleStarted.countDown();
+            Thread.sleep(200);
+            cycleFinished.set(true);
+            return null;
+        }).when(cryptoTrader).startTrading();
+
+        TradingDaemon daemon = new TradingDaemon(cryptoTrader, Duration.ofMinutes(1), Duration.ofSeconds(5), logger);
+        daemon.start();
+        assertThat(cycleStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        daemon.close();
+        daemon.awaitTermination();
+
+        assertThat(cycleFinished).isTrue();
+        assertThat(daemon.getCycles()).isEqualTo(1);
+        assertThat(daemon.getFailedCycles()).isZero();
+        verify(cryptoTrader).close();
+    }
+}
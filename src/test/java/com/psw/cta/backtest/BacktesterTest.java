@@ -0,0 +1,112 @@
+package com.psw.cta.backtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.psw.cta.CryptoTrader;
+import com.psw.cta.dto.binance.ArrayCandlestickSeries;
+import com.psw.cta.service.MappedCandlestickSeries;
+import com.psw.cta.service.TradingExecutors;
+import com.psw.cta.utils.IocProvider;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BacktesterTest {
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Duration FIVE_MINUTES = Duration.ofMinutes(5);
+    private static final int DAYS = 92;
+    private static final Map<String, Double> BASE_PRICES = Map.of("BNBBTC", 0.01,
+                                                                  "ETHBTC", 0.05,
+                                                                  "LINKBTC", 0.0003,
+                                                                  "ADABTC", 0.00001);
+    private static final LambdaLogger SILENT_LOGGER = new LambdaLogger() {
+        @Override
+        public void log(String message) {
+        }
+
+        @Override
+        public void log(byte[] message) {
+        }
+    };
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void shouldReplayTradingCyclesOnSimulatedExchange() throws IOException {
+        writeMarket();
+        HistoricalMarket market = HistoricalMarket.load(directory);
+        Instant start = START.plus(Duration.ofDays(DAYS - 1));
+        Instant end = start.plus(Duration.ofHours(6));
+        SimulatedClock clock = new SimulatedClock(start);
+        SimulatedExchange exchange = new SimulatedExchange(market,
+                                                           clock,
+                                                           new BigDecimal("0.05"),
+                                                           new BigDecimal("0.001"));
+
+        BacktestResult result;
+        try (TradingExecutors tradingExecutors = new TradingExecutors(2, SILENT_LOGGER)) {
+            CryptoTrader cryptoTrader = IocProvider.createSimulatedTrader(exchange,
+                                                                          clock,
+                                                                          tradingExecutors,
+                                                                          SILENT_LOGGER);
+            result = new Backtester(cryptoTrader, exchange, clock, FIVE_MINUTES, SILENT_LOGGER).run(start, end);
+        }
+
+        assertThat(market.getSymbols()).containsExactlyInAnyOrderElementsOf(BASE_PRICES.keySet());
+        assertThat(result.cycles()).isEqualTo(72);
+        assertThat(result.trades()).isPositive();
+        assertThat(result.initialValue()).isEqualByComparingTo("0.05");
+        assertThat(result.finalValue()).isPositive();
+        assertThat(clock.instant()).isEqualTo(end);
+    }
+
+    private void writeMarket() throws IOException {
+        StringBuilder symbols = new StringBuilder();
+        for (Map.Entry<String, Double> entry : BASE_PRICES.entrySet()) {
+            ArrayCandlestickSeries candlesticks = createCandlesticks(entry.getValue());
+            MappedCandlestickSeries.write(directory.resolve(entry.getKey() + HistoricalMarket.FIVE_MINUTES_FILE_SUFFIX),
+                                          candlesticks,
+                                          8);
+            symbols.append(symbols.isEmpty() ? "" : ",").append(createSymbolInfo(entry.getKey()));
+        }
+        Files.writeString(directory.resolve(HistoricalMarket.EXCHANGE_INFO_FILE),
+                          "{\"symbols\": [" + symbols + "]}");
+    }
+
+    private ArrayCandlestickSeries createCandlesticks(double basePrice) {
+        int count = (int) (Duration.ofDays(DAYS).toMillis() / FIVE_MINUTES.toMillis());
+        ArrayCandlestickSeries candlesticks = new ArrayCandlestickSeries(count);
+        double close = basePrice;
+        for (int i = 0; i < count; i++) {
+            long openTime = START.toEpochMilli() + i * FIVE_MINUTES.toMillis();
+            double open = close;
+            close = basePrice * (1 + 0.1 * Math.sin(i / 40.0) + 0.0001 * i / 288);
+            candlesticks.add(openTime,
+                             open,
+                             Math.max(open, close) * 1.002,
+                             Math.min(open, close) * 0.998,
+                             close,
+                             10 / basePrice,
+                             openTime + FIVE_MINUTES.toMillis() - 1);
+        }
+        return candlesticks;
+    }
+
+    private String createSymbolInfo(String symbol) {
+        return """
+            {"symbol": "%s", "status": "TRADING", "filters": [
+              {"filterType": "PRICE_FILTER", "tickSize": "0.00000001"},
+              {"filterType": "LOT_SIZE", "minQty": "0.01", "stepSize": "0.01"},
+              {"filterType": "NOTIONAL", "minNotional": "0.0001"}
+            ]}""".formatted(symbol);
+    }
+}
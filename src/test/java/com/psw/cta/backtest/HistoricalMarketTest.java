@@ -0,0 +1,76 @@
+package com.psw.cta.backtest;
+
+import static com.psw.cta.dto.binance.CandlestickInterval.DAILY;
+import static com.psw.cta.dto.binance.CandlestickInterval.FIVE_MINUTES;
+import static com.psw.cta.dto.binance.CandlestickInterval.HOURLY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.psw.cta.dto.binance.ArrayCandlestickSeries;
+import com.psw.cta.dto.binance.CandlestickSeries;
+import com.psw.cta.dto.binance.ExchangeInfo;
+import com.psw.cta.dto.binance.SymbolInfo;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class HistoricalMarketTest {
+
+    private static final long START = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    private static final long FIVE_MINUTES_MILLIS = Duration.ofMinutes(5).toMillis();
+    private static final long ONE_HOUR_MILLIS = Duration.ofHours(1).toMillis();
+
+    @Test
+    void shouldShowOnlyCandlesticksClosedBeforeRequestedTime() {
+        HistoricalMarket market = createMarket(48);
+        long time = START + ONE_HOUR_MILLIS + 2 * FIVE_MINUTES_MILLIS;
+
+        CandlestickSeries fiveMinutes = market.getCandlesticks("ETHBTC", FIVE_MINUTES, 1000, null, null, time);
+        CandlestickSeries hourly = market.getCandlesticks("ETHBTC", HOURLY, null, null, null, time);
+
+        assertThat(fiveMinutes.size()).isEqualTo(14);
+        assertThat(market.getPrice("ETHBTC", time)).isEqualTo(14);
+        assertThat(hourly.size()).isEqualTo(2);
+        assertThat(hourly.getOpenTime(1)).isEqualTo(START + ONE_HOUR_MILLIS);
+        assertThat(hourly.getOpen(1)).isEqualTo(12);
+        assertThat(hourly.getHigh(1)).isEqualTo(15);
+        assertThat(hourly.getClose(1)).isEqualTo(14);
+        assertThat(hourly.getVolume(1)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldAggregateCompleteCandlesticksAndSelectByTimeRange() {
+        HistoricalMarket market = createMarket(2 * 288);
+        long time = START + Duration.ofDays(2).toMillis();
+
+        CandlestickSeries daily = market.getCandlesticks("ETHBTC", DAILY, null, null, null, time);
+        CandlestickSeries hourly = market.getCandlesticks("ETHBTC",
+                                                          HOURLY,
+                                                          3,
+                                                          START + ONE_HOUR_MILLIS,
+                                                          null,
+                                                          time);
+
+        assertThat(daily.size()).isEqualTo(2);
+        assertThat(daily.getHigh(0)).isEqualTo(289);
+        assertThat(daily.getCloseTime(0)).isEqualTo(START + Duration.ofDays(1).toMillis() - 1);
+        assertThat(hourly.size()).isEqualTo(3);
+        assertThat(hourly.getOpenTime(0)).isEqualTo(START + ONE_HOUR_MILLIS);
+        assertThat(market.getHighestPrice("ETHBTC", START, START + ONE_HOUR_MILLIS)).isEqualTo(13);
+        assertThat(market.getQuoteVolume("ETHBTC", START + 2 * FIVE_MINUTES_MILLIS)).isEqualTo(1 + 2);
+    }
+
+    private HistoricalMarket createMarket(int count) {
+        ArrayCandlestickSeries candlesticks = new ArrayCandlestickSeries(count);
+        for (int i = 0; i < count; i++) {
+            long openTime = START + i * FIVE_MINUTES_MILLIS;
+            candlesticks.add(openTime, i, i + 2, i, i + 1, 1, openTime + FIVE_MINUTES_MILLIS - 1);
+        }
+        SymbolInfo symbolInfo = new SymbolInfo();
+        symbolInfo.setSymbol("ETHBTC");
+        ExchangeInfo exchangeInfo = new ExchangeInfo();
+        exchangeInfo.setSymbols(List.of(symbolInfo));
+        return new HistoricalMarket(exchangeInfo, Map.of("ETHBTC", candlesticks));
+    }
+}
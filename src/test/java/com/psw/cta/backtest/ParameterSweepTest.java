@@ -0,0 +1,180 @@
+package com.psw.cta.backtest;
+
+import static com.psw.cta.backtest.SweepParameter.MIN_PRICE_TO_SELL_PERCENTAGE;
+import static com.psw.cta.backtest.SweepParameter.MIN_QUOTE_VOLUME;
+import static com.psw.cta.backtest.SweepParameter.REBUY_ORDER_PRICE_PERCENTAGE;
+import static com.psw.cta.dto.binance.FilterType.LOT_SIZE;
+import static com.psw.cta.dto.binance.FilterType.NOTIONAL;
+import static com.psw.cta.dto.binance.FilterType.PRICE_FILTER;
+import static com.psw.cta.dto.binance.SymbolStatus.TRADING;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.psw.cta.dto.binance.ArrayCandlestickSeries;
+import com.psw.cta.dto.binance.CandlestickSeries;
+import com.psw.cta.dto.binance.ExchangeInfo;
+import com.psw.cta.dto.binance.SymbolFilter;
+import com.psw.cta.dto.binance.SymbolInfo;
+import com.psw.cta.processor.StrategyParameters;
+import com.psw.cta.service.TradingExecutors;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ParameterSweepTest {
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Duration FIVE_MINUTES = Duration.ofMinutes(5);
+    private static final int DAYS = 92;
+    private static final LambdaLogger SILENT_LOGGER = new LambdaLogger() {
+        @Override
+        public void log(String message) {
+        }
+
+        @Override
+        public void log(byte[] message) {
+        }
+    };
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void shouldCreateEveryCombinationOfGrid() {
+        List<StrategyParameters> configurations = ParameterSweep.grid(Map.of(MIN_QUOTE_VOLUME,
+                                                                             decimals("1", "2"),
+                                                                             REBUY_ORDER_PRICE_PERCENTAGE,
+                                                                             decimals("30", "40", "50")));
+
+        assertThat(configurations).hasSize(6)
+                                  .doesNotHaveDuplicates()
+                                  .allSatisfy(configuration -> assertThat(configuration.fibonacciSplitUnit())
+                                      .isEqualTo(StrategyParameters.DEFAULT.fibonacciSplitUnit()));
+        assertThat(configurations).extracting(StrategyParameters::minQuoteVolume)
+                                  .containsOnly(new BigDecimal("1"), new BigDecimal("2"));
+    }
+
+    @Test
+    void shouldCreateDistinctRandomConfigurationsOfGrid() {
+        Map<SweepParameter, List<BigDecimal>> values = Map.of(MIN_PRICE_TO_SELL_PERCENTAGE,
+                                                              decimals("0.3", "0.5", "0.7", "1.0"),
+                                                              MIN_QUOTE_VOLUME,
+                                                              decimals("0.25", "0.5", "1", "2"),
+                                                              REBUY_ORDER_PRICE_PERCENTAGE,
+                                                              decimals("30", "35", "40", "45"));
+
+        List<StrategyParameters> configurations = ParameterSweep.random(values, 10, 42);
+
+        assertThat(configurations).hasSize(10)
+                                  .doesNotHaveDuplicates()
+                                  .isEqualTo(ParameterSweep.random(values, 10, 42));
+        assertThat(configurations).extracting(StrategyParameters::rebuyOrderPricePercentage)
+                                  .isSubsetOf(values.get(REBUY_ORDER_PRICE_PERCENTAGE));
+        assertThat(ParameterSweep.random(values, 100, 42)).hasSize(64);
+    }
+
+    @Test
+    void shouldIgnoreRepeatedValuesWhenCreatingRandomConfigurations() {
+        Map<SweepParameter, List<BigDecimal>> values = Map.of(REBUY_ORDER_PRICE_PERCENTAGE,
+                                                              decimals("40", "40", "45"),
+                                                              MIN_QUOTE_VOLUME,
+                                                              decimals("1", "1"));
+
+        List<StrategyParameters> configurations = ParameterSweep.random(values, 3, 42);
+
+        assertThat(configurations).hasSize(2)
+                                  .doesNotHaveDuplicates()
+                                  .extracting(StrategyParameters::rebuyOrderPricePercentage)
+                                  .containsExactlyInAnyOrder(new BigDecimal("40"), new BigDecimal("45"));
+        assertThat(ParameterSweep.grid(Map.of(REBUY_ORDER_PRICE_PERCENTAGE, decimals("40", "40.0")))).hasSize(1);
+    }
+
+    @Test
+    void shouldBacktestEveryConfigurationAndRankResults() throws IOException {
+        HistoricalMarket market = createMarket();
+        Instant start = START.plus(Duration.ofDays(DAYS - 1));
+        Instant end = start.plus(Duration.ofHours(6));
+        List<StrategyParameters> configurations = ParameterSweep.grid(Map.of(MIN_QUOTE_VOLUME,
+                                                                             decimals("0.5", "1000000")));
+
+        List<SweepResult> results;
+        try (TradingExecutors tradingExecutors = new TradingExecutors(2, SILENT_LOGGER)) {
+            ParameterSweep sweep = new ParameterSweep(market,
+                                                      tradingExecutors,
+                                                      new BigDecimal("0.05"),
+                                                      new BigDecimal("0.001"),
+                                                      FIVE_MINUTES,
+                                                      2,
+                                                      SILENT_LOGGER);
+            results = sweep.run(configurations, start, end);
+        }
+        Path table = directory.resolve("sweep.csv");
+        ParameterSweep.writeTable(results, table);
+
+        assertThat(results).extracting(SweepResult::parameters).containsExactlyInAnyOrderElementsOf(configurations);
+        assertThat(results).allSatisfy(sweepResult -> assertThat(sweepResult.result().cycles()).isEqualTo(72));
+        assertThat(results.get(0).result().profitPercentage())
+            .isGreaterThanOrEqualTo(results.get(1).result().profitPercentage());
+        assertThat(results).allSatisfy(sweepResult -> assertThat(sweepResult.result().initialValue())
+            .isEqualByComparingTo("0.05"));
+        List<String> lines = Files.readAllLines(table);
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).startsWith("rank,minPriceToSellPercentage,minQuoteVolume");
+        assertThat(lines.get(1)).startsWith("1,")
+                                .endsWith(results.get(0).result().finalValue().toPlainString());
+    }
+
+    private HistoricalMarket createMarket() {
+        Map<String, Double> basePrices = Map.of("BNBBTC", 0.01, "ETHBTC", 0.05, "LINKBTC", 0.0003, "ADABTC", 0.00001);
+        List<SymbolInfo> symbolInfos = new ArrayList<>();
+        Map<String, CandlestickSeries> candlesticks = new HashMap<>();
+        basePrices.forEach((symbol, basePrice) -> {
+            SymbolInfo symbolInfo = new SymbolInfo();
+            symbolInfo.setSymbol(symbol);
+            symbolInfo.setStatus(TRADING);
+            symbolInfo.setFilters(List.of(new SymbolFilter(PRICE_FILTER, "0.00000001", null, null, null),
+                                          new SymbolFilter(LOT_SIZE, null, "0.01", "0.01", null),
+                                          new SymbolFilter(NOTIONAL, null, null, null, "0.0001")));
+            symbolInfos.add(symbolInfo);
+            candlesticks.put(symbol, createCandlesticks(basePrice));
+        });
+        ExchangeInfo exchangeInfo = new ExchangeInfo();
+        exchangeInfo.setSymbols(symbolInfos);
+        return new HistoricalMarket(exchangeInfo, candlesticks);
+    }
+
+    private ArrayCandlestickSeries createCandlesticks(double basePrice) {
+        int count = (int) (Duration.ofDays(DAYS).toMillis() / FIVE_MINUTES.toMillis());
+        ArrayCandlestickSeries candlesticks = new ArrayCandlestickSeries(count);
+        double close = basePrice;
+        for (int i = 0; i < count; i++) {
+            long openTime = START.toEpochMilli() + i * FIVE_MINUTES.toMillis();
+            double open = close;
+            close = basePrice * (1 + 0.1 * Math.sin(i / 40.0) + 0.0001 * i / 288);
+            candlesticks.add(openTime,
+                             open,
+                             Math.max(open, close) * 1.002,
+                             Math.min(open, close) * 0.998,
+                             close,
+                             10 / basePrice,
+                             openTime + FIVE_MINUTES.toMillis() - 1);
+        }
+        return candlesticks;
+    }
+
+    private List<BigDecimal> decimals(String... values) {
+        return List.of(values)
+                   .stream()
+                   .map(BigDecimal::new)
+                   .toList();
+    }
+}
@@ -0,0 +1,173 @@
+package com.psw.cta.backtest;
+
+import static com.psw.cta.dto.binance.FilterType.LOT_SIZE;
+import static com.psw.cta.dto.binance.FilterType.NOTIONAL;
+import static com.psw.cta.dto.binance.FilterType.PRICE_FILTER;
+import static com.psw.cta.dto.binance.OrderSide.BUY;
+import static com.psw.cta.dto.binance.OrderSide.SELL;
+import static com.psw.cta.dto.binance.OrderStatus.CANCELED;
+import static com.psw.cta.dto.binance.OrderStatus.FILLED;
+import static com.psw.cta.dto.binance.OrderStatus.PARTIALLY_FILLED;
+import static com.psw.cta.dto.binance.OrderType.LIMIT;
+import static com.psw.cta.dto.binance.OrderType.MARKET;
+import static com.psw.cta.dto.binance.TimeInForce.GTC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.psw.cta.dto.binance.ArrayCandlestickSeries;
+import com.psw.cta.dto.binance.AssetBalance;
+import com.psw.cta.dto.binance.BookTicker;
+import com.psw.cta.dto.binance.ExchangeInfo;
+import com.psw.cta.dto.binance.NewOrderResponse;
+import com.psw.cta.dto.binance.Order;
+import com.psw.cta.dto.binance.SymbolFilter;
+import com.psw.cta.dto.binance.SymbolInfo;
+import com.psw.cta.exception.BinanceApiException;
+import com.psw.cta.metrics.MetricsRegistry;
+import com.psw.cta.service.BinanceClient;
+import com.psw.cta.service.RequestWeightLimiter;
+import com.psw.cta.trace.Tracer;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SimulatedExchangeTest {
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+    private static final long FIVE_MINUTES_MILLIS = Duration.ofMinutes(5).toMillis();
+
+    @Mock
+    private LambdaLogger logger;
+
+    @Test
+    void shouldFillMarketOrderFromBookAndRestingOrderWhenMarketMovesThroughIt() {
+        SimulatedClock clock = new SimulatedClock(START.plusMillis(FIVE_MINUTES_MILLIS));
+        SimulatedExchange exchange = createExchange(clock, BigDecimal.ONE);
+        BinanceClient binanceClient = createClient(exchange, clock);
+
+        BookTicker bookTicker = binanceClient.getBookTicker("ETHBTC");
+
+        assertThat(bookTicker.getBidPrice()).isEqualTo("0.009990");
+        assertThat(bookTicker.getAskPrice()).isEqualTo("0.010010");
+
+        NewOrderResponse buy = binanceClient.newOrder("ETHBTC", BUY, MARKET, null, "1", null);
+
+        assertThat(buy.getStatus()).isEqualTo(FILLED);
+        assertThat(buy.getFills()).singleElement().satisfies(fill -> assertThat(fill.getPrice()).isEqualTo("0.010010"));
+
+        NewOrderResponse sell = binanceClient.newOrder("ETHBTC", SELL, LIMIT, GTC, "1", "0.0125");
+        advanceTo(exchange, clock, START.plusMillis(3 * FIVE_MINUTES_MILLIS));
+
+        assertThat(binanceClient.getOpenOrders()).extracting(Order::getOrderId).containsExactly(sell.getOrderId());
+        assertThat(getBalance(binanceClient, "ETH").getLocked()).isEqualTo("1.000");
+
+        advanceTo(exchange, clock, START.plusMillis(4 * FIVE_MINUTES_MILLIS));
+
+        assertThat(binanceClient.getOpenOrders()).isEmpty();
+        assertThat(binanceClient.getMyTrades("ETHBTC", sell.getOrderId().toString()))
+            .singleElement()
+            .satisfies(trade -> assertThat(trade.isMaker()).isTrue());
+        assertThat(exchange.getTradeCount()).isEqualTo(2);
+        assertThat(new BigDecimal(getBalance(binanceClient, "BTC").getFree())).isEqualByComparingTo("1.00246749");
+        assertThat(new BigDecimal(getBalance(binanceClient, "ETH").getLocked())).isZero();
+    }
+
+    @Test
+    void shouldRejectOrdersViolatingFiltersOrBalance() {
+        SimulatedClock clock = new SimulatedClock(START.plusMillis(FIVE_MINUTES_MILLIS));
+        BinanceClient binanceClient = createClient(createExchange(clock, BigDecimal.ONE), clock);
+
+        assertThatThrownBy(() -> binanceClient.newOrder("ETHBTC", SELL, LIMIT, GTC, "1", "0.0125001"))
+            .isInstanceOf(BinanceApiException.class)
+            .hasMessageContaining("PRICE_FILTER");
+        assertThatThrownBy(() -> binanceClient.newOrder("ETHBTC", BUY, MARKET, null, "1.0005", null))
+            .isInstanceOf(BinanceApiException.class)
+            .hasMessageContaining("LOT_SIZE");
+        assertThatThrownBy(() -> binanceClient.newOrder("ETHBTC", BUY, LIMIT, GTC, "0.001", "0.01"))
+            .isInstanceOf(BinanceApiException.class)
+            .hasMessageContaining("NOTIONAL");
+        assertThatThrownBy(() -> binanceClient.newOrder("ETHBTC", BUY, MARKET, null, "1000", null))
+            .isInstanceOf(BinanceApiException.class)
+            .hasMessageContaining("insufficient balance");
+        assertThatThrownBy(() -> binanceClient.newOrder("ETHBTC", SELL, LIMIT, GTC, "1", "0.0125"))
+            .isInstanceOf(BinanceApiException.class)
+            .hasMessageContaining("insufficient balance");
+        assertThat(binanceClient.getOpenOrders()).isEmpty();
+    }
+
+    @Test
+    void shouldRestUnfilledPartOfLimitOrderAndUnlockItOnCancel() throws IOException {
+        SimulatedClock clock = new SimulatedClock(START.plusMillis(FIVE_MINUTES_MILLIS));
+        SimulatedExchange exchange = createExchange(clock, BigDecimal.TEN);
+        BinanceClient binanceClient = createClient(exchange, clock);
+
+        NewOrderResponse buy = binanceClient.newOrder("ETHBTC", BUY, LIMIT, GTC, "150", "0.010010");
+
+        assertThat(buy.getStatus()).isEqualTo(PARTIALLY_FILLED);
+        assertThat(buy.getExecutedQty()).isEqualTo("100.000");
+        assertThat(binanceClient.getOrderBook("ETHBTC", 5).getBids().getFirst())
+            .satisfies(bid -> assertThat(bid.getPrice()).isEqualTo("0.010010"))
+            .satisfies(bid -> assertThat(bid.getQty()).isEqualTo("50.000"));
+        assertThat(new BigDecimal(getBalance(binanceClient, "BTC").getLocked())).isEqualByComparingTo("0.5010005");
+
+        binanceClient.cancelOrder("ETHBTC", buy.getClientOrderId());
+
+        Order order = exchange.getOrderStatus("ETHBTC", buy.getOrderId(), null, null).execute().body();
+        assertThat(order.getStatus()).isEqualTo(CANCELED);
+        assertThat(new BigDecimal(getBalance(binanceClient, "BTC").getLocked())).isZero();
+        assertThat(new BigDecimal(getBalance(binanceClient, "BTC").getFree())).isEqualByComparingTo("8.997999");
+        assertThat(getBalance(binanceClient, "ETH").getFree()).isEqualTo("100.000");
+        assertThatThrownBy(() -> binanceClient.cancelOrder("ETHBTC", buy.getClientOrderId()))
+            .isInstanceOf(BinanceApiException.class)
+            .hasMessageContaining("Unknown order");
+    }
+
+    private void advanceTo(SimulatedExchange exchange, SimulatedClock clock, Instant time) {
+        clock.set(time);
+        exchange.advanceTo(time.toEpochMilli());
+    }
+
+    private SimulatedExchange createExchange(SimulatedClock clock, BigDecimal initialBtcBalance) {
+        ArrayCandlestickSeries candlesticks = new ArrayCandlestickSeries();
+        double[] highs = {0.0101, 0.0102, 0.0110, 0.0130};
+        for (int i = 0; i < highs.length; i++) {
+            long openTime = START.toEpochMilli() + i * FIVE_MINUTES_MILLIS;
+            candlesticks.add(openTime, 0.01, highs[i], 0.0099, 0.01, 100, openTime + FIVE_MINUTES_MILLIS - 1);
+        }
+        SymbolInfo symbolInfo = new SymbolInfo();
+        symbolInfo.setSymbol("ETHBTC");
+        symbolInfo.setFilters(List.of(new SymbolFilter(PRICE_FILTER, "0.000001", null, null, null),
+                                      new SymbolFilter(LOT_SIZE, null, "0.001", "0.001", null),
+                                      new SymbolFilter(NOTIONAL, null, null, null, "0.0001")));
+        ExchangeInfo exchangeInfo = new ExchangeInfo();
+        exchangeInfo.setSymbols(List.of(symbolInfo));
+        HistoricalMarket market = new HistoricalMarket(exchangeInfo, Map.of("ETHBTC", candlesticks));
+        return new SimulatedExchange(market, clock, initialBtcBalance, new BigDecimal("0.001"));
+    }
+
+    private BinanceClient createClient(SimulatedExchange exchange, SimulatedClock clock) {
+        return new BinanceClient(logger,
+                                 exchange,
+                                 new RequestWeightLimiter(6000, null, clock, logger),
+                                 new MetricsRegistry("Test", clock, logger),
+                                 new Tracer(null, logger));
+    }
+
+    private AssetBalance getBalance(BinanceClient binanceClient, String asset) {
+        return binanceClient.getAccount()
+                            .getBalances()
+                            .stream()
+                            .filter(balance -> balance.getAsset().equals(asset))
+                            .findFirst()
+                            .orElseThrow();
+    }
+}
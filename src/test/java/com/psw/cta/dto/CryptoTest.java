@@ -0,0 +1,204 @@
+package com.psw.cta.dto;
+
+import static com.psw.cta.utils.Constants.MIN_PRICE_TO_SELL_PERCENTAGE;
+import static com.psw.cta.utils.LeastSquares.getSlope;
+import static java.math.BigDecimal.ZERO;
+import static java.math.RoundingMode.CEILING;
+import static java.math.RoundingMode.UP;
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.comparingDouble;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.psw.cta.dto.binance.ArrayCandlestickSeries;
+import com.psw.cta.dto.binance.CandlestickSeries;
+import com.psw.cta.dto.binance.SymbolInfo;
+import com.psw.cta.exception.CryptoTraderException;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares screening metrics of {@link Crypto} with reference calculation in {@link BigDecimal}.
+ */
+class CryptoTest {
+
+    private static final BigDecimal HUNDRED = new BigDecimal("100");
+
+    private final Random random = new Random(42);
+
+    @Test
+    void shouldRankCryptosAsBigDecimalCalculation() {
+        List<Crypto> cryptos = new ArrayList<>();
+        Map<Crypto, BigDecimal> referencePriceCountToSlopes = new HashMap<>();
+        for (int i = 0; i < 200; i++) {
+            CandlestickSeries dailyCandlesticks = createSeries(90, randomPrice());
+            Crypto crypto = createCrypto("SYMBOL" + i, dailyCandlesticks.getClose(89))
+                .setThreeMonthsCandleStickData(dailyCandlesticks)
+                .calculateSlopeData();
+            cryptos.add(crypto);
+            referencePriceCountToSlopes.put(crypto, referencePriceCountToSlope(dailyCandlesticks));
+        }
+
+        List<String> ranking = cryptos.stream()
+                                      .filter(crypto -> crypto.getPriceCountToSlope() < 0)
+                                      .sorted(comparingDouble(Crypto::getPriceCountToSlope).reversed())
+                                      .map(this::getSymbol)
+                                      .toList();
+        List<String> referenceRanking = cryptos.stream()
+                                               .filter(crypto -> referencePriceCountToSlopes.get(crypto)
+                                                                                            .compareTo(ZERO) < 0)
+                                               .sorted(comparing(referencePriceCountToSlopes::get).reversed())
+                                               .map(this::getSymbol)
+                                               .toList();
+
+        assertThat(ranking).isNotEmpty()
+                           .isEqualTo(referenceRanking);
+        assertThat(cryptos).allSatisfy(crypto -> assertThat(crypto.getNumberOfCandles()).isEqualTo(90));
+    }
+
+    @Test
+    void shouldSelectCryptosToAcquireAsBigDecimalCalculation() {
+        for (int i = 0; i < 500; i++) {
+            CandlestickSeries candlesticks = createSeries(96, randomPrice());
+            BigDecimal currentPrice = BigDecimal.valueOf(candlesticks.getClose(95))
+                                                .multiply(BigDecimal.valueOf(0.97 + random.nextDouble() * 0.06))
+                                                .setScale(8, UP);
+            Crypto crypto = createCrypto("SYMBOL" + i, currentPrice.doubleValue())
+                .calculateDataFromCandlesticks(candlesticks);
+            ReferenceMetrics reference = new ReferenceMetrics(candlesticks, currentPrice);
+
+            assertThat(crypto.getPriceToSell()).isEqualByComparingTo(reference.priceToSell);
+            assertThat(crypto.getLastThreeHighAverage() > crypto.getPreviousThreeHighAverage())
+                .isEqualTo(reference.lastThreeHighAverage.compareTo(reference.previousThreeHighAverage) > 0);
+            assertThat(crypto.getPriceToSellPercentage() > MIN_PRICE_TO_SELL_PERCENTAGE.doubleValue())
+                .isEqualTo(reference.priceToSellPercentage.compareTo(MIN_PRICE_TO_SELL_PERCENTAGE) > 0);
+            assertThat(crypto.getSumPercentageDifferences1h() < 4)
+                .isEqualTo(reference.sumPercentageDifferences1h.compareTo(new BigDecimal("4")) < 0);
+            assertThat(crypto.getSumPercentageDifferences10h() < 400)
+                .isEqualTo(reference.sumPercentageDifferences10h.compareTo(new BigDecimal("400")) < 0);
+        }
+    }
+
+    @Test
+    void shouldTakeVolumeFromQuoteVolumes() {
+        Crypto crypto = createCrypto("ETHBTC", 0.03).calculateVolume(Map.of("ETHBTC", 12.5, "XRPBTC", 0.1));
+
+        assertThat(crypto.getVolume()).isEqualTo(12.5);
+        assertThatThrownBy(() -> createCrypto("ADABTC", 0.00001).calculateVolume(Map.of("ETHBTC", 12.5)))
+            .isInstanceOf(CryptoTraderException.class)
+            .hasMessage("Ticker with symbol: ADABTC not found.");
+    }
+
+    private Crypto createCrypto(String symbol, double currentPrice) {
+        SymbolInfo symbolInfo = new SymbolInfo();
+        symbolInfo.setSymbol(symbol);
+        return new Crypto(symbolInfo).setCurrentPrice(BigDecimal.valueOf(currentPrice).setScale(8, UP));
+    }
+
+    private String getSymbol(Crypto crypto) {
+        return crypto.getSymbolInfo().getSymbol();
+    }
+
+    private double randomPrice() {
+        return Math.pow(10, -7 + random.nextDouble() * 6);
+    }
+
+    private CandlestickSeries createSeries(int size, double startPrice) {
+        ArrayCandlestickSeries series = new ArrayCandlestickSeries(size);
+        double drift = (random.nextDouble() - 0.5) * 0.02;
+        double close = startPrice;
+        for (int i = 0; i < size; i++) {
+            double open = close;
+            close = round(open * (1 + drift + (random.nextDouble() - 0.5) * 0.05));
+            double high = round(Math.max(open, close) * (1 + random.nextDouble() * 0.02));
+            double low = round(Math.min(open, close) * (1 - random.nextDouble() * 0.02));
+            series.add(i, open, high, low, close, random.nextDouble() * 1000, i + 1);
+        }
+        return series;
+    }
+
+    private double round(double price) {
+        return Math.max(0.00000001, BigDecimal.valueOf(price).setScale(8, UP).doubleValue());
+    }
+
+    private BigDecimal referencePriceCountToSlope(CandlestickSeries candlesticks) {
+        double[] averagePrices = IntStream.range(0, candlesticks.size())
+                                          .mapToObj(index -> referenceAveragePrice(candlesticks, index))
+                                          .mapToDouble(BigDecimal::doubleValue)
+                                          .toArray();
+        BigDecimal priceCount = new BigDecimal(averagePrices.length, new MathContext(8));
+        double leastSquaresSlope = getSlope(averagePrices);
+        if (Double.isNaN(leastSquaresSlope)) {
+            leastSquaresSlope = 0.00000001;
+        }
+        BigDecimal slope = new BigDecimal(String.valueOf(leastSquaresSlope), new MathContext(8));
+        if (ZERO.compareTo(slope) == 0) {
+            slope = new BigDecimal("0.00000001");
+        }
+        return priceCount.divide(slope, 8, CEILING);
+    }
+
+    private static BigDecimal referenceAveragePrice(CandlestickSeries candlesticks, int index) {
+        return BigDecimal.valueOf(candlesticks.getOpen(index))
+                         .add(BigDecimal.valueOf(candlesticks.getClose(index)))
+                         .add(BigDecimal.valueOf(candlesticks.getHigh(index)))
+                         .add(BigDecimal.valueOf(candlesticks.getLow(index)))
+                         .divide(new BigDecimal("4"), 8, CEILING);
+    }
+
+    private static final class ReferenceMetrics {
+
+        private final BigDecimal lastThreeHighAverage;
+        private final BigDecimal previousThreeHighAverage;
+        private final BigDecimal priceToSell;
+        private final BigDecimal priceToSellPercentage;
+        private final BigDecimal sumPercentageDifferences1h;
+        private final BigDecimal sumPercentageDifferences10h;
+
+        private ReferenceMetrics(CandlestickSeries candlesticks, BigDecimal currentPrice) {
+            int size = candlesticks.size();
+            Function<Integer, BigDecimal> high = index -> BigDecimal.valueOf(candlesticks.getHigh(index));
+            this.lastThreeHighAverage = IntStream.range(size - 3, size)
+                                                 .boxed()
+                                                 .map(high)
+                                                 .reduce(ZERO, BigDecimal::add)
+                                                 .divide(new BigDecimal("3"), 8, UP);
+            this.previousThreeHighAverage = IntStream.range(size - 6, size - 3)
+                                                     .boxed()
+                                                     .map(high)
+                                                     .reduce(ZERO, BigDecimal::add)
+                                                     .divide(new BigDecimal("3"), 8, UP);
+            BigDecimal maxHigh = IntStream.range(size - 4, size)
+                                          .boxed()
+                                          .map(high)
+                                          .max(BigDecimal::compareTo)
+                                          .orElseThrow();
+            this.priceToSell = maxHigh.subtract(currentPrice)
+                                      .divide(new BigDecimal("2"), 8, UP)
+                                      .add(currentPrice);
+            this.priceToSellPercentage = HUNDRED.subtract(currentPrice.multiply(HUNDRED)
+                                                                      .divide(priceToSell, 8, UP));
+            this.sumPercentageDifferences1h = sumPercentageDifferences(candlesticks, 4, currentPrice);
+            this.sumPercentageDifferences10h = sumPercentageDifferences(candlesticks, 40, currentPrice);
+        }
+
+        private static BigDecimal sumPercentageDifferences(CandlestickSeries candlesticks,
+                                                           int numberOfDataToKeep,
+                                                           BigDecimal currentPrice) {
+            return IntStream.range(candlesticks.size() - numberOfDataToKeep, candlesticks.size())
+                            .mapToObj(index -> referenceAveragePrice(candlesticks, index).multiply(HUNDRED)
+                                                                                          .divide(currentPrice, 8, UP)
+                                                                                          .subtract(HUNDRED)
+                                                                                          .abs())
+                            .reduce(ZERO, BigDecimal::add);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.psw.cta.dto;
+
+import static com.psw.cta.dto.ProfitModel.HALF_OF_MAX_PROFIT;
+import static com.psw.cta.dto.ProfitModel.HALF_OF_MIN_PROFIT;
+import static com.psw.cta.utils.LeastSquares.getRegression;
+import static java.math.RoundingMode.CEILING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.math.BigDecimal;
+import java.util.List;
+import org.apache.commons.math3.stat.regression.SimpleRegression;
+import org.junit.jupiter.api.Test;
+
+class ProfitModelTest {
+
+    @Test
+    void shouldCalculateProfitCoefficientAsRegressionThroughTwoPoints() {
+        List<BigDecimal> btcBalances = List.of(new BigDecimal("0.001"),
+                                               new BigDecimal("0.0123"),
+                                               new BigDecimal("0.5"));
+        List<BigDecimal> orderBtcAmounts = List.of(new BigDecimal("0.00005"),
+                                                   new BigDecimal("0.0002"),
+                                                   new BigDecimal("0.0031"),
+                                                   new BigDecimal("0.1"),
+                                                   new BigDecimal("2"));
+        BigDecimal actualBalance = new BigDecimal("1.2");
+        for (BigDecimal myBtcBalance : btcBalances) {
+            ProfitModel profitModel = new ProfitModel(myBtcBalance, actualBalance);
+            for (BigDecimal orderBtcAmount : orderBtcAmounts) {
+                assertThat(profitModel.getProfitCoefficient(orderBtcAmount).doubleValue())
+                    .isCloseTo(getReferenceProfitCoefficient(orderBtcAmount, myBtcBalance, actualBalance),
+                               within(1e-12));
+            }
+        }
+    }
+
+    @Test
+    void shouldReturnMinimalProfitCoefficient() {
+        ProfitModel profitModel = new ProfitModel(new BigDecimal("0.001"), new BigDecimal("100"));
+
+        assertThat(profitModel.getProfitCoefficient(new BigDecimal("10"))).isEqualByComparingTo("0.005");
+    }
+
+    private double getReferenceProfitCoefficient(BigDecimal orderBtcAmount,
+                                                 BigDecimal myBtcBalance,
+                                                 BigDecimal actualBalance) {
+        BigDecimal ratio = myBtcBalance.divide(actualBalance, 8, CEILING);
+        BigDecimal maxBtcAmountToReduceProfit = myBtcBalance.divide(new BigDecimal("2"), 8, CEILING);
+        SimpleRegression regression = getRegression(0.0001,
+                                                    HALF_OF_MAX_PROFIT.doubleValue(),
+                                                    maxBtcAmountToReduceProfit.doubleValue(),
+                                                    HALF_OF_MIN_PROFIT.doubleValue());
+        BigDecimal btcAmountProfitPart = getProfitPart(orderBtcAmount,
+                                                       BigDecimal.valueOf(regression.getSlope()),
+                                                       BigDecimal.valueOf(regression.getIntercept()));
+        BigDecimal ratioProfitPart = getProfitPart(ratio, new BigDecimal("0.1638"), new BigDecimal("-0.0138"));
+        return btcAmountProfitPart.add(ratioProfitPart)
+                                  .max(new BigDecimal("0.005"))
+                                  .doubleValue();
+    }
+
+    private BigDecimal getProfitPart(BigDecimal x, BigDecimal a, BigDecimal b) {
+        return x.multiply(a)
+                .add(b)
+                .min(HALF_OF_MAX_PROFIT)
+                .max(HALF_OF_MIN_PROFIT);
+    }
+}
@@ -0,0 +1,61 @@
+package com.psw.cta.dto.binance;
+
+import static com.psw.cta.dto.binance.CandlestickSeriesDeserializer.parseDecimal;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CandlestickSeriesDeserializerTest {
+
+    @Test
+    void shouldDeserializeKlinesIntoColumns() throws Exception {
+        String json = """
+            [
+              [1499040000000, "0.01634790", "0.80000000", "0.01575800", "0.01577100", "148976.11427815",
+               1499644799999, "2434.19055334", 308, "1756.87402397", "28.46694368", "0"],
+              [1499644800000, "0.01577100", "0.01600000", "0.01500000", "0.01590000", "1000.5",
+               1500249599999, "15.9", 12, "500", "7.9", "0"]
+            ]
+            """;
+
+        CandlestickSeries series = new ObjectMapper().readValue(json, CandlestickSeries.class);
+
+        assertThat(series.size()).isEqualTo(2);
+        assertThat(series.getOpenTime(0)).isEqualTo(1499040000000L);
+        assertThat(series.getOpen(0)).isEqualTo(0.0163479);
+        assertThat(series.getHigh(0)).isEqualTo(0.8);
+        assertThat(series.getLow(0)).isEqualTo(0.015758);
+        assertThat(series.getClose(0)).isEqualTo(0.015771);
+        assertThat(series.getVolume(0)).isEqualTo(148976.11427815);
+        assertThat(series.getCloseTime(0)).isEqualTo(1499644799999L);
+        assertThat(series.getHigh(1)).isEqualTo(0.016);
+        assertThat(series.getCloseTime(1)).isEqualTo(1500249599999L);
+    }
+
+    @Test
+    void shouldDeserializeEmptyKlines() throws Exception {
+        CandlestickSeries series = new ObjectMapper().readValue("[]", CandlestickSeries.class);
+
+        assertThat(series.isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldParseDecimalsSameAsDouble() {
+        List<String> decimals = List.of("0.00000001",
+                                        "0.01634790",
+                                        "12345.67890000",
+                                        "148976.11427815",
+                                        "-3.5",
+                                        "42",
+                                        "0.1",
+                                        "9007199254740993",
+                                        "1.5E-7",
+                                        "0.000000000000000000000001");
+
+        decimals.forEach(decimal -> assertThat(parseDecimal(decimal.toCharArray(), 0, decimal.length()))
+            .as(decimal)
+            .isEqualTo(Double.parseDouble(decimal)));
+    }
+}
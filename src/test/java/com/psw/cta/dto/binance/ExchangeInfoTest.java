@@ -0,0 +1,60 @@
+package com.psw.cta.dto.binance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.psw.cta.exception.BinanceApiException;
+import com.psw.cta.exception.CryptoTraderException;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+class ExchangeInfoTest {
+
+    private static final String EXCHANGE_INFO = """
+        {
+          "symbols": [
+            {
+              "symbol": "ETHBTC",
+              "status": "TRADING",
+              "filters": [
+                {"filterType": "PRICE_FILTER", "minPrice": "0.00001000", "tickSize": "0.00001000"},
+                {"filterType": "LOT_SIZE", "minQty": "0.00010000", "stepSize": "0.00010000"},
+                {"filterType": "NOTIONAL", "minNotional": "0.00010000"}
+              ]
+            },
+            {
+              "symbol": "LTCBTC",
+              "status": "BREAK",
+              "filters": [
+                {"filterType": "MIN_NOTIONAL", "minNotional": "0.00020000"}
+              ]
+            }
+          ]
+        }
+        """;
+
+    @Test
+    void shouldFindSymbolInfoWithParsedFilters() throws Exception {
+        ExchangeInfo exchangeInfo = new ObjectMapper().readValue(EXCHANGE_INFO, ExchangeInfo.class);
+
+        SymbolInfo symbolInfo = exchangeInfo.getSymbolInfo("ETHBTC");
+
+        assertThat(symbolInfo.getSymbol()).isEqualTo("ETHBTC");
+        assertThat(symbolInfo.getTickSize()).isEqualByComparingTo(new BigDecimal("0.00001"));
+        assertThat(symbolInfo.getStepSize()).isEqualByComparingTo(new BigDecimal("0.0001"));
+        assertThat(symbolInfo.getMinQty()).isEqualByComparingTo(new BigDecimal("0.0001"));
+        assertThat(symbolInfo.getMinNotional()).isEqualByComparingTo(new BigDecimal("0.0001"));
+        assertThat(exchangeInfo.getSymbolInfo("LTCBTC").getMinNotional())
+            .isEqualByComparingTo(new BigDecimal("0.0002"));
+    }
+
+    @Test
+    void shouldThrowExceptionForMissingSymbolOrFilter() throws Exception {
+        ExchangeInfo exchangeInfo = new ObjectMapper().readValue(EXCHANGE_INFO, ExchangeInfo.class);
+
+        assertThatThrownBy(() -> exchangeInfo.getSymbolInfo("XRPBTC")).isInstanceOf(BinanceApiException.class);
+        assertThatThrownBy(() -> exchangeInfo.getSymbolInfo("LTCBTC").getStepSize())
+            .isInstanceOf(CryptoTraderException.class);
+    }
+}
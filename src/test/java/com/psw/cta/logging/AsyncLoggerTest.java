@@ -0,0 +1,80 @@
+package com.psw.cta.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class AsyncLoggerTest {
+
+    private final List<String> lines = new CopyOnWriteArrayList<>();
+    private final LambdaLogger delegate = new LambdaLogger() {
+        @Override
+        public void log(String message) {
+            lines.add(message);
+        }
+
+        @Override
+        public void log(byte[] message) {
+            lines.add(new String(message));
+        }
+    };
+
+    @Test
+    void shouldNotBuildMessagesBelowMinimalLevel() {
+        AtomicBoolean built = new AtomicBoolean();
+        try (AsyncLogger logger = new AsyncLogger(delegate, LogLevel.INFO, 16, Duration.ofSeconds(10))) {
+            logger.log(LogLevel.DEBUG, () -> {
+                built.set(true);
+                return "debug";
+            });
+            AsyncLogger.debug(logger, () -> "debug");
+            logger.log("info");
+
+            assertThat(AsyncLogger.isDebugEnabled(logger)).isFalse();
+        }
+
+        assertThat(built).isFalse();
+        assertThat(lines).containsExactly("INFO  [main] info");
+    }
+
+    @Test
+    void shouldWriteMessagesInOrderWhenFlushed() {
+        try (AsyncLogger logger = new AsyncLogger(delegate, LogLevel.DEBUG, 16, Duration.ofSeconds(10))) {
+            logger.log(LogLevel.DEBUG, "first");
+            logger.log(LogLevel.WARN, "second");
+
+            logger.flush();
+
+            assertThat(lines).containsExactly("DEBUG [main] first", "WARN  [main] second");
+        }
+    }
+
+    @Test
+    void shouldNotLoseMessagesWhenBufferIsFull() {
+        int threads = 8;
+        int messagesPerThread = 1_000;
+        try (AsyncLogger logger = new AsyncLogger(delegate, LogLevel.INFO, 4, Duration.ofMillis(1))) {
+            IntStream.range(0, threads)
+                     .parallel()
+                     .forEach(thread -> IntStream.range(0, messagesPerThread)
+                                                 .forEach(message -> logger.log(thread + "-" + message)));
+        }
+
+        assertThat(lines).hasSize(threads * messagesPerThread)
+                         .doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldLogDirectlyToLoggerWhichIsNotLevelAware() {
+        AsyncLogger.debug(delegate, () -> "debug");
+
+        assertThat(AsyncLogger.unwrap(delegate)).isSameAs(delegate);
+        assertThat(lines).containsExactly("debug");
+    }
+}
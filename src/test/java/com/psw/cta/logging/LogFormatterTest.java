@@ -0,0 +1,20 @@
+package com.psw.cta.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class LogFormatterTest {
+
+    @Test
+    void shouldPadColumnsLikeFormatString() {
+        for (String value : new String[]{"", "BTC", "0.00012345", "LONGER_THAN_WIDTH"}) {
+            assertThat(LogFormatter.appendPadded(new StringBuilder(), value, 11).toString())
+                .isEqualTo(String.format("%-11s", value));
+            assertThat(LogFormatter.appendRightAligned(new StringBuilder(), value, 10).toString())
+                .isEqualTo(String.format("%10s", value));
+            assertThat(LogFormatter.appendField(new StringBuilder(), "quantity", value, 8).toString())
+                .isEqualTo(String.format("quantity=%-8s", value));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.psw.cta.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void shouldPlaceEveryValueIntoBucketCoveringIt() {
+        for (long value = 0; value < 100_000; value++) {
+            int index = LatencyHistogram.getIndex(value);
+
+            assertThat(LatencyHistogram.getUpperBound(index)).isGreaterThanOrEqualTo(value);
+            if (index > 0) {
+                assertThat(LatencyHistogram.getUpperBound(index - 1)).isLessThan(value);
+            }
+        }
+    }
+
+    @Test
+    void shouldReportPercentilesWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        IntStream.rangeClosed(1, 10_000).parallel().forEach(histogram::record);
+
+        assertThat(histogram.getCount()).isEqualTo(10_000);
+        assertThat(histogram.getSum()).isEqualTo(50_005_000);
+        assertThat(histogram.getMax()).isEqualTo(10_000);
+        assertThat((double) histogram.getPercentile(50)).isCloseTo(5_000, within(1_250.0));
+        assertThat((double) histogram.getPercentile(99)).isCloseTo(9_900, within(2_475.0));
+        assertThat(histogram.getPercentile(100)).isEqualTo(10_000);
+    }
+
+    @Test
+    void shouldReturnZeroWhenNothingWasRecorded() {
+        assertThat(new LatencyHistogram().getPercentile(99)).isZero();
+    }
+}
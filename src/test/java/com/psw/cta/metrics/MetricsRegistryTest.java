@@ -0,0 +1,106 @@
+package com.psw.cta.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MetricsRegistryTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Mock
+    private LambdaLogger logger;
+
+    @Test
+    void shouldFlushEndpointMetricsInEmbeddedMetricFormat() throws Exception {
+        MetricsRegistry metricsRegistry = createMetricsRegistry();
+        metricsRegistry.recordCall("/api/v3/klines", 2_000_000, 200, 2);
+        metricsRegistry.recordCall("/api/v3/klines", 4_000_000, 200, 2);
+        metricsRegistry.recordCall("/api/v3/klines", 1_000_000, 429, 2);
+        metricsRegistry.recordBytesReceived("/api/v3/klines", 1024);
+
+        metricsRegistry.flush();
+
+        List<JsonNode> documents = getLoggedDocuments();
+        assertThat(documents).hasSize(2);
+        JsonNode endpoint = documents.get(0);
+        assertThat(endpoint.get("_aws").get("Timestamp").asLong()).isEqualTo(NOW.toEpochMilli());
+        JsonNode definition = endpoint.get("_aws").get("CloudWatchMetrics").get(0);
+        assertThat(definition.get("Namespace").asText()).isEqualTo("CryptoTrader");
+        assertThat(definition.get("Dimensions").get(0).get(0).asText()).isEqualTo("Endpoint");
+        assertThat(definition.get("Metrics").findValuesAsText("Name")).contains("Calls", "LatencyP99", "LatencyMax");
+        assertThat(endpoint.get("Endpoint").asText()).isEqualTo("/api/v3/klines");
+        assertThat(endpoint.get("Calls").asLong()).isEqualTo(3);
+        assertThat(endpoint.get("RequestWeight").asLong()).isEqualTo(6);
+        assertThat(endpoint.get("BytesReceived").asLong()).isEqualTo(1024);
+        assertThat(endpoint.get("LatencyMax").asDouble()).isEqualTo(4.0);
+        JsonNode errors = documents.get(1);
+        assertThat(errors.get("Endpoint").asText()).isEqualTo("/api/v3/klines");
+        assertThat(errors.get("ErrorCode").asText()).isEqualTo("429");
+        assertThat(errors.get("Errors").asLong()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFlushStageDurationsAndReturnResultOfStage() throws Exception {
+        MetricsRegistry metricsRegistry = createMetricsRegistry();
+
+        String result = metricsRegistry.time("Cryptos", () -> "result");
+        metricsRegistry.time("CancelTrade", () -> {
+        });
+        metricsRegistry.flush();
+
+        assertThat(result).isEqualTo("result");
+        assertThat(getLoggedDocuments()).extracting(document -> document.get("Stage").asText())
+                                        .containsExactlyInAnyOrder("Cryptos", "CancelTrade");
+    }
+
+    @Test
+    void shouldStartOverAfterFlush() {
+        MetricsRegistry metricsRegistry = createMetricsRegistry();
+        metricsRegistry.recordCall("/api/v3/account", 1_000_000, 200, 20);
+
+        metricsRegistry.flush();
+        metricsRegistry.flush();
+
+        verify(logger).log(anyString());
+    }
+
+    @Test
+    void shouldNotLogAnythingWhenNothingWasRecorded() {
+        createMetricsRegistry().flush();
+
+        verifyNoInteractions(logger);
+    }
+
+    private MetricsRegistry createMetricsRegistry() {
+        return new MetricsRegistry("CryptoTrader", Clock.fixed(NOW, ZoneOffset.UTC), logger);
+    }
+
+    private List<JsonNode> getLoggedDocuments() throws Exception {
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(logger, atLeastOnce()).log(captor.capture());
+        List<JsonNode> documents = new ArrayList<>();
+        for (String line : captor.getAllValues()) {
+            documents.add(OBJECT_MAPPER.readTree(line));
+        }
+        return documents;
+    }
+}
@@ -0,0 +1,84 @@
+package com.psw.cta.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.psw.cta.dto.OrderWrapper;
+import com.psw.cta.dto.ProfitModel;
+import com.psw.cta.dto.binance.ArrayCandlestickSeries;
+import com.psw.cta.dto.binance.Order;
+import com.psw.cta.service.BinanceService;
+import com.psw.cta.service.MarketDataFetcher;
+import com.psw.cta.service.TradingExecutors;
+import com.psw.cta.trace.Tracer;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MainTradeProcessorTest {
+
+    @Mock
+    private BinanceService binanceService;
+
+    @Mock
+    private LambdaLogger logger;
+
+    @Test
+    void shouldWrapOrderWithLowestPriceOfEverySymbol() {
+        when(binanceService.getCurrentPrice("ETHBTC")).thenReturn(new BigDecimal("0.001"));
+        when(binanceService.getCurrentPrice("XRPBTC")).thenReturn(new BigDecimal("0.00002"));
+        when(binanceService.getCandlesticks(any(Order.class), any(BigDecimal.class), any(BigDecimal.class)))
+            .thenReturn(createCandlesticks());
+        List<Order> openOrders = List.of(createOrder("ETHBTC", "0.002"),
+                                         createOrder("XRPBTC", "0.00003"),
+                                         createOrder("ETHBTC", "0.0015"),
+                                         createOrder("ETHBTC", "0.003"));
+        TradingExecutors tradingExecutors = new TradingExecutors(2, logger);
+        MarketDataFetcher marketDataFetcher = tradingExecutors.createIoStage(4);
+        LocalTradeProcessor tradeProcessor = new LocalTradeProcessor(binanceService,
+                                                                     marketDataFetcher,
+                                                                     Clock.systemUTC(),
+                                                                     new Tracer(null, logger),
+                                                                     logger);
+
+        ProfitModel profitModel = new ProfitModel(new BigDecimal("0.01"), new BigDecimal("0.1"));
+        Map<String, BigDecimal> totalAmounts = Map.of("ETHBTC", new BigDecimal("0.0065"),
+                                                      "XRPBTC", new BigDecimal("0.00003"));
+
+        List<OrderWrapper> orderWrappers = tradeProcessor.getOrderWrapperStream(openOrders, profitModel, totalAmounts)
+                                                         .toList();
+
+        assertThat(orderWrappers).extracting(orderWrapper -> orderWrapper.getOrder().getSymbol())
+                                 .containsExactly("ETHBTC", "XRPBTC");
+        assertThat(orderWrappers.getFirst().getOrderPrice()).isEqualByComparingTo("0.0015");
+        verify(binanceService, times(2)).getCandlesticks(any(Order.class),
+                                                         any(BigDecimal.class),
+                                                         any(BigDecimal.class));
+    }
+
+    private ArrayCandlestickSeries createCandlesticks() {
+        ArrayCandlestickSeries candlesticks = new ArrayCandlestickSeries();
+        candlesticks.add(0, 0.001, 0.003, 0.00001, 0.001, 100, 1);
+        return candlesticks;
+    }
+
+    private Order createOrder(String symbol, String price) {
+        Order order = new Order();
+        order.setSymbol(symbol);
+        order.setPrice(price);
+        order.setOrigQty("1");
+        order.setExecutedQty("0");
+        order.setTime(System.currentTimeMillis());
+        return order;
+    }
+}
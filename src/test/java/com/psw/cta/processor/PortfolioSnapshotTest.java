@@ -0,0 +1,90 @@
+package com.psw.cta.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.psw.cta.dto.OrderWrapper;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PortfolioSnapshotTest {
+
+    private static final BigDecimal MY_BTC_BALANCE = new BigDecimal("0.01");
+    private static final BigDecimal REBUY_ORDER_PRICE_PERCENTAGE = new BigDecimal("40");
+
+    @Test
+    void shouldHoldConditionsOverAllOrdersWhenThereIsNoOrder() {
+        PortfolioSnapshot snapshot = new PortfolioSnapshot(List.of(),
+                                                           MY_BTC_BALANCE,
+                                                           REBUY_ORDER_PRICE_PERCENTAGE,
+                                                           orderWrapper -> true);
+
+        assertThat(snapshot.allOrderPricePercentageHigherThan(new BigDecimal("20"))).isTrue();
+        assertThat(snapshot.allOlderThanDay()).isTrue();
+        assertThat(snapshot.allRemainWaitingTimeLessThanZero()).isTrue();
+        assertThat(snapshot.allNeededBtcAmountBiggerThanMyBtcBalance()).isTrue();
+        assertThat(snapshot.haveOrderToRebuy()).isFalse();
+        assertThat(snapshot.haveOrderToRebuyWithHighPricePercentage()).isFalse();
+        assertThat(snapshot.haveOrdersWithOrderPricePercentageGreaterThan10()).isFalse();
+        assertThat(snapshot.haveOrderWithHighNeededBtcAmount()).isFalse();
+    }
+
+    @Test
+    void shouldAggregateAllOrdersInSinglePass() {
+        OrderWrapper oldOrder = createOrderWrapper("45", "30", "-1", "0.02", "0.002", "0.005");
+        OrderWrapper youngOrder = createOrderWrapper("25", "10", "-2", "0.0015", "0.0005", "0.0004");
+
+        PortfolioSnapshot snapshot = new PortfolioSnapshot(List.of(oldOrder, youngOrder),
+                                                           MY_BTC_BALANCE,
+                                                           REBUY_ORDER_PRICE_PERCENTAGE,
+                                                           orderWrapper -> orderWrapper == youngOrder);
+
+        assertThat(snapshot.allOrderPricePercentageHigherThan(new BigDecimal("20"))).isTrue();
+        assertThat(snapshot.allOrderPricePercentageHigherThan(new BigDecimal("25"))).isFalse();
+        assertThat(snapshot.allOlderThanDay()).isFalse();
+        assertThat(snapshot.allRemainWaitingTimeLessThanZero()).isTrue();
+        assertThat(snapshot.allNeededBtcAmountBiggerThanMyBtcBalance()).isFalse();
+        assertThat(snapshot.haveOrderToRebuy()).isTrue();
+        assertThat(snapshot.haveOrderToRebuyWithHighPricePercentage()).isTrue();
+        assertThat(snapshot.haveOrdersWithOrderPricePercentageGreaterThan10()).isTrue();
+        assertThat(snapshot.haveOrderWithHighNeededBtcAmount()).isTrue();
+        assertThat(snapshot.toString()).contains("orderCount=2", "minOrderPricePercentage=25");
+    }
+
+    @Test
+    void shouldNotMatchConditionsOverAnyOrderWhenNoOrderMatches() {
+        OrderWrapper orderWrapper = createOrderWrapper("5", "48", "3", "0.0011", "0.001", "0.02");
+
+        PortfolioSnapshot snapshot = new PortfolioSnapshot(List.of(orderWrapper),
+                                                           new BigDecimal("0.001"),
+                                                           REBUY_ORDER_PRICE_PERCENTAGE,
+                                                           wrapper -> false);
+
+        assertThat(snapshot.allOrderPricePercentageHigherThan(new BigDecimal("20"))).isFalse();
+        assertThat(snapshot.allOlderThanDay()).isTrue();
+        assertThat(snapshot.allRemainWaitingTimeLessThanZero()).isFalse();
+        assertThat(snapshot.allNeededBtcAmountBiggerThanMyBtcBalance()).isTrue();
+        assertThat(snapshot.haveOrderToRebuy()).isFalse();
+        assertThat(snapshot.haveOrderToRebuyWithHighPricePercentage()).isFalse();
+        assertThat(snapshot.haveOrdersWithOrderPricePercentageGreaterThan10()).isFalse();
+        assertThat(snapshot.haveOrderWithHighNeededBtcAmount()).isFalse();
+    }
+
+    private OrderWrapper createOrderWrapper(String orderPricePercentage,
+                                            String actualWaitingTime,
+                                            String remainWaitingTime,
+                                            String neededBtcAmount,
+                                            String orderBtcAmount,
+                                            String currentBtcAmount) {
+        OrderWrapper orderWrapper = mock(OrderWrapper.class);
+        when(orderWrapper.getOrderPricePercentage()).thenReturn(new BigDecimal(orderPricePercentage));
+        when(orderWrapper.getActualWaitingTime()).thenReturn(new BigDecimal(actualWaitingTime));
+        when(orderWrapper.getRemainWaitingTime()).thenReturn(new BigDecimal(remainWaitingTime));
+        when(orderWrapper.getNeededBtcAmount()).thenReturn(new BigDecimal(neededBtcAmount));
+        when(orderWrapper.getOrderBtcAmount()).thenReturn(new BigDecimal(orderBtcAmount));
+        when(orderWrapper.getCurrentBtcAmount()).thenReturn(new BigDecimal(currentBtcAmount));
+        return orderWrapper;
+    }
+}
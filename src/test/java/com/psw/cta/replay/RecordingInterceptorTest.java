@@ -0,0 +1,103 @@
+package com.psw.cta.replay;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import okhttp3.Interceptor;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.Okio;
+import okio.Source;
+import okio.Timeout;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RecordingInterceptorTest {
+
+    private static final Request REQUEST = new Request.Builder()
+        .url("https://api.binance.com/api/v3/account?timestamp=1&signature=abc")
+        .build();
+
+    @Mock
+    private LambdaLogger logger;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void shouldRecordRequestWithoutSignature() throws IOException {
+        Path archive = tempDir.resolve("archive.jsonl");
+        Interceptor.Chain chain = createChain(ResponseBody.create("{\"balances\":[]}", null));
+
+        Response response = new RecordingInterceptor(archive, logger).intercept(chain);
+
+        assertThat(response.body().string()).isEqualTo("{\"balances\":[]}");
+        assertThat(Files.readString(archive, UTF_8)).contains("\"path\":\"/api/v3/account\"",
+                                                              "\"query\":\"timestamp=1\"",
+                                                              "\"code\":200")
+                                                    .doesNotContain("signature");
+    }
+
+    @Test
+    void shouldReturnResponseWhenBodyCannotBeRecorded() throws IOException {
+        Source failingSource = new Source() {
+            @Override
+            public long read(Buffer sink, long byteCount) throws IOException {
+                throw new IOException("Connection reset");
+            }
+
+            @Override
+            public Timeout timeout() {
+                return Timeout.NONE;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        Interceptor.Chain chain = createChain(ResponseBody.create(Okio.buffer(failingSource), null, -1));
+
+        Response response = new RecordingInterceptor(tempDir.resolve("archive.jsonl"), logger).intercept(chain);
+
+        assertThat(response.code()).isEqualTo(200);
+        verify(logger).log(startsWith("Failed to record request /api/v3/account"));
+    }
+
+    @Test
+    void shouldReturnResponseWhenArchiveCannotBeWritten() throws IOException {
+        Interceptor.Chain chain = createChain(ResponseBody.create("{}", null));
+
+        Response response = new RecordingInterceptor(tempDir, logger).intercept(chain);
+
+        assertThat(response.code()).isEqualTo(200);
+        verify(logger).log(startsWith("Failed to record request /api/v3/account"));
+    }
+
+    private Interceptor.Chain createChain(ResponseBody body) throws IOException {
+        Response response = new Response.Builder().request(REQUEST)
+                                                  .protocol(Protocol.HTTP_1_1)
+                                                  .code(200)
+                                                  .message("OK")
+                                                  .body(body)
+                                                  .build();
+        Interceptor.Chain chain = mock(Interceptor.Chain.class);
+        when(chain.request()).thenReturn(REQUEST);
+        when(chain.proceed(REQUEST)).thenReturn(response);
+        return chain;
+    }
+}
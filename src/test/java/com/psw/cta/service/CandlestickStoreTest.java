@@ -0,0 +1,105 @@
+package com.psw.cta.service;
+
+import static com.psw.cta.dto.binance.CandlestickInterval.DAILY;
+import static com.psw.cta.dto.binance.FilterType.PRICE_FILTER;
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.psw.cta.dto.binance.ArrayCandlestickSeries;
+import com.psw.cta.dto.binance.CandlestickSeries;
+import com.psw.cta.dto.binance.SymbolFilter;
+import com.psw.cta.dto.binance.SymbolInfo;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CandlestickStoreTest {
+
+    private static final long DAY = 86_400_000L;
+    private static final String SYMBOL = "ETHBTC";
+
+    @Mock
+    private BinanceClient binanceClient;
+
+    @Mock
+    private LambdaLogger logger;
+
+    @TempDir
+    private Path tempDir;
+
+    private SymbolInfo symbolInfo;
+
+    @BeforeEach
+    void setUp() {
+        symbolInfo = new SymbolInfo();
+        symbolInfo.setSymbol(SYMBOL);
+        symbolInfo.setFilters(List.of(new SymbolFilter(PRICE_FILTER, "0.00000001", null, null, null)));
+    }
+
+    @Test
+    void shouldDownloadOnlyCandlesticksNewerThanStoredOnes() {
+        long now = 10 * DAY + DAY / 2;
+        when(binanceClient.getCandlestickBars(SYMBOL, "1d", 1000, now - 5 * DAY, now))
+            .thenReturn(createSeries(6, 7, 8, 9, 10));
+        createStore(now).getCandlesticks(symbolInfo, DAILY, now - 5 * DAY, now);
+
+        long nextDay = now + DAY;
+        when(binanceClient.getCandlestickBars(SYMBOL, "1d", 1000, 10 * DAY, nextDay))
+            .thenReturn(createSeries(10, 11));
+        CandlestickSeries candlesticks = createStore(nextDay).getCandlesticks(symbolInfo,
+                                                                              DAILY,
+                                                                              nextDay - 5 * DAY,
+                                                                              nextDay);
+
+        assertThat(getOpenDays(candlesticks)).containsExactly(7L, 8L, 9L, 10L, 11L);
+        assertThat(candlesticks.getOpen(0)).isEqualTo(0.00001234);
+        assertThat(candlesticks.getHigh(0)).isEqualTo(0.00001307);
+        assertThat(candlesticks.getLow(0)).isEqualTo(0.00001201);
+        assertThat(candlesticks.getClose(0)).isEqualTo(0.00001255);
+        assertThat(candlesticks.getVolume(0)).isEqualTo(1234.5);
+    }
+
+    @Test
+    void shouldRepairGapInStoredCandlesticks() {
+        long now = 10 * DAY + DAY / 2;
+        when(binanceClient.getCandlestickBars(SYMBOL, "1d", 1000, now - 5 * DAY, now))
+            .thenReturn(createSeries(6, 7, 9, 10));
+        createStore(now).getCandlesticks(symbolInfo, DAILY, now - 5 * DAY, now);
+
+        when(binanceClient.getCandlestickBars(SYMBOL, "1d", 1000, 8 * DAY, now))
+            .thenReturn(createSeries(8, 9, 10));
+        CandlestickSeries candlesticks = createStore(now).getCandlesticks(symbolInfo, DAILY, now - 5 * DAY, now);
+
+        assertThat(getOpenDays(candlesticks)).containsExactly(6L, 7L, 8L, 9L, 10L);
+    }
+
+    private CandlestickStore createStore(long now) {
+        return new CandlestickStore(binanceClient, tempDir, Clock.fixed(Instant.ofEpochMilli(now), UTC), logger);
+    }
+
+    private CandlestickSeries createSeries(long... days) {
+        ArrayCandlestickSeries series = new ArrayCandlestickSeries();
+        for (long day : days) {
+            series.add(day * DAY, 0.00001234, 0.00001307, 0.00001201, 0.00001255, 1234.5, (day + 1) * DAY - 1);
+        }
+        return series;
+    }
+
+    private long[] getOpenDays(CandlestickSeries series) {
+        long[] days = new long[series.size()];
+        for (int i = 0; i < series.size(); i++) {
+            days[i] = series.getOpenTime(i) / DAY;
+        }
+        return days;
+    }
+}
@@ -0,0 +1,110 @@
+package com.psw.cta.service;
+
+import static com.psw.cta.dto.binance.FilterType.LOT_SIZE;
+import static com.psw.cta.dto.binance.FilterType.MIN_NOTIONAL;
+import static com.psw.cta.dto.binance.FilterType.PRICE_FILTER;
+import static com.psw.cta.dto.binance.SymbolStatus.TRADING;
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.psw.cta.dto.binance.ExchangeInfo;
+import com.psw.cta.dto.binance.SymbolFilter;
+import com.psw.cta.dto.binance.SymbolInfo;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ExchangeInfoCacheTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Mock
+    private BinanceClient binanceClient;
+
+    @Mock
+    private LambdaLogger logger;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void shouldKeepOnlyBtcSymbolsAndRestoreThemFromSnapshot() {
+        when(binanceClient.getExchangeInfo()).thenReturn(createExchangeInfo());
+        Path snapshotFile = tempDir.resolve("exchange-info.bin");
+
+        ExchangeInfo downloaded = createCache(snapshotFile, NOW).getExchangeInfo();
+        ExchangeInfo restored = createCache(snapshotFile, NOW.plusSeconds(60)).getExchangeInfo();
+
+        verify(binanceClient, times(1)).getExchangeInfo();
+        assertThat(downloaded.getSymbols()).extracting(SymbolInfo::getSymbol).containsExactly("ETHBTC");
+        SymbolInfo symbolInfo = restored.getSymbolInfo("ETHBTC");
+        assertThat(symbolInfo.getStatus()).isEqualTo(TRADING);
+        assertThat(symbolInfo.getTickSize()).isEqualByComparingTo(new BigDecimal("0.00001"));
+        assertThat(symbolInfo.getStepSize()).isEqualByComparingTo(new BigDecimal("0.0001"));
+        assertThat(symbolInfo.getMinQty()).isEqualByComparingTo(new BigDecimal("0.001"));
+        assertThat(symbolInfo.getMinNotional()).isEqualByComparingTo(new BigDecimal("0.0001"));
+    }
+
+    @Test
+    void shouldServeExpiredSnapshotAndRevalidateIt() {
+        when(binanceClient.getExchangeInfo()).thenReturn(createExchangeInfo());
+        Path snapshotFile = tempDir.resolve("exchange-info.bin");
+        createCache(snapshotFile, NOW).getExchangeInfo();
+
+        ExchangeInfo exchangeInfo = createCache(snapshotFile, NOW.plus(Duration.ofMinutes(30))).getExchangeInfo();
+
+        assertThat(exchangeInfo.getSymbolInfo("ETHBTC")).isNotNull();
+        verify(binanceClient, times(2)).getExchangeInfo();
+    }
+
+    @Test
+    void shouldServeSnapshotRevalidatedInCallingThread() {
+        ExchangeInfo revalidated = createExchangeInfo();
+        when(binanceClient.getExchangeInfo()).thenReturn(createExchangeInfo(), revalidated);
+        Path snapshotFile = tempDir.resolve("exchange-info.bin");
+        createCache(snapshotFile, NOW).getExchangeInfo();
+
+        ExchangeInfo exchangeInfo = createCache(snapshotFile, NOW.plus(Duration.ofMinutes(30))).getExchangeInfo();
+
+        assertThat(exchangeInfo.getSymbols()).containsExactly(revalidated.getSymbols().getFirst());
+    }
+
+    private ExchangeInfoCache createCache(Path snapshotFile, Instant now) {
+        return new ExchangeInfoCache(binanceClient,
+                                     snapshotFile,
+                                     Duration.ofMinutes(15),
+                                     Duration.ofHours(6),
+                                     Clock.fixed(now, UTC),
+                                     Runnable::run,
+                                     logger);
+    }
+
+    private ExchangeInfo createExchangeInfo() {
+        SymbolInfo ethBtc = new SymbolInfo();
+        ethBtc.setSymbol("ETHBTC");
+        ethBtc.setStatus(TRADING);
+        ethBtc.setFilters(List.of(new SymbolFilter(PRICE_FILTER, "0.00001000", null, null, null),
+                                  new SymbolFilter(LOT_SIZE, null, "0.00100000", "0.00010000", null),
+                                  new SymbolFilter(MIN_NOTIONAL, null, null, null, "0.00010000")));
+        SymbolInfo ethUsdt = new SymbolInfo();
+        ethUsdt.setSymbol("ETHUSDT");
+        ethUsdt.setStatus(TRADING);
+        ethUsdt.setFilters(List.of());
+        ExchangeInfo exchangeInfo = new ExchangeInfo();
+        exchangeInfo.setSymbols(List.of(ethBtc, ethUsdt));
+        return exchangeInfo;
+    }
+}
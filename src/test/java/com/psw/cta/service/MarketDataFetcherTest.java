@@ -0,0 +1,133 @@
+package com.psw.cta.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.verify;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.psw.cta.exception.BinanceApiException;
+import com.psw.cta.exception.CryptoTraderException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MarketDataFetcherTest {
+
+    @Mock
+    private LambdaLogger logger;
+
+    @Test
+    void shouldSkipInputWhoseRequestTimedOut() {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            MarketDataFetcher fetcher = new MarketDataFetcher(executor, 4, logger);
+
+            List<String> results = fetcher.fetchAll(List.of("fast", "slow", "other"), input -> {
+                if (input.equals("slow")) {
+                    throw new BinanceApiException(new InterruptedIOException("timeout"));
+                }
+                return input;
+            });
+
+            assertThat(results).containsExactlyInAnyOrder("fast", "other");
+        }
+        verify(logger).log(startsWith("Skipping slow, request timed out"));
+    }
+
+    @Test
+    void shouldCancelRemainingFetchesWhenCallerIsInterrupted() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            MarketDataFetcher fetcher = new MarketDataFetcher(executor, 4, logger);
+            Thread caller = Thread.ofVirtual().start(() -> {
+                try {
+                    fetcher.fetchAll(List.of("slow"), input -> {
+                        started.countDown();
+                        return sleep(Duration.ofSeconds(10), interrupted);
+                    });
+                } catch (RuntimeException e) {
+                    failure.set(e);
+                }
+            });
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            caller.interrupt();
+            caller.join();
+
+            assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+        assertThat(failure.get()).isInstanceOf(CryptoTraderException.class);
+    }
+
+    @Test
+    void shouldNotRunMoreFetchesThanPermitsAtTheSameTime() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            MarketDataFetcher fetcher = new MarketDataFetcher(executor, 3, logger);
+
+            List<Integer> results = fetcher.fetchAll(IntStream.range(0, 20).boxed().toList(), input -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(Duration.ofMillis(20), new CountDownLatch(1));
+                running.decrementAndGet();
+                return input;
+            });
+
+            assertThat(results).containsExactlyInAnyOrderElementsOf(IntStream.range(0, 20).boxed().toList());
+        }
+        assertThat(maxRunning.get()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldRethrowFirstFailureAndCancelRemainingFetches() throws InterruptedException {
+        BinanceApiException failure = new BinanceApiException("Invalid symbol");
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch interrupted = new CountDownLatch(2);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            MarketDataFetcher fetcher = new MarketDataFetcher(executor, 4, logger);
+
+            assertThatThrownBy(() -> fetcher.fetchAll(List.of("slow", "failing", "slower"), input -> {
+                if (input.equals("failing")) {
+                    await(started);
+                    throw failure;
+                }
+                started.countDown();
+                return sleep(Duration.ofSeconds(10), interrupted);
+            })).isSameAs(failure);
+
+            assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String sleep(Duration duration, CountDownLatch interrupted) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+            Thread.currentThread().interrupt();
+        }
+        return "slept";
+    }
+}
@@ -0,0 +1,120 @@
+package com.psw.cta.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.psw.cta.backtest.SimulatedClock;
+import com.psw.cta.dto.binance.BookTicker;
+import com.psw.cta.exception.CryptoTraderException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PriceSnapshotServiceTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Mock
+    private BinanceClient binanceClient;
+
+    @Mock
+    private LambdaLogger logger;
+
+    @Test
+    void shouldDownloadSnapshotAgainWhenItIsOlderThanMaxAge() {
+        when(binanceClient.getBookTickers()).thenReturn(List.of(createBookTicker("ETHBTC", "0.0499", "0.05")),
+                                                        List.of(createBookTicker("ETHBTC", "0.0509", "0.051")));
+        SimulatedClock clock = new SimulatedClock(NOW);
+        PriceSnapshotService service = new PriceSnapshotService(binanceClient, Duration.ofSeconds(30), clock, logger);
+
+        BigDecimal first = service.getAskPrice("ETHBTC");
+        clock.set(NOW.plusSeconds(30));
+        BigDecimal cached = service.getBidPrice("ETHBTC");
+        clock.set(NOW.plusSeconds(31));
+        BigDecimal refreshed = service.getAskPrice("ETHBTC");
+
+        assertThat(first).isEqualByComparingTo("0.05");
+        assertThat(cached).isEqualByComparingTo("0.0499");
+        assertThat(refreshed).isEqualByComparingTo("0.051");
+        verify(binanceClient, times(2)).getBookTickers();
+    }
+
+    @Test
+    void shouldDownloadSnapshotOnceForConcurrentCallers() throws ExecutionException, InterruptedException {
+        when(binanceClient.getBookTickers()).thenAnswer(invocation -> {
+            Thread.sleep(50);
+            return List.of(createBookTicker("ETHBTC", "0.0499", "0.05"));
+        });
+        PriceSnapshotService service = new PriceSnapshotService(binanceClient,
+                                                                Duration.ofSeconds(30),
+                                                                new SimulatedClock(NOW),
+                                                                logger);
+
+        List<Future<BigDecimal>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> service.getAskPrice("ETHBTC")));
+            }
+        }
+
+        verify(binanceClient, times(1)).getBookTickers();
+        for (Future<BigDecimal> result : results) {
+            assertThat(result.get()).isEqualByComparingTo("0.05");
+        }
+    }
+
+    @Test
+    void shouldDownloadFreshPriceAndUpdateSnapshotWithIt() {
+        when(binanceClient.getBookTickers()).thenReturn(List.of(createBookTicker("ETHBTC", "0.0499", "0.05")));
+        when(binanceClient.getBookTicker("ETHBTC")).thenReturn(createBookTicker("ETHBTC", "0.0509", "0.051"));
+        PriceSnapshotService service = new PriceSnapshotService(binanceClient,
+                                                                Duration.ofSeconds(30),
+                                                                new SimulatedClock(NOW),
+                                                                logger);
+
+        BigDecimal cached = service.getAskPrice("ETHBTC");
+        BigDecimal fresh = service.getFreshAskPrice("ETHBTC");
+
+        assertThat(cached).isEqualByComparingTo("0.05");
+        assertThat(fresh).isEqualByComparingTo("0.051");
+        assertThat(service.getBidPrice("ETHBTC")).isEqualByComparingTo("0.0509");
+        verify(binanceClient, times(1)).getBookTickers();
+    }
+
+    @Test
+    void shouldThrowExceptionWhenSymbolHasNoPrice() {
+        when(binanceClient.getBookTickers()).thenReturn(List.of(createBookTicker("ETHBTC", "0", "0.05")));
+        PriceSnapshotService service = new PriceSnapshotService(binanceClient,
+                                                                Duration.ofSeconds(30),
+                                                                new SimulatedClock(NOW),
+                                                                logger);
+
+        assertThatThrownBy(() -> service.getAskPrice("XRPBTC")).isInstanceOf(CryptoTraderException.class)
+                                                               .hasMessage("No price found for XRPBTC!");
+        assertThatThrownBy(() -> service.getBidPrice("ETHBTC")).isInstanceOf(CryptoTraderException.class)
+                                                               .hasMessage("No price found for ETHBTC!");
+    }
+
+    private BookTicker createBookTicker(String symbol, String bidPrice, String askPrice) {
+        BookTicker bookTicker = new BookTicker();
+        bookTicker.setSymbol(symbol);
+        bookTicker.setBidPrice(bidPrice);
+        bookTicker.setAskPrice(askPrice);
+        return bookTicker;
+    }
+}
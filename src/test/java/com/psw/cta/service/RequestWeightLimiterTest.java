@@ -0,0 +1,85 @@
+package com.psw.cta.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.psw.cta.exception.BinanceApiException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RequestWeightLimiterTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-01-01T10:00:00Z"), ZoneOffset.UTC);
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    LambdaLogger logger;
+
+    @Test
+    void shouldChargeWeightOfRequest() {
+        RequestWeightLimiter limiter = new RequestWeightLimiter(100, tempDir.resolve("weight"), CLOCK, logger);
+
+        limiter.acquire(30);
+
+        assertThat(limiter.getAvailableWeight()).isEqualTo(70.0);
+    }
+
+    @Test
+    void shouldReconcileWithWeightUsedByExchange() {
+        RequestWeightLimiter limiter = new RequestWeightLimiter(100, tempDir.resolve("weight"), CLOCK, logger);
+
+        limiter.reconcile(90);
+
+        assertThat(limiter.getAvailableWeight()).isEqualTo(10.0);
+    }
+
+    @Test
+    void shouldRestoreWeightLeftByPreviousInvocation() {
+        Path stateFile = tempDir.resolve("weight");
+        new RequestWeightLimiter(100, stateFile, CLOCK, logger).acquire(60);
+
+        Clock laterClock = Clock.offset(CLOCK, Duration.ofSeconds(30));
+        RequestWeightLimiter limiter = new RequestWeightLimiter(100, stateFile, laterClock, logger);
+
+        assertThat(limiter.getAvailableWeight()).isEqualTo(90.0);
+    }
+
+    @Test
+    void shouldPersistWeightChargedSinceLastPersistWhenFlushed() {
+        Path stateFile = tempDir.resolve("weight");
+        RequestWeightLimiter limiter = new RequestWeightLimiter(100, stateFile, CLOCK, logger);
+        limiter.acquire(10);
+        limiter.acquire(20);
+
+        limiter.flush();
+
+        assertThat(new RequestWeightLimiter(100, stateFile, CLOCK, logger).getAvailableWeight()).isEqualTo(70.0);
+    }
+
+    @Test
+    void shouldNotChargeWeightWhenInterruptedWhileWaiting() {
+        RequestWeightLimiter limiter = new RequestWeightLimiter(100, null, CLOCK, logger);
+        limiter.acquire(100);
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThatThrownBy(() -> limiter.acquire(10)).isInstanceOf(BinanceApiException.class);
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+        assertThat(limiter.getAvailableWeight()).isZero();
+    }
+}
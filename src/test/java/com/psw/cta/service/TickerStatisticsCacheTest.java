@@ -0,0 +1,75 @@
+package com.psw.cta.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.psw.cta.backtest.SimulatedClock;
+import com.psw.cta.dto.binance.TickerStatistics;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TickerStatisticsCacheTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Mock
+    private BinanceClient binanceClient;
+
+    @Mock
+    private LambdaLogger logger;
+
+    @Test
+    void shouldDownloadStatisticsOnceForConcurrentCallers() throws ExecutionException, InterruptedException {
+        TickerStatistics tickerStatistics = new TickerStatistics();
+        tickerStatistics.setSymbol("ETHBTC");
+        when(binanceClient.getAll24HrPriceStatistics()).thenAnswer(invocation -> {
+            Thread.sleep(50);
+            return List.of(tickerStatistics);
+        });
+        TickerStatisticsCache cache = new TickerStatisticsCache(binanceClient,
+                                                                Duration.ofMinutes(1),
+                                                                new SimulatedClock(NOW),
+                                                                logger);
+
+        List<Future<List<TickerStatistics>>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(cache::getAll24hTickers));
+            }
+        }
+
+        verify(binanceClient, times(1)).getAll24HrPriceStatistics();
+        for (Future<List<TickerStatistics>> result : results) {
+            assertThat(result.get()).containsExactly(tickerStatistics);
+        }
+    }
+
+    @Test
+    void shouldDownloadStatisticsAgainWhenTheyAreStale() {
+        when(binanceClient.getAll24HrPriceStatistics()).thenReturn(List.of());
+        SimulatedClock clock = new SimulatedClock(NOW);
+        TickerStatisticsCache cache = new TickerStatisticsCache(binanceClient, Duration.ofMinutes(1), clock, logger);
+
+        cache.getAll24hTickers();
+        clock.set(NOW.plusSeconds(60));
+        cache.getAll24hTickers();
+        clock.set(NOW.plusSeconds(61));
+        cache.getAll24hTickers();
+
+        verify(binanceClient, times(2)).getAll24HrPriceStatistics();
+    }
+}
@@ -0,0 +1,61 @@
+package com.psw.cta.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TradingExecutorsTest {
+
+    @Mock
+    private LambdaLogger logger;
+
+    @Test
+    void shouldRunBlockingFetchesOfStageConcurrentlyBeyondNumberOfCores() {
+        int fetches = 64;
+        CountDownLatch allStarted = new CountDownLatch(fetches);
+        try (TradingExecutors tradingExecutors = new TradingExecutors(1, logger)) {
+            MarketDataFetcher stage = tradingExecutors.createIoStage(fetches);
+
+            List<Boolean> results = stage.fetchAll(IntStream.range(0, fetches).boxed().toList(), input -> {
+                allStarted.countDown();
+                try {
+                    return allStarted.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            });
+
+            assertThat(results).hasSize(fetches)
+                               .containsOnly(true);
+        }
+    }
+
+    @Test
+    void shouldRunComputationOutsideOfCommonPool() {
+        Set<ForkJoinPool> pools = ConcurrentHashMap.newKeySet();
+        try (TradingExecutors tradingExecutors = new TradingExecutors(2, logger)) {
+            int sum = tradingExecutors.computeOnCpu(() -> IntStream.range(0, 10_000)
+                                                                   .parallel()
+                                                                   .peek(value -> pools.add(ForkJoinTask.getPool()))
+                                                                   .sum());
+
+            assertThat(sum).isEqualTo(49_995_000);
+        }
+        assertThat(pools).hasSize(1)
+                         .doesNotContain(ForkJoinPool.commonPool());
+    }
+}
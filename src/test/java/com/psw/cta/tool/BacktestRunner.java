@@ -0,0 +1,181 @@
+package com.psw.cta.tool;
+
+import static com.psw.cta.utils.BinanceApiConstants.API_BASE_URL;
+import static com.psw.cta.utils.IocProvider.createLogger;
+import static com.psw.cta.utils.IocProvider.createSimulatedTrader;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.psw.cta.CryptoTrader;
+import com.psw.cta.backtest.BacktestResult;
+import com.psw.cta.backtest.Backtester;
+import com.psw.cta.backtest.HistoricalMarket;
+import com.psw.cta.backtest.SimulatedClock;
+import com.psw.cta.backtest.SimulatedExchange;
+import com.psw.cta.dto.binance.ArrayCandlestickSeries;
+import com.psw.cta.dto.binance.CandlestickSeries;
+import com.psw.cta.logging.AsyncLogger;
+import com.psw.cta.logging.LogLevel;
+import com.psw.cta.service.MappedCandlestickSeries;
+import com.psw.cta.service.TradingExecutors;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Standalone tool downloading historical 5 minute klines of BTC quoted symbols and replaying them through
+ * {@link CryptoTrader} with lambda trade processor. The first 91 days of the market are used only as history of
+ * the strategy, trading starts after them.
+ *
+ * <p>Usage:
+ * <ul>
+ *   <li>{@code BacktestRunner download <directory> <days> [symbol...]} downloads klines of provided symbols, or of all
+ *   trading BTC symbols, from public endpoints of Binance.</li>
+ *   <li>{@code BacktestRunner run <directory> [initialBtc] [cycleMinutes]} runs the backtest. Minimal level of logged
+ *   messages is set by system property cta.logLevel.</li>
+ * </ul>
+ */
+public class BacktestRunner {
+
+    private static final Duration WARM_UP = Duration.ofDays(91);
+    private static final Duration FIVE_MINUTES = Duration.ofMinutes(5);
+    private static final BigDecimal FEE_RATE = new BigDecimal("0.001");
+    private static final int KLINES_PER_REQUEST = 1000;
+    private static final long PAUSE_BETWEEN_REQUESTS_MILLIS = 100;
+    private static final int PRICE_SCALE = 8;
+
+    /**
+     * Main method.
+     *
+     * @param args Command line arguments
+     * @throws Exception if anything goes wrong
+     */
+    public static void main(String[] args) throws Exception {
+        Path directory = Path.of(args[1]);
+        if (args[0].equals("download")) {
+            download(directory, Integer.parseInt(args[2]), Arrays.asList(args).subList(3, args.length));
+        } else {
+            BigDecimal initialBtc = new BigDecimal(args.length > 2 ? args[2] : "0.05");
+            Duration cycleDuration = args.length > 3 ? Duration.ofMinutes(Long.parseLong(args[3])) : FIVE_MINUTES;
+            run(directory, initialBtc, cycleDuration);
+        }
+    }
+
+    private static void run(Path directory,
+                            BigDecimal initialBtc,
+                            Duration cycleDuration) throws IOException {
+        LogLevel logLevel = LogLevel.valueOf(System.getProperty("cta.logLevel", LogLevel.WARN.name()));
+        long loadStart = System.nanoTime();
+        HistoricalMarket market = HistoricalMarket.load(directory);
+        System.out.println("Loaded " + market.getSymbols().size() + " symbols in "
+                           + (System.nanoTime() - loadStart) / 1_000_000 + " ms");
+        Instant start = Instant.ofEpochMilli(market.getStartTime()).plus(WARM_UP);
+        Instant end = Instant.ofEpochMilli(market.getEndTime() + 1);
+        SimulatedClock clock = new SimulatedClock(start);
+        try (AsyncLogger logger = createLogger(getLogger(), logLevel);
+             TradingExecutors tradingExecutors = new TradingExecutors(Runtime.getRuntime().availableProcessors(),
+                                                                      logger)) {
+            SimulatedExchange exchange = new SimulatedExchange(market, clock, initialBtc, FEE_RATE);
+            CryptoTrader cryptoTrader = createSimulatedTrader(exchange, clock, tradingExecutors, logger);
+            Backtester backtester = new Backtester(cryptoTrader, exchange, clock, cycleDuration, logger);
+            long runStart = System.nanoTime();
+            BacktestResult result = backtester.run(start, end);
+            long wallTimeMillis = (System.nanoTime() - runStart) / 1_000_000;
+            printResult(result, wallTimeMillis);
+        }
+    }
+
+    private static void printResult(BacktestResult result, long wallTimeMillis) {
+        System.out.println("Backtest from " + result.start() + " to " + result.end());
+        System.out.println("  cycles:        " + result.cycles() + " (" + result.failedCycles() + " failed)");
+        System.out.println("  trades:        " + result.trades());
+        System.out.println("  initial value: " + result.initialValue().toPlainString() + " BTC");
+        System.out.println("  final value:   " + result.finalValue().toPlainString() + " BTC");
+        System.out.printf("  profit:        %.2f %%%n", result.profitPercentage());
+        System.out.printf("  max drawdown:  %.2f %%%n", result.maxDrawdown() * 100);
+        System.out.println("  wall time:     " + wallTimeMillis + " ms");
+    }
+
+    private static void download(Path directory, int days, List<String> requestedSymbols) throws Exception {
+        Files.createDirectories(directory);
+        OkHttpClient client = new OkHttpClient();
+        ObjectMapper objectMapper = new ObjectMapper();
+        String exchangeInfo = get(client, API_BASE_URL + "/api/v3/exchangeInfo?permissions=SPOT");
+        Files.writeString(directory.resolve(HistoricalMarket.EXCHANGE_INFO_FILE), exchangeInfo);
+        List<String> symbols = requestedSymbols.isEmpty() ? getTradingBtcSymbols(objectMapper.readTree(exchangeInfo))
+            : requestedSymbols;
+        long endTime = System.currentTimeMillis();
+        long startTime = endTime - Duration.ofDays(days).toMillis();
+        for (String symbol : symbols) {
+            ArrayCandlestickSeries candlesticks = new ArrayCandlestickSeries();
+            long from = startTime;
+            while (from < endTime) {
+                String url = API_BASE_URL + "/api/v3/klines?symbol=" + symbol + "&interval=5m&limit="
+                             + KLINES_PER_REQUEST + "&startTime=" + from + "&endTime=" + endTime;
+                CandlestickSeries batch = objectMapper.readValue(get(client, url), CandlestickSeries.class);
+                for (int i = 0; i < batch.size() && batch.getCloseTime(i) < endTime; i++) {
+                    candlesticks.add(batch.getOpenTime(i),
+                                     batch.getOpen(i),
+                                     batch.getHigh(i),
+                                     batch.getLow(i),
+                                     batch.getClose(i),
+                                     batch.getVolume(i),
+                                     batch.getCloseTime(i));
+                }
+                if (batch.size() < KLINES_PER_REQUEST) {
+                    break;
+                }
+                from = batch.getCloseTime(batch.size() - 1) + 1;
+                Thread.sleep(PAUSE_BETWEEN_REQUESTS_MILLIS);
+            }
+            MappedCandlestickSeries.write(directory.resolve(symbol + HistoricalMarket.FIVE_MINUTES_FILE_SUFFIX),
+                                          candlesticks,
+                                          PRICE_SCALE);
+            System.out.println("Downloaded " + candlesticks.size() + " klines of " + symbol);
+        }
+    }
+
+    private static List<String> getTradingBtcSymbols(JsonNode exchangeInfo) {
+        List<String> symbols = new ArrayList<>();
+        for (JsonNode symbol : exchangeInfo.get("symbols")) {
+            String name = symbol.get("symbol").asText();
+            if (name.endsWith("BTC") && "TRADING".equals(symbol.path("status").asText())) {
+                symbols.add(name);
+            }
+        }
+        return symbols;
+    }
+
+    private static String get(OkHttpClient client, String url) throws IOException {
+        try (Response response = client.newCall(new Request.Builder().url(url).build()).execute()) {
+            if (!response.isSuccessful() || response.body() == null) {
+                throw new IOException("Request " + url + " failed with status " + response.code());
+            }
+            return response.body().string();
+        }
+    }
+
+    private static LambdaLogger getLogger() {
+        return new LambdaLogger() {
+            @Override
+            public void log(String message) {
+                System.out.println(message);
+            }
+
+            @Override
+            public void log(byte[] bytes) {
+                System.out.println(new String(bytes));
+            }
+        };
+    }
+}
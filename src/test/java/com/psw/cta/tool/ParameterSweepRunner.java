@@ -0,0 +1,121 @@
+package com.psw.cta.tool;
+
+import static com.psw.cta.utils.IocProvider.createLogger;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.psw.cta.backtest.HistoricalMarket;
+import com.psw.cta.backtest.ParameterSweep;
+import com.psw.cta.backtest.SweepParameter;
+import com.psw.cta.backtest.SweepResult;
+import com.psw.cta.logging.AsyncLogger;
+import com.psw.cta.logging.LogLevel;
+import com.psw.cta.processor.StrategyParameters;
+import com.psw.cta.service.TradingExecutors;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Standalone tool sweeping thresholds of the strategy over a market downloaded by {@link BacktestRunner}. Every
+ * configuration is backtested from the end of the first 91 days of the market, which are used only as history of the
+ * strategy, and the ranked results are written as a CSV table.
+ *
+ * <p>Usage: {@code ParameterSweepRunner <grid|random> <directory> <resultsFile> [days] [count] [seed]}
+ * <ul>
+ *   <li>{@code grid} backtests every combination of swept values.</li>
+ *   <li>{@code random} backtests {@code count} random combinations of swept values, 1000 by default.</li>
+ *   <li>{@code days} limits every backtest to the provided number of days, the whole market is used by default.</li>
+ * </ul>
+ * Minimal level of logged messages is set by system property cta.logLevel.
+ */
+public class ParameterSweepRunner {
+
+    private static final Duration WARM_UP = Duration.ofDays(91);
+    private static final Duration FIVE_MINUTES = Duration.ofMinutes(5);
+    private static final BigDecimal INITIAL_BTC = new BigDecimal("0.05");
+    private static final BigDecimal FEE_RATE = new BigDecimal("0.001");
+    private static final int DEFAULT_COUNT = 1000;
+    private static final int PRINTED_RESULTS = 10;
+
+    /**
+     * Main method.
+     *
+     * @param args Command line arguments
+     * @throws Exception if anything goes wrong
+     */
+    public static void main(String[] args) throws Exception {
+        Path directory = Path.of(args[1]);
+        Path resultsFile = Path.of(args[2]);
+        LogLevel logLevel = LogLevel.valueOf(System.getProperty("cta.logLevel", LogLevel.WARN.name()));
+        HistoricalMarket market = HistoricalMarket.load(directory);
+        Instant start = Instant.ofEpochMilli(market.getStartTime()).plus(WARM_UP);
+        Instant end = args.length > 3 ? start.plus(Duration.ofDays(Long.parseLong(args[3])))
+            : Instant.ofEpochMilli(market.getEndTime() + 1);
+        List<StrategyParameters> configurations = args[0].equals("grid") ? ParameterSweep.grid(getSweptValues())
+            : ParameterSweep.random(getSweptValues(),
+                                    args.length > 4 ? Integer.parseInt(args[4]) : DEFAULT_COUNT,
+                                    args.length > 5 ? Long.parseLong(args[5]) : System.nanoTime());
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        try (AsyncLogger logger = createLogger(getLogger(), logLevel);
+             TradingExecutors tradingExecutors = new TradingExecutors(parallelism, logger)) {
+            ParameterSweep sweep = new ParameterSweep(market,
+                                                      tradingExecutors,
+                                                      INITIAL_BTC,
+                                                      FEE_RATE,
+                                                      FIVE_MINUTES,
+                                                      parallelism,
+                                                      logger);
+            long sweepStart = System.nanoTime();
+            List<SweepResult> results = sweep.run(configurations, start, end);
+            long wallTimeMillis = (System.nanoTime() - sweepStart) / 1_000_000;
+            ParameterSweep.writeTable(results, resultsFile);
+            printResults(results, configurations.size(), wallTimeMillis);
+        }
+    }
+
+    private static Map<SweepParameter, List<BigDecimal>> getSweptValues() {
+        Map<SweepParameter, List<BigDecimal>> values = new EnumMap<>(SweepParameter.class);
+        values.put(SweepParameter.MIN_PRICE_TO_SELL_PERCENTAGE, decimals("0.3", "0.5", "0.7", "1.0"));
+        values.put(SweepParameter.MIN_QUOTE_VOLUME, decimals("0.25", "0.5", "1", "2"));
+        values.put(SweepParameter.FIBONACCI_SPLIT_UNIT, decimals("0.0001", "0.00015", "0.0002"));
+        values.put(SweepParameter.SPLIT_LOWEST_ORDER_PRICE_PERCENTAGE, decimals("15", "20", "25"));
+        values.put(SweepParameter.REBUY_ORDER_PRICE_PERCENTAGE, decimals("30", "40", "50"));
+        values.put(SweepParameter.SPLIT_DELISTED_ORDER_PRICE_PERCENTAGE, decimals("35", "45", "55"));
+        return values;
+    }
+
+    private static List<BigDecimal> decimals(String... values) {
+        return Stream.of(values)
+                     .map(BigDecimal::new)
+                     .toList();
+    }
+
+    private static void printResults(List<SweepResult> results, int configurations, long wallTimeMillis) {
+        System.out.println("Swept " + configurations + " configurations in " + wallTimeMillis + " ms");
+        results.stream()
+               .limit(PRINTED_RESULTS)
+               .forEach(sweepResult -> System.out.printf("  %8.2f %%  drawdown %6.2f %%  %s%n",
+                                                         sweepResult.result().profitPercentage(),
+                                                         sweepResult.result().maxDrawdown() * 100,
+                                                         sweepResult.parameters()));
+    }
+
+    private static LambdaLogger getLogger() {
+        return new LambdaLogger() {
+            @Override
+            public void log(String message) {
+                System.out.println(message);
+            }
+
+            @Override
+            public void log(byte[] bytes) {
+                System.out.println(new String(bytes));
+            }
+        };
+    }
+}
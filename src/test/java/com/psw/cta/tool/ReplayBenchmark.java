@@ -0,0 +1,81 @@
+package com.psw.cta.tool;
+
+import static com.psw.cta.utils.IocProvider.createCryptoTrader;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.psw.cta.CryptoTrader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Standalone benchmark running one whole trading cycle of {@link CryptoTrader} with local trade processor against
+ * {@link ReplayServer}. Prints wall time of the cycle and number of requests per endpoint, so two versions of the
+ * application can be compared on the same recorded market without touching the exchange. Every run starts with empty
+ * caches in its own temporary directory, so all runs download the same market data.
+ *
+ * <p>Record an archive by running {@code CryptoTraderApplication} with system property {@code cta.recordFile}.
+ *
+ * <p>Usage: {@code ReplayBenchmark <archive> [latencyScale] [runs]}
+ */
+public class ReplayBenchmark {
+
+    /**
+     * Main method.
+     *
+     * @param args Command line arguments
+     * @throws Exception if anything goes wrong
+     */
+    public static void main(String[] args) throws Exception {
+        Path archive = Path.of(args[0]);
+        double latencyScale = args.length > 1 ? Double.parseDouble(args[1]) : 1.0;
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+        for (int run = 1; run <= runs; run++) {
+            Path cacheDirectory = Files.createTempDirectory("replay-benchmark");
+            try (ReplayServer replayServer = ReplayServer.start(archive, 0, latencyScale);
+                 CryptoTrader cryptoTrader = createCryptoTrader("replay-key",
+                                                                "replay-secret",
+                                                                getSilentLogger(),
+                                                                replayServer.getBaseUrl(),
+                                                                null,
+                                                                null,
+                                                                cacheDirectory)) {
+                long start = System.nanoTime();
+                cryptoTrader.startTrading();
+                long wallTimeMillis = (System.nanoTime() - start) / 1_000_000;
+                printResult(run, wallTimeMillis, replayServer.getCallCounts());
+            } finally {
+                delete(cacheDirectory);
+            }
+        }
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static void printResult(int run, long wallTimeMillis, Map<String, Long> callCounts) {
+        System.out.println("Run " + run + ": wall time " + wallTimeMillis + " ms");
+        callCounts.forEach((endpoint, count) -> System.out.printf("  %-40s %6d%n", endpoint, count));
+        System.out.println("  total requests: " + callCounts.values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    private static LambdaLogger getSilentLogger() {
+        return new LambdaLogger() {
+            @Override
+            public void log(String message) {
+            }
+
+            @Override
+            public void log(byte[] bytes) {
+            }
+        };
+    }
+}
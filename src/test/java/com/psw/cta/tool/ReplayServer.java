@@ -0,0 +1,171 @@
+package com.psw.cta.tool;
+
+import static com.psw.cta.utils.BinanceApiConstants.USED_WEIGHT_HEADER;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.psw.cta.replay.RecordedExchange;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Local stand-in for Binance API serving responses from an archive recorded by
+ * {@link com.psw.cta.replay.RecordingInterceptor}.
+ *
+ * <p>Requests are matched by method, path and query without time dependent parameters. Repeated requests get
+ * recorded responses in the order they were recorded, the last one is served once they are used up. Every response
+ * is delayed by its recorded latency multiplied by the latency scale, so a scale of 0 measures pure processing time.
+ *
+ * <p>Usage: {@code ReplayServer <archive> [port] [latencyScale]}
+ */
+public class ReplayServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final Map<String, Deque<RecordedExchange>> recordedExchanges;
+    private final Map<String, LongAdder> callCounts = new ConcurrentHashMap<>();
+    private final double latencyScale;
+
+    private ReplayServer(HttpServer server,
+                         Map<String, Deque<RecordedExchange>> recordedExchanges,
+                         double latencyScale) {
+        this.server = server;
+        this.recordedExchanges = recordedExchanges;
+        this.latencyScale = latencyScale;
+    }
+
+    /**
+     * Main method.
+     *
+     * @param args Command line arguments
+     * @throws Exception if anything goes wrong
+     */
+    public static void main(String[] args) throws Exception {
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : 8080;
+        double latencyScale = args.length > 2 ? Double.parseDouble(args[2]) : 1.0;
+        ReplayServer replayServer = start(Path.of(args[0]), port, latencyScale);
+        System.out.println("Replaying " + args[0] + " on " + replayServer.getBaseUrl());
+    }
+
+    /**
+     * Starts server replaying provided archive.
+     *
+     * @param archive      archive of recorded requests
+     * @param port         port to listen on, 0 for any free port
+     * @param latencyScale multiplier of recorded latencies
+     * @return started server
+     * @throws IOException when archive can not be read or server can not be started
+     */
+    public static ReplayServer start(Path archive, int port, double latencyScale) throws IOException {
+        HttpServer httpServer = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        ReplayServer replayServer = new ReplayServer(httpServer, load(archive), latencyScale);
+        httpServer.createContext("/", replayServer::handle);
+        httpServer.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        httpServer.start();
+        return replayServer;
+    }
+
+    /**
+     * Returns base URL of server.
+     *
+     * @return base URL
+     */
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Returns number of served requests per endpoint.
+     *
+     * @return number of requests by endpoint
+     */
+    public Map<String, Long> getCallCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        callCounts.forEach((endpoint, count) -> counts.put(endpoint, count.sum()));
+        return counts;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private static Map<String, Deque<RecordedExchange>> load(Path archive) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, Deque<RecordedExchange>> exchanges = new HashMap<>();
+        List<String> lines = Files.readAllLines(archive, UTF_8);
+        for (String line : lines) {
+            if (line.isBlank()) {
+                continue;
+            }
+            RecordedExchange exchange = objectMapper.readValue(line, RecordedExchange.class);
+            String key = RecordedExchange.createKey(exchange.getMethod(), exchange.getPath(), exchange.getQuery());
+            exchanges.computeIfAbsent(key, k -> new ArrayDeque<>()).add(exchange);
+        }
+        return exchanges;
+    }
+
+    private void handle(HttpExchange httpExchange) throws IOException {
+        String method = httpExchange.getRequestMethod();
+        String path = httpExchange.getRequestURI().getRawPath();
+        callCounts.computeIfAbsent(method + " " + path, k -> new LongAdder()).increment();
+        RecordedExchange exchange = next(RecordedExchange.createKey(method,
+                                                                    path,
+                                                                    httpExchange.getRequestURI().getRawQuery()));
+        try (httpExchange) {
+            if (exchange == null) {
+                send(httpExchange, 404, "{\"code\":-1,\"msg\":\"No recording for " + path + "\"}");
+                return;
+            }
+            delay(exchange.getLatencyMillis());
+            if (exchange.getUsedWeight() != null) {
+                httpExchange.getResponseHeaders().add(USED_WEIGHT_HEADER, exchange.getUsedWeight());
+            }
+            send(httpExchange, exchange.getCode(), exchange.getBody());
+        }
+    }
+
+    private RecordedExchange next(String key) {
+        Deque<RecordedExchange> exchanges = recordedExchanges.get(key);
+        if (exchanges == null) {
+            return null;
+        }
+        synchronized (exchanges) {
+            return exchanges.size() > 1 ? exchanges.poll() : exchanges.peek();
+        }
+    }
+
+    private void delay(long latencyMillis) {
+        long delayMillis = Math.round(latencyMillis * latencyScale);
+        if (delayMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void send(HttpExchange httpExchange, int code, String body) throws IOException {
+        byte[] bytes = body.getBytes(UTF_8);
+        httpExchange.getResponseHeaders().add("Content-Type", "application/json");
+        httpExchange.sendResponseHeaders(code, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream outputStream = httpExchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
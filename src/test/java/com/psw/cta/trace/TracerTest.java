@@ -0,0 +1,84 @@
+package com.psw.cta.trace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TracerTest {
+
+    @TempDir
+    private Path directory;
+
+    @Mock
+    private LambdaLogger logger;
+
+    @Test
+    void shouldExportNestedSpansAsChromeTrace() throws Exception {
+        Path traceFile = directory.resolve("trace.json");
+        Tracer tracer = new Tracer(traceFile, logger);
+
+        String result = tracer.trace("cycle", () -> {
+            tracer.trace("fetch", () -> {
+            });
+            return "done";
+        });
+        tracer.export();
+
+        assertThat(result).isEqualTo("done");
+        JsonNode traceEvents = new ObjectMapper().readTree(Files.readString(traceFile)).get("traceEvents");
+        List<JsonNode> spans = new ArrayList<>();
+        traceEvents.forEach(event -> {
+            if ("X".equals(event.get("ph").asText())) {
+                spans.add(event);
+            }
+        });
+        assertThat(spans).extracting(span -> span.get("name").asText())
+                         .containsExactly("fetch", "cycle");
+        JsonNode fetch = spans.get(0);
+        JsonNode cycle = spans.get(1);
+        assertThat(fetch.get("tid").asLong()).isEqualTo(cycle.get("tid").asLong());
+        assertThat(fetch.get("ts").asLong()).isGreaterThanOrEqualTo(cycle.get("ts").asLong());
+        assertThat(fetch.get("ts").asLong() + fetch.get("dur").asLong())
+            .isLessThanOrEqualTo(cycle.get("ts").asLong() + cycle.get("dur").asLong());
+        assertThat(traceEvents.findValuesAsText("ph")).contains("M");
+    }
+
+    @Test
+    void shouldStartOverAfterExport() throws Exception {
+        Path traceFile = directory.resolve("trace.json");
+        Tracer tracer = new Tracer(traceFile, logger);
+        tracer.trace("first", () -> {
+        });
+        tracer.export();
+
+        tracer.export();
+
+        JsonNode trace = new ObjectMapper().readTree(Files.readString(traceFile));
+        assertThat(trace.get("traceEvents")).isEmpty();
+    }
+
+    @Test
+    void shouldRecordNothingWithoutTraceFile() {
+        Tracer tracer = new Tracer(null, logger);
+
+        tracer.trace("cycle", () -> {
+        });
+        tracer.export();
+
+        assertThat(directory).isEmptyDirectory();
+        verifyNoInteractions(logger);
+    }
+}
@@ -3,6 +3,7 @@ package com.psw.cta.utils;
 import static com.psw.cta.utils.LeastSquares.getRegression;
 import static com.psw.cta.utils.LeastSquares.getSlope;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
@@ -35,4 +36,33 @@ class LeastSquaresTest {
         assertThat(regression.getSlope()).isEqualTo(8.0);
         assertThat(regression.getIntercept()).isEqualTo(-6.0);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldCalculateSameSlopeAsSimpleRegression() {
+        double[] values = {0.00001234, 0.00001301, 0.00001187, 0.00001255, 0.00001422, 0.00001398};
+        SimpleRegression simpleRegression = new SimpleRegression(true);
+        for (int i = 0; i < values.length; i++) {
+            simpleRegression.addData(i, values[i]);
+        }
+
+        double slope = getSlope(values);
+
+        assertThat(slope).isCloseTo(simpleRegression.getSlope(), within(1e-18));
+    }
+
+    @Test
+    void shouldReturnNanSlopeForLessThanTwoValues() {
+        assertThat(getSlope(new double[]{})).isNaN();
+        assertThat(getSlope(new double[]{7})).isNaN();
+    }
+
+    @Test
+    void shouldReturnZeroSlopeForConstantValues() {
+        assertThat(getSlope(new double[]{3, 3, 3})).isZero();
+    }
+
+    @Test
+    void shouldCalculateSlopeOfEquallySpacedValues() {
+        assertThat(getSlope(new double[]{1, 5, 13, 21, 45})).isEqualTo(10.4);
+    }
+}